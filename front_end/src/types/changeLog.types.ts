@@ -11,6 +11,14 @@ export enum ChangeType {
   DELETE = 'DELETE',
 }
 
+/**
+ * 변경 이력 값 형식 (JSON: 필드명 → 값 객체, TEXT: changedField의 원본 값)
+ */
+export enum ChangeValueFormat {
+  TEXT = 'TEXT',
+  JSON = 'JSON',
+}
+
 /**
  * 변경 이력 응답 타입
  */
@@ -19,10 +27,13 @@ export interface ChangeLogResponse {
   productId: number;
   productCode: string;
   productName: string;
+  entityType: string | null; // Product, PriceHistory, Inventory, ProductOption (이전 이력은 null)
+  entityId: number | null;
   changeType: ChangeType;
-  changedField: string | null;
-  oldValue: string | null;
-  newValue: string | null;
+  changedField: string | null; // 수정 시 변경 필드 목록 (쉼표 구분)
+  valueFormat: ChangeValueFormat;
+  oldValue: string | null; // JSON이면 변경 필드만 담은 객체 (삭제 시 전체 스냅샷)
+  newValue: string | null; // JSON이면 변경 필드만 담은 객체 (생성 시 전체 스냅샷)
   changedBy: string | null;
   changedDate: string; // ISO 8601 형식 (예: "2024-01-15T10:30:00")
 }
@@ -48,4 +59,5 @@ export interface PagedChangeLogResponse {
   number: number;
   first: boolean;
   last: boolean;
+  numberOfElements: number;
 }
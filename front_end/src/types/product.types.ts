@@ -13,7 +13,7 @@ export enum ProductStatus {
 export interface Category {
   categoryId: number;
   categoryName: string;
-  parent?: Category;
+  parentId?: number;
   depth?: number;
   sortOrder?: number;
 }
@@ -49,6 +49,7 @@ export interface ProductResponse {
   categoryId?: number;
   categoryName?: string;
   status: ProductStatus;
+  version?: number; // 낙관적 잠금 버전 (수정 시 If-Match로 전달)
   createdDate?: string;
   lastModifiedDate?: string;
 }
@@ -74,10 +75,8 @@ export interface PageInfo {
 // 페이징된 상품 목록 응답
 export interface PagedProductResponse {
   content: ProductResponse[];
-  pageable: {
-    pageNumber: number;
-    pageSize: number;
-  };
+  number: number;
+  size: number;
   totalElements: number;
   totalPages: number;
   last: boolean;
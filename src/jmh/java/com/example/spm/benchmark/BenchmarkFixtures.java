@@ -0,0 +1,76 @@
+package com.example.spm.benchmark;
+
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.ReflectionUtils;
+
+import com.example.spm.domain.entity.Category;
+import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.entity.ProductChangeLog;
+import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.domain.enums.ProductStatus;
+
+/**
+ * 벤치마크용 엔티티 생성 - DB 없이 매핑/직렬화 측정에 사용
+ * 식별자 등 setter가 없는 필드는 리플렉션으로 채운다
+ */
+final class BenchmarkFixtures {
+
+    private static final ProductStatus[] STATUSES = ProductStatus.values();
+
+    private BenchmarkFixtures() {
+    }
+
+    static List<Product> products(int count, int categoryCount) {
+        List<Category> categories = new ArrayList<>(categoryCount);
+        for (int i = 1; i <= categoryCount; i++) {
+            Category category = new Category();
+            setField(category, "categoryId", (long) i);
+            setField(category, "categoryName", "카테고리-" + i);
+            categories.add(category);
+        }
+
+        List<Product> products = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            Product product = Product.builder()
+                    .productCode(String.format("PROD%07d", i))
+                    .productName("벤치마크 상품 " + i)
+                    .description("벤치마크용 상품 설명 " + i)
+                    .category(categories.get(i % categoryCount))
+                    .status(STATUSES[i % STATUSES.length])
+                    .build();
+            setField(product, "productId", (long) i);
+            products.add(product);
+        }
+        return products;
+    }
+
+    static List<ProductChangeLog> changeLogs(List<Product> products) {
+        LocalDateTime now = LocalDateTime.now();
+        List<ProductChangeLog> changeLogs = new ArrayList<>(products.size());
+        long id = 1;
+        for (Product product : products) {
+            ProductChangeLog changeLog = ProductChangeLog.builder()
+                    .product(product)
+                    .changeType(ChangeType.UPDATE)
+                    .changedField("productName")
+                    .oldValue("이전 " + product.getProductName())
+                    .newValue(product.getProductName())
+                    .changedBy("benchmark")
+                    .changedDate(now)
+                    .build();
+            setField(changeLog, "changeLogId", id++);
+            changeLogs.add(changeLog);
+        }
+        return changeLogs;
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.spm.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.spm.SpringReactProductMngApplication;
+import com.example.spm.domain.enums.ProductStatus;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트 + 데이터셋
+ * jmh 프로필(H2 MySQL 호환 모드)로 기동한 뒤 JDBC 배치 INSERT로 상품/가격을 적재한다
+ */
+final class CatalogDataset implements AutoCloseable {
+
+    static final int CATEGORY_COUNT = 20;
+    private static final int INSERT_BATCH = 1_000;
+    private static final ProductStatus[] STATUSES = ProductStatus.values();
+
+    private final ConfigurableApplicationContext context;
+
+    private CatalogDataset(ConfigurableApplicationContext context) {
+        this.context = context;
+    }
+
+    /**
+     * 컨텍스트 기동 후 productCount건의 상품과 상품별 현재 가격 1건 적재
+     */
+    static CatalogDataset start(int productCount) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringReactProductMngApplication.class)
+                .profiles("jmh")
+                .run();
+        CatalogDataset dataset = new CatalogDataset(context);
+        dataset.seed(productCount);
+        return dataset;
+    }
+
+    <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    private void seed(int productCount) {
+        JdbcTemplate jdbcTemplate = bean(JdbcTemplate.class);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp priceStart = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+
+        List<Object[]> categories = new ArrayList<>(CATEGORY_COUNT);
+        for (long i = 1; i <= CATEGORY_COUNT; i++) {
+            categories.add(new Object[] { i, "카테고리-" + i, 1, (int) i, now, now });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO category (category_id, category_name, depth, sort_order, created_date, last_modified_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)", categories);
+
+        List<Object[]> products = new ArrayList<>(INSERT_BATCH);
+        List<Object[]> prices = new ArrayList<>(INSERT_BATCH);
+        for (long i = 1; i <= productCount; i++) {
+            products.add(new Object[] { i, String.format("PROD%07d", i), "벤치마크 상품 " + i,
+                    "벤치마크용 상품 설명 " + i, (i % CATEGORY_COUNT) + 1, STATUSES[(int) (i % 2)].name(), now, now });
+            prices.add(new Object[] { i, (double) ((i * 7919) % 1_000_000), priceStart, now, now });
+
+            if (products.size() == INSERT_BATCH || i == productCount) {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO product (product_id, product_code, product_name, description, category_id, status, "
+                                + "created_date, last_modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", products);
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO price_history (product_id, price, start_date, created_date, last_modified_date) "
+                                + "VALUES (?, ?, ?, ?, ?)", prices);
+                products.clear();
+                prices.clear();
+            }
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
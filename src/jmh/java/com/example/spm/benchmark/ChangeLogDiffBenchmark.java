@@ -0,0 +1,71 @@
+package com.example.spm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spm.domain.changelog.EntitySnapshot;
+import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.enums.ProductStatus;
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.domain.service.ChangeLogService;
+
+/**
+ * ChangeLogService.saveUpdateLog 벤치마크 - 스냅샷 비교 + 변경 이력 INSERT 비용
+ * 측정마다 트랜잭션을 롤백해 이력 테이블이 커지지 않도록 한다
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChangeLogDiffBenchmark {
+
+    /** 변경된 필드 - NONE: 비교만 수행, ALL: 상품명/설명/상태 변경을 이력 1건으로 저장 */
+    @Param({"NONE", "ALL"})
+    String changedFields;
+
+    CatalogDataset dataset;
+    ChangeLogService changeLogService;
+    TransactionTemplate transactionTemplate;
+    Product product;
+    EntitySnapshot before;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = CatalogDataset.start(100);
+        changeLogService = dataset.bean(ChangeLogService.class);
+        transactionTemplate = new TransactionTemplate(dataset.bean(PlatformTransactionManager.class));
+
+        ProductRepository productRepository = dataset.bean(ProductRepository.class);
+        product = transactionTemplate.execute(status -> productRepository.findById(1L).orElseThrow());
+        before = changeLogService.snapshot(product);
+
+        // 비교 기준 스냅샷을 잡은 뒤 상품 값을 바꿔 두면 매 호출마다 같은 변경이 감지된다
+        if ("ALL".equals(changedFields)) {
+            product.update("변경된 상품명", "변경된 설명", product.getCategory(), ProductStatus.DELETED);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    @Benchmark
+    public void saveUpdateLog() {
+        transactionTemplate.executeWithoutResult(status -> {
+            changeLogService.saveUpdateLog(before, product, "benchmark");
+            status.setRollbackOnly();
+        });
+    }
+}
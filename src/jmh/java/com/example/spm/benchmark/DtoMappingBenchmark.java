@@ -0,0 +1,54 @@
+package com.example.spm.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.example.spm.domain.dto.ChangeLogDto;
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.entity.ProductChangeLog;
+
+/**
+ * Entity → Response DTO 매핑 벤치마크 (한 페이지 분량 변환 비용)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DtoMappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    int pageSize;
+
+    List<Product> products;
+    List<ProductChangeLog> changeLogs;
+
+    @Setup
+    public void setUp() {
+        products = BenchmarkFixtures.products(pageSize, 20);
+        changeLogs = BenchmarkFixtures.changeLogs(products);
+    }
+
+    @Benchmark
+    public void productResponse(Blackhole blackhole) {
+        for (Product product : products) {
+            blackhole.consume(ProdDto.Response.from(product));
+        }
+    }
+
+    @Benchmark
+    public void changeLogResponse(Blackhole blackhole) {
+        for (ProductChangeLog changeLog : changeLogs) {
+            blackhole.consume(ChangeLogDto.Response.from(changeLog));
+        }
+    }
+}
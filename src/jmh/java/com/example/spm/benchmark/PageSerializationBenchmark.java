@@ -0,0 +1,112 @@
+package com.example.spm.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.dto.ResponseStreamWriters;
+import com.example.spm.global.config.GsonConfig;
+import com.example.spm.global.serialization.AbstractStreamingHttpMessageConverter;
+import com.example.spm.global.serialization.StreamingCborHttpMessageConverter;
+import com.example.spm.global.serialization.StreamingJsonHttpMessageConverter;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Page<ProdDto.Response> 직렬화 벤치마크 - Gson(이전 pretty printing 설정/현재 압축 설정) vs Jackson vs 스트리밍 변환기(JSON/CBOR)
+ * 응답 크기(bytes)는 Setup 시 출력, 할당량은 -prof gc 로 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PageSerializationBenchmark {
+
+    @Param({"10", "100"})
+    int pageSize;
+
+    Page<ProdDto.Response> page;
+    Gson prettyGson;
+    Gson applicationGson;
+    JsonMapper jsonMapper;
+    StreamingJsonHttpMessageConverter streamingConverter;
+    StreamingCborHttpMessageConverter cborConverter;
+
+    @Setup
+    public void setUp() {
+        List<ProdDto.Response> content = BenchmarkFixtures.products(pageSize, 20).stream()
+                .map(ProdDto.Response::from)
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize), 10_000);
+
+        prettyGson = new GsonBuilder().setPrettyPrinting().serializeNulls().create();
+        applicationGson = new GsonConfig().gson();
+        jsonMapper = JsonMapper.builder().build();
+        streamingConverter = new StreamingJsonHttpMessageConverter(ResponseStreamWriters.all());
+        cborConverter = new StreamingCborHttpMessageConverter(ResponseStreamWriters.all());
+
+        System.out.printf("%n# response bytes (pageSize=%d) - gsonPretty: %d, gsonApplication: %d, jackson: %d, streaming: %d, cbor: %d%n",
+                pageSize,
+                gsonPretty().getBytes(StandardCharsets.UTF_8).length,
+                gsonApplication().getBytes(StandardCharsets.UTF_8).length,
+                jackson().length,
+                streaming().length,
+                cbor().length);
+    }
+
+    /** 기준선 - 압축 출력으로 바꾸기 전 애플리케이션 Gson 설정 (pretty printing) */
+    @Benchmark
+    public String gsonPretty() {
+        return prettyGson.toJson(page);
+    }
+
+    /** LoggingAspect 등에서 사용하는 현재 애플리케이션 Gson (압축 출력) */
+    @Benchmark
+    public String gsonApplication() {
+        return applicationGson.toJson(page);
+    }
+
+    /** Spring MVC 응답 직렬화 경로 (Jackson) */
+    @Benchmark
+    public byte[] jackson() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    /** 스트리밍 변환기 (압축 출력 + 축약된 페이지 envelope) */
+    @Benchmark
+    public byte[] streaming() {
+        return write(streamingConverter);
+    }
+
+    /** CBOR 변환기 (Accept: application/cbor) */
+    @Benchmark
+    public byte[] cbor() {
+        return write(cborConverter);
+    }
+
+    private byte[] write(AbstractStreamingHttpMessageConverter converter) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        try {
+            converter.writeTo(page, out);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+}
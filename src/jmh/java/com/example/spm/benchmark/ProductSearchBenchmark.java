@@ -0,0 +1,67 @@
+package com.example.spm.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.repository.ProductRepository;
+
+/**
+ * ProductRepositoryImpl.searchProducts 벤치마크 (H2 MySQL 호환 모드)
+ * 데이터셋 크기는 -PjmhDatasetSize=10000,100000 으로 변경
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProductSearchBenchmark {
+
+    @Param({"10000"})
+    int datasetSize;
+
+    /** 검색 조건 - ALL: 조건 없음, NAME: 상품명 LIKE, PRICE: 가격 범위 서브쿼리 */
+    @Param({"ALL", "NAME", "PRICE"})
+    String condition;
+
+    @Param({"0", "100"})
+    int page;
+
+    CatalogDataset dataset;
+    ProductRepository productRepository;
+    ProdDto.SearchCondition searchCondition;
+    Pageable pageable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = CatalogDataset.start(datasetSize);
+        productRepository = dataset.bean(ProductRepository.class);
+        searchCondition = switch (condition) {
+            case "NAME" -> ProdDto.SearchCondition.builder().productName("상품 1").build();
+            case "PRICE" -> ProdDto.SearchCondition.builder().minPrice(100_000.0).maxPrice(300_000.0).build();
+            default -> ProdDto.SearchCondition.builder().build();
+        };
+        pageable = PageRequest.of(page, 10);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    @Benchmark
+    public Page<ProdDto.Response> searchProducts() {
+        return productRepository.searchProducts(searchCondition, pageable);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.spm.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spm.domain.entity.Product;
+import com.example.spm.global.concurrency.OptimisticLockRetry;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.LockModeType;
+
+/**
+ * 상품 동시 수정 처리량 벤치마크 - 낙관적 잠금(버전 + 재시도) vs 비관적 잠금(SELECT ... FOR UPDATE)
+ * hotProducts가 작을수록 경합이 심하다. 재시도 초과로 실패한 수정은 failed 보조 카운터로 보고한다.
+ * 실행: ./gradlew jmh -PjmhIncludes=ProductUpdateContention
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class ProductUpdateContentionBenchmark {
+
+    /** OPTIMISTIC: 버전 확인 + OptimisticLockRetry, PESSIMISTIC: 쓰기 잠금 후 수정 */
+    @Param({"OPTIMISTIC", "PESSIMISTIC"})
+    String strategy;
+
+    /** 수정 대상 상품 수 (1: 모든 스레드가 같은 상품을 수정) */
+    @Param({"1", "16", "256"})
+    int hotProducts;
+
+    CatalogDataset dataset;
+    OptimisticLockRetry optimisticLockRetry;
+    TransactionTemplate transactionTemplate;
+    EntityManager entityManager;
+
+    /**
+     * 스레드별 결과 집계
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long failed;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataset = CatalogDataset.start(Math.max(hotProducts, 1_000));
+        optimisticLockRetry = dataset.bean(OptimisticLockRetry.class);
+        transactionTemplate = new TransactionTemplate(dataset.bean(PlatformTransactionManager.class));
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(dataset.bean(EntityManagerFactory.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataset.close();
+    }
+
+    @Benchmark
+    public Long updateProduct(Outcome outcome) {
+        long productId = 1 + ThreadLocalRandom.current().nextInt(hotProducts);
+        String productName = "동시 수정 " + System.nanoTime();
+        if ("PESSIMISTIC".equals(strategy)) {
+            return transactionTemplate.execute(status -> {
+                Product product = entityManager.find(Product.class, productId, LockModeType.PESSIMISTIC_WRITE);
+                rename(product, productName);
+                return product.getVersion();
+            });
+        }
+        try {
+            return optimisticLockRetry.execute("benchmark", () -> {
+                Product product = entityManager.find(Product.class, productId);
+                rename(product, productName);
+                entityManager.flush();
+                return product.getVersion();
+            });
+        } catch (OptimisticLockingFailureException e) {
+            outcome.failed++;
+            return null;
+        }
+    }
+
+    private static void rename(Product product, String productName) {
+        product.update(productName, product.getDescription(), product.getCategory(), null);
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.spm.loadtest;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.spm.SpringReactProductMngApplication;
+import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.domain.enums.ProductStatus;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 합성 카탈로그 생성기 - 부하 테스트용 대량 데이터를 JDBC 배치 INSERT로 적재
+ *
+ * 실행 예) ./gradlew generateCatalog -PloadtestArgs="--loadgen.products=1000000 --loadgen.category-depth=3"
+ * 같은 seed 값이면 항상 같은 데이터가 생성된다 (빈 데이터베이스 기준)
+ */
+@Slf4j
+public class CatalogGenerator {
+
+    private static final ProductStatus[] STATUSES = { ProductStatus.ACTIVE, ProductStatus.ACTIVE,
+            ProductStatus.ACTIVE, ProductStatus.INACTIVE };
+    private static final String[] NAME_WORDS = { "노트북", "모니터", "키보드", "마우스", "의자", "책상", "램프",
+            "스피커", "헤드셋", "카메라", "태블릿", "충전기", "케이블", "가방", "텀블러", "선풍기" };
+    private static final String[] UPDATED_FIELDS = { "productName", "description", "categoryId", "status" };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SplittableRandom random;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private final int products;
+    private final int categoryDepth;
+    private final int categoryFanout;
+    private final int maxPricesPerProduct;
+    private final int maxChangeLogsPerProduct;
+    private final int warehouses;
+    private final int batchSize;
+
+    public static void main(String[] args) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringReactProductMngApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("loadgen")
+                .run(args)) {
+            new CatalogGenerator(context.getBean(JdbcTemplate.class), context.getEnvironment()).generate();
+        }
+    }
+
+    CatalogGenerator(JdbcTemplate jdbcTemplate, Environment env) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new SplittableRandom(env.getProperty("loadgen.seed", Long.class, 42L));
+        this.products = env.getProperty("loadgen.products", Integer.class, 100_000);
+        this.categoryDepth = env.getProperty("loadgen.category-depth", Integer.class, 3);
+        this.categoryFanout = env.getProperty("loadgen.category-fanout", Integer.class, 6);
+        this.maxPricesPerProduct = env.getProperty("loadgen.max-prices-per-product", Integer.class, 4);
+        this.maxChangeLogsPerProduct = env.getProperty("loadgen.max-change-logs-per-product", Integer.class, 5);
+        this.warehouses = env.getProperty("loadgen.warehouses", Integer.class, 3);
+        this.batchSize = env.getProperty("loadgen.batch-size", Integer.class, 5_000);
+    }
+
+    void generate() {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class);
+        if (existing != null && existing > 0) {
+            throw new IllegalStateException("product 테이블이 비어 있지 않습니다 (" + existing + "건) - 빈 데이터베이스에서 실행하세요");
+        }
+
+        long started = System.currentTimeMillis();
+        List<Long> leafCategories = insertCategories();
+        log.info("카테고리 적재 완료 - leaf: {}", leafCategories.size());
+
+        BatchWriter productWriter = new BatchWriter(
+                "INSERT INTO product (product_id, product_code, product_name, description, category_id, status, "
+                        + "created_date, last_modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter priceWriter = new BatchWriter(
+                "INSERT INTO price_history (product_id, price, start_date, end_date, created_date, last_modified_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?)");
+        BatchWriter changeLogWriter = new BatchWriter(
+                "INSERT INTO product_change_log (product_id, change_type, changed_field, old_value, new_value, "
+                        + "changed_by, changed_date, created_date, last_modified_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter inventoryWriter = new BatchWriter(
+                "INSERT INTO inventory (product_id, quantity, warehouse_code, created_date, last_modified_date) "
+                        + "VALUES (?, ?, ?, ?, ?)");
+
+        for (long productId = 1; productId <= products; productId++) {
+            Timestamp created = Timestamp.valueOf(now.minusMinutes(random.nextLong(2 * 365 * 24 * 60L)));
+            String productName = NAME_WORDS[random.nextInt(NAME_WORDS.length)] + " " + productId;
+            long categoryId = leafCategories.get(random.nextInt(leafCategories.size()));
+
+            productWriter.add(productId, String.format("PROD%08d", productId), productName,
+                    productName + " 상세 설명", categoryId, STATUSES[random.nextInt(STATUSES.length)].name(),
+                    created, created);
+            addPrices(priceWriter, productId, created);
+            addChangeLogs(changeLogWriter, productId, productName, created);
+            for (int w = 1; w <= warehouses; w++) {
+                inventoryWriter.add(productId, random.nextInt(1_000), String.format("WH-%02d", w), created, created);
+            }
+
+            // 외래 키 순서 보장 - 상품 배치를 먼저 기록
+            if (productWriter.size() >= batchSize) {
+                productWriter.flush();
+                priceWriter.flush();
+                changeLogWriter.flush();
+                inventoryWriter.flush();
+                log.info("상품 적재 진행 - {}/{}", productId, products);
+            }
+        }
+        productWriter.flush();
+        priceWriter.flush();
+        changeLogWriter.flush();
+        inventoryWriter.flush();
+        restartIdentity("product", "product_id", products + 1L);
+
+        log.info("카탈로그 생성 완료 - products: {}, prices: {}, changeLogs: {}, inventories: {}, 소요 시간: {}s",
+                products, priceWriter.total, changeLogWriter.total, inventoryWriter.total,
+                (System.currentTimeMillis() - started) / 1000);
+    }
+
+    /**
+     * 카테고리 트리 생성 (depth 단계, 단계별 fanout개 자식) - leaf 카테고리 ID 반환
+     */
+    private List<Long> insertCategories() {
+        List<Object[]> rows = new ArrayList<>();
+        Timestamp created = Timestamp.valueOf(now.minusYears(2));
+        List<Long> level = new ArrayList<>();
+        level.add(null);
+        long nextId = 1;
+
+        for (int depth = 1; depth <= categoryDepth; depth++) {
+            List<Long> children = new ArrayList<>();
+            for (Long parentId : level) {
+                for (int order = 1; order <= categoryFanout; order++) {
+                    long categoryId = nextId++;
+                    String name = (parentId == null ? "카테고리" : "하위" + depth) + "-" + categoryId;
+                    rows.add(new Object[] { categoryId, name, parentId, depth, order, created, created });
+                    children.add(categoryId);
+                }
+            }
+            level = children;
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO category (category_id, category_name, parent_id, depth, sort_order, "
+                + "created_date, last_modified_date) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        restartIdentity("category", "category_id", nextId);
+        return level;
+    }
+
+    /**
+     * 가격 이력 - 구간이 서로 겹칠 수 있도록 임의 시작일/기간으로 생성, 마지막 구간은 종료일 없음
+     */
+    private void addPrices(BatchWriter writer, long productId, Timestamp created) {
+        int count = 1 + random.nextInt(maxPricesPerProduct);
+        double base = 1_000 * (1 + random.nextInt(1_000));
+        LocalDateTime start = created.toLocalDateTime();
+        for (int i = 0; i < count; i++) {
+            boolean last = i == count - 1;
+            LocalDateTime end = last ? null : start.plusDays(7 + random.nextInt(120));
+            double price = Math.round(base * (0.8 + random.nextDouble() * 0.4) / 10) * 10;
+            writer.add(productId, price, Timestamp.valueOf(start), end != null ? Timestamp.valueOf(end) : null,
+                    created, created);
+            // 다음 구간 시작일을 이전 구간 종료일 전후로 분산시켜 겹침 발생
+            start = end != null ? end.minusDays(random.nextInt(14)) : start;
+        }
+    }
+
+    private void addChangeLogs(BatchWriter writer, long productId, String productName, Timestamp created) {
+        writer.add(productId, ChangeType.CREATE.name(), null, null, "상품 생성", "generator", created, created, created);
+        int updates = random.nextInt(maxChangeLogsPerProduct + 1);
+        LocalDateTime changed = created.toLocalDateTime();
+        for (int i = 0; i < updates; i++) {
+            changed = changed.plusHours(1 + random.nextInt(24 * 30));
+            if (changed.isAfter(now)) {
+                return;
+            }
+            String field = UPDATED_FIELDS[random.nextInt(UPDATED_FIELDS.length)];
+            Timestamp changedAt = Timestamp.valueOf(changed);
+            writer.add(productId, ChangeType.UPDATE.name(), field, productName + " (이전)", productName,
+                    "generator", changedAt, changedAt, changedAt);
+        }
+    }
+
+    /**
+     * 명시적 ID로 적재한 테이블의 자동 증가 값 조정 (H2는 자동으로 갱신하지 않음)
+     */
+    private void restartIdentity(String table, String column, long next) {
+        String database = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        if ("H2".equals(database)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN " + column + " RESTART WITH " + next);
+        }
+    }
+
+    /**
+     * 단일 INSERT 문에 대한 배치 버퍼
+     */
+    private class BatchWriter {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long total;
+
+        BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... values) {
+            rows.add(values);
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        void flush() {
+            if (rows.isEmpty()) {
+                return;
+            }
+            jdbcTemplate.batchUpdate(sql, rows);
+            total += rows.size();
+            rows.clear();
+        }
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.spm.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.boot.convert.DurationStyle;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * 부하 테스트 드라이버 - /api/products, /api/change-logs 엔드포인트를 지정 비율로 호출하고
+ * 처리량과 HDR 히스토그램 지연 시간을 보고
+ *
+ * 실행 예) ./gradlew loadTest -PloadtestArgs="--concurrency=64 --duration=120s --mix=list=50,search=20,detail=20,change-logs=10"
+ * --rate(초당 요청 수)를 지정하면 예정 시작 시각 기준으로 지연을 측정해 coordinated omission을 보정한다
+ */
+public class LoadDriver {
+
+    private static final String[] SEARCH_WORDS = { "노트북", "모니터", "키보드", "마우스", "의자", "책상" };
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    /**
+     * 호출 시나리오
+     */
+    enum Scenario {
+        LIST("list"),
+        SEARCH("search"),
+        DETAIL("detail"),
+        CHANGE_LOGS("change-logs");
+
+        final String key;
+
+        Scenario(String key) {
+            this.key = key;
+        }
+
+        String path(LoadDriver driver, ThreadLocalRandom random) {
+            return switch (this) {
+                case LIST -> "/api/products?page=" + random.nextInt(50) + "&size=10";
+                case SEARCH -> "/api/products?productName="
+                        + URLEncoder.encode(SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)], StandardCharsets.UTF_8)
+                        + "&minPrice=" + (random.nextInt(100) * 1_000) + "&size=10";
+                case DETAIL -> "/api/products/" + (1 + random.nextLong(driver.productCount));
+                case CHANGE_LOGS -> "/api/change-logs?productId=" + (1 + random.nextLong(driver.productCount))
+                        + "&page=0&size=10";
+            };
+        }
+
+        static Scenario of(String key) {
+            for (Scenario scenario : values()) {
+                if (scenario.key.equals(key)) {
+                    return scenario;
+                }
+            }
+            throw new IllegalArgumentException("알 수 없는 시나리오: " + key);
+        }
+    }
+
+    /**
+     * 시나리오별 측정 결과
+     */
+    static class Stats {
+        final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+    }
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final long productCount;
+    private final double rate;
+    private final Path outputDir;
+    private final Scenario[] weightedScenarios;
+
+    private final Map<Scenario, Stats> stats = new EnumMap<>(Scenario.class);
+    private volatile boolean recording;
+    private volatile boolean running = true;
+
+    LoadDriver(Map<String, String> args) {
+        this.baseUrl = args.getOrDefault("base-url", "http://localhost:8080");
+        this.concurrency = Integer.parseInt(args.getOrDefault("concurrency", "32"));
+        this.warmup = DurationStyle.detectAndParse(args.getOrDefault("warmup", "10s"));
+        this.duration = DurationStyle.detectAndParse(args.getOrDefault("duration", "60s"));
+        this.productCount = Long.parseLong(args.getOrDefault("products", "100000"));
+        this.rate = Double.parseDouble(args.getOrDefault("rate", "0"));
+        this.outputDir = Path.of(args.getOrDefault("out", "build/loadtest"));
+        this.weightedScenarios = parseMix(args.getOrDefault("mix", "list=50,search=20,detail=20,change-logs=10"));
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        for (Scenario scenario : Scenario.values()) {
+            stats.put(scenario, new Stats());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("인자 형식은 --key=value 입니다: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        new LoadDriver(options).run();
+    }
+
+    void run() throws InterruptedException, IOException {
+        System.out.printf("부하 테스트 시작 - target: %s, concurrency: %d, rate: %s, warmup: %s, duration: %s%n",
+                baseUrl, concurrency, rate > 0 ? rate + "/s" : "closed-loop", warmup, duration);
+
+        long intervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+        AtomicLong nextSlot = new AtomicLong(System.nanoTime());
+
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.submit(() -> worker(intervalNanos, nextSlot));
+            }
+
+            Thread.sleep(warmup.toMillis());
+            recording = true;
+            long measureStart = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            recording = false;
+            running = false;
+            report(System.nanoTime() - measureStart);
+        }
+    }
+
+    private void worker(long intervalNanos, AtomicLong nextSlot) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (running) {
+            long intendedStart = System.nanoTime();
+            if (intervalNanos > 0) {
+                intendedStart = nextSlot.getAndAdd(intervalNanos);
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+            }
+
+            Scenario scenario = weightedScenarios[random.nextInt(weightedScenarios.length)];
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path(this, random)))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            if (recording) {
+                Stats scenarioStats = stats.get(scenario);
+                long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+                scenarioStats.latency.recordValue(Math.min(latencyMicros, MAX_LATENCY_MICROS));
+                if (!success) {
+                    scenarioStats.errors.increment();
+                }
+            }
+        }
+    }
+
+    private void report(long elapsedNanos) throws IOException {
+        Files.createDirectories(outputDir);
+        double seconds = elapsedNanos / 1e9;
+        PrintStream out = System.out;
+        out.printf("%n%-12s %10s %10s %8s %9s %9s %9s %9s %9s%n",
+                "scenario", "requests", "req/s", "errors", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)");
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("baseUrl", baseUrl);
+        summary.put("concurrency", concurrency);
+        summary.put("rate", rate);
+        summary.put("durationSeconds", seconds);
+        List<Map<String, Object>> scenarios = new ArrayList<>();
+
+        for (Map.Entry<Scenario, Stats> entry : stats.entrySet()) {
+            Histogram latency = entry.getValue().latency;
+            long count = latency.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            long errors = entry.getValue().errors.sum();
+            out.printf("%-12s %10d %10.1f %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey().key, count, count / seconds, errors,
+                    millis(latency, 50), millis(latency, 90), millis(latency, 99), millis(latency, 99.9),
+                    latency.getMaxValue() / 1000.0);
+
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("scenario", entry.getKey().key);
+            result.put("requests", count);
+            result.put("throughput", count / seconds);
+            result.put("errors", errors);
+            result.put("p50Ms", millis(latency, 50));
+            result.put("p90Ms", millis(latency, 90));
+            result.put("p99Ms", millis(latency, 99));
+            result.put("p999Ms", millis(latency, 99.9));
+            result.put("maxMs", latency.getMaxValue() / 1000.0);
+            scenarios.add(result);
+
+            // HdrHistogram 백분위 분포 (hgrm 형식, 밀리초 단위)
+            try (PrintStream hgrm = new PrintStream(
+                    Files.newOutputStream(outputDir.resolve(entry.getKey().key + ".hgrm")), true, StandardCharsets.UTF_8)) {
+                latency.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        summary.put("scenarios", scenarios);
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        Files.writeString(outputDir.resolve("report.json"), gson.toJson(summary), StandardCharsets.UTF_8);
+        out.printf("%n결과 저장 - %s%n", outputDir.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * "list=50,search=20" 형식의 비율을 가중치 배열로 변환
+     */
+    private static Scenario[] parseMix(String mix) {
+        List<Scenario> weighted = new ArrayList<>();
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split("=");
+            Scenario scenario = Scenario.of(pair[0].trim());
+            int weight = pair.length > 1 ? Integer.parseInt(pair[1].trim()) : 1;
+            for (int i = 0; i < weight; i++) {
+                weighted.add(scenario);
+            }
+        }
+        if (weighted.isEmpty()) {
+            throw new IllegalArgumentException("mix가 비어 있습니다");
+        }
+        return weighted.toArray(Scenario[]::new);
+    }
+}
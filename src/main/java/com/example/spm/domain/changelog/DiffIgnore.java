@@ -0,0 +1,15 @@
+package com.example.spm.domain.changelog;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 변경 이력 비교 대상에서 제외할 필드
+ * (식별자와 BaseTimeEntity 감사 필드는 별도 지정 없이 제외된다)
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DiffIgnore {
+}
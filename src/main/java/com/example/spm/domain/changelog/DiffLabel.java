@@ -0,0 +1,15 @@
+package com.example.spm.domain.changelog;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 연관 엔티티의 표시 이름 필드 - 이 엔티티를 참조하는 쪽 스냅샷에 "{연관 필드명}Name"으로 ID와 함께 기록
+ * (예: Category.categoryName → Product 스냅샷의 categoryId, categoryName)
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface DiffLabel {
+}
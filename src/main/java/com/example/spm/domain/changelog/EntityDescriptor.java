@@ -0,0 +1,225 @@
+package com.example.spm.domain.changelog;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.hibernate.proxy.HibernateProxy;
+import org.springframework.util.StringUtils;
+
+import com.example.spm.domain.entity.BaseTimeEntity;
+import com.example.spm.domain.entity.Product;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
+
+/**
+ * 추적 대상 엔티티의 필드 접근 정보 - 클래스당 한 번만 리플렉션으로 분석하고
+ * getter는 LambdaMetafactory로 생성한 Function으로 호출해 스냅샷마다 리플렉션을 쓰지 않는다.
+ *
+ * 연관 엔티티(ManyToOne/OneToOne)는 "{필드명}Id" 이름으로 식별자만 기록하며, 지연 로딩 프록시를 초기화하지 않는다.
+ * 단, 연관 엔티티에 {@link DiffLabel} 필드가 있으면 이력만으로 읽을 수 있도록 "{필드명}Name"으로 표시 이름도 기록한다
+ * (이 경우 프록시가 초기화되며, 대상은 2차 캐시 엔티티인 Category뿐이다).
+ */
+public final class EntityDescriptor {
+
+    private final String entityType;
+    private final Function<Object, Object> idAccessor;
+    private final Function<Object, Object> ownerAccessor;
+    private final String[] fieldNames;
+    private final Function<Object, Object>[] accessors;
+
+    @SuppressWarnings("unchecked")
+    private EntityDescriptor(Class<?> type) {
+        MethodHandles.Lookup lookup = lookupFor(type);
+        Function<Object, Object> id = null;
+        Function<Object, Object> owner = type == Product.class ? Function.identity() : null;
+        List<String> names = new ArrayList<>();
+        List<Function<Object, Object>> getters = new ArrayList<>();
+
+        for (Field field : fields(type)) {
+            if (field.isAnnotationPresent(Id.class)) {
+                id = accessor(lookup, field);
+                continue;
+            }
+            if (field.isAnnotationPresent(DiffIgnore.class) || field.isAnnotationPresent(Transient.class)
+                    || field.isAnnotationPresent(Version.class)
+                    || field.isAnnotationPresent(OneToMany.class) || field.isAnnotationPresent(ManyToMany.class)) {
+                continue;
+            }
+
+            Function<Object, Object> getter = accessor(lookup, field);
+            if (field.isAnnotationPresent(ManyToOne.class) || field.isAnnotationPresent(OneToOne.class)) {
+                if (field.getType() == Product.class && owner == null) {
+                    owner = getter;
+                }
+                Function<Object, Object> relatedId = idAccessor(field.getType());
+                names.add(field.getName() + "Id");
+                getters.add(entity -> {
+                    Object related = getter.apply(entity);
+                    if (related == null) {
+                        return null;
+                    }
+                    if (related instanceof HibernateProxy proxy) {
+                        return proxy.getHibernateLazyInitializer().getInternalIdentifier();
+                    }
+                    return relatedId.apply(related);
+                });
+                Function<Object, Object> label = labelAccessor(field.getType());
+                if (label != null) {
+                    names.add(field.getName() + "Name");
+                    getters.add(entity -> {
+                        Object related = getter.apply(entity);
+                        return related != null ? normalize(label.apply(related)) : null;
+                    });
+                }
+            } else {
+                names.add(field.getName());
+                getters.add(entity -> normalize(getter.apply(entity)));
+            }
+        }
+
+        if (id == null || owner == null) {
+            throw new IllegalArgumentException("변경 이력 추적 불가 엔티티 (식별자 또는 소유 상품 없음): " + type.getName());
+        }
+        this.entityType = type.getSimpleName();
+        this.idAccessor = id;
+        this.ownerAccessor = owner;
+        this.fieldNames = names.toArray(String[]::new);
+        this.accessors = getters.toArray(Function[]::new);
+    }
+
+    static EntityDescriptor of(Class<?> type) {
+        return new EntityDescriptor(type);
+    }
+
+    public String entityType() {
+        return entityType;
+    }
+
+    String[] fieldNames() {
+        return fieldNames;
+    }
+
+    EntitySnapshot snapshot(Object entity) {
+        Object[] values = new Object[accessors.length];
+        for (int i = 0; i < accessors.length; i++) {
+            values[i] = accessors[i].apply(entity);
+        }
+        Object id = idAccessor.apply(entity);
+        return new EntitySnapshot(this, id != null ? ((Number) id).longValue() : null,
+                (Product) ownerAccessor.apply(entity), values);
+    }
+
+    private static Object normalize(Object value) {
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+            return value;
+        }
+        // 날짜 등은 ISO 문자열로 기록
+        return value.toString();
+    }
+
+    private static List<Field> fields(Class<?> type) {
+        List<Class<?>> hierarchy = new ArrayList<>();
+        for (Class<?> c = type; c != null && c != Object.class && c != BaseTimeEntity.class; c = c.getSuperclass()) {
+            hierarchy.add(0, c);
+        }
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> c : hierarchy) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+
+    private static Function<Object, Object> idAccessor(Class<?> type) {
+        for (Field field : fields(type)) {
+            if (field.isAnnotationPresent(Id.class)) {
+                return accessor(lookupFor(type), field);
+            }
+        }
+        throw new IllegalArgumentException("식별자 필드가 없는 엔티티: " + type.getName());
+    }
+
+    /**
+     * 연관 엔티티의 표시 이름 getter (DiffLabel 필드가 없으면 null)
+     */
+    private static Function<Object, Object> labelAccessor(Class<?> type) {
+        for (Field field : fields(type)) {
+            if (field.isAnnotationPresent(DiffLabel.class)) {
+                return accessor(lookupFor(type), field);
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandles.Lookup lookupFor(Class<?> type) {
+        try {
+            return MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("엔티티 접근 불가: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * getter 호출 Function 생성 - LambdaMetafactory 실패 시 MethodHandle 호출로 대체
+     */
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> accessor(MethodHandles.Lookup lookup, Field field) {
+        Method getter = getter(field);
+        try {
+            MethodHandles.Lookup owner = MethodHandles.privateLookupIn(getter.getDeclaringClass(), lookup);
+            MethodHandle handle = owner.unreflect(getter);
+            try {
+                CallSite site = LambdaMetafactory.metafactory(owner, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        MethodType.methodType(getter.getReturnType(), getter.getDeclaringClass()).wrap());
+                return (Function<Object, Object>) site.getTarget().invoke();
+            } catch (Throwable e) {
+                MethodHandle generic = handle.asType(MethodType.methodType(Object.class, Object.class));
+                return entity -> {
+                    try {
+                        return generic.invokeExact(entity);
+                    } catch (Throwable t) {
+                        throw new IllegalStateException("필드 조회 실패: " + field, t);
+                    }
+                };
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("getter 접근 불가: " + field, e);
+        }
+    }
+
+    private static Method getter(Field field) {
+        String suffix = StringUtils.capitalize(field.getName());
+        for (String prefix : new String[] { "get", "is" }) {
+            try {
+                return field.getDeclaringClass().getMethod(prefix + suffix);
+            } catch (NoSuchMethodException ignored) {
+                // 다음 접두사 시도
+            }
+        }
+        throw new IllegalArgumentException("getter가 없는 필드: " + field);
+    }
+}
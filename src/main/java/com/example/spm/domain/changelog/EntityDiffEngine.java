@@ -0,0 +1,71 @@
+package com.example.spm.domain.changelog;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.domain.entity.Inventory;
+import com.example.spm.domain.entity.PriceHistory;
+import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.entity.ProductOption;
+
+/**
+ * 엔티티 변경 비교 엔진 - 스냅샷을 만들고 두 스냅샷의 필드 차이를 계산
+ *
+ * 추적 대상: Product, PriceHistory, Inventory, ProductOption
+ * 엔티티에 필드를 추가하면 별도 코드 없이 비교 대상에 포함된다 ({@link DiffIgnore}로 제외 가능).
+ */
+@Component
+public class EntityDiffEngine {
+
+    private static final Set<Class<?>> TRACKED = Set.of(
+            Product.class, PriceHistory.class, Inventory.class, ProductOption.class);
+
+    private final ClassValue<EntityDescriptor> descriptors = new ClassValue<>() {
+        @Override
+        protected EntityDescriptor computeValue(Class<?> type) {
+            return EntityDescriptor.of(type);
+        }
+    };
+
+    /**
+     * 현재 값 스냅샷 (수정 전 호출해 두고 수정 후 {@link #diff}에 전달)
+     */
+    public EntitySnapshot snapshot(Object entity) {
+        Class<?> type = Hibernate.getClass(entity);
+        if (!TRACKED.contains(type)) {
+            throw new IllegalArgumentException("변경 이력 추적 대상이 아닌 엔티티: " + type.getName());
+        }
+        return descriptors.get(type).snapshot(entity);
+    }
+
+    /**
+     * 변경된 필드만 추려 변경 전/후 값 반환
+     */
+    public FieldChanges diff(EntitySnapshot before, EntitySnapshot after) {
+        if (before.descriptor() != after.descriptor()) {
+            throw new IllegalArgumentException("서로 다른 엔티티 스냅샷은 비교할 수 없습니다: "
+                    + before.entityType() + ", " + after.entityType());
+        }
+        String[] names = before.descriptor().fieldNames();
+        List<String> fields = new ArrayList<>();
+        Map<String, Object> oldValues = new LinkedHashMap<>();
+        Map<String, Object> newValues = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            Object oldValue = before.values()[i];
+            Object newValue = after.values()[i];
+            if (!Objects.equals(oldValue, newValue)) {
+                fields.add(names[i]);
+                oldValues.put(names[i], oldValue);
+                newValues.put(names[i], newValue);
+            }
+        }
+        return new FieldChanges(fields, oldValues, newValues);
+    }
+}
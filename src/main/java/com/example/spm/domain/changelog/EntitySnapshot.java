@@ -0,0 +1,29 @@
+package com.example.spm.domain.changelog;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.spm.domain.entity.Product;
+
+/**
+ * 추적 대상 엔티티의 특정 시점 값 - 필드 순서는 {@link EntityDescriptor}의 필드 목록과 같다
+ * 값은 비교/직렬화 가능한 형태(문자열, 숫자, 불리언, 연관 엔티티 ID)로 정규화되어 있다.
+ */
+public record EntitySnapshot(EntityDescriptor descriptor, Long entityId, Product owner, Object[] values) {
+
+    public String entityType() {
+        return descriptor.entityType();
+    }
+
+    /**
+     * 필드명 → 값 (전체 스냅샷 기록용)
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        String[] names = descriptor.fieldNames();
+        for (int i = 0; i < names.length; i++) {
+            map.put(names[i], values[i]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.spm.domain.changelog;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 두 스냅샷 사이의 변경 필드와 변경 전/후 값 (변경된 필드만 포함)
+ */
+public record FieldChanges(List<String> fields, Map<String, Object> oldValues, Map<String, Object> newValues) {
+
+    public boolean isEmpty() {
+        return fields.isEmpty();
+    }
+}
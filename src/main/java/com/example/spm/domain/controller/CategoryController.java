@@ -7,8 +7,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.spm.domain.entity.Category;
-import com.example.spm.domain.repository.CategoryRepository;
+import com.example.spm.domain.dto.CateDto;
+import com.example.spm.domain.service.CategoryService;
+import com.example.spm.global.annotation.Bulkhead;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -18,18 +19,18 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @RestController
+@Bulkhead(Bulkhead.INTERACTIVE)
 @RequestMapping("/api/categories")
 @RequiredArgsConstructor
 public class CategoryController {
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryService categoryService;
 
     /**
      * 전체 카테고리 목록 조회
      */
     @GetMapping
-    public ResponseEntity<List<Category>> getCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<List<CateDto.Response>> getCategories() {
+        return ResponseEntity.ok(categoryService.getCategories());
     }
 }
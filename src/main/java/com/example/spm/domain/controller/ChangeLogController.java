@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RestController;
 import com.example.spm.domain.dto.ChangeLogDto;
 import com.example.spm.domain.enums.ChangeType;
 import com.example.spm.domain.service.ChangeLogService;
+import com.example.spm.global.annotation.Bulkhead;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @RestController
+@Bulkhead(Bulkhead.REPORTING)
 @RequestMapping("/api/change-logs")
 @RequiredArgsConstructor
 @Validated
@@ -0,0 +1,88 @@
+package com.example.spm.domain.controller;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.spm.domain.dto.JobDto;
+import com.example.spm.domain.service.JobService;
+import com.example.spm.global.annotation.Bulkhead;
+import com.example.spm.global.annotation.Idempotent;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 작업 컨트롤러 - 장시간 작업 등록 및 진행 상황 조회 API
+ */
+@Slf4j
+@RestController
+@Bulkhead(Bulkhead.INTERACTIVE)
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Validated
+public class JobController {
+
+    private final JobService jobService;
+
+    /**
+     * 작업 등록
+     * POST /api/jobs {"jobType": "PRODUCT_STATUS_CHANGE", "params": {"status": "INACTIVE", "categoryId": "3"}}
+     */
+    @PostMapping
+    @Idempotent
+    public ResponseEntity<JobDto.Response> submitJob(@Valid @RequestBody JobDto.Request request) {
+        JobDto.Response job = jobService.submit(request.getJobType(), request.getParams());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * 작업 목록 조회
+     * GET /api/jobs?page=0&size=10
+     */
+    @GetMapping
+    public ResponseEntity<Page<JobDto.Response>> getJobs(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        return ResponseEntity.ok(jobService.getJobs(pageable));
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     * GET /api/jobs/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<JobDto.Response> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(jobService.getJob(id));
+    }
+
+    /**
+     * 작업 취소
+     * POST /api/jobs/{id}/cancel
+     */
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<JobDto.Response> cancelJob(@PathVariable Long id) {
+        return ResponseEntity.ok(jobService.cancel(id));
+    }
+
+    /**
+     * 작업 재개 (마지막 체크포인트부터)
+     * POST /api/jobs/{id}/resume
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<JobDto.Response> resumeJob(@PathVariable Long id) {
+        return ResponseEntity.ok(jobService.resume(id));
+    }
+}
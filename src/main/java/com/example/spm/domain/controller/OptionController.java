@@ -0,0 +1,92 @@
+package com.example.spm.domain.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.spm.domain.dto.OptionDto;
+import com.example.spm.domain.service.OptionService;
+import com.example.spm.global.annotation.Bulkhead;
+import com.example.spm.global.annotation.Idempotent;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 옵션 컨트롤러 - 옵션 관리 및 속성 사전 API
+ */
+@Slf4j
+@RestController
+@Bulkhead(Bulkhead.INTERACTIVE)
+@RequestMapping("/api/products")
+@RequiredArgsConstructor
+@Validated
+public class OptionController {
+
+    private final OptionService optionService;
+
+    /**
+     * 상품 옵션 목록 조회
+     * GET /api/products/{productId}/options
+     */
+    @GetMapping("/{productId}/options")
+    public ResponseEntity<List<OptionDto.Response>> getOptions(@PathVariable Long productId) {
+        return ResponseEntity.ok(optionService.getOptions(productId));
+    }
+
+    /**
+     * 상품 옵션 추가
+     * POST /api/products/{productId}/options
+     */
+    @PostMapping("/{productId}/options")
+    @Idempotent
+    public ResponseEntity<OptionDto.Response> addOption(
+            @PathVariable Long productId,
+            @Valid @RequestBody OptionDto.Request request) {
+        OptionDto.Response option = optionService.addOption(productId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(option);
+    }
+
+    /**
+     * 상품 옵션값 수정
+     * PUT /api/products/{productId}/options/{optionId}
+     */
+    @PutMapping("/{productId}/options/{optionId}")
+    @Idempotent
+    public ResponseEntity<OptionDto.Response> updateOption(
+            @PathVariable Long productId,
+            @PathVariable Long optionId,
+            @Valid @RequestBody OptionDto.Request request) {
+        return ResponseEntity.ok(optionService.updateOption(productId, optionId, request));
+    }
+
+    /**
+     * 상품 옵션 삭제
+     * DELETE /api/products/{productId}/options/{optionId}
+     */
+    @DeleteMapping("/{productId}/options/{optionId}")
+    public ResponseEntity<Void> deleteOption(@PathVariable Long productId, @PathVariable Long optionId) {
+        optionService.deleteOption(productId, optionId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 속성 사전 조회 - 옵션명별 값과 상품 수 (필터 UI용)
+     * GET /api/products/options/attributes
+     */
+    @GetMapping("/options/attributes")
+    public ResponseEntity<List<OptionDto.Attribute>> getAttributes() {
+        return ResponseEntity.ok(optionService.getAttributes());
+    }
+}
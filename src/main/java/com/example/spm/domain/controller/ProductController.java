@@ -1,8 +1,13 @@
 package com.example.spm.domain.controller;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
@@ -12,12 +17,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.example.spm.domain.dto.FacetDto;
 import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.dto.ProductHistoryDto;
+import com.example.spm.domain.service.FacetService;
 import com.example.spm.domain.service.ProdService;
+import com.example.spm.domain.service.ProductCodeFilterService;
+import com.example.spm.domain.service.ProductHistoryService;
+import com.example.spm.global.annotation.Bulkhead;
+import com.example.spm.global.annotation.Idempotent;
+import com.example.spm.global.util.ETagUtils;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -28,16 +42,20 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 @RestController
+@Bulkhead(Bulkhead.INTERACTIVE)
 @RequestMapping("/api/products")
 @RequiredArgsConstructor
 @Validated
 public class ProductController {
 
     private final ProdService prodService;
+    private final FacetService facetService;
+    private final ProductHistoryService productHistoryService;
+    private final ProductCodeFilterService codeFilterService;
 
     /**
      * 상품 목록 조회
-     * GET /api/products?page=0&size=10&productName=노트북&productCode=PROD001&minPrice=1000&maxPrice=10000
+     * GET /api/products?page=0&size=10&productName=노트북&productCode=PROD001&minPrice=1000&maxPrice=10000&option=color:red&option=size:XL
      */
     @GetMapping
     public ResponseEntity<Page<ProdDto.Response>> getProducts(
@@ -45,31 +63,97 @@ public class ProductController {
             @RequestParam(required = false) String productCode,
             @RequestParam(required = false) Double minPrice,
             @RequestParam(required = false) Double maxPrice,
+            @RequestParam(name = "option", required = false) List<String> options,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
         
+        ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                .productName(productName)
+                .productCode(productCode)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .options(ProdDto.SearchCondition.parseOptions(options))
+                .build();
+
         Pageable pageable = PageRequest.of(page, size);
-        Page<ProdDto.Response> products = prodService.getProducts(
-                productName, productCode, minPrice, maxPrice, pageable);
+        Page<ProdDto.Response> products = prodService.getProducts(condition, pageable);
         
         return ResponseEntity.ok(products);
     }
 
     /**
-     * 상품 상세 조회
+     * 상품 목록 + 패싯 개수 조회 (카테고리/상태/가격 구간/옵션)
+     * GET /api/products/faceted?page=0&size=10&productName=노트북&option=color:red
+     */
+    @GetMapping("/faceted")
+    public ResponseEntity<FacetDto.FacetedPage> getFacetedProducts(
+            @RequestParam(required = false) String productName,
+            @RequestParam(required = false) String productCode,
+            @RequestParam(required = false) Double minPrice,
+            @RequestParam(required = false) Double maxPrice,
+            @RequestParam(name = "option", required = false) List<String> options,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                .productName(productName)
+                .productCode(productCode)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .options(ProdDto.SearchCondition.parseOptions(options))
+                .build();
+
+        return ResponseEntity.ok(facetService.getFacetedProducts(condition, PageRequest.of(page, size)));
+    }
+
+    /**
+     * 상품코드 필터 상태 조회 (용량, 예상/실측 오탐률)
+     * GET /api/products/code-filter
+     */
+    @GetMapping("/code-filter")
+    public ResponseEntity<ProdDto.CodeFilterStatus> getCodeFilterStatus() {
+        return ResponseEntity.ok(codeFilterService.getStatus());
+    }
+
+    /**
+     * 상품코드 필터 재생성
+     * POST /api/products/code-filter/rebuild
+     */
+    @PostMapping("/code-filter/rebuild")
+    @Bulkhead(Bulkhead.BATCH)
+    public ResponseEntity<ProdDto.CodeFilterStatus> rebuildCodeFilter() {
+        codeFilterService.rebuild();
+        return ResponseEntity.ok(codeFilterService.getStatus());
+    }
+
+    /**
+     * 상품 상세 조회 (ETag: 상품 버전)
      * GET /api/products/{id}
      */
     @GetMapping("/{id}")
     public ResponseEntity<ProdDto.Response> getProduct(@PathVariable Long id) {
         ProdDto.Response product = prodService.getProduct(id);
-        return ResponseEntity.ok(product);
+        return ResponseEntity.ok().eTag(ETagUtils.of(product.getVersion())).body(product);
+    }
+
+    /**
+     * 특정 시점의 상품 상태 조회 (변경 이력 재생)
+     * GET /api/products/{id}/history?asOf=2025-01-01T00:00:00
+     */
+    @GetMapping("/{id}/history")
+    @Bulkhead(Bulkhead.REPORTING)
+    public ResponseEntity<ProductHistoryDto.Response> getProductHistory(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(productHistoryService.getProductAsOf(id, asOf));
     }
 
     /**
      * 상품 추가
-     * POST /api/products
+     * POST /api/products (Idempotency-Key 헤더가 있으면 재시도 시 저장된 응답 반환)
      */
     @PostMapping
+    @Idempotent
     public ResponseEntity<ProdDto.Response> createProduct(@Valid @RequestBody ProdDto.Request request) {
         ProdDto.Response product = prodService.createProduct(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(product);
@@ -78,13 +162,16 @@ public class ProductController {
     /**
      * 상품 수정
      * PUT /api/products/{id}
+     * If-Match: "{version}" 이 있으면 버전이 다를 때 412, 없으면 동시 수정 충돌 시 서버에서 재시도
      */
     @PutMapping("/{id}")
+    @Idempotent
     public ResponseEntity<ProdDto.Response> updateProduct(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody ProdDto.Request request) {
-        ProdDto.Response product = prodService.updateProduct(id, request);
-        return ResponseEntity.ok(product);
+        ProdDto.Response product = prodService.updateProduct(id, request, ETagUtils.parseVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETagUtils.of(product.getVersion())).body(product);
     }
 
     /**
@@ -2,8 +2,10 @@ package com.example.spm.domain.dto;
 
 import com.example.spm.domain.entity.Category;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 public class CateDto {
 
@@ -16,11 +18,26 @@ public class CateDto {
 
     @Data
     @Builder
-    static class Response {
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
         Long categoryId;
         String categoryName;
         Long parentId;
         Integer depth;
         Integer sortOrder;
+
+        /**
+         * Entity를 Response DTO로 변환 (상위 카테고리는 ID만 사용하므로 지연 로딩하지 않음)
+         */
+        public static Response from(Category category) {
+            return Response.builder()
+                    .categoryId(category.getCategoryId())
+                    .categoryName(category.getCategoryName())
+                    .parentId(category.getParent() != null ? category.getParent().getCategoryId() : null)
+                    .depth(category.getDepth())
+                    .sortOrder(category.getSortOrder())
+                    .build();
+        }
     }
 }
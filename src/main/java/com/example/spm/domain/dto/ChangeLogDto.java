@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import com.example.spm.domain.entity.ProductChangeLog;
 import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.domain.enums.ChangeValueFormat;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -44,8 +45,12 @@ public class ChangeLogDto {
         Long productId;
         String productCode;
         String productName;
+        String entityType;
+        Long entityId;
         ChangeType changeType;
         String changedField;
+        /** oldValue/newValue 형식 - JSON(필드명 → 값) 또는 TEXT(changedField의 원본 값) */
+        ChangeValueFormat valueFormat;
         String oldValue;
         String newValue;
         String changedBy;
@@ -60,8 +65,11 @@ public class ChangeLogDto {
                     .productId(changeLog.getProduct().getProductId())
                     .productCode(changeLog.getProduct().getProductCode())
                     .productName(changeLog.getProduct().getProductName())
+                    .entityType(changeLog.getEntityType())
+                    .entityId(changeLog.getEntityId())
                     .changeType(changeLog.getChangeType())
                     .changedField(changeLog.getChangedField())
+                    .valueFormat(changeLog.getValueFormat())
                     .oldValue(changeLog.getOldValue())
                     .newValue(changeLog.getNewValue())
                     .changedBy(changeLog.getChangedBy())
@@ -0,0 +1,98 @@
+package com.example.spm.domain.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Page;
+
+import com.example.spm.domain.enums.ProductStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 패싯 검색 관련 DTO
+ */
+public class FacetDto {
+
+    /**
+     * 패싯 개수 응답 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        long total;
+        List<CategoryCount> categories;
+        Map<ProductStatus, Long> statuses;
+        List<PriceBucketCount> priceBuckets;
+        Map<String, Map<String, Long>> options;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryCount {
+        Long categoryId;
+        String categoryName;
+        long count;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceBucketCount {
+        Double from;
+        Double to;
+        long count;
+    }
+
+    /**
+     * 상품 목록 + 패싯 응답 DTO
+     * facets가 null이면 인덱스 준비 전이거나 조건이 너무 넓어 패싯을 생략한 경우
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetedPage {
+        ProductPage products;
+        Response facets;
+    }
+
+    /**
+     * 상품 목록 페이지 - 상품 목록 API와 같은 필드만 담고 Spring의 pageable/sort 메타데이터는 제외
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProductPage {
+        List<ProdDto.Response> content;
+        int number;
+        int size;
+        long totalElements;
+        int totalPages;
+        boolean first;
+        boolean last;
+        int numberOfElements;
+
+        public static ProductPage from(Page<ProdDto.Response> page) {
+            return ProductPage.builder()
+                    .content(page.getContent())
+                    .number(page.getNumber())
+                    .size(page.getSize())
+                    .totalElements(page.getTotalElements())
+                    .totalPages(page.getTotalPages())
+                    .first(page.isFirst())
+                    .last(page.isLast())
+                    .numberOfElements(page.getNumberOfElements())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.spm.domain.dto;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.example.spm.domain.entity.CatalogJob;
+import com.example.spm.domain.enums.JobStatus;
+import com.example.spm.domain.enums.JobType;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 작업 관련 DTO
+ */
+public class JobDto {
+
+    private static final Gson GSON = new Gson();
+    private static final Type STATS_TYPE = new TypeToken<Map<String, Long>>() {}.getType();
+
+    /**
+     * 작업 등록 요청 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @NotNull(message = "작업 유형은 필수입니다")
+        JobType jobType;
+
+        Map<String, String> params;
+    }
+
+    /**
+     * 작업 진행 상황 응답 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        Long jobId;
+        JobType jobType;
+        JobStatus status;
+        Long checkpoint;
+        long processedCount;
+        Long totalCount;
+        Double progress;
+        Map<String, Long> stats;
+        String errorMessage;
+        boolean cancelRequested;
+        LocalDateTime startedAt;
+        LocalDateTime finishedAt;
+
+        /**
+         * Entity를 Response DTO로 변환
+         */
+        public static Response from(CatalogJob job) {
+            Double progress = null;
+            if (job.getStatus() == JobStatus.COMPLETED) {
+                progress = 100.0;
+            } else if (job.getTotalCount() != null && job.getTotalCount() > 0) {
+                progress = Math.min(100.0, job.getProcessedCount() * 100.0 / job.getTotalCount());
+            }
+
+            return Response.builder()
+                    .jobId(job.getJobId())
+                    .jobType(job.getJobType())
+                    .status(job.getStatus())
+                    .checkpoint(job.getCheckpoint())
+                    .processedCount(job.getProcessedCount())
+                    .totalCount(job.getTotalCount())
+                    .progress(progress)
+                    .stats(job.getStats() != null ? GSON.fromJson(job.getStats(), STATS_TYPE) : Map.of())
+                    .errorMessage(job.getErrorMessage())
+                    .cancelRequested(job.isCancelRequested())
+                    .startedAt(job.getStartedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .build();
+        }
+    }
+}
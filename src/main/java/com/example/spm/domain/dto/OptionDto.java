@@ -1,27 +1,79 @@
 package com.example.spm.domain.dto;
 
-import com.example.spm.domain.entity.Product;
+import java.util.List;
 
+import com.example.spm.domain.entity.ProductOption;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
+/**
+ * 상품 옵션 관련 DTO
+ */
 public class OptionDto {
 
+    /**
+     * 옵션 추가/수정 요청 DTO
+     */
     @Data
     @Builder
-    static class Request {
-        Product product;
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @NotBlank(message = "옵션명은 필수입니다")
         String optionName;
+
+        @NotBlank(message = "옵션값은 필수입니다")
         String optionValue;
     }
 
+    /**
+     * 옵션 응답 DTO
+     */
     @Data
     @Builder
-    static class Response {
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
         Long optionId;
         Long productId;
-        String productName;
         String optionName;
         String optionValue;
+
+        /**
+         * Entity를 Response DTO로 변환
+         */
+        public static Response from(ProductOption option) {
+            return Response.builder()
+                    .optionId(option.getOptionId())
+                    .productId(option.getProduct().getProductId())
+                    .optionName(option.getOptionName())
+                    .optionValue(option.getOptionValue())
+                    .build();
+        }
+    }
+
+    /**
+     * 속성 사전 응답 DTO - 옵션명별 값과 상품 수 (필터 UI용)
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Attribute {
+        String optionName;
+        List<AttributeValue> values;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AttributeValue {
+        String optionValue;
+        long productCount;
     }
 }
@@ -1,7 +1,20 @@
 package com.example.spm.domain.dto;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
 import com.example.spm.domain.entity.Product;
 import com.example.spm.domain.enums.ProductStatus;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.concurrency.CoalescingKey;
 
 import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
@@ -48,6 +61,8 @@ public class ProdDto {
         Long categoryId;
         String categoryName;
         ProductStatus status;
+        /** 낙관적 잠금 버전 (수정 시 If-Match로 전달) */
+        Long version;
         
         /**
          * Entity를 Response DTO로 변환
@@ -61,7 +76,96 @@ public class ProdDto {
                     .categoryId(product.getCategory() != null ? product.getCategory().getCategoryId() : null)
                     .categoryName(product.getCategory() != null ? product.getCategory().getCategoryName() : null)
                     .status(product.getStatus())
+                    .version(product.getVersion())
                     .build();
         }
     }
+
+    /**
+     * 상품 검색 조건 DTO
+     */
+    @Data
+    @Builder(toBuilder = true)
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SearchCondition implements CoalescingKey {
+        String productName;
+        String productCode;
+        Double minPrice;
+        Double maxPrice;
+
+        /** 속성 필터 - 옵션명 → 허용 값 (같은 옵션명 내 OR, 옵션명 간 AND) */
+        Map<String, List<String>> options;
+
+        /** 옵션 인덱스로 좁힌 후보 상품 ID (서비스에서 설정, 설정 시 옵션 조건 대신 사용) */
+        Collection<Long> productIds;
+
+        public boolean hasOptions() {
+            return options != null && !options.isEmpty();
+        }
+
+        /**
+         * 조회 병합 키 - 상품명/코드는 대소문자 무시 검색이므로 소문자로, 옵션 값은 순서 무관(OR)이므로 정렬해 비교
+         */
+        @Override
+        public Object coalescingKey() {
+            Map<String, List<String>> normalizedOptions = null;
+            if (hasOptions()) {
+                normalizedOptions = new TreeMap<>();
+                for (Map.Entry<String, List<String>> entry : options.entrySet()) {
+                    normalizedOptions.put(entry.getKey(), entry.getValue().stream().sorted().distinct().toList());
+                }
+            }
+            return Arrays.asList(normalize(productName), normalize(productCode), minPrice, maxPrice,
+                    normalizedOptions, productIds);
+        }
+
+        private static String normalize(String keyword) {
+            return keyword == null || keyword.isEmpty() ? null : keyword.toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * "옵션명:옵션값" 형식 파라미터 파싱 (예: option=color:red&option=size:XL)
+         */
+        public static Map<String, List<String>> parseOptions(List<String> rawOptions) {
+            if (rawOptions == null || rawOptions.isEmpty()) {
+                return null;
+            }
+            Map<String, List<String>> options = new LinkedHashMap<>();
+            for (String raw : rawOptions) {
+                int separator = raw.indexOf(':');
+                if (separator <= 0 || separator == raw.length() - 1) {
+                    throw new BusinessException(ErrorCode.INVALID_SEARCH_CONDITION,
+                            "옵션 필터는 '옵션명:옵션값' 형식이어야 합니다: " + raw);
+                }
+                options.computeIfAbsent(raw.substring(0, separator).trim(), k -> new ArrayList<>())
+                        .add(raw.substring(separator + 1).trim());
+            }
+            return options;
+        }
+    }
+
+    /**
+     * 상품코드 필터 상태 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CodeFilterStatus {
+        boolean enabled;
+        boolean ready;
+        long capacity;
+        long approximateElements;
+        long bitSize;
+        int numHashes;
+        /** 비트 채움 비율 기준 예상 오탐률 */
+        double expectedFpp;
+        /** 실측 오탐률 (오탐 / 실제로 없는 코드 확인 건수) */
+        double observedFpp;
+        long definitelyAbsent;
+        long possiblyPresent;
+        long falsePositives;
+        LocalDateTime lastRebuiltAt;
+    }
 }
@@ -0,0 +1,37 @@
+package com.example.spm.domain.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 이력(특정 시점 상태) 관련 DTO
+ */
+public class ProductHistoryDto {
+
+    /**
+     * 특정 시점 상품 상태 응답 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Response {
+        Long productId;
+        LocalDateTime asOf;
+        /** 필드명 → 값 (Product 추적 필드, 카테고리는 categoryId, categoryName) */
+        Map<String, Object> state;
+        boolean deleted;
+        /** 마지막으로 반영된 변경 이력 ID / 일시 */
+        Long lastChangeLogId;
+        LocalDateTime lastChangedDate;
+        /** 재생 시작점 스냅샷 (없으면 최초 이력부터 재생) */
+        Long snapshotId;
+        /** 스냅샷 이후 재생한 변경 이력 수 */
+        int replayedChanges;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.spm.domain.dto;
+
+import java.util.Map;
+
+import com.example.spm.global.serialization.FieldName;
+import com.example.spm.global.serialization.StreamObjectWriter;
+
+/**
+ * 응답 DTO 스트리밍 기록기 (JSON/CBOR 공용) - 필드명 바이트를 미리 인코딩해 둔다
+ * DTO 필드를 추가하면 여기에도 함께 추가해야 응답에 포함된다
+ */
+public final class ResponseStreamWriters {
+
+    private static final FieldName PRODUCT_ID = FieldName.of("productId");
+    private static final FieldName PRODUCT_CODE = FieldName.of("productCode");
+    private static final FieldName PRODUCT_NAME = FieldName.of("productName");
+    private static final FieldName DESCRIPTION = FieldName.of("description");
+    private static final FieldName CATEGORY_ID = FieldName.of("categoryId");
+    private static final FieldName CATEGORY_NAME = FieldName.of("categoryName");
+    private static final FieldName STATUS = FieldName.of("status");
+    private static final FieldName VERSION = FieldName.of("version");
+
+    private static final FieldName CHANGE_LOG_ID = FieldName.of("changeLogId");
+    private static final FieldName ENTITY_TYPE = FieldName.of("entityType");
+    private static final FieldName ENTITY_ID = FieldName.of("entityId");
+    private static final FieldName CHANGE_TYPE = FieldName.of("changeType");
+    private static final FieldName CHANGED_FIELD = FieldName.of("changedField");
+    private static final FieldName VALUE_FORMAT = FieldName.of("valueFormat");
+    private static final FieldName OLD_VALUE = FieldName.of("oldValue");
+    private static final FieldName NEW_VALUE = FieldName.of("newValue");
+    private static final FieldName CHANGED_BY = FieldName.of("changedBy");
+    private static final FieldName CHANGED_DATE = FieldName.of("changedDate");
+
+    public static final StreamObjectWriter<ProdDto.Response> PRODUCT = (writer, product) -> {
+        writer.beginObject();
+        writer.name(PRODUCT_ID).value(product.getProductId());
+        writer.name(PRODUCT_CODE).value(product.getProductCode());
+        writer.name(PRODUCT_NAME).value(product.getProductName());
+        writer.name(DESCRIPTION).value(product.getDescription());
+        writer.name(CATEGORY_ID).value(product.getCategoryId());
+        writer.name(CATEGORY_NAME).value(product.getCategoryName());
+        writer.name(STATUS).value(product.getStatus());
+        writer.name(VERSION).value(product.getVersion());
+        writer.endObject();
+    };
+
+    public static final StreamObjectWriter<ChangeLogDto.Response> CHANGE_LOG = (writer, changeLog) -> {
+        writer.beginObject();
+        writer.name(CHANGE_LOG_ID).value(changeLog.getChangeLogId());
+        writer.name(PRODUCT_ID).value(changeLog.getProductId());
+        writer.name(PRODUCT_CODE).value(changeLog.getProductCode());
+        writer.name(PRODUCT_NAME).value(changeLog.getProductName());
+        writer.name(ENTITY_TYPE).value(changeLog.getEntityType());
+        writer.name(ENTITY_ID).value(changeLog.getEntityId());
+        writer.name(CHANGE_TYPE).value(changeLog.getChangeType());
+        writer.name(CHANGED_FIELD).value(changeLog.getChangedField());
+        writer.name(VALUE_FORMAT).value(changeLog.getValueFormat());
+        writer.name(OLD_VALUE).value(changeLog.getOldValue());
+        writer.name(NEW_VALUE).value(changeLog.getNewValue());
+        writer.name(CHANGED_BY).value(changeLog.getChangedBy());
+        writer.name(CHANGED_DATE).value(changeLog.getChangedDate());
+        writer.endObject();
+    };
+
+    private ResponseStreamWriters() {
+    }
+
+    /**
+     * 스트리밍 변환기(JSON/CBOR)에 등록할 타입별 기록기
+     */
+    public static Map<Class<?>, StreamObjectWriter<?>> all() {
+        return Map.of(
+                ProdDto.Response.class, PRODUCT,
+                ChangeLogDto.Response.class, CHANGE_LOG);
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.spm.domain.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.DynamicUpdate;
+
+import com.example.spm.domain.enums.JobStatus;
+import com.example.spm.domain.enums.JobType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비동기 작업 Entity - 청크 단위 실행 상태와 체크포인트 저장
+ * 진행률/취소 플래그는 워커와 API 스레드가 동시에 갱신하므로 변경된 컬럼만 UPDATE
+ */
+@Getter
+@Entity
+@DynamicUpdate
+@Table(name = "catalog_job", indexes = @Index(name = "idx_catalog_job_status", columnList = "status"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CatalogJob extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "job_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long jobId;
+
+    @Column(name = "job_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobType jobType;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private JobStatus status;
+
+    @Column(name = "params", columnDefinition = "TEXT")
+    private String params;
+
+    @Column(name = "checkpoint")
+    private Long checkpoint;
+
+    @Column(name = "processed_count", nullable = false)
+    private long processedCount;
+
+    @Column(name = "total_count")
+    private Long totalCount;
+
+    @Column(name = "stats", columnDefinition = "TEXT")
+    private String stats;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "cancel_requested", nullable = false)
+    private boolean cancelRequested;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public CatalogJob(JobType jobType, String params) {
+        this.jobType = jobType;
+        this.params = params;
+        this.status = JobStatus.PENDING;
+    }
+
+    /**
+     * 실행 시작 - 최초 실행 시에만 전체 건수/시작 시각 기록
+     */
+    public void start(Long totalCount) {
+        if (this.startedAt == null) {
+            this.startedAt = LocalDateTime.now();
+        }
+        if (totalCount != null) {
+            this.totalCount = totalCount;
+        }
+        this.status = JobStatus.RUNNING;
+    }
+
+    public void complete() {
+        this.status = JobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void fail(String errorMessage) {
+        this.status = JobStatus.FAILED;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000)
+                : errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void cancel() {
+        this.status = JobStatus.CANCELLED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재개 - 체크포인트와 누적 처리 건수는 유지
+     */
+    public void resume() {
+        this.status = JobStatus.PENDING;
+        this.cancelRequested = false;
+        this.errorMessage = null;
+        this.finishedAt = null;
+    }
+
+    public boolean isResumable() {
+        return status == JobStatus.FAILED || status == JobStatus.CANCELLED;
+    }
+}
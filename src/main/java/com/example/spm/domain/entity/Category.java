@@ -1,5 +1,10 @@
 package com.example.spm.domain.entity;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import com.example.spm.domain.changelog.DiffLabel;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -12,9 +17,14 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 카테고리 Entity - 조회가 잦고 변경이 드물어 2차 캐시("category" 리전) 대상
+ * 엔티티 저장/삭제와 JPQL 벌크 변경 시 Hibernate가 리전을 무효화한다.
+ */
 @Getter
 @Entity
 @Table(name = "category")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "category")
 @NoArgsConstructor
 public class Category extends BaseTimeEntity {
 
@@ -23,6 +33,7 @@ public class Category extends BaseTimeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     Long categoryId;
 
+    @DiffLabel
     @Column(name = "category_name", nullable = false)
     String categoryName;
 
@@ -1,5 +1,7 @@
 package com.example.spm.domain.entity;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -9,6 +11,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -32,4 +35,10 @@ public class Inventory extends BaseTimeEntity {
 
     @Column(name = "warehouse_code")
     String warehouseCode;
+
+    /** 낙관적 잠금 버전 */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    long version;
 }
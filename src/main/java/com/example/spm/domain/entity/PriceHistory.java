@@ -2,6 +2,8 @@ package com.example.spm.domain.entity;
 
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -11,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -37,4 +40,10 @@ public class PriceHistory extends BaseTimeEntity {
 
     @Column(name = "end_date")
     LocalDateTime endDate;
+
+    /** 낙관적 잠금 버전 */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    long version;
 }
@@ -1,5 +1,9 @@
 package com.example.spm.domain.entity;
 
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.ColumnDefault;
+
 import com.example.spm.domain.enums.ProductStatus;
 
 import jakarta.persistence.Column;
@@ -10,9 +14,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -20,10 +26,15 @@ import lombok.NoArgsConstructor;
 
 /**
  * 상품 Entity
+ * 삭제는 Soft Delete(status=DELETED, deletedAt 기록)이며, 물리 삭제는 ProductPurgeJobHandler가 배치로 수행한다.
+ * (deleted_at, created_date) 복합 인덱스로 "삭제되지 않은 상품 + 등록일 정렬" 조회를 인덱스 범위 스캔으로 처리
+ * 동시 수정은 version 컬럼으로 감지한다 (낙관적 잠금).
  */
 @Getter
 @Entity
-@Table(name = "product")
+@Table(name = "product", indexes = {
+        @Index(name = "idx_product_deleted_created", columnList = "deleted_at, created_date")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Product extends BaseTimeEntity {
 
@@ -49,6 +60,15 @@ public class Product extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private ProductStatus status;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
+    /** 낙관적 잠금 버전 - 수정마다 증가, API에서는 ETag로 노출 */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
+
     @Builder
     public Product(String productCode, String productName, String description, Category category, ProductStatus status) {
         this.productCode = productCode;
@@ -69,4 +89,23 @@ public class Product extends BaseTimeEntity {
             this.status = status;
         }
     }
+
+    /**
+     * 상품 상태 변경 (일괄 작업용)
+     */
+    public void changeStatus(ProductStatus status) {
+        this.status = status;
+    }
+
+    /**
+     * 상품 삭제 (Soft Delete) - 조회 대상에서 제외되고 보관 기간 이후 물리 삭제
+     */
+    public void softDelete() {
+        this.status = ProductStatus.DELETED;
+        this.deletedAt = LocalDateTime.now();
+    }
+
+    public boolean isDeleted() {
+        return deletedAt != null;
+    }
 }
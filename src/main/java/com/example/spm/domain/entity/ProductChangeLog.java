@@ -2,9 +2,12 @@ package com.example.spm.domain.entity;
 
 import java.time.LocalDateTime;
 
+import com.example.spm.domain.entity.converter.CompressedTextConverter;
 import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.domain.enums.ChangeValueFormat;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -12,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -21,11 +25,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 /**
- * 상품 변경 이력 Entity - 상품 정보 변경 이력 추적
+ * 상품 변경 이력 Entity - 상품 및 상품 하위 엔티티(가격/재고/옵션)의 변경 이벤트당 1건
+ * 수정 이력은 changedField에 변경 필드 목록, oldValue/newValue에 변경 필드만 담은 JSON을 기록한다.
  */
 @Getter
 @Entity
-@Table(name = "product_change_log")
+@Table(name = "product_change_log", indexes = {
+        @Index(name = "idx_change_log_entity", columnList = "entity_type, entity_id"),
+        @Index(name = "idx_change_log_product", columnList = "product_id, change_log_id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ProductChangeLog extends BaseTimeEntity {
 
@@ -38,6 +46,13 @@ public class ProductChangeLog extends BaseTimeEntity {
     @JoinColumn(name = "product_id", nullable = false)
     private Product product;
 
+    /** 변경 대상 엔티티 (Product, PriceHistory, Inventory, ProductOption) */
+    @Column(name = "entity_type", length = 30)
+    private String entityType;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
     @Column(name = "change_type", nullable = false)
     @Enumerated(EnumType.STRING)
     private ChangeType changeType;
@@ -45,10 +60,18 @@ public class ProductChangeLog extends BaseTimeEntity {
     @Column(name = "changed_field")
     private String changedField;
 
+    /** oldValue/newValue 형식 - null이면 getValueFormat()이 entityType 유무로 판단 */
+    @Column(name = "value_format", length = 10)
+    @Enumerated(EnumType.STRING)
+    private ChangeValueFormat valueFormat;
+
+    /** 임계 크기 이상이면 압축 저장 (조회 시 자동 복원) */
     @Column(name = "old_value", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String oldValue;
 
     @Column(name = "new_value", columnDefinition = "TEXT")
+    @Convert(converter = CompressedTextConverter.class)
     private String newValue;
 
     @Column(name = "changed_by")
@@ -58,14 +81,28 @@ public class ProductChangeLog extends BaseTimeEntity {
     private LocalDateTime changedDate;
 
     @Builder
-    public ProductChangeLog(Product product, ChangeType changeType, String changedField,
-                           String oldValue, String newValue, String changedBy, LocalDateTime changedDate) {
+    public ProductChangeLog(Product product, String entityType, Long entityId, ChangeType changeType,
+                           String changedField, ChangeValueFormat valueFormat, String oldValue, String newValue,
+                           String changedBy, LocalDateTime changedDate) {
         this.product = product;
+        this.entityType = entityType;
+        this.entityId = entityId;
         this.changeType = changeType;
         this.changedField = changedField;
+        this.valueFormat = valueFormat;
         this.oldValue = oldValue;
         this.newValue = newValue;
         this.changedBy = changedBy;
         this.changedDate = changedDate != null ? changedDate : LocalDateTime.now();
     }
+
+    /**
+     * 값 형식 - 컬럼 도입 전 이력은 entityType이 있으면(비교 엔진이 기록) JSON, 없으면(엔진 도입 전) TEXT
+     */
+    public ChangeValueFormat getValueFormat() {
+        if (valueFormat != null) {
+            return valueFormat;
+        }
+        return entityType != null ? ChangeValueFormat.JSON : ChangeValueFormat.TEXT;
+    }
 }
@@ -6,15 +6,26 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * 상품 옵션 Entity - (옵션명, 옵션값) 속성
+ * 옵션명/옵션값은 ProductOptionIndex.normalize(앞뒤 공백 제거 + 소문자)로 정규화해 저장한다 (OptionService).
+ * (option_name, option_value, product_id) 인덱스는 메모리 인덱스가 준비되지 않았을 때의 속성 필터(EXISTS) 용도
+ */
 @Getter
 @Entity
-@Table(name = "product_option")
+@Table(name = "product_option",
+        indexes = @Index(name = "idx_option_name_value_product", columnList = "option_name, option_value, product_id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_option_product_name_value",
+                columnNames = {"product_id", "option_name", "option_value"}))
 @NoArgsConstructor
 public class ProductOption extends BaseTimeEntity {
 
@@ -32,4 +43,18 @@ public class ProductOption extends BaseTimeEntity {
 
     @Column(name = "option_value", nullable = false)
     String optionValue;
+
+    @Builder
+    public ProductOption(Product product, String optionName, String optionValue) {
+        this.product = product;
+        this.optionName = optionName;
+        this.optionValue = optionValue;
+    }
+
+    /**
+     * 옵션값 수정
+     */
+    public void updateValue(String optionValue) {
+        this.optionValue = optionValue;
+    }
 }
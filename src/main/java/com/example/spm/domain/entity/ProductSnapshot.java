@@ -0,0 +1,65 @@
+package com.example.spm.domain.entity;
+
+import java.time.LocalDateTime;
+
+import com.example.spm.domain.entity.converter.CompressedTextConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 이력 스냅샷 Entity - 변경 이력 N건마다 그 시점의 상품 상태를 저장
+ * 과거 시점 조회 시 가장 가까운 스냅샷부터 이후 변경 이력만 재생한다.
+ */
+@Getter
+@Entity
+@Table(name = "product_snapshot", indexes = {
+        @Index(name = "idx_product_snapshot_product", columnList = "product_id, last_change_log_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductSnapshot extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "snapshot_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long snapshotId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    /** 이 스냅샷에 반영된 마지막 변경 이력 ID */
+    @Column(name = "last_change_log_id", nullable = false)
+    private Long lastChangeLogId;
+
+    /** 마지막 반영 이력의 변경 일시 (스냅샷 기준 시점) */
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+
+    /** 상품 상태 (필드명 → 값 JSON) */
+    @Column(name = "state", columnDefinition = "TEXT", nullable = false)
+    @Convert(converter = CompressedTextConverter.class)
+    private String state;
+
+    /** 최초 이력부터 이 스냅샷까지 반영된 변경 이력 수 */
+    @Column(name = "change_count", nullable = false)
+    private Long changeCount;
+
+    @Builder
+    public ProductSnapshot(Long productId, Long lastChangeLogId, LocalDateTime snapshotAt, String state, Long changeCount) {
+        this.productId = productId;
+        this.lastChangeLogId = lastChangeLogId;
+        this.snapshotAt = snapshotAt;
+        this.state = state;
+        this.changeCount = changeCount;
+    }
+}
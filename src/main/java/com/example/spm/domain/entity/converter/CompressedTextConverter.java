@@ -0,0 +1,32 @@
+package com.example.spm.domain.entity.converter;
+
+import org.springframework.stereotype.Component;
+
+import com.example.spm.global.config.ChangeLogProperties;
+import com.example.spm.global.util.TextCompressionUtils;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 큰 텍스트 값 압축 저장 - 저장 시 임계 크기 이상이면 압축, 조회 시 자동 복원
+ * (Hibernate가 Spring 빈 컨테이너를 통해 생성하므로 설정값 주입 가능)
+ */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class CompressedTextConverter implements AttributeConverter<String, String> {
+
+    private final ChangeLogProperties properties;
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return TextCompressionUtils.compress(attribute, (int) properties.getCompressThreshold().toBytes());
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return TextCompressionUtils.decompress(dbData);
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.spm.domain.enums;
+
+/**
+ * 변경 이력 값(oldValue/newValue) 형식
+ */
+public enum ChangeValueFormat {
+    TEXT,  // 단일 필드 원본 값 (changedField의 이전/이후 값)
+    JSON   // 필드명 → 값 JSON 객체 (수정은 변경 필드만, 생성/삭제는 전체 스냅샷)
+}
@@ -0,0 +1,12 @@
+package com.example.spm.domain.enums;
+
+/**
+ * 비동기 작업 상태
+ */
+public enum JobStatus {
+    PENDING,    // 대기 (워커 할당 전)
+    RUNNING,    // 실행 중
+    COMPLETED,  // 완료
+    FAILED,     // 실패 (체크포인트부터 재개 가능)
+    CANCELLED   // 취소 (체크포인트부터 재개 가능)
+}
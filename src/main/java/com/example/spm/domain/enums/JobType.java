@@ -0,0 +1,12 @@
+package com.example.spm.domain.enums;
+
+/**
+ * 비동기 작업 유형 - 각 유형은 하나의 JobHandler 구현에 대응
+ */
+public enum JobType {
+    PRODUCT_STATUS_CHANGE,  // 상품 상태 일괄 변경
+    CHANGE_LOG_EXPORT,      // 변경 이력 CSV 내보내기
+    PRODUCT_PURGE,          // Soft Delete 상품 물리 삭제
+    CHANGE_LOG_COMPRESSION, // 기존 변경 이력 값 압축 저장
+    PRODUCT_SNAPSHOT        // 상품 이력 스냅샷 생성
+}
@@ -0,0 +1,11 @@
+package com.example.spm.domain.event;
+
+import com.example.spm.domain.enums.ChangeType;
+
+/**
+ * 상품 변경 이벤트 - 커밋 이후(@TransactionalEventListener) 메모리 인덱스/캐시 갱신에 사용
+ * @param productId 변경된 상품 ID
+ * @param changeType 변경 유형
+ */
+public record ProductChangedEvent(Long productId, ChangeType changeType) {
+}
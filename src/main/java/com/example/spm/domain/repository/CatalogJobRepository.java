@@ -0,0 +1,66 @@
+package com.example.spm.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.spm.domain.entity.CatalogJob;
+import com.example.spm.domain.enums.JobStatus;
+import com.example.spm.domain.enums.JobType;
+
+/**
+ * 비동기 작업 Repository
+ */
+public interface CatalogJobRepository extends JpaRepository<CatalogJob, Long> {
+
+    /**
+     * 상태별 작업 조회 (재시작 시 복구 대상 조회)
+     */
+    List<CatalogJob> findByStatusIn(Collection<JobStatus> statuses);
+
+    /**
+     * 유형별 미완료 작업 존재 여부 (중복 등록 방지)
+     */
+    boolean existsByJobTypeAndStatusIn(JobType jobType, Collection<JobStatus> statuses);
+
+    /**
+     * 최근 작업 목록 조회
+     */
+    Page<CatalogJob> findAllByOrderByJobIdDesc(Pageable pageable);
+
+    /**
+     * 대기 중인 작업 선점 - 갱신 건수가 0이면 다른 워커가 이미 선점했거나 취소된 작업
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE CatalogJob j SET j.status = com.example.spm.domain.enums.JobStatus.RUNNING "
+            + "WHERE j.jobId = :jobId AND j.status = com.example.spm.domain.enums.JobStatus.PENDING")
+    int claim(@Param("jobId") Long jobId);
+
+    /**
+     * 청크 처리 결과 반영 - 청크 작업과 같은 트랜잭션에서 실행되어 체크포인트가 원자적으로 전진
+     */
+    @Modifying
+    @Query("UPDATE CatalogJob j SET j.checkpoint = :checkpoint, j.processedCount = j.processedCount + :processed, "
+            + "j.stats = :stats WHERE j.jobId = :jobId")
+    int updateProgress(@Param("jobId") Long jobId, @Param("checkpoint") Long checkpoint,
+                       @Param("processed") long processed, @Param("stats") String stats);
+
+    /**
+     * 취소 요청 플래그 설정
+     */
+    @Modifying
+    @Query("UPDATE CatalogJob j SET j.cancelRequested = true WHERE j.jobId = :jobId")
+    int requestCancel(@Param("jobId") Long jobId);
+
+    /**
+     * 취소 요청 여부 확인 (청크 사이마다 호출)
+     */
+    @Query("SELECT j.cancelRequested FROM CatalogJob j WHERE j.jobId = :jobId")
+    boolean isCancelRequested(@Param("jobId") Long jobId);
+}
@@ -1,11 +1,24 @@
 package com.example.spm.domain.repository;
 
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import com.example.spm.domain.entity.Category;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * 카테고리 Repository
  */
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    /**
+     * 전체 카테고리 조회 (쿼리 캐시 - category 테이블 변경 시 자동 무효화)
+     */
+    @Override
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    List<Category> findAll();
 }
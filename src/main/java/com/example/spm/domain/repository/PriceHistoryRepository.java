@@ -0,0 +1,42 @@
+package com.example.spm.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.spm.domain.entity.PriceHistory;
+
+/**
+ * 가격 이력 Repository
+ */
+public interface PriceHistoryRepository extends JpaRepository<PriceHistory, Long> {
+
+    /**
+     * 현재 유효한 가격 키셋 조회 (endDate가 null이거나 미래) - 패싯 인덱스 적재용
+     */
+    @Query("SELECT ph.priceId AS priceId, ph.product.productId AS productId, ph.price AS price "
+            + "FROM PriceHistory ph WHERE ph.priceId > :afterId "
+            + "AND (ph.endDate IS NULL OR ph.endDate > :now) ORDER BY ph.priceId ASC")
+    List<PriceEntry> findCurrentPricesAfter(@Param("afterId") Long afterId, @Param("now") LocalDateTime now,
+                                            Pageable pageable);
+
+    /**
+     * 상품의 현재 유효한 가격 목록
+     */
+    @Query("SELECT ph.price FROM PriceHistory ph WHERE ph.product.productId = :productId "
+            + "AND (ph.endDate IS NULL OR ph.endDate > :now)")
+    List<Double> findCurrentPrices(@Param("productId") Long productId, @Param("now") LocalDateTime now);
+
+    /**
+     * 가격 인덱스 항목 프로젝션
+     */
+    interface PriceEntry {
+        Long getPriceId();
+        Long getProductId();
+        Double getPrice();
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.spm.domain.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -48,4 +50,70 @@ public interface ProductChangeLogRepository extends JpaRepository<ProductChangeL
      * 최근 변경 이력 조회 (기간 내)
      */
     Page<ProductChangeLog> findByChangedDateGreaterThanEqualOrderByChangedDateDesc(LocalDateTime startDate, Pageable pageable);
+
+    /**
+     * 키셋 기반 청크 조회 - 기간 내 afterId 이후 이력을 ID 오름차순으로 조회 (내보내기 작업용)
+     */
+    @Query("SELECT pcl FROM ProductChangeLog pcl JOIN FETCH pcl.product "
+            + "WHERE pcl.changeLogId > :afterId AND pcl.changedDate BETWEEN :startDate AND :endDate "
+            + "ORDER BY pcl.changeLogId ASC")
+    List<ProductChangeLog> findChunkAfter(@Param("afterId") Long afterId,
+                                          @Param("startDate") LocalDateTime startDate,
+                                          @Param("endDate") LocalDateTime endDate,
+                                          Pageable pageable);
+
+    /**
+     * 기간 내 변경 이력 건수
+     */
+    long countByChangedDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    /**
+     * 상품 상태 재생용 이력 - afterId 이후, asOf 이전의 상품 자체 변경 이력을 ID 순으로 조회
+     * (entityType이 없는 이력은 엔진 도입 전 상품 이력)
+     */
+    @Query("SELECT pcl FROM ProductChangeLog pcl "
+            + "WHERE pcl.product.productId = :productId AND pcl.changeLogId > :afterId AND pcl.changedDate <= :asOf "
+            + "AND (pcl.entityType IS NULL OR pcl.entityType = 'Product') "
+            + "ORDER BY pcl.changeLogId ASC")
+    List<ProductChangeLog> findReplayLogs(@Param("productId") Long productId,
+                                          @Param("afterId") Long afterId,
+                                          @Param("asOf") LocalDateTime asOf,
+                                          Pageable pageable);
+
+    /**
+     * 마지막 변경 이력 ID (이력이 없으면 null) - 캐시 스냅샷 기준점
+     */
+    @Query("SELECT MAX(pcl.changeLogId) FROM ProductChangeLog pcl")
+    Long findMaxChangeLogId();
+
+    /**
+     * 기준점 이후 변경된 상품 ID - afterId 이후 이력 또는 since 이후 기록된 이력 (늦게 커밋된 이력 포함용)
+     */
+    @Query("SELECT DISTINCT pcl.product.productId FROM ProductChangeLog pcl "
+            + "WHERE pcl.changeLogId > :afterId OR pcl.changedDate >= :since")
+    List<Long> findChangedProductIdsSince(@Param("afterId") Long afterId, @Param("since") LocalDateTime since);
+
+    /**
+     * 저장된 값 그대로 조회 (압축 변환 미적용) - 압축 마이그레이션용 키셋 청크
+     */
+    @Query(value = "SELECT change_log_id AS changeLogId, old_value AS oldValue, new_value AS newValue "
+            + "FROM product_change_log WHERE change_log_id > :afterId ORDER BY change_log_id LIMIT :limit",
+            nativeQuery = true)
+    List<StoredValues> findStoredValuesAfter(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    /**
+     * 저장 값 직접 갱신 (압축 변환 미적용)
+     */
+    @Modifying
+    @Query(value = "UPDATE product_change_log SET old_value = :oldValue, new_value = :newValue "
+            + "WHERE change_log_id = :changeLogId", nativeQuery = true)
+    int updateStoredValues(@Param("changeLogId") Long changeLogId,
+                           @Param("oldValue") String oldValue,
+                           @Param("newValue") String newValue);
+
+    interface StoredValues {
+        Long getChangeLogId();
+        String getOldValue();
+        String getNewValue();
+    }
 }
@@ -1,5 +1,8 @@
 package com.example.spm.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -12,14 +15,37 @@ public interface ProductCustomRepository {
     
     /**
      * 상품 목록 조회 - 검색 조건 및 페이징 처리
-     * @param productName 상품명 검색 조건
-     * @param productCode 상품코드 검색 조건
-     * @param minPrice 최소 가격
-     * @param maxPrice 최대 가격
+     * @param condition 검색 조건 (상품명, 상품코드, 가격 범위, 속성 필터)
      * @param pageable 페이징 정보
      * @return 페이징된 상품 목록
      */
-    Page<ProdDto.Response> searchProducts(String productName, String productCode, 
-                                           Double minPrice, Double maxPrice, 
-                                           Pageable pageable);
+    Page<ProdDto.Response> searchProducts(ProdDto.SearchCondition condition, Pageable pageable);
+
+    /**
+     * 상품 ID 목록 조회 - searchProducts와 같은 조건/정렬/페이징 (검색 결과 캐시용)
+     */
+    Page<Long> searchProductIdPage(ProdDto.SearchCondition condition, Pageable pageable);
+
+    /**
+     * 검색 조건에 일치하는 상품 ID 조회 (패싯 계산용, 정렬 없음)
+     * @param limit 최대 조회 건수
+     */
+    List<Long> searchProductIds(ProdDto.SearchCondition condition, int limit);
+
+    /**
+     * 물리 삭제 대상(Soft Delete 후 보관 기간 경과) 상품 ID 조회 - afterId 이후 ID 오름차순
+     */
+    List<Long> findTombstoneIds(LocalDateTime deletedBefore, Long afterId, int limit);
+
+    /**
+     * 상품 종속 데이터(옵션, 재고, 가격 이력, 변경 이력, 이력 스냅샷) 일괄 삭제
+     * @return 삭제된 행 수
+     */
+    long deleteDependents(List<Long> productIds);
+
+    /**
+     * 상품 일괄 물리 삭제 (Soft Delete 된 상품만)
+     * @return 삭제된 행 수
+     */
+    long deleteTombstones(List<Long> productIds);
 }
@@ -0,0 +1,45 @@
+package com.example.spm.domain.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.spm.domain.entity.ProductOption;
+
+/**
+ * 상품 옵션 Repository
+ */
+public interface ProductOptionRepository extends JpaRepository<ProductOption, Long> {
+
+    /**
+     * 상품별 옵션 목록 조회
+     */
+    List<ProductOption> findByProductProductIdOrderByOptionIdAsc(Long productId);
+
+    /**
+     * 동일 옵션 존재 여부 확인
+     */
+    boolean existsByProductProductIdAndOptionNameAndOptionValue(Long productId, String optionName, String optionValue);
+
+    /**
+     * 메모리 인덱스 적재용 키셋 조회 - 엔티티 대신 필요한 컬럼만 조회 (삭제된 상품의 옵션 제외)
+     */
+    @Query("SELECT o.optionId AS optionId, o.product.productId AS productId, "
+            + "o.optionName AS optionName, o.optionValue AS optionValue "
+            + "FROM ProductOption o WHERE o.optionId > :afterId AND o.product.deletedAt IS NULL "
+            + "ORDER BY o.optionId ASC")
+    List<OptionEntry> findEntriesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 옵션 인덱스 항목 프로젝션
+     */
+    interface OptionEntry {
+        Long getOptionId();
+        Long getProductId();
+        String getOptionName();
+        String getOptionValue();
+    }
+}
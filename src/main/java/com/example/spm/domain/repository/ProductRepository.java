@@ -1,23 +1,105 @@
 package com.example.spm.domain.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.enums.ProductStatus;
 
 /**
  * 상품 Repository
  */
 public interface ProductRepository extends JpaRepository<Product, Long>, ProductCustomRepository {
     
+    /**
+     * 삭제되지 않은 상품 조회
+     */
+    Optional<Product> findByProductIdAndDeletedAtIsNull(Long productId);
+
     /**
      * 상품코드로 상품 조회
      */
     Optional<Product> findByProductCode(String productCode);
     
     /**
-     * 상품코드 존재 여부 확인
+     * 상품코드 존재 여부 확인 (물리 삭제 전의 Soft Delete 상품 포함 - 유니크 인덱스 기준)
      */
     boolean existsByProductCode(String productCode);
+
+    /**
+     * 키셋 기반 상품 ID 조회 - Soft Delete 상품 포함 (이력 스냅샷 작업용)
+     */
+    @Query("SELECT p.productId FROM Product p WHERE p.productId > :afterId ORDER BY p.productId ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * ID 목록으로 삭제되지 않은 상품 조회 - 카테고리 함께 조회 (검색 결과 캐시의 상품 본문 채우기용, 순서 보장 없음)
+     */
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.category "
+            + "WHERE p.productId IN :productIds AND p.deletedAt IS NULL")
+    List<Product> findAllWithCategoryByIdIn(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 키셋 기반 청크 조회 - afterId 이후 삭제되지 않은 상품을 ID 오름차순으로 조회 (카테고리 조건 선택)
+     */
+    @Query("SELECT p FROM Product p LEFT JOIN p.category c "
+            + "WHERE p.productId > :afterId AND p.deletedAt IS NULL "
+            + "AND (:categoryId IS NULL OR c.categoryId = :categoryId) "
+            + "ORDER BY p.productId ASC")
+    List<Product> findChunkAfter(@Param("afterId") Long afterId, @Param("categoryId") Long categoryId,
+                                 Pageable pageable);
+
+    /**
+     * 카테고리별 삭제되지 않은 상품 수 (카테고리 조건이 없으면 전체)
+     */
+    @Query("SELECT COUNT(p) FROM Product p LEFT JOIN p.category c "
+            + "WHERE p.deletedAt IS NULL AND (:categoryId IS NULL OR c.categoryId = :categoryId)")
+    long countByCategoryIdOrAll(@Param("categoryId") Long categoryId);
+
+    /**
+     * 패싯 인덱스 적재용 키셋 조회 (삭제 상품 포함 - 인덱스에서 제외 처리)
+     */
+    @Query("SELECT p.productId AS productId, c.categoryId AS categoryId, p.status AS status, "
+            + "p.deletedAt AS deletedAt FROM Product p LEFT JOIN p.category c "
+            + "WHERE p.productId > :afterId ORDER BY p.productId ASC")
+    List<FacetEntry> findFacetEntriesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 단건 패싯 항목 조회 (변경 반영용)
+     */
+    @Query("SELECT p.productId AS productId, c.categoryId AS categoryId, p.status AS status, "
+            + "p.deletedAt AS deletedAt FROM Product p LEFT JOIN p.category c WHERE p.productId = :productId")
+    Optional<FacetEntry> findFacetEntry(@Param("productId") Long productId);
+
+    /**
+     * 상품코드 키셋 조회 - Soft Delete 상품 포함 (상품코드 필터 적재용)
+     */
+    @Query("SELECT p.productId AS productId, p.productCode AS productCode FROM Product p "
+            + "WHERE p.productId > :afterId ORDER BY p.productId ASC")
+    List<CodeEntry> findCodeEntriesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 패싯 인덱스 항목 프로젝션
+     */
+    interface FacetEntry {
+        Long getProductId();
+        Long getCategoryId();
+        ProductStatus getStatus();
+        LocalDateTime getDeletedAt();
+    }
+
+    /**
+     * 상품코드 필터 항목 프로젝션
+     */
+    interface CodeEntry {
+        Long getProductId();
+        String getProductCode();
+    }
 }
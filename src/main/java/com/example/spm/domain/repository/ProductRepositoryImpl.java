@@ -1,11 +1,16 @@
 package com.example.spm.domain.repository;
 
 import static com.example.spm.domain.entity.QCategory.category;
+import static com.example.spm.domain.entity.QInventory.inventory;
 import static com.example.spm.domain.entity.QPriceHistory.priceHistory;
 import static com.example.spm.domain.entity.QProduct.product;
+import static com.example.spm.domain.entity.QProductChangeLog.productChangeLog;
+import static com.example.spm.domain.entity.QProductOption.productOption;
+import static com.example.spm.domain.entity.QProductSnapshot.productSnapshot;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -14,8 +19,11 @@ import org.springframework.stereotype.Repository;
 
 import com.example.spm.domain.dto.ProdDto;
 import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.search.ProductOptionIndex;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -33,30 +41,21 @@ public class ProductRepositoryImpl implements ProductCustomRepository {
      * 상품 목록 조회 - 검색 조건 및 페이징 처리
      */
     @Override
-    public Page<ProdDto.Response> searchProducts(String productName, String productCode, 
-                                                   Double minPrice, Double maxPrice, 
-                                                   Pageable pageable) {
-        // 기본 쿼리 작성
-        var query = queryFactory
+    public Page<ProdDto.Response> searchProducts(ProdDto.SearchCondition condition, Pageable pageable) {
+        // 페이징 적용
+        List<Product> products = queryFactory
                 .select(product)
                 .from(product)
                 .leftJoin(product.category, category).fetchJoin()
-                .where(
-                        productNameContains(productName),
-                        productCodeContains(productCode),
-                        priceBetween(minPrice, maxPrice)
-                )
-                .orderBy(createdDateDesc());
-
-        // 전체 개수 조회
-        long total = query.fetch().size();
-
-        // 페이징 적용
-        List<Product> products = query
+                .where(searchConditions(condition))
+                .orderBy(createdDateDesc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
+        // 전체 개수 조회 (COUNT 쿼리)
+        long total = countProducts(condition);
+
         // Response DTO로 변환
         List<ProdDto.Response> content = products.stream()
                 .map(ProdDto.Response::from)
@@ -65,6 +64,118 @@ public class ProductRepositoryImpl implements ProductCustomRepository {
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * 상품 ID 목록 조회 - 검색 결과 캐시용 (상품 본문은 상품 캐시에서 채움)
+     */
+    @Override
+    public Page<Long> searchProductIdPage(ProdDto.SearchCondition condition, Pageable pageable) {
+        List<Long> productIds = queryFactory
+                .select(product.productId)
+                .from(product)
+                .where(searchConditions(condition))
+                .orderBy(createdDateDesc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        return new PageImpl<>(productIds, pageable, countProducts(condition));
+    }
+
+    /**
+     * 검색 조건에 일치하는 상품 ID 조회 (패싯 계산용)
+     */
+    @Override
+    public List<Long> searchProductIds(ProdDto.SearchCondition condition, int limit) {
+        return queryFactory
+                .select(product.productId)
+                .from(product)
+                .where(searchConditions(condition))
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 물리 삭제 대상 상품 ID 조회
+     */
+    @Override
+    public List<Long> findTombstoneIds(LocalDateTime deletedBefore, Long afterId, int limit) {
+        return queryFactory
+                .select(product.productId)
+                .from(product)
+                .where(
+                        product.deletedAt.lt(deletedBefore),
+                        afterId != null ? product.productId.gt(afterId) : null
+                )
+                .orderBy(product.productId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * 상품 종속 데이터 일괄 삭제 - FK 순서상 상품보다 먼저 삭제
+     */
+    @Override
+    public long deleteDependents(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        long deleted = queryFactory.delete(productOption)
+                .where(productOption.product.productId.in(productIds))
+                .execute();
+        deleted += queryFactory.delete(inventory)
+                .where(inventory.product.productId.in(productIds))
+                .execute();
+        deleted += queryFactory.delete(priceHistory)
+                .where(priceHistory.product.productId.in(productIds))
+                .execute();
+        deleted += queryFactory.delete(productChangeLog)
+                .where(productChangeLog.product.productId.in(productIds))
+                .execute();
+        deleted += queryFactory.delete(productSnapshot)
+                .where(productSnapshot.productId.in(productIds))
+                .execute();
+        return deleted;
+    }
+
+    /**
+     * Soft Delete 된 상품 일괄 물리 삭제
+     */
+    @Override
+    public long deleteTombstones(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return 0;
+        }
+        return queryFactory.delete(product)
+                .where(product.productId.in(productIds), product.deletedAt.isNotNull())
+                .execute();
+    }
+
+    // 검색 조건에 일치하는 전체 상품 수
+    private long countProducts(ProdDto.SearchCondition condition) {
+        Long total = queryFactory
+                .select(product.count())
+                .from(product)
+                .where(searchConditions(condition))
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    // 목록/ID 검색 공통 조건
+    private Predicate[] searchConditions(ProdDto.SearchCondition condition) {
+        return new Predicate[] {
+                notDeleted(),
+                productNameContains(condition.getProductName()),
+                productCodeContains(condition.getProductCode()),
+                priceBetween(condition.getMinPrice(), condition.getMaxPrice()),
+                optionsMatch(condition)
+        };
+    }
+
+    // 삭제되지 않은 상품 조건 (idx_product_deleted_created 인덱스 선두 컬럼)
+    private BooleanExpression notDeleted() {
+        return product.deletedAt.isNull();
+    }
+
     // 상품명 검색 조건
     private BooleanExpression productNameContains(String productName) {
         return productName != null && !productName.isEmpty()
@@ -100,6 +211,34 @@ public class ProductRepositoryImpl implements ProductCustomRepository {
         return product.productId.in(validPriceQuery);
     }
 
+    // 속성 필터 조건 - 서비스에서 옵션 인덱스로 후보 ID를 좁힌 경우 IN, 아니면 옵션별 EXISTS
+    // 옵션은 정규화(앞뒤 공백 제거 + 소문자)되어 저장되므로 조건 값만 정규화해 컬럼을 그대로 비교한다
+    // (idx_option_name_value_product 사용, 옵션 인덱스와 결과가 같다)
+    private BooleanExpression optionsMatch(ProdDto.SearchCondition condition) {
+        if (condition.getProductIds() != null) {
+            return product.productId.in(condition.getProductIds());
+        }
+        if (!condition.hasOptions()) {
+            return null;
+        }
+
+        BooleanExpression expression = null;
+        for (Map.Entry<String, List<String>> option : condition.getOptions().entrySet()) {
+            BooleanExpression exists = JPAExpressions.selectOne()
+                    .from(productOption)
+                    .where(
+                            productOption.product.productId.eq(product.productId),
+                            productOption.optionName.eq(ProductOptionIndex.normalize(option.getKey())),
+                            productOption.optionValue.in(option.getValue().stream()
+                                    .map(ProductOptionIndex::normalize)
+                                    .toList())
+                    )
+                    .exists();
+            expression = expression == null ? exists : expression.and(exists);
+        }
+        return expression;
+    }
+
     // 등록 날짜 기준 내림차순 정렬
     private OrderSpecifier<?> createdDateDesc() {
         return product.createdDate.desc();
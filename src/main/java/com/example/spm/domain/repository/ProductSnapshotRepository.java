@@ -0,0 +1,25 @@
+package com.example.spm.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.example.spm.domain.entity.ProductSnapshot;
+
+/**
+ * 상품 이력 스냅샷 Repository
+ */
+public interface ProductSnapshotRepository extends JpaRepository<ProductSnapshot, Long> {
+
+    /**
+     * 기준 시점 이전의 가장 최근 스냅샷
+     */
+    Optional<ProductSnapshot> findFirstByProductIdAndSnapshotAtLessThanEqualOrderByLastChangeLogIdDesc(
+            Long productId, LocalDateTime asOf);
+
+    /**
+     * 상품의 최신 스냅샷
+     */
+    Optional<ProductSnapshot> findFirstByProductIdOrderByLastChangeLogIdDesc(Long productId);
+}
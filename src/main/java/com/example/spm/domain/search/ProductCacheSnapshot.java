@@ -0,0 +1,239 @@
+package com.example.spm.domain.search;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.enums.ProductStatus;
+
+/**
+ * 상품 캐시 스냅샷 파일 - 상품 응답과 검색 결과를 압축된 바이너리로 저장/복원
+ *
+ * 구조: 헤더(매직, 형식 버전, 카탈로그 버전, 변경 이력 기준점, 저장 시각, 항목 수) + 상품 + 검색 결과 + CRC32
+ * 문자열은 길이(-1: null) + UTF-8, 숫자 필드는 존재 플래그 + 값으로 기록한다 (상태는 배포 간 호환을 위해 이름으로 기록).
+ * 저장은 임시 파일에 쓴 뒤 원자적으로 교체하고, 복원은 파일을 메모리 매핑해 읽는다.
+ * 검색 결과는 옵션 조건이 없는 검색(SearchCondition.coalescingKey의 옵션/후보 ID가 null)만 대상이다.
+ * 형식이 다르거나 체크섬이 맞지 않는 파일은 IOException으로 거절한다.
+ */
+public final class ProductCacheSnapshot {
+
+    private static final int MAGIC = 0x53504D43; // "SPMC"
+    private static final int FORMAT_VERSION = 1;
+
+    private ProductCacheSnapshot() {
+    }
+
+    /**
+     * 스냅샷 내용
+     * @param catalogVersion 저장 시점 카탈로그 버전 (프로세스 내 값, 진단용)
+     * @param watermark 저장 직전 마지막 변경 이력 ID - 복원 시 이후 이력과 대조
+     * @param createdAtMillis 저장 시각
+     */
+    public record Snapshot(long catalogVersion, long watermark, long createdAtMillis,
+                           List<ProdDto.Response> products, List<SearchResult> results) {
+    }
+
+    /**
+     * 검색 결과 항목 - 정규화된 검색 조건 + 페이지 + 결과
+     */
+    public record SearchResult(ProdDto.SearchCondition condition, long offset, int size,
+                               ProductSearchCache.Result result) {
+    }
+
+    /**
+     * 검색 결과 캐시 항목을 스냅샷 항목으로 변환 (옵션 조건이 있는 키는 null)
+     */
+    public static SearchResult toSearchResult(ProductSearchCache.ResultKey key, ProductSearchCache.Result result) {
+        if (!(key.condition() instanceof List<?> values) || values.size() != 6
+                || values.get(4) != null || values.get(5) != null) {
+            return null;
+        }
+        ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                .productName((String) values.get(0))
+                .productCode((String) values.get(1))
+                .minPrice((Double) values.get(2))
+                .maxPrice((Double) values.get(3))
+                .build();
+        return new SearchResult(condition, key.offset(), key.size(), result);
+    }
+
+    public static void write(Path path, Snapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64 * 1024);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(snapshot.catalogVersion());
+        out.writeLong(snapshot.watermark());
+        out.writeLong(snapshot.createdAtMillis());
+        out.writeInt(snapshot.products().size());
+        out.writeInt(snapshot.results().size());
+
+        for (ProdDto.Response product : snapshot.products()) {
+            out.writeLong(product.getProductId());
+            writeString(out, product.getProductCode());
+            writeString(out, product.getProductName());
+            writeString(out, product.getDescription());
+            writeLong(out, product.getCategoryId());
+            writeString(out, product.getCategoryName());
+            writeString(out, product.getStatus() != null ? product.getStatus().name() : null);
+            writeLong(out, product.getVersion());
+        }
+        for (SearchResult entry : snapshot.results()) {
+            ProdDto.SearchCondition condition = entry.condition();
+            writeString(out, condition.getProductName());
+            writeString(out, condition.getProductCode());
+            writeDouble(out, condition.getMinPrice());
+            writeDouble(out, condition.getMaxPrice());
+            out.writeLong(entry.offset());
+            out.writeInt(entry.size());
+            out.writeLong(entry.result().total());
+            out.writeInt(entry.result().productIds().size());
+            for (Long productId : entry.result().productIds()) {
+                out.writeLong(productId);
+            }
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes.toByteArray());
+        out.writeLong(crc.getValue());
+        out.flush();
+
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+        try {
+            Files.write(temp, bytes.toByteArray());
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    public static Snapshot read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < Long.BYTES + 40 || size > Integer.MAX_VALUE) {
+                throw new IOException("스냅샷 크기 오류: " + size);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.slice(0, (int) size - Long.BYTES));
+            if (crc.getValue() != buffer.getLong((int) size - Long.BYTES)) {
+                throw new IOException("스냅샷 체크섬 불일치");
+            }
+            return parse(buffer.limit((int) size - Long.BYTES));
+        }
+    }
+
+    private static Snapshot parse(ByteBuffer in) throws IOException {
+        try {
+            if (in.getInt() != MAGIC || in.getInt() != FORMAT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 형식");
+            }
+            long catalogVersion = in.getLong();
+            long watermark = in.getLong();
+            long createdAtMillis = in.getLong();
+            int productCount = in.getInt();
+            int resultCount = in.getInt();
+
+            List<ProdDto.Response> products = new ArrayList<>(productCount);
+            for (int i = 0; i < productCount; i++) {
+                long productId = in.getLong();
+                String productCode = readString(in);
+                String productName = readString(in);
+                String description = readString(in);
+                Long categoryId = readLong(in);
+                String categoryName = readString(in);
+                String status = readString(in);
+                products.add(ProdDto.Response.builder()
+                        .productId(productId)
+                        .productCode(productCode)
+                        .productName(productName)
+                        .description(description)
+                        .categoryId(categoryId)
+                        .categoryName(categoryName)
+                        .status(status != null ? ProductStatus.valueOf(status) : null)
+                        .version(readLong(in))
+                        .build());
+            }
+
+            List<SearchResult> results = new ArrayList<>(resultCount);
+            for (int i = 0; i < resultCount; i++) {
+                ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                        .productName(readString(in))
+                        .productCode(readString(in))
+                        .minPrice(readDouble(in))
+                        .maxPrice(readDouble(in))
+                        .build();
+                long offset = in.getLong();
+                int pageSize = in.getInt();
+                long total = in.getLong();
+                int idCount = in.getInt();
+                List<Long> productIds = new ArrayList<>(idCount);
+                for (int j = 0; j < idCount; j++) {
+                    productIds.add(in.getLong());
+                }
+                results.add(new SearchResult(condition, offset, pageSize,
+                        new ProductSearchCache.Result(List.copyOf(productIds), total)));
+            }
+            return new Snapshot(catalogVersion, watermark, createdAtMillis, products, results);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("스냅샷 내용 손상", e);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(encoded.length);
+        out.write(encoded);
+    }
+
+    private static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] encoded = new byte[length];
+        in.get(encoded);
+        return new String(encoded, StandardCharsets.UTF_8);
+    }
+
+    private static void writeLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readLong(ByteBuffer in) {
+        return in.get() != 0 ? in.getLong() : null;
+    }
+
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeDouble(value);
+        }
+    }
+
+    private static Double readDouble(ByteBuffer in) {
+        return in.get() != 0 ? in.getDouble() : null;
+    }
+}
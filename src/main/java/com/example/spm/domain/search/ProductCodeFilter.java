@@ -0,0 +1,164 @@
+package com.example.spm.domain.search;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.global.config.CodeFilterProperties;
+import com.example.spm.global.util.BloomFilter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 상품코드 존재 여부 Bloom 필터 - 상품 생성 시 중복 확인의 DB 조회를 줄인다
+ *
+ * "확실히 없음"이면 DB 조회를 생략하고, "있을 수도 있음"이면 유니크 인덱스로 확인한다.
+ * Soft Delete 상품의 코드도 유니크 인덱스에 남아 있으므로 그대로 유지하고,
+ * 물리 삭제된 코드는 재생성 전까지 오탐으로만 남는다 (정확성에는 영향 없음).
+ * 적재 전이거나 비활성화 상태에서는 항상 "있을 수도 있음"을 반환한다.
+ */
+@Component
+public class ProductCodeFilter {
+
+    private final CodeFilterProperties properties;
+    private final Counter definitelyAbsent;
+    private final Counter possiblyPresent;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter filter;
+    /** 재생성 중인 필터 - 적재 중 추가된 코드도 함께 반영 */
+    private volatile BloomFilter building;
+    private volatile LocalDateTime lastRebuiltAt;
+
+    public ProductCodeFilter(CodeFilterProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.properties = properties;
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        this.definitelyAbsent = Counter.builder("catalog.product.code.filter.checks")
+                .description("상품코드 중복 확인 - 필터 판정 결과")
+                .tag("result", "absent")
+                .register(meterRegistry);
+        this.possiblyPresent = Counter.builder("catalog.product.code.filter.checks")
+                .description("상품코드 중복 확인 - 필터 판정 결과")
+                .tag("result", "maybe")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("catalog.product.code.filter.false.positives")
+                .description("필터는 있을 수도 있음, DB는 없음으로 판정한 건수")
+                .register(meterRegistry);
+        Gauge.builder("catalog.product.code.filter.expected.fpp", this, f -> f.filter != null ? f.filter.expectedFpp() : 1)
+                .description("현재 비트 채움 비율 기준 예상 오탐률")
+                .register(meterRegistry);
+        Gauge.builder("catalog.product.code.filter.observed.fpp", this, ProductCodeFilter::observedFpp)
+                .description("실측 오탐률 (오탐 / 실제로 없는 코드 확인 건수)")
+                .register(meterRegistry);
+        Gauge.builder("catalog.product.code.filter.elements", this,
+                        f -> f.filter != null ? f.filter.approximateElementCount() : 0)
+                .description("추정 원소 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 상품코드 존재 가능성 - false면 DB 확인 없이 사용 가능한 코드
+     */
+    public boolean mightContain(String productCode) {
+        BloomFilter current = filter;
+        if (!properties.isEnabled() || current == null) {
+            return true;
+        }
+        boolean maybe = current.mightContain(productCode);
+        (maybe ? possiblyPresent : definitelyAbsent).increment();
+        return maybe;
+    }
+
+    /**
+     * 필터가 있을 수도 있음으로 판정했지만 DB에 없던 경우 기록
+     */
+    public void recordFalsePositive() {
+        if (filter != null) {
+            falsePositives.increment();
+        }
+    }
+
+    /**
+     * 상품코드 추가 (커밋 이후 호출)
+     */
+    public void add(String productCode) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(productCode);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.put(productCode);
+        }
+    }
+
+    /**
+     * 재생성 시작 - 이후 추가되는 코드는 새 필터에도 반영
+     */
+    public BloomFilter beginRebuild(long productCount) {
+        long capacity = Math.max(properties.getMinCapacity(), (long) (productCount * properties.getHeadroom()));
+        BloomFilter next = BloomFilter.create(capacity, properties.getFpp());
+        building = next;
+        return next;
+    }
+
+    /**
+     * 재생성 완료 - 새 필터로 교체
+     */
+    public void finishRebuild(BloomFilter next) {
+        filter = next;
+        building = null;
+        lastRebuiltAt = LocalDateTime.now();
+    }
+
+    /**
+     * 재생성 실패 - 기존 필터 유지
+     */
+    public void abortRebuild() {
+        building = null;
+    }
+
+    /**
+     * 추정 원소 수가 용량을 넘어 목표 오탐률을 유지할 수 없는 상태
+     */
+    public boolean isSaturated() {
+        BloomFilter current = filter;
+        return current != null && current.approximateElementCount() > current.capacity();
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+
+    public BloomFilter current() {
+        return filter;
+    }
+
+    public LocalDateTime lastRebuiltAt() {
+        return lastRebuiltAt;
+    }
+
+    public long definitelyAbsentCount() {
+        return (long) definitelyAbsent.count();
+    }
+
+    public long possiblyPresentCount() {
+        return (long) possiblyPresent.count();
+    }
+
+    public long falsePositiveCount() {
+        return (long) falsePositives.count();
+    }
+
+    /**
+     * 실측 오탐률 - 실제로 없던 코드 중 "있을 수도 있음"으로 판정된 비율
+     */
+    public double observedFpp() {
+        double negatives = definitelyAbsent.count() + falsePositives.count();
+        return negatives == 0 ? 0 : falsePositives.count() / negatives;
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.spm.domain.search;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import com.example.spm.domain.enums.ProductStatus;
+
+/**
+ * 상품 패싯 메모리 인덱스 - 카테고리/상태/가격 구간별 상품 ID 비트맵
+ *
+ * 패싯 개수는 "현재 필터 비트맵 ∧ 패싯 비트맵"의 교집합 크기(andCardinality)로 계산하므로
+ * 패싯마다 GROUP BY 쿼리를 실행하지 않는다.
+ * 가격 구간은 기존 가격 필터와 같은 의미(현재 유효한 가격 중 하나라도 구간에 속함)로,
+ * 유효 가격이 여러 개인 상품은 여러 구간에 포함될 수 있다.
+ * 비트맵 범위를 넘는 상품 ID가 들어오면 개수가 불완전해지므로 isComplete()가 false가 되고, 다음 재적재까지 패싯을 계산하지 않는다.
+ */
+public class ProductFacetIndex {
+
+    /** 카테고리 미지정 상품 키 */
+    public static final long NO_CATEGORY = -1L;
+
+    private final double[] bucketBounds;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private RoaringBitmap live = new RoaringBitmap();
+    private Map<Long, RoaringBitmap> categories = new HashMap<>();
+    private Map<ProductStatus, RoaringBitmap> statuses = new EnumMap<>(ProductStatus.class);
+    private RoaringBitmap[] priceBuckets;
+    private volatile boolean overflowed;
+
+    /**
+     * @param bucketBounds 가격 구간 하한 목록 (오름차순) - 구간 i는 [bounds[i], bounds[i+1]), 마지막 구간은 상한 없음
+     *                     첫 하한보다 낮은 가격은 어느 구간에도 속하지 않는다.
+     */
+    public ProductFacetIndex(List<Double> bucketBounds) {
+        this.bucketBounds = bucketBounds.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+        this.priceBuckets = newBuckets(this.bucketBounds.length);
+    }
+
+    /**
+     * 상품 하나의 패싯 소속 갱신 (삭제 상품은 모든 패싯에서 제외)
+     */
+    public void put(Long productId, Long categoryId, ProductStatus status, boolean deleted, Collection<Double> prices) {
+        if (!ProductOptionIndex.isIndexable(productId)) {
+            overflowed = true;
+            return;
+        }
+        int id = ProductOptionIndex.toIndexId(productId);
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            if (deleted) {
+                return;
+            }
+            live.add(id);
+            categories.computeIfAbsent(categoryId != null ? categoryId : NO_CATEGORY, k -> new RoaringBitmap()).add(id);
+            if (status != null) {
+                statuses.computeIfAbsent(status, k -> new RoaringBitmap()).add(id);
+            }
+            for (Double price : prices) {
+                int bucket = bucketOf(price);
+                if (bucket >= 0) {
+                    priceBuckets[bucket].add(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 교체 - 별도로 적재한 인덱스의 내용을 원자적으로 반영
+     */
+    public void replaceWith(ProductFacetIndex loaded) {
+        lock.writeLock().lock();
+        try {
+            this.live = loaded.live;
+            this.categories = loaded.categories;
+            this.statuses = loaded.statuses;
+            this.priceBuckets = loaded.priceBuckets;
+            this.overflowed = loaded.overflowed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 전용 - 가격만 추가 (상품 항목을 먼저 put 한 뒤 호출, 락 없이 단일 스레드에서 사용)
+     */
+    public void addPriceUnsafe(Long productId, Double price) {
+        int bucket = bucketOf(price);
+        if (bucket >= 0 && ProductOptionIndex.isIndexable(productId)) {
+            priceBuckets[bucket].add(ProductOptionIndex.toIndexId(productId));
+        }
+    }
+
+    /**
+     * 모든 상품이 인덱스에 담겼는지 (false면 패싯 개수를 신뢰할 수 없음)
+     */
+    public boolean isComplete() {
+        return !overflowed;
+    }
+
+    /**
+     * 삭제되지 않은 전체 상품 비트맵 (복사본)
+     */
+    public RoaringBitmap live() {
+        lock.readLock().lock();
+        try {
+            return live.clone();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 필터 비트맵 기준 패싯 개수 계산 - 한 번의 읽기 락 안에서 모든 패싯을 순회
+     */
+    public Counts count(RoaringBitmap filter) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Long> categoryCounts = new LinkedHashMap<>();
+            categories.forEach((categoryId, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(filter, bitmap);
+                if (count > 0) {
+                    categoryCounts.put(categoryId, count);
+                }
+            });
+
+            Map<ProductStatus, Long> statusCounts = new EnumMap<>(ProductStatus.class);
+            statuses.forEach((status, bitmap) -> {
+                long count = RoaringBitmap.andCardinality(filter, bitmap);
+                if (count > 0) {
+                    statusCounts.put(status, count);
+                }
+            });
+
+            long[] bucketCounts = new long[priceBuckets.length];
+            for (int i = 0; i < priceBuckets.length; i++) {
+                bucketCounts[i] = RoaringBitmap.andCardinality(filter, priceBuckets[i]);
+            }
+
+            return new Counts(filter.getLongCardinality(), categoryCounts, statusCounts, bucketCounts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 가격 구간 하한 목록
+     */
+    public double[] bucketBounds() {
+        return bucketBounds.clone();
+    }
+
+    /**
+     * 패싯 개수 계산 결과
+     */
+    public record Counts(long total, Map<Long, Long> categories, Map<ProductStatus, Long> statuses,
+                         long[] priceBuckets) {
+    }
+
+    private void removeInternal(int id) {
+        live.remove(id);
+        categories.values().forEach(bitmap -> bitmap.remove(id));
+        statuses.values().forEach(bitmap -> bitmap.remove(id));
+        for (RoaringBitmap bucket : priceBuckets) {
+            bucket.remove(id);
+        }
+    }
+
+    private int bucketOf(Double price) {
+        if (price == null || bucketBounds.length == 0) {
+            return -1;
+        }
+        for (int i = bucketBounds.length - 1; i >= 0; i--) {
+            if (price >= bucketBounds[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static RoaringBitmap[] newBuckets(int size) {
+        RoaringBitmap[] buckets = new RoaringBitmap[size];
+        for (int i = 0; i < size; i++) {
+            buckets[i] = new RoaringBitmap();
+        }
+        return buckets;
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.spm.domain.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 옵션 메모리 인덱스 - 속성 필터링용 역색인
+ *
+ * 옵션명/옵션값은 normalize(앞뒤 공백 제거 + 소문자)로 정규화 후 사전에 한 번만 저장(intern)하고,
+ * (옵션명, 옵션값)마다 상품 ID 비트맵(posting list)을 유지한다. DB에도 같은 정규화로 저장하므로 상품당 posting은 하나다.
+ * 같은 옵션명 안의 값은 OR, 서로 다른 옵션명은 AND로 결합한다. (예: color=red AND size IN (L, XL))
+ * 삭제(Soft Delete)된 상품은 인덱스에 포함하지 않는다.
+ * 상품 ID가 int 범위를 넘으면 비트맵에 담을 수 없으므로 다음 재적재까지 준비 전 상태(DB 조건)로 되돌린다.
+ * 쓰기는 드물고 읽기가 대부분이므로 ReadWriteLock으로 보호한다.
+ */
+@Slf4j
+@Component
+public class ProductOptionIndex {
+
+    private final Map<String, String> dictionary = new HashMap<>();
+    private final Map<String, Map<String, RoaringBitmap>> postings = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    private volatile boolean overflowed;
+
+    /**
+     * 인덱스 적재 완료 여부 - 준비 전에는 DB 조건(EXISTS)으로 필터링
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 전체 재적재 시작 - 기존 항목 제거
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            overflowed = false;
+            dictionary.clear();
+            postings.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 적재 완료 표시 - 적재 중 인덱스에 담을 수 없는 상품 ID가 있었으면 준비 전 상태 유지
+     */
+    public void markReady() {
+        ready = !overflowed;
+    }
+
+    /**
+     * 옵션 추가
+     */
+    public void add(Long productId, String optionName, String optionValue) {
+        if (!isIndexable(productId)) {
+            overflow(productId);
+            return;
+        }
+        int id = toIndexId(productId);
+        lock.writeLock().lock();
+        try {
+            postings.computeIfAbsent(intern(normalize(optionName)), k -> new HashMap<>())
+                    .computeIfAbsent(intern(normalize(optionValue)), k -> new RoaringBitmap())
+                    .add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 옵션 제거 (product_option 유니크 제약상 상품당 동일 (옵션명, 옵션값)은 하나)
+     */
+    public void remove(Long productId, String optionName, String optionValue) {
+        if (!isIndexable(productId)) {
+            return;
+        }
+        int id = toIndexId(productId);
+        String name = normalize(optionName);
+        String value = normalize(optionValue);
+        lock.writeLock().lock();
+        try {
+            Map<String, RoaringBitmap> values = postings.get(name);
+            if (values == null) {
+                return;
+            }
+            RoaringBitmap bitmap = values.get(value);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    values.remove(value);
+                }
+            }
+            if (values.isEmpty()) {
+                postings.remove(name);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품의 모든 옵션 제거 (상품 삭제 시)
+     */
+    public void removeProduct(Long productId) {
+        if (!isIndexable(productId)) {
+            return;
+        }
+        int id = toIndexId(productId);
+        lock.writeLock().lock();
+        try {
+            postings.values().removeIf(values -> {
+                values.values().removeIf(bitmap -> {
+                    bitmap.remove(id);
+                    return bitmap.isEmpty();
+                });
+                return values.isEmpty();
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 속성 필터에 일치하는 상품 ID 비트맵
+     * @param filters 옵션명 → 허용 값 목록
+     * @return 일치 상품 비트맵 (새 인스턴스), 필터가 없으면 null
+     */
+    public RoaringBitmap match(Map<String, List<String>> filters) {
+        if (filters == null || filters.isEmpty()) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap result = null;
+            for (Map.Entry<String, List<String>> filter : filters.entrySet()) {
+                Map<String, RoaringBitmap> values = postings.get(normalize(filter.getKey()));
+                if (values == null) {
+                    return new RoaringBitmap();
+                }
+                RoaringBitmap anyValue = new RoaringBitmap();
+                for (String value : filter.getValue()) {
+                    RoaringBitmap bitmap = values.get(normalize(value));
+                    if (bitmap != null) {
+                        anyValue.or(bitmap);
+                    }
+                }
+                result = result == null ? anyValue : RoaringBitmap.and(result, anyValue);
+                if (result.isEmpty()) {
+                    return result;
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 옵션명별 값과 상품 수 - filter가 주어지면 filter와 교집합 개수
+     */
+    public Map<String, Map<String, Long>> valueCounts(RoaringBitmap filter) {
+        lock.readLock().lock();
+        try {
+            Map<String, Map<String, Long>> counts = new HashMap<>();
+            postings.forEach((name, values) -> {
+                Map<String, Long> valueCounts = new HashMap<>();
+                values.forEach((value, bitmap) -> {
+                    long count = filter != null
+                            ? RoaringBitmap.andCardinality(bitmap, filter)
+                            : bitmap.getLongCardinality();
+                    if (count > 0) {
+                        valueCounts.put(value, count);
+                    }
+                });
+                if (!valueCounts.isEmpty()) {
+                    counts.put(name, valueCounts);
+                }
+            });
+            return counts;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 등록된 옵션명 목록
+     */
+    public List<String> optionNames() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(postings.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 비트맵 인덱스에 담을 수 있는 상품 ID인지 (0 ~ Integer.MAX_VALUE)
+     */
+    public static boolean isIndexable(Long productId) {
+        return productId != null && productId >= 0 && productId <= Integer.MAX_VALUE;
+    }
+
+    /**
+     * 비트맵 인덱스용 ID 변환 (isIndexable로 확인한 ID만 전달)
+     */
+    public static int toIndexId(Long productId) {
+        return Math.toIntExact(productId);
+    }
+
+    /**
+     * 옵션명/옵션값 정규화 - 메모리 인덱스, 옵션 저장(OptionService), DB 조건(ProductRepositoryImpl) 공용
+     */
+    public static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private void overflow(Long productId) {
+        if (!overflowed) {
+            log.warn("옵션 인덱스 비활성화 - 인덱스 범위를 넘는 상품 ID: {}, 다음 재적재까지 DB 조건으로 필터링", productId);
+        }
+        overflowed = true;
+        ready = false;
+    }
+
+    private String intern(String value) {
+        return dictionary.computeIfAbsent(value, k -> k);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.spm.domain.search;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.global.config.SearchCacheProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 상품 검색 결과 캐시 - 검색 조건별 상품 ID 목록과 전체 건수를 보관하고, 상품 본문은 상품별 캐시에서 채운다
+ *
+ * 결과 키에 카탈로그 버전을 포함하므로 상품이 변경되면 버전만 올려 기존 결과 전체를 무효화한다
+ * (이전 버전 결과는 조회되지 않고 용량 한도/보관 기간에 따라 제거됨).
+ * 조회는 시작 시점의 버전을 키로 쓰므로, 조회 도중 커밋된 변경이 있으면 그 결과는 이전 버전으로 저장되어 재사용되지 않는다.
+ * 상품 캐시도 같은 이유로 적재 시작 이후 버전이 바뀌었으면 저장하지 않는다.
+ * 공유되는 응답 객체이므로 호출자는 변경하지 않는다.
+ * 메트릭: cache.gets{cache=product.search.results|product.responses, result=hit|miss}, cache.size, cache.evictions
+ */
+@Component
+public class ProductSearchCache {
+
+    private final SearchCacheProperties properties;
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Cache<ResultKey, Result> results;
+    private final Cache<Long, ProdDto.Response> products;
+
+    /**
+     * 검색 결과 키 - 카탈로그 버전 + 정규화된 검색 조건 + 페이지
+     */
+    public record ResultKey(long version, Object condition, long offset, int size) {
+    }
+
+    /**
+     * 검색 결과 - 현재 페이지 상품 ID(정렬 순서)와 전체 건수
+     */
+    public record Result(List<Long> productIds, long total) {
+    }
+
+    public ProductSearchCache(SearchCacheProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.properties = properties;
+        this.results = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxResultIds())
+                .weigher((ResultKey key, Result result) -> Math.max(1, result.productIds().size()))
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+        this.products = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxProducts())
+                .expireAfterWrite(properties.getTtl())
+                .recordStats()
+                .build();
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        CaffeineCacheMetrics.monitor(meterRegistry, results, "product.search.results");
+        CaffeineCacheMetrics.monitor(meterRegistry, products, "product.responses");
+        Gauge.builder("catalog.product.search.cache.version", catalogVersion, AtomicLong::get)
+                .description("카탈로그 버전 (상품 변경 시 증가)")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 현재 카탈로그 버전 - 조회 시작 전에 읽어 키와 저장 여부 판단에 사용
+     */
+    public long currentVersion() {
+        return catalogVersion.get();
+    }
+
+    public Result getResult(ResultKey key) {
+        return results.getIfPresent(key);
+    }
+
+    public void putResult(ResultKey key, Result result) {
+        if (key.version() == catalogVersion.get()) {
+            results.put(key, result);
+        }
+    }
+
+    /**
+     * 캐시된 상품 응답 (없는 ID는 결과에 포함되지 않음)
+     */
+    public Map<Long, ProdDto.Response> getProducts(Collection<Long> productIds) {
+        return products.getAllPresent(productIds);
+    }
+
+    /**
+     * 상품 응답 저장 - 적재 시작(version) 이후 변경이 있었으면 저장하지 않음
+     * 저장 직후 다시 확인해, 확인과 저장 사이에 변경이 커밋됐으면 저장한 항목을 제거한다.
+     */
+    public void putProducts(long version, Collection<ProdDto.Response> responses) {
+        if (version != catalogVersion.get()) {
+            return;
+        }
+        for (ProdDto.Response response : responses) {
+            products.put(response.getProductId(), response);
+        }
+        if (version != catalogVersion.get()) {
+            responses.forEach(response -> products.invalidate(response.getProductId()));
+        }
+    }
+
+    /**
+     * 현재 상품 응답 전체 (스냅샷 저장용 복사본)
+     */
+    public Map<Long, ProdDto.Response> productEntries() {
+        return Map.copyOf(products.asMap());
+    }
+
+    /**
+     * 현재 버전의 검색 결과 전체 (스냅샷 저장용 복사본)
+     */
+    public Map<ResultKey, Result> resultEntries() {
+        long version = catalogVersion.get();
+        Map<ResultKey, Result> entries = new HashMap<>();
+        results.asMap().forEach((key, result) -> {
+            if (key.version() == version) {
+                entries.put(key, result);
+            }
+        });
+        return entries;
+    }
+
+    /**
+     * 상품 변경 반영 (커밋 이후) - 버전을 올려 검색 결과 전체를 무효화하고 해당 상품 응답 제거
+     * 버전을 먼저 올려야 제거와 동시에 적재 중인 이전 상태가 다시 저장되지 않는다.
+     */
+    public void invalidate(Long productId) {
+        catalogVersion.incrementAndGet();
+        if (productId != null) {
+            products.invalidate(productId);
+        }
+    }
+}
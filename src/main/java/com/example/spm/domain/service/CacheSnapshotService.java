@@ -0,0 +1,168 @@
+package com.example.spm.domain.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.repository.ProductChangeLogRepository;
+import com.example.spm.domain.search.ProductCacheSnapshot;
+import com.example.spm.domain.search.ProductSearchCache;
+import com.example.spm.global.config.CacheSnapshotProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 스냅샷 서비스 - 상품/검색 결과 캐시를 주기적으로 로컬 디스크에 저장하고 기동 시 복원
+ *
+ * 저장: 마지막 변경 이력 ID(기준점)를 먼저 읽은 뒤 캐시 내용을 기록하므로, 기록 도중의 변경은 복원 시 대조 대상에 포함된다.
+ * 복원: 스냅샷이 maxAge 이내일 때만, 기준점 이후(또는 저장 시각 - reconcileMargin 이후) 변경 이력이 있는 상품은 제외하고 적재한다.
+ *       변경된 상품이 하나라도 있으면 검색 결과는 복원하지 않는다 (실행 중 무효화와 같은 기준).
+ * 카테고리는 2차 캐시이므로 파일로 저장하지 않고 복원 시 목록 조회 한 번으로 채운다.
+ * 복원은 워밍업(@Order 10) 전에 실행되어 워밍업과 첫 요청이 복원된 캐시를 사용한다.
+ * 메트릭: catalog.cache.snapshot.duration{operation=write|restore}
+ */
+@Slf4j
+@Service
+public class CacheSnapshotService implements DisposableBean {
+
+    private final ProductSearchCache searchCache;
+    private final ProductChangeLogRepository changeLogRepository;
+    private final CategoryService categoryService;
+    private final CacheSnapshotProperties properties;
+    private final MeterRegistry meterRegistry;
+    private volatile boolean restored;
+
+    public CacheSnapshotService(ProductSearchCache searchCache, ProductChangeLogRepository changeLogRepository,
+                                CategoryService categoryService, CacheSnapshotProperties properties,
+                                ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.searchCache = searchCache;
+        this.changeLogRepository = changeLogRepository;
+        this.categoryService = categoryService;
+        this.properties = properties;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * 기동 시 스냅샷 복원 - 인덱스 적재 이후, 워밍업 이전
+     */
+    @Order(5)
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        if (!isEnabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            ProductCacheSnapshot.Snapshot snapshot = ProductCacheSnapshot.read(Path.of(properties.getPath()));
+            Duration age = Duration.ofMillis(System.currentTimeMillis() - snapshot.createdAtMillis());
+            if (age.isNegative() || age.compareTo(properties.getMaxAge()) > 0) {
+                log.info("캐시 스냅샷 복원 생략 - 오래된 스냅샷 (age: {}s)", age.toSeconds());
+                return;
+            }
+
+            // 대조 조회 전에 버전을 읽어, 조회 이후 커밋된 변경은 putProducts/putResult의 버전 확인으로 걸러지게 한다
+            long version = searchCache.currentVersion();
+            LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(snapshot.createdAtMillis()),
+                    ZoneId.systemDefault()).minus(properties.getReconcileMargin());
+            Set<Long> changed =
+                    new HashSet<>(changeLogRepository.findChangedProductIdsSince(snapshot.watermark(), since));
+
+            List<ProdDto.Response> products = snapshot.products().stream()
+                    .filter(product -> !changed.contains(product.getProductId()))
+                    .toList();
+            searchCache.putProducts(version, products);
+            int results = 0;
+            if (changed.isEmpty()) {
+                for (ProductCacheSnapshot.SearchResult entry : snapshot.results()) {
+                    searchCache.putResult(new ProductSearchCache.ResultKey(version, entry.condition().coalescingKey(),
+                            entry.offset(), entry.size()), entry.result());
+                    results++;
+                }
+            }
+            categoryService.getCategories();
+
+            log.info("캐시 스냅샷 복원 - 상품: {}/{}, 검색 결과: {}/{}, 변경된 상품: {}, age: {}s, 소요 시간: {}ms",
+                    products.size(), snapshot.products().size(), results, snapshot.results().size(), changed.size(),
+                    age.toSeconds(), (System.nanoTime() - started) / 1_000_000);
+        } catch (NoSuchFileException e) {
+            log.info("캐시 스냅샷 없음 - {}", properties.getPath());
+        } catch (IOException | RuntimeException e) {
+            log.warn("캐시 스냅샷 복원 실패 - {}: {}", properties.getPath(), e.getMessage());
+        } finally {
+            restored = true;
+            record("restore", started);
+        }
+    }
+
+    /**
+     * 주기 저장 - 복원 이전에는 빈 캐시로 기존 스냅샷을 덮어쓰지 않도록 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${catalog.cache-snapshot.interval:PT5M}",
+            initialDelayString = "${catalog.cache-snapshot.interval:PT5M}")
+    public void write() {
+        if (!isEnabled() || !restored) {
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            Long watermark = changeLogRepository.findMaxChangeLogId();
+            long version = searchCache.currentVersion();
+            List<ProdDto.Response> products = new ArrayList<>(searchCache.productEntries().values());
+            List<ProductCacheSnapshot.SearchResult> results = searchCache.resultEntries().entrySet().stream()
+                    .map(entry -> ProductCacheSnapshot.toSearchResult(entry.getKey(), entry.getValue()))
+                    .filter(Objects::nonNull)
+                    .toList();
+            Path path = Path.of(properties.getPath());
+            ProductCacheSnapshot.write(path, new ProductCacheSnapshot.Snapshot(version,
+                    watermark != null ? watermark : 0L, System.currentTimeMillis(), products, results));
+            log.debug("캐시 스냅샷 저장 - 상품: {}, 검색 결과: {}, 크기: {}bytes",
+                    products.size(), results.size(), Files.size(path));
+        } catch (IOException | RuntimeException e) {
+            log.warn("캐시 스냅샷 저장 실패 - {}: {}", properties.getPath(), e.getMessage());
+        } finally {
+            record("write", started);
+        }
+    }
+
+    /**
+     * 종료 시 마지막 저장
+     */
+    @Override
+    public void destroy() {
+        write();
+    }
+
+    private boolean isEnabled() {
+        return properties.isEnabled() && searchCache.isEnabled();
+    }
+
+    private void record(String operation, long started) {
+        Timer.builder("catalog.cache.snapshot.duration")
+                .description("캐시 스냅샷 저장/복원 소요 시간")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(Duration.ofNanos(System.nanoTime() - started));
+    }
+}
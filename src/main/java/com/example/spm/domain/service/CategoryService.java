@@ -0,0 +1,33 @@
+package com.example.spm.domain.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.spm.domain.dto.CateDto;
+import com.example.spm.domain.repository.CategoryRepository;
+import com.example.spm.global.annotation.Resilient;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 카테고리 서비스
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CategoryService {
+
+    private final CategoryRepository categoryRepository;
+
+    /**
+     * 전체 카테고리 목록 조회 - DB 장애 중에는 마지막 정상 결과 반환
+     */
+    @Resilient
+    public List<CateDto.Response> getCategories() {
+        return categoryRepository.findAll().stream()
+                .map(CateDto.Response::from)
+                .toList();
+    }
+}
@@ -1,21 +1,31 @@
 package com.example.spm.domain.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.spm.domain.changelog.EntityDiffEngine;
+import com.example.spm.domain.changelog.EntitySnapshot;
+import com.example.spm.domain.changelog.FieldChanges;
 import com.example.spm.domain.dto.ChangeLogDto;
 import com.example.spm.domain.entity.Product;
 import com.example.spm.domain.entity.ProductChangeLog;
 import com.example.spm.domain.enums.ChangeType;
-import com.example.spm.domain.enums.ProductStatus;
+import com.example.spm.domain.enums.ChangeValueFormat;
 import com.example.spm.domain.repository.ProductChangeLogRepository;
 import com.example.spm.domain.repository.ProductRepository;
 import com.example.spm.exception.BusinessException;
 import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.config.ChangeLogProperties;
+import com.example.spm.global.util.TextCompressionUtils;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,83 +39,92 @@ import lombok.extern.slf4j.Slf4j;
 @Transactional(readOnly = true)
 public class ChangeLogService {
 
+    private static final String PRODUCT_ENTITY = "Product";
+    private static final int CHANGED_FIELD_MAX_LENGTH = 255;
+    private static final Gson GSON = new GsonBuilder().serializeNulls().create();
+
     private final ProductChangeLogRepository changeLogRepository;
     private final ProductRepository productRepository;
+    private final EntityDiffEngine diffEngine;
+    private final ChangeLogProperties changeLogProperties;
 
     /**
-     * 변경 이력 저장
+     * 변경 이력 저장 (상품 단위 필드 변경 직접 기록 - 값은 원본 텍스트)
      */
     @Transactional
     public void saveChangeLog(Product product, ChangeType changeType, String changedField,
                              String oldValue, String newValue, String changedBy) {
-        log.debug("변경 이력 저장 - productId: {}, changeType: {}, changedField: {}", 
-                product.getProductId(), changeType, changedField);
-
-        ProductChangeLog changeLog = ProductChangeLog.builder()
-                .product(product)
-                .changeType(changeType)
-                .changedField(changedField)
-                .oldValue(oldValue)
-                .newValue(newValue)
-                .changedBy(changedBy != null ? changedBy : "SYSTEM")
-                .changedDate(LocalDateTime.now())
-                .build();
-
-        changeLogRepository.save(changeLog);
+        saveChangeLog(product, PRODUCT_ENTITY, product.getProductId(), changeType, changedField,
+                ChangeValueFormat.TEXT, oldValue, newValue, changedBy);
     }
 
     /**
-     * 상품 생성 시 변경 이력 저장
+     * 엔티티 생성 시 변경 이력 저장 - 생성 시점 전체 스냅샷을 newValue에 기록
      */
     @Transactional
-    public void saveCreateLog(Product product, String changedBy) {
-        saveChangeLog(product, ChangeType.CREATE, null, null, 
-                     "상품 생성", changedBy);
+    public void saveCreateLog(Object entity, String changedBy) {
+        EntitySnapshot snapshot = diffEngine.snapshot(entity);
+        saveChangeLog(snapshot.owner(), snapshot.entityType(), snapshot.entityId(), ChangeType.CREATE, null,
+                ChangeValueFormat.JSON, null, GSON.toJson(snapshot.toMap()), changedBy);
     }
 
     /**
-     * 상품 수정 시 변경 이력 저장 (필드별 비교)
-     * 수정 전 상품 정보는 DB에서 조회한 Product 객체를 사용
+     * 엔티티 수정 시 변경 이력 저장 - 변경된 필드만 한 건으로 기록 (변경 없으면 저장하지 않음)
+     * before는 수정 전에 {@link #snapshot(Object)}으로 받아 둔 스냅샷
      */
     @Transactional
-    public void saveUpdateLog(Product product, String oldProductName, String oldDescription,
-                             String oldCategoryName, ProductStatus oldStatus, String changedBy) {
-        // 상품명 변경
-        if (oldProductName != null && !oldProductName.equals(product.getProductName())) {
-            saveChangeLog(product, ChangeType.UPDATE, "productName",
-                         oldProductName, product.getProductName(), changedBy);
-        }
-
-        // 설명 변경
-        String oldDesc = oldDescription != null ? oldDescription : "";
-        String newDesc = product.getDescription() != null ? product.getDescription() : "";
-        if (!oldDesc.equals(newDesc)) {
-            saveChangeLog(product, ChangeType.UPDATE, "description", oldDesc, newDesc, changedBy);
+    public void saveUpdateLog(EntitySnapshot before, Object entity, String changedBy) {
+        EntitySnapshot after = diffEngine.snapshot(entity);
+        FieldChanges changes = diffEngine.diff(before, after);
+        if (changes.isEmpty()) {
+            return;
         }
 
-        // 카테고리 변경
-        String newCatName = product.getCategory() != null ? product.getCategory().getCategoryName() : null;
-        if ((oldCategoryName == null && newCatName != null) ||
-            (oldCategoryName != null && !oldCategoryName.equals(newCatName))) {
-            saveChangeLog(product, ChangeType.UPDATE, "categoryId",
-                         oldCategoryName != null ? oldCategoryName : "null",
-                         newCatName != null ? newCatName : "null", changedBy);
-        }
-
-        // 상태 변경
-        if (oldStatus != null && oldStatus != product.getStatus()) {
-            saveChangeLog(product, ChangeType.UPDATE, "status",
-                         oldStatus.name(), product.getStatus().name(), changedBy);
+        String changedFields = String.join(",", changes.fields());
+        if (changedFields.length() > CHANGED_FIELD_MAX_LENGTH) {
+            changedFields = changedFields.substring(0, CHANGED_FIELD_MAX_LENGTH);
         }
+        saveChangeLog(after.owner(), after.entityType(), after.entityId(), ChangeType.UPDATE, changedFields,
+                ChangeValueFormat.JSON, GSON.toJson(changes.oldValues()), GSON.toJson(changes.newValues()), changedBy);
     }
 
     /**
-     * 상품 삭제 시 변경 이력 저장
+     * 엔티티 삭제 시 변경 이력 저장 - 삭제 직전 전체 스냅샷을 oldValue에 기록
      */
     @Transactional
-    public void saveDeleteLog(Product product, String changedBy) {
-        saveChangeLog(product, ChangeType.DELETE, null, 
-                     "상품 삭제", null, changedBy);
+    public void saveDeleteLog(Object entity, String changedBy) {
+        EntitySnapshot snapshot = diffEngine.snapshot(entity);
+        saveChangeLog(snapshot.owner(), snapshot.entityType(), snapshot.entityId(), ChangeType.DELETE, null,
+                ChangeValueFormat.JSON, GSON.toJson(snapshot.toMap()), null, changedBy);
+    }
+
+    /**
+     * 수정 전 스냅샷 (saveUpdateLog 호출 전 엔티티를 변경하기 전에 생성)
+     */
+    public EntitySnapshot snapshot(Object entity) {
+        return diffEngine.snapshot(entity);
+    }
+
+    private void saveChangeLog(Product product, String entityType, Long entityId, ChangeType changeType,
+                               String changedField, ChangeValueFormat valueFormat, String oldValue,
+                               String newValue, String changedBy) {
+        log.debug("변경 이력 저장 - productId: {}, entity: {}#{}, changeType: {}, changedField: {}",
+                product.getProductId(), entityType, entityId, changeType, changedField);
+
+        ProductChangeLog changeLog = ProductChangeLog.builder()
+                .product(product)
+                .entityType(entityType)
+                .entityId(entityId)
+                .changeType(changeType)
+                .changedField(changedField)
+                .valueFormat(valueFormat)
+                .oldValue(oldValue)
+                .newValue(newValue)
+                .changedBy(changedBy != null ? changedBy : "SYSTEM")
+                .changedDate(LocalDateTime.now())
+                .build();
+
+        changeLogRepository.save(changeLog);
     }
 
     /**
@@ -152,4 +171,66 @@ public class ChangeLogService {
         return changeLogRepository.findByChangedDateGreaterThanEqualOrderByChangedDateDesc(startDate, pageable)
                 .map(ChangeLogDto.Response::from);
     }
+
+    /**
+     * 기간 내 변경 이력 청크 조회 - afterId 이후 ID 오름차순 (내보내기 작업용)
+     */
+    public List<ChangeLogDto.Response> getChangeLogChunk(Long afterId, LocalDateTime startDate,
+                                                         LocalDateTime endDate, int chunkSize) {
+        return changeLogRepository.findChunkAfter(afterId != null ? afterId : 0L, startDate, endDate,
+                        PageRequest.of(0, chunkSize))
+                .stream()
+                .map(ChangeLogDto.Response::from)
+                .toList();
+    }
+
+    /**
+     * 기간 내 변경 이력 건수
+     */
+    public long countChangeLogs(LocalDateTime startDate, LocalDateTime endDate) {
+        return changeLogRepository.countByChangedDateBetween(startDate, endDate);
+    }
+
+    /**
+     * 전체 변경 이력 건수
+     */
+    public long countAllChangeLogs() {
+        return changeLogRepository.count();
+    }
+
+    /**
+     * 기존 이력 압축 마이그레이션 청크 - afterId 이후 이력 중 임계 크기 이상 값을 압축 저장
+     */
+    @Transactional
+    public CompressionChunk compressChunk(Long afterId, int chunkSize) {
+        int threshold = (int) changeLogProperties.getCompressThreshold().toBytes();
+        List<ProductChangeLogRepository.StoredValues> rows =
+                changeLogRepository.findStoredValuesAfter(afterId != null ? afterId : 0L, chunkSize);
+
+        int compressedValues = 0;
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+        for (ProductChangeLogRepository.StoredValues row : rows) {
+            String oldValue = TextCompressionUtils.compress(row.getOldValue(), threshold);
+            String newValue = TextCompressionUtils.compress(row.getNewValue(), threshold);
+            bytesBefore += TextCompressionUtils.storedBytes(row.getOldValue()) + TextCompressionUtils.storedBytes(row.getNewValue());
+            bytesAfter += TextCompressionUtils.storedBytes(oldValue) + TextCompressionUtils.storedBytes(newValue);
+
+            int changed = (Objects.equals(oldValue, row.getOldValue()) ? 0 : 1)
+                    + (Objects.equals(newValue, row.getNewValue()) ? 0 : 1);
+            if (changed > 0) {
+                changeLogRepository.updateStoredValues(row.getChangeLogId(), oldValue, newValue);
+                compressedValues += changed;
+            }
+        }
+
+        Long lastId = rows.isEmpty() ? afterId : rows.get(rows.size() - 1).getChangeLogId();
+        return new CompressionChunk(lastId, rows.size(), compressedValues, bytesBefore, bytesAfter);
+    }
+
+    /**
+     * 압축 마이그레이션 청크 결과 (바이트는 UTF-8 저장 크기 기준)
+     */
+    public record CompressionChunk(Long lastId, int rows, int compressedValues, long bytesBefore, long bytesAfter) {
+    }
 }
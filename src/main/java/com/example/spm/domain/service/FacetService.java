@@ -0,0 +1,247 @@
+package com.example.spm.domain.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.spm.domain.dto.FacetDto;
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.entity.Category;
+import com.example.spm.domain.event.ProductChangedEvent;
+import com.example.spm.domain.repository.CategoryRepository;
+import com.example.spm.domain.repository.PriceHistoryRepository;
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.domain.search.ProductFacetIndex;
+import com.example.spm.domain.search.ProductOptionIndex;
+import com.example.spm.global.config.FacetProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 패싯 검색 서비스 - 상품 목록과 함께 카테고리/상태/가격 구간/옵션별 개수 계산
+ *
+ * 텍스트/가격 조건이 없으면 메모리 비트맵만으로 계산하고,
+ * 있으면 조건에 맞는 상품 ID를 한 번 조회해 필터 비트맵을 만든 뒤 모든 패싯을 한 번에 계산한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class FacetService {
+
+    private static final int INDEX_LOAD_BATCH = 10_000;
+
+    private final ProdService prodService;
+    private final ProductRepository productRepository;
+    private final PriceHistoryRepository priceHistoryRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductOptionIndex optionIndex;
+    private final FacetProperties properties;
+    private final ProductFacetIndex facetIndex;
+
+    /** 재적재 중 변경된 상품 - 교체 후 다시 반영 */
+    private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+    private volatile boolean ready;
+
+    public FacetService(ProdService prodService, ProductRepository productRepository,
+                        PriceHistoryRepository priceHistoryRepository, CategoryRepository categoryRepository,
+                        ProductOptionIndex optionIndex, FacetProperties properties) {
+        this.prodService = prodService;
+        this.productRepository = productRepository;
+        this.priceHistoryRepository = priceHistoryRepository;
+        this.categoryRepository = categoryRepository;
+        this.optionIndex = optionIndex;
+        this.properties = properties;
+        this.facetIndex = new ProductFacetIndex(properties.getPriceBuckets());
+    }
+
+    /**
+     * 상품 목록 + 패싯 조회
+     */
+    public FacetDto.FacetedPage getFacetedProducts(ProdDto.SearchCondition condition, Pageable pageable) {
+        Page<ProdDto.Response> products = prodService.getProducts(condition, pageable);
+        return FacetDto.FacetedPage.builder()
+                .products(FacetDto.ProductPage.from(products))
+                .facets(computeFacets(condition))
+                .build();
+    }
+
+    /**
+     * 현재 검색 조건 기준 패싯 개수 계산 (계산할 수 없으면 null)
+     */
+    public FacetDto.Response computeFacets(ProdDto.SearchCondition condition) {
+        if (!ready || !facetIndex.isComplete()) {
+            return null;
+        }
+
+        RoaringBitmap filter = facetIndex.live();
+        boolean needsDatabase = hasText(condition.getProductName()) || hasText(condition.getProductCode())
+                || condition.getMinPrice() != null || condition.getMaxPrice() != null;
+
+        if (condition.hasOptions()) {
+            if (optionIndex.isReady()) {
+                filter.and(optionIndex.match(condition.getOptions()));
+            } else {
+                needsDatabase = true;
+            }
+        }
+
+        if (needsDatabase && !filter.isEmpty()) {
+            int limit = properties.getMaxFilterIds();
+            List<Long> productIds = productRepository.searchProductIds(condition, limit + 1);
+            if (productIds.size() > limit) {
+                log.debug("패싯 생략 - 검색 조건 일치 상품이 {}건을 초과", limit);
+                return null;
+            }
+            RoaringBitmap matched = new RoaringBitmap();
+            productIds.stream()
+                    .filter(ProductOptionIndex::isIndexable)
+                    .forEach(productId -> matched.add(ProductOptionIndex.toIndexId(productId)));
+            filter.and(matched);
+        }
+
+        ProductFacetIndex.Counts counts = facetIndex.count(filter);
+        return FacetDto.Response.builder()
+                .total(counts.total())
+                .categories(toCategoryCounts(counts.categories()))
+                .statuses(counts.statuses())
+                .priceBuckets(toPriceBucketCounts(counts.priceBuckets()))
+                .options(optionIndex.isReady() ? optionIndex.valueCounts(filter) : null)
+                .build();
+    }
+
+    /**
+     * 상품 변경 반영 - 커밋 이후 해당 상품의 패싯 소속만 다시 계산
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (rebuilding) {
+            changedDuringRebuild.add(event.productId());
+        }
+        refresh(facetIndex, event.productId());
+    }
+
+    /**
+     * 패싯 인덱스 전체 재적재 - 기동 시 및 주기적으로 실행 (가격 유효기간 만료 반영)
+     */
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${catalog.facet.rebuild-cron:0 0 * * * *}")
+    public synchronized void rebuild() {
+        long started = System.currentTimeMillis();
+        rebuilding = true;
+        try {
+            ProductFacetIndex loaded = new ProductFacetIndex(properties.getPriceBuckets());
+            long products = loadProducts(loaded);
+            loadPrices(loaded);
+
+            facetIndex.replaceWith(loaded);
+            for (Long productId : changedDuringRebuild) {
+                refresh(facetIndex, productId);
+            }
+            ready = true;
+            log.info("패싯 인덱스 적재 완료 - products: {}, 소요 시간: {}ms",
+                    products, System.currentTimeMillis() - started);
+        } finally {
+            rebuilding = false;
+            changedDuringRebuild.clear();
+        }
+    }
+
+    private long loadProducts(ProductFacetIndex target) {
+        long afterId = 0L;
+        long loaded = 0;
+        while (true) {
+            List<ProductRepository.FacetEntry> entries =
+                    productRepository.findFacetEntriesAfter(afterId, PageRequest.of(0, INDEX_LOAD_BATCH));
+            for (ProductRepository.FacetEntry entry : entries) {
+                target.put(entry.getProductId(), entry.getCategoryId(), entry.getStatus(),
+                        entry.getDeletedAt() != null, List.of());
+            }
+            loaded += entries.size();
+            if (entries.size() < INDEX_LOAD_BATCH) {
+                return loaded;
+            }
+            afterId = entries.get(entries.size() - 1).getProductId();
+        }
+    }
+
+    private void loadPrices(ProductFacetIndex target) {
+        LocalDateTime now = LocalDateTime.now();
+        RoaringBitmap live = target.live();
+        long afterId = 0L;
+        while (true) {
+            List<PriceHistoryRepository.PriceEntry> entries =
+                    priceHistoryRepository.findCurrentPricesAfter(afterId, now, PageRequest.of(0, INDEX_LOAD_BATCH));
+            for (PriceHistoryRepository.PriceEntry entry : entries) {
+                if (ProductOptionIndex.isIndexable(entry.getProductId())
+                        && live.contains(ProductOptionIndex.toIndexId(entry.getProductId()))) {
+                    target.addPriceUnsafe(entry.getProductId(), entry.getPrice());
+                }
+            }
+            if (entries.size() < INDEX_LOAD_BATCH) {
+                return;
+            }
+            afterId = entries.get(entries.size() - 1).getPriceId();
+        }
+    }
+
+    private void refresh(ProductFacetIndex target, Long productId) {
+        productRepository.findFacetEntry(productId).ifPresentOrElse(
+                entry -> target.put(productId, entry.getCategoryId(), entry.getStatus(), entry.getDeletedAt() != null,
+                        priceHistoryRepository.findCurrentPrices(productId, LocalDateTime.now())),
+                () -> target.put(productId, null, null, true, List.of()));
+    }
+
+    private List<FacetDto.CategoryCount> toCategoryCounts(Map<Long, Long> counts) {
+        Map<Long, String> names = categoryRepository.findAllById(counts.keySet()).stream()
+                .collect(Collectors.toMap(Category::getCategoryId, Category::getCategoryName));
+
+        List<FacetDto.CategoryCount> result = new ArrayList<>();
+        counts.forEach((categoryId, count) -> {
+            boolean uncategorized = categoryId == ProductFacetIndex.NO_CATEGORY;
+            result.add(FacetDto.CategoryCount.builder()
+                    .categoryId(uncategorized ? null : categoryId)
+                    .categoryName(uncategorized ? null : names.get(categoryId))
+                    .count(count)
+                    .build());
+        });
+        result.sort((a, b) -> Long.compare(b.getCount(), a.getCount()));
+        return result;
+    }
+
+    private List<FacetDto.PriceBucketCount> toPriceBucketCounts(long[] counts) {
+        double[] bounds = facetIndex.bucketBounds();
+        List<FacetDto.PriceBucketCount> result = new ArrayList<>(counts.length);
+        for (int i = 0; i < counts.length; i++) {
+            result.add(FacetDto.PriceBucketCount.builder()
+                    .from(bounds[i])
+                    .to(i + 1 < bounds.length ? bounds[i + 1] : null)
+                    .count(counts[i])
+                    .build());
+        }
+        return result;
+    }
+
+    private boolean hasText(String value) {
+        return value != null && !value.isEmpty();
+    }
+}
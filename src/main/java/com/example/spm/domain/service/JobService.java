@@ -0,0 +1,290 @@
+package com.example.spm.domain.service;
+
+import java.lang.reflect.Type;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spm.domain.dto.JobDto;
+import com.example.spm.domain.entity.CatalogJob;
+import com.example.spm.domain.enums.JobStatus;
+import com.example.spm.domain.enums.JobType;
+import com.example.spm.domain.repository.CatalogJobRepository;
+import com.example.spm.domain.service.job.JobChunk;
+import com.example.spm.domain.service.job.JobContext;
+import com.example.spm.domain.service.job.JobHandler;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.annotation.Bulkhead;
+import com.example.spm.global.bulkhead.BulkheadFullException;
+import com.example.spm.global.bulkhead.BulkheadRegistry;
+import com.example.spm.global.concurrency.OptimisticLockRetry;
+import com.example.spm.global.config.JobProperties;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 작업 서비스 - 작업 등록/실행/취소/재개
+ *
+ * 작업은 청크 단위로 실행되며, 각 청크의 처리와 체크포인트 갱신은 하나의 트랜잭션으로 커밋된다.
+ * 워커는 가상 스레드이지만 동시 실행 수는 세마포어로 제한하여 대화형 요청용 커넥션 풀을 보호한다.
+ * 청크는 batch 격벽 안에서 실행하며, 할당량이 없으면 작업을 실패시키지 않고 취소 확인 후 다시 기다린다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class JobService {
+
+    private static final Type PARAMS_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+    private static final Type STATS_TYPE = new TypeToken<Map<String, Long>>() {}.getType();
+
+    private final CatalogJobRepository jobRepository;
+    private final Map<JobType, JobHandler> handlers = new EnumMap<>(JobType.class);
+    private final JobProperties properties;
+    private final ExecutorService jobExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore workerPermits;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final Gson gson = new Gson();
+
+    public JobService(CatalogJobRepository jobRepository, List<JobHandler> handlers, JobProperties properties,
+                      @Qualifier("catalogJobExecutor") ExecutorService jobExecutor,
+                      PlatformTransactionManager transactionManager, OptimisticLockRetry optimisticLockRetry,
+                      BulkheadRegistry bulkheadRegistry) {
+        this.jobRepository = jobRepository;
+        this.properties = properties;
+        this.jobExecutor = jobExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.optimisticLockRetry = optimisticLockRetry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.workerPermits = new Semaphore(Math.max(1, properties.getMaxConcurrent()), true);
+        handlers.forEach(handler -> this.handlers.put(handler.type(), handler));
+    }
+
+    /**
+     * 작업 등록 - 커밋 후 워커에 할당
+     */
+    @Transactional
+    public JobDto.Response submit(JobType jobType, Map<String, String> params) {
+        JobHandler handler = getHandler(jobType);
+        Map<String, String> safeParams = params != null ? params : Map.of();
+        handler.validate(safeParams);
+
+        CatalogJob job = jobRepository.save(CatalogJob.builder()
+                .jobType(jobType)
+                .params(gson.toJson(safeParams))
+                .build());
+
+        log.info("작업 등록 - jobId: {}, jobType: {}, params: {}", job.getJobId(), jobType, safeParams);
+        dispatchAfterCommit(job.getJobId());
+        return JobDto.Response.from(job);
+    }
+
+    /**
+     * 같은 유형의 대기/실행 중 작업 존재 여부
+     */
+    public boolean hasActiveJob(JobType jobType) {
+        return jobRepository.existsByJobTypeAndStatusIn(jobType, EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING));
+    }
+
+    /**
+     * 작업 진행 상황 조회
+     */
+    public JobDto.Response getJob(Long jobId) {
+        return JobDto.Response.from(findJob(jobId));
+    }
+
+    /**
+     * 작업 목록 조회 (최신순)
+     */
+    public Page<JobDto.Response> getJobs(Pageable pageable) {
+        return jobRepository.findAllByOrderByJobIdDesc(pageable).map(JobDto.Response::from);
+    }
+
+    /**
+     * 작업 취소 - 대기 중이면 즉시 취소, 실행 중이면 현재 청크 완료 후 중단
+     */
+    @Transactional
+    public JobDto.Response cancel(Long jobId) {
+        CatalogJob job = findJob(jobId);
+
+        switch (job.getStatus()) {
+            case PENDING -> job.cancel();
+            case RUNNING -> jobRepository.requestCancel(jobId);
+            default -> throw new BusinessException(ErrorCode.JOB_INVALID_STATE);
+        }
+
+        log.info("작업 취소 요청 - jobId: {}, status: {}", jobId, job.getStatus());
+        return JobDto.Response.from(findJob(jobId));
+    }
+
+    /**
+     * 작업 재개 - 실패/취소된 작업을 마지막 체크포인트부터 다시 실행
+     */
+    @Transactional
+    public JobDto.Response resume(Long jobId) {
+        CatalogJob job = findJob(jobId);
+        if (!job.isResumable()) {
+            throw new BusinessException(ErrorCode.JOB_INVALID_STATE);
+        }
+
+        job.resume();
+        log.info("작업 재개 - jobId: {}, checkpoint: {}", jobId, job.getCheckpoint());
+        dispatchAfterCommit(jobId);
+        return JobDto.Response.from(job);
+    }
+
+    /**
+     * 재시작 복구 - 이전 프로세스에서 대기/실행 중이던 작업을 체크포인트부터 재개
+     * (단일 인스턴스 실행 기준, 다중 인스턴스에서는 claim 으로 중복 실행만 방지된다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverJobs() {
+        List<Long> jobIds = transactionTemplate.execute(status -> {
+            List<CatalogJob> jobs = jobRepository.findByStatusIn(EnumSet.of(JobStatus.PENDING, JobStatus.RUNNING));
+            jobs.stream().filter(job -> job.getStatus() == JobStatus.RUNNING).forEach(CatalogJob::resume);
+            return jobs.stream().map(CatalogJob::getJobId).toList();
+        });
+
+        if (jobIds != null && !jobIds.isEmpty()) {
+            log.info("미완료 작업 복구 - jobIds: {}", jobIds);
+            jobIds.forEach(this::dispatch);
+        }
+    }
+
+    private void dispatchAfterCommit(Long jobId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(jobId);
+                }
+            });
+        } else {
+            dispatch(jobId);
+        }
+    }
+
+    private void dispatch(Long jobId) {
+        jobExecutor.execute(() -> run(jobId));
+    }
+
+    /**
+     * 워커 실행 루프
+     */
+    private void run(Long jobId) {
+        try {
+            workerPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        try {
+            Integer claimed = transactionTemplate.execute(status -> jobRepository.claim(jobId));
+            if (claimed == null || claimed == 0) {
+                log.debug("작업 선점 실패 (이미 실행 중이거나 취소됨) - jobId: {}", jobId);
+                return;
+            }
+            execute(jobId);
+        } finally {
+            workerPermits.release();
+        }
+    }
+
+    private void execute(Long jobId) {
+        CatalogJob job = transactionTemplate.execute(status -> jobRepository.findById(jobId).orElseThrow());
+        JobHandler handler = getHandler(job.getJobType());
+        Map<String, String> params = job.getParams() != null ? gson.fromJson(job.getParams(), PARAMS_TYPE) : Map.of();
+        Map<String, Long> stats = job.getStats() != null ? gson.fromJson(job.getStats(), STATS_TYPE) : null;
+        JobContext context = new JobContext(jobId, params, stats);
+        Long checkpoint = job.getCheckpoint();
+
+        try {
+            Long total = job.getTotalCount() == null ? handler.countTotal(params) : null;
+            updateJob(jobId, j -> j.start(total));
+            log.info("작업 시작 - jobId: {}, jobType: {}, checkpoint: {}, total: {}",
+                    jobId, job.getJobType(), checkpoint, total);
+
+            while (true) {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> jobRepository.isCancelRequested(jobId)))) {
+                    updateJob(jobId, CatalogJob::cancel);
+                    log.info("작업 취소 완료 - jobId: {}, checkpoint: {}", jobId, checkpoint);
+                    return;
+                }
+
+                // 청크는 체크포인트부터 다시 실행해도 결과가 같으므로 대화형 수정과 버전이 충돌하면 재시도
+                final Long from = checkpoint;
+                final Map<String, Long> statsBefore = context.copyStats();
+                JobChunk chunk;
+                try (BulkheadRegistry.Permit permit = bulkheadRegistry.acquire(Bulkhead.BATCH)) {
+                    chunk = optimisticLockRetry.execute("job." + job.getJobType(), () -> {
+                        context.restoreStats(statsBefore);
+                        JobChunk result = handler.processChunk(context, from, properties.getChunkSize());
+                        jobRepository.updateProgress(jobId, result.nextCheckpoint(), result.processed(),
+                                gson.toJson(context.getStats()));
+                        return result;
+                    });
+                } catch (BulkheadFullException e) {
+                    log.debug("batch 격벽 할당량 대기 - jobId: {}, checkpoint: {}", jobId, checkpoint);
+                    Thread.sleep(e.getRetryAfter());
+                    continue;
+                }
+
+                checkpoint = chunk.nextCheckpoint();
+                if (chunk.done()) {
+                    updateJob(jobId, CatalogJob::complete);
+                    log.info("작업 완료 - jobId: {}, stats: {}", jobId, context.getStats());
+                    return;
+                }
+
+                if (!properties.getChunkPause().isZero()) {
+                    Thread.sleep(properties.getChunkPause());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            updateJob(jobId, j -> j.fail("작업 스레드 중단"));
+        } catch (Exception e) {
+            log.error("작업 실패 - jobId: {}, checkpoint: {} - {}", jobId, checkpoint, e.getMessage(), e);
+            updateJob(jobId, j -> j.fail(e.getClass().getSimpleName() + ": " + e.getMessage()));
+        }
+    }
+
+    private void updateJob(Long jobId, Consumer<CatalogJob> change) {
+        transactionTemplate.executeWithoutResult(status ->
+                jobRepository.findById(jobId).ifPresent(change));
+    }
+
+    private CatalogJob findJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.JOB_NOT_FOUND));
+    }
+
+    private JobHandler getHandler(JobType jobType) {
+        JobHandler handler = handlers.get(jobType);
+        if (handler == null) {
+            throw new BusinessException(ErrorCode.JOB_INVALID_PARAMETER, "지원하지 않는 작업 유형입니다: " + jobType);
+        }
+        return handler;
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.spm.domain.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.spm.domain.changelog.EntitySnapshot;
+import com.example.spm.domain.dto.OptionDto;
+import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.entity.ProductOption;
+import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.domain.event.ProductChangedEvent;
+import com.example.spm.domain.repository.ProductOptionRepository;
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.domain.search.ProductOptionIndex;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 옵션 서비스 - 옵션 관리 및 속성 인덱스 유지
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OptionService {
+
+    private static final int INDEX_LOAD_BATCH = 10_000;
+
+    private final ProductOptionRepository optionRepository;
+    private final ProductRepository productRepository;
+    private final ProductOptionIndex optionIndex;
+    private final ChangeLogService changeLogService;
+
+    /**
+     * 상품별 옵션 목록 조회
+     */
+    public List<OptionDto.Response> getOptions(Long productId) {
+        findProduct(productId);
+        return optionRepository.findByProductProductIdOrderByOptionIdAsc(productId).stream()
+                .map(OptionDto.Response::from)
+                .toList();
+    }
+
+    /**
+     * 옵션 추가 - 옵션명/옵션값은 인덱스와 같은 정규화(앞뒤 공백 제거 + 소문자)로 저장
+     * 대소문자만 다른 값은 같은 옵션으로 보고 중복으로 거부한다.
+     */
+    @Transactional
+    public OptionDto.Response addOption(Long productId, OptionDto.Request request) {
+        Product product = findProduct(productId);
+        String optionName = ProductOptionIndex.normalize(request.getOptionName());
+        String optionValue = ProductOptionIndex.normalize(request.getOptionValue());
+
+        if (optionRepository.existsByProductProductIdAndOptionNameAndOptionValue(productId, optionName, optionValue)) {
+            throw new BusinessException(ErrorCode.OPTION_DUPLICATE);
+        }
+
+        ProductOption option = optionRepository.save(ProductOption.builder()
+                .product(product)
+                .optionName(optionName)
+                .optionValue(optionValue)
+                .build());
+        changeLogService.saveCreateLog(option, "SYSTEM");
+
+        afterCommit(() -> optionIndex.add(productId, optionName, optionValue));
+        log.info("옵션 추가 - productId: {}, {}={}", productId, optionName, optionValue);
+        return OptionDto.Response.from(option);
+    }
+
+    /**
+     * 옵션값 수정 (정규화 후 저장)
+     */
+    @Transactional
+    public OptionDto.Response updateOption(Long productId, Long optionId, OptionDto.Request request) {
+        ProductOption option = findOption(productId, optionId);
+        String optionName = option.getOptionName();
+        String oldValue = option.getOptionValue();
+        String newValue = ProductOptionIndex.normalize(request.getOptionValue());
+
+        if (!oldValue.equals(newValue)
+                && optionRepository.existsByProductProductIdAndOptionNameAndOptionValue(productId, optionName, newValue)) {
+            throw new BusinessException(ErrorCode.OPTION_DUPLICATE);
+        }
+
+        EntitySnapshot before = changeLogService.snapshot(option);
+        option.updateValue(newValue);
+        changeLogService.saveUpdateLog(before, option, "SYSTEM");
+        afterCommit(() -> {
+            optionIndex.remove(productId, optionName, oldValue);
+            optionIndex.add(productId, optionName, newValue);
+        });
+        return OptionDto.Response.from(option);
+    }
+
+    /**
+     * 옵션 삭제
+     */
+    @Transactional
+    public void deleteOption(Long productId, Long optionId) {
+        ProductOption option = findOption(productId, optionId);
+        String optionName = option.getOptionName();
+        String optionValue = option.getOptionValue();
+
+        changeLogService.saveDeleteLog(option, "SYSTEM");
+        optionRepository.delete(option);
+        afterCommit(() -> optionIndex.remove(productId, optionName, optionValue));
+        log.info("옵션 삭제 - productId: {}, {}={}", productId, optionName, optionValue);
+    }
+
+    /**
+     * 속성 사전 조회 - 옵션명별 값과 상품 수
+     */
+    public List<OptionDto.Attribute> getAttributes() {
+        Map<String, Map<String, Long>> counts = optionIndex.valueCounts(null);
+        List<OptionDto.Attribute> attributes = new ArrayList<>();
+        counts.forEach((name, values) -> attributes.add(OptionDto.Attribute.builder()
+                .optionName(name)
+                .values(values.entrySet().stream()
+                        .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                        .map(entry -> OptionDto.AttributeValue.builder()
+                                .optionValue(entry.getKey())
+                                .productCount(entry.getValue())
+                                .build())
+                        .toList())
+                .build()));
+        attributes.sort(Comparator.comparing(OptionDto.Attribute::getOptionName));
+        return attributes;
+    }
+
+    /**
+     * 상품 삭제 반영 - 커밋 이후 삭제된 상품을 속성 인덱스와 속성별 상품 수에서 제외
+     * (물리 삭제 대상은 이미 Soft Delete 시점에 제외되어 있고, 재적재 시에도 적재하지 않음)
+     */
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.changeType() == ChangeType.DELETE) {
+            optionIndex.removeProduct(event.productId());
+        }
+    }
+
+    /**
+     * 옵션 인덱스 전체 재적재 - 기동 시 키셋 배치로 옵션 테이블을 순회
+     */
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long started = System.currentTimeMillis();
+        optionIndex.clear();
+
+        long afterId = 0L;
+        long loaded = 0;
+        while (true) {
+            List<ProductOptionRepository.OptionEntry> entries =
+                    optionRepository.findEntriesAfter(afterId, PageRequest.of(0, INDEX_LOAD_BATCH));
+            for (ProductOptionRepository.OptionEntry entry : entries) {
+                optionIndex.add(entry.getProductId(), entry.getOptionName(), entry.getOptionValue());
+            }
+            loaded += entries.size();
+            if (entries.size() < INDEX_LOAD_BATCH) {
+                break;
+            }
+            afterId = entries.get(entries.size() - 1).getOptionId();
+        }
+
+        optionIndex.markReady();
+        log.info("옵션 인덱스 적재 완료 - options: {}, 소요 시간: {}ms", loaded, System.currentTimeMillis() - started);
+    }
+
+    private Product findProduct(Long productId) {
+        return productRepository.findByProductIdAndDeletedAtIsNull(productId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+    }
+
+    private ProductOption findOption(Long productId, Long optionId) {
+        findProduct(productId);
+        return optionRepository.findById(optionId)
+                .filter(option -> option.getProduct().getProductId().equals(productId))
+                .orElseThrow(() -> new BusinessException(ErrorCode.OPTION_NOT_FOUND));
+    }
+
+    /**
+     * 커밋 이후에만 메모리 인덱스 반영 (롤백 시 인덱스 불일치 방지)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -1,18 +1,51 @@
 package com.example.spm.domain.service;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import com.example.spm.domain.changelog.EntitySnapshot;
 import com.example.spm.domain.dto.ProdDto;
 import com.example.spm.domain.entity.Category;
 import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.domain.event.ProductChangedEvent;
 import com.example.spm.domain.enums.ProductStatus;
 import com.example.spm.domain.repository.CategoryRepository;
 import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.domain.search.ProductCodeFilter;
+import com.example.spm.domain.search.ProductOptionIndex;
+import com.example.spm.domain.search.ProductSearchCache;
 import com.example.spm.exception.BusinessException;
 import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.annotation.Resilient;
+import com.example.spm.global.annotation.SingleFlight;
+import com.example.spm.global.concurrency.CoalescingKey;
+import com.example.spm.global.concurrency.OptimisticLockRetry;
+import com.example.spm.global.concurrency.SingleFlightGroup;
+import com.example.spm.global.config.OptimisticLockProperties;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,27 +62,103 @@ public class ProdService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final ChangeLogService changeLogService;
+    private final ProductOptionIndex optionIndex;
+    private final ProductCodeFilter codeFilter;
+    private final OptimisticLockRetry optimisticLockRetry;
+    private final OptimisticLockProperties optimisticLockProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SingleFlightGroup singleFlightGroup;
+    private final ProductSearchCache searchCache;
+
+    /** 상품 상세 조회 병합 그룹 */
+    private static final String DETAIL_FLIGHT = "product.detail";
+
+    /** 상품 목록 조회 병합 그룹 */
+    private static final String SEARCH_FLIGHT = "product.search";
+
+    /** 옵션 인덱스 후보가 이 수 이하이면 IN 조건으로 전달, 초과하면 DB EXISTS 조건 사용 */
+    private static final int OPTION_IN_CLAUSE_LIMIT = 1000;
 
     /**
-     * 상품 목록 조회 - 검색 조건 및 페이징 처리
+     * 상품 목록 조회 - 검색 조건 및 페이징 처리 (같은 조건의 동시 조회는 한 번만 실행, DB 장애 중에는 마지막 정상 결과 반환)
+     * 속성 필터는 옵션 인덱스로 후보를 먼저 좁히고, 후보가 많으면 DB의 옵션 조건(EXISTS)으로 처리
      */
     @com.example.spm.global.annotation.Logging(level = com.example.spm.global.annotation.Logging.LogLevel.INFO)
-    public Page<ProdDto.Response> getProducts(String productName, String productCode, 
-                                                Double minPrice, Double maxPrice, 
-                                                Pageable pageable) {
-        log.info("상품 목록 조회 - productName: {}, productCode: {}, minPrice: {}, maxPrice: {}, page: {}", 
-                productName, productCode, minPrice, maxPrice, pageable.getPageNumber());
-        
-        return productRepository.searchProducts(productName, productCode, minPrice, maxPrice, pageable);
+    @Resilient
+    @SingleFlight(SEARCH_FLIGHT)
+    public Page<ProdDto.Response> getProducts(ProdDto.SearchCondition condition, Pageable pageable) {
+        log.info("상품 목록 조회 - productName: {}, productCode: {}, minPrice: {}, maxPrice: {}, options: {}, page: {}", 
+                condition.getProductName(), condition.getProductCode(), condition.getMinPrice(),
+                condition.getMaxPrice(), condition.getOptions(), pageable.getPageNumber());
+
+        if (!condition.hasOptions() && searchCache.isEnabled()) {
+            return searchCached(condition, pageable);
+        }
+
+        ProdDto.SearchCondition effective = condition;
+        if (condition.hasOptions() && optionIndex.isReady()) {
+            RoaringBitmap matched = optionIndex.match(condition.getOptions());
+            if (matched.isEmpty()) {
+                return Page.empty(pageable);
+            }
+            if (matched.getLongCardinality() <= OPTION_IN_CLAUSE_LIMIT) {
+                List<Long> productIds = new ArrayList<>(matched.getCardinality());
+                for (int id : matched.toArray()) {
+                    productIds.add((long) id);
+                }
+                effective = condition.toBuilder().productIds(productIds).build();
+            }
+        }
+
+        return productRepository.searchProducts(effective, pageable);
+    }
+
+    /**
+     * 검색 결과 캐시 경유 조회 - 상품 ID 목록/건수는 결과 캐시, 상품 본문은 상품 캐시에서 채움
+     */
+    private Page<ProdDto.Response> searchCached(ProdDto.SearchCondition condition, Pageable pageable) {
+        long version = searchCache.currentVersion();
+        ProductSearchCache.ResultKey key = new ProductSearchCache.ResultKey(version, condition.coalescingKey(),
+                pageable.getOffset(), pageable.getPageSize());
+        ProductSearchCache.Result result = searchCache.getResult(key);
+        if (result == null) {
+            Page<Long> page = productRepository.searchProductIdPage(condition, pageable);
+            result = new ProductSearchCache.Result(page.getContent(), page.getTotalElements());
+            searchCache.putResult(key, result);
+        }
+        return new PageImpl<>(hydrate(version, result.productIds()), pageable, result.total());
+    }
+
+    /**
+     * 상품 ID 목록을 응답으로 변환 - 상품 캐시에 없는 상품만 한 번에 조회 (ID 순서 유지)
+     */
+    private List<ProdDto.Response> hydrate(long version, List<Long> productIds) {
+        Map<Long, ProdDto.Response> responses = new HashMap<>(searchCache.getProducts(productIds));
+        List<Long> missing = productIds.stream()
+                .filter(productId -> !responses.containsKey(productId))
+                .toList();
+        if (!missing.isEmpty()) {
+            List<ProdDto.Response> loaded = productRepository.findAllWithCategoryByIdIn(missing).stream()
+                    .map(ProdDto.Response::from)
+                    .toList();
+            searchCache.putProducts(version, loaded);
+            loaded.forEach(response -> responses.put(response.getProductId(), response));
+        }
+        return productIds.stream()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
-     * 상품 상세 조회
+     * 상품 상세 조회 - 같은 상품의 동시 조회는 한 번만 실행, DB 장애 중에는 마지막 정상 결과 반환
      */
+    @Resilient
+    @SingleFlight(DETAIL_FLIGHT)
     public ProdDto.Response getProduct(Long productId) {
         log.info("상품 상세 조회 - productId: {}", productId);
         
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findByProductIdAndDeletedAtIsNull(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
         
         return ProdDto.Response.from(product);
@@ -63,9 +172,12 @@ public class ProdService {
     public ProdDto.Response createProduct(ProdDto.Request request) {
         log.info("상품 추가 - productCode: {}, productName: {}", request.getProductCode(), request.getProductName());
         
-        // 상품코드 중복 검증
-        if (productRepository.existsByProductCode(request.getProductCode())) {
-            throw new BusinessException(ErrorCode.PRODUCT_CODE_DUPLICATE);
+        // 상품코드 중복 검증 - 필터가 "확실히 없음"으로 판정하면 DB 조회 생략
+        if (codeFilter.mightContain(request.getProductCode())) {
+            if (productRepository.existsByProductCode(request.getProductCode())) {
+                throw new BusinessException(ErrorCode.PRODUCT_CODE_DUPLICATE);
+            }
+            codeFilter.recordFalsePositive();
         }
 
         // 카테고리 조회
@@ -84,10 +196,19 @@ public class ProdService {
                 .status(request.getStatus() != null ? request.getStatus() : ProductStatus.ACTIVE)
                 .build();
 
-        Product savedProduct = productRepository.save(product);
+        // 필터에 없던 코드가 동시 생성 등으로 이미 존재하면 유니크 인덱스에서 걸러진다
+        Product savedProduct;
+        try {
+            savedProduct = productRepository.save(product);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("상품코드 유니크 제약 위반 - productCode: {}", request.getProductCode());
+            throw new BusinessException(ErrorCode.PRODUCT_CODE_DUPLICATE);
+        }
+        afterCommit(() -> codeFilter.add(savedProduct.getProductCode()));
         
         // 변경 이력 저장
         changeLogService.saveCreateLog(savedProduct, "SYSTEM");
+        eventPublisher.publishEvent(new ProductChangedEvent(savedProduct.getProductId(), ChangeType.CREATE));
         
         log.info("상품 추가 완료 - productId: {}", savedProduct.getProductId());
         
@@ -96,56 +217,201 @@ public class ProdService {
 
     /**
      * 상품 수정
+     * expectedVersion(If-Match)이 있으면 버전이 다를 때 PRODUCT_VERSION_MISMATCH로 거부하고,
+     * 없으면 버전 충돌 시 최신 상태를 다시 읽어 재시도한다 (최대 catalog.optimistic-lock.max-attempts회).
+     * 재시도에서는 처음 읽은 상태 대비 요청이 바꾸는 필드만 적용하며, 먼저 커밋된 수정이 같은 필드를 바꿨으면
+     * 덮어쓰지 않고 CONCURRENT_MODIFICATION(409)으로 거부한다.
+     * 재시도마다 새 트랜잭션에서 실행하므로 호출 측 트랜잭션에 참여하지 않는다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @com.example.spm.global.annotation.Logging(level = com.example.spm.global.annotation.Logging.LogLevel.INFO)
-    public ProdDto.Response updateProduct(Long productId, ProdDto.Request request) {
-        log.info("상품 수정 - productId: {}, productName: {}", productId, request.getProductName());
-        
-        Product product = productRepository.findById(productId)
+    public ProdDto.Response updateProduct(Long productId, ProdDto.Request request, Long expectedVersion) {
+        log.info("상품 수정 - productId: {}, productName: {}, expectedVersion: {}",
+                productId, request.getProductName(), expectedVersion);
+
+        AtomicReference<ProductFields> base = new AtomicReference<>();
+        try {
+            ProdDto.Response response = optimisticLockRetry.execute("product.update",
+                    expectedVersion == null ? optimisticLockProperties.getMaxAttempts() : 1,
+                    () -> applyUpdate(productId, request, expectedVersion, base));
+            log.info("상품 수정 완료 - productId: {}, version: {}", productId, response.getVersion());
+            return response;
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw new BusinessException(ErrorCode.PRODUCT_VERSION_MISMATCH);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 상품 수정 한 번 적용 (OptimisticLockRetry의 트랜잭션 안에서 실행)
+     * base는 첫 시도에서 읽은 상태 - 재시도에서는 이 상태와 최신 상태를 비교해 다른 요청이 바꾼 필드를 찾는다.
+     */
+    private ProdDto.Response applyUpdate(Long productId, ProdDto.Request request, Long expectedVersion,
+                                         AtomicReference<ProductFields> base) {
+        Product product = productRepository.findByProductIdAndDeletedAtIsNull(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
+        if (expectedVersion != null && expectedVersion != product.getVersion()) {
+            throw new BusinessException(ErrorCode.PRODUCT_VERSION_MISMATCH);
+        }
 
-        // 수정 전 상품 정보 저장 (변경 이력용)
-        String oldProductName = product.getProductName();
-        String oldDescription = product.getDescription();
-        String oldCategoryName = product.getCategory() != null ? product.getCategory().getCategoryName() : null;
-        ProductStatus oldStatus = product.getStatus();
+        ProductFields current = ProductFields.of(product);
+        ProductFields read = base.get();
+        if (read == null) {
+            base.set(current);
+            read = current;
+        }
+        ProductFields target = read.apply(request);
+        Set<String> requested = read.changedFields(target);
+        Set<String> competing = read.changedFields(current);
+        if (!Collections.disjoint(requested, competing)) {
+            log.info("상품 수정 충돌 - productId: {}, 요청 필드: {}, 먼저 수정된 필드: {}", productId, requested, competing);
+            throw new BusinessException(ErrorCode.CONCURRENT_MODIFICATION);
+        }
 
-        // 카테고리 조회
-        Category category = null;
-        if (request.getCategoryId() != null) {
-            category = categoryRepository.findById(request.getCategoryId())
+        // 수정 전 스냅샷 (변경 이력용)
+        EntitySnapshot before = changeLogService.snapshot(product);
+
+        // 카테고리 조회 (요청이 카테고리를 바꾸지 않으면 현재 값 유지)
+        Category category = product.getCategory();
+        if (requested.contains(ProductFields.CATEGORY_ID)) {
+            category = target.categoryId() == null ? null : categoryRepository.findById(target.categoryId())
                     .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_NOT_FOUND));
         }
 
-        // 상품 정보 수정 (상품코드는 수정 불가)
-        product.update(request.getProductName(), request.getDescription(), category, request.getStatus());
+        // 상품 정보 수정 (상품코드는 수정 불가) - 요청이 바꾸는 필드만 반영해 다른 요청의 수정을 보존
+        product.update(
+                requested.contains(ProductFields.PRODUCT_NAME) ? target.productName() : current.productName(),
+                requested.contains(ProductFields.DESCRIPTION) ? target.description() : current.description(),
+                category,
+                requested.contains(ProductFields.STATUS) ? target.status() : null);
 
         // 변경 이력 저장
-        changeLogService.saveUpdateLog(product, oldProductName, oldDescription, oldCategoryName, oldStatus, "SYSTEM");
-        
-        log.info("상품 수정 완료 - productId: {}", productId);
+        changeLogService.saveUpdateLog(before, product, "SYSTEM");
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, ChangeType.UPDATE));
+
+        // 버전 확인(UPDATE ... WHERE version = ?)을 여기서 실행해 충돌을 재시도 대상으로 만들고 증가된 버전을 응답에 반영
+        productRepository.flush();
         return ProdDto.Response.from(product);
     }
 
     /**
-     * 상품 삭제
+     * 상품 수정 대상 필드 값 - 충돌 시 필드 단위 비교용
+     */
+    private record ProductFields(String productName, String description, Long categoryId, ProductStatus status) {
+
+        static final String PRODUCT_NAME = "productName";
+        static final String DESCRIPTION = "description";
+        static final String CATEGORY_ID = "categoryId";
+        static final String STATUS = "status";
+
+        static ProductFields of(Product product) {
+            return new ProductFields(product.getProductName(), product.getDescription(),
+                    product.getCategory() != null ? product.getCategory().getCategoryId() : null, product.getStatus());
+        }
+
+        /**
+         * 이 상태에 요청을 적용한 결과 (상태가 null이면 유지 - Product.update와 같은 규칙)
+         */
+        ProductFields apply(ProdDto.Request request) {
+            return new ProductFields(request.getProductName(), request.getDescription(), request.getCategoryId(),
+                    request.getStatus() != null ? request.getStatus() : status);
+        }
+
+        Set<String> changedFields(ProductFields other) {
+            Set<String> fields = new HashSet<>();
+            if (!Objects.equals(productName, other.productName)) {
+                fields.add(PRODUCT_NAME);
+            }
+            if (!Objects.equals(description, other.description)) {
+                fields.add(DESCRIPTION);
+            }
+            if (!Objects.equals(categoryId, other.categoryId)) {
+                fields.add(CATEGORY_ID);
+            }
+            if (status != other.status) {
+                fields.add(STATUS);
+            }
+            return fields;
+        }
+    }
+
+    /**
+     * 상품 삭제 (Soft Delete)
+     * 연관 데이터(재고, 옵션, 가격 이력, 변경 이력)는 보관 기간 이후 ProductPurgeService가 배치로 물리 삭제
      */
     @Transactional
     @com.example.spm.global.annotation.Logging(level = com.example.spm.global.annotation.Logging.LogLevel.INFO)
     public void deleteProduct(Long productId) {
         log.info("상품 삭제 - productId: {}", productId);
         
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findByProductIdAndDeletedAtIsNull(productId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.PRODUCT_NOT_FOUND));
 
         // 변경 이력 저장 (삭제 전)
         changeLogService.saveDeleteLog(product, "SYSTEM");
 
-        // 연관 데이터 확인 (재고, 옵션, 가격 이력 등)
-        // 현재는 단순 삭제, 필요시 Soft Delete나 Cascade 처리 고려
-        
-        productRepository.delete(product);
+        product.softDelete();
+        eventPublisher.publishEvent(new ProductChangedEvent(productId, ChangeType.DELETE));
         log.info("상품 삭제 완료 - productId: {}", productId);
     }
+
+    /**
+     * 상품 상태 일괄 변경 - 한 청크 처리 (비동기 작업용)
+     * afterId 이후 상품을 최대 chunkSize건 조회하여 상태를 변경하고 변경 이력을 남긴다.
+     * @return 처리한 상품 목록 (비어 있으면 처리 대상 없음)
+     */
+    @Transactional
+    public List<Long> changeStatusChunk(Long afterId, int chunkSize, ProductStatus status, Long categoryId, String changedBy) {
+        List<Product> products = productRepository.findChunkAfter(
+                afterId != null ? afterId : 0L, categoryId, PageRequest.of(0, chunkSize));
+
+        for (Product product : products) {
+            if (product.getStatus() != status) {
+                EntitySnapshot before = changeLogService.snapshot(product);
+                product.changeStatus(status);
+                changeLogService.saveUpdateLog(before, product, changedBy);
+                eventPublisher.publishEvent(new ProductChangedEvent(product.getProductId(), ChangeType.UPDATE));
+            }
+        }
+
+        return products.stream().map(Product::getProductId).toList();
+    }
+
+    /**
+     * 상태 일괄 변경 대상 건수
+     */
+    public long countProducts(Long categoryId) {
+        return productRepository.countByCategoryIdOrAll(categoryId);
+    }
+
+    /**
+     * 상품 변경 커밋 이후 검색 결과 캐시 무효화(카탈로그 버전 증가), 실행 중인 병합 조회와 분리
+     * 이후 조회가 변경 전 결과를 재사용하거나 공유받지 않도록 한다.
+     * 상세 조회는 변경된 상품의 키만, 목록 조회는 어느 결과에 포함될지 알 수 없으므로 전체를 분리한다.
+     */
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void onProductChanged(ProductChangedEvent event) {
+        searchCache.invalidate(event.productId());
+        singleFlightGroup.forget(DETAIL_FLIGHT, CoalescingKey.argsKey(event.productId()));
+        singleFlightGroup.forget(SEARCH_FLIGHT);
+    }
+
+    /**
+     * 커밋 이후에만 메모리 인덱스 반영 (롤백 시 인덱스 불일치 방지)
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
 }
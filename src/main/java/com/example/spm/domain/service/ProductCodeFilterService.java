@@ -0,0 +1,101 @@
+package com.example.spm.domain.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.domain.search.ProductCodeFilter;
+import com.example.spm.global.config.CodeFilterProperties;
+import com.example.spm.global.util.BloomFilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품코드 필터 적재 서비스 - 기동 시, 주기적으로, 용량 초과 시, 요청 시 전체 재생성
+ * 상품 테이블을 ID 키셋으로 나눠 읽으므로 상품 수와 관계없이 메모리 사용량은 필터 크기로 제한된다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductCodeFilterService {
+
+    private static final int LOAD_BATCH = 10_000;
+
+    private final ProductRepository productRepository;
+    private final ProductCodeFilter codeFilter;
+    private final CodeFilterProperties properties;
+
+    /**
+     * 필터 전체 재생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${catalog.code-filter.rebuild-cron:0 30 4 * * *}")
+    public synchronized void rebuild() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        BloomFilter next = codeFilter.beginRebuild(productRepository.count());
+        try {
+            long loaded = 0;
+            long afterId = 0L;
+            while (true) {
+                List<ProductRepository.CodeEntry> entries =
+                        productRepository.findCodeEntriesAfter(afterId, PageRequest.of(0, LOAD_BATCH));
+                entries.forEach(entry -> next.put(entry.getProductCode()));
+                loaded += entries.size();
+                if (entries.size() < LOAD_BATCH) {
+                    break;
+                }
+                afterId = entries.get(entries.size() - 1).getProductId();
+            }
+            codeFilter.finishRebuild(next);
+            log.info("상품코드 필터 적재 완료 - codes: {}, capacity: {}, bits: {}, 소요 시간: {}ms",
+                    loaded, next.capacity(), next.bitSize(), System.currentTimeMillis() - started);
+        } catch (RuntimeException e) {
+            codeFilter.abortRebuild();
+            throw e;
+        }
+    }
+
+    /**
+     * 추정 원소 수가 용량을 넘으면 재생성 (목표 오탐률 유지)
+     */
+    @Scheduled(fixedDelayString = "${catalog.code-filter.saturation-check-interval:PT5M}")
+    public void rebuildIfSaturated() {
+        if (codeFilter.isSaturated()) {
+            log.info("상품코드 필터 용량 초과 - 재생성");
+            rebuild();
+        }
+    }
+
+    /**
+     * 필터 상태 조회
+     */
+    public ProdDto.CodeFilterStatus getStatus() {
+        BloomFilter current = codeFilter.current();
+        return ProdDto.CodeFilterStatus.builder()
+                .enabled(properties.isEnabled())
+                .ready(codeFilter.isReady())
+                .capacity(current != null ? current.capacity() : 0)
+                .approximateElements(current != null ? current.approximateElementCount() : 0)
+                .bitSize(current != null ? current.bitSize() : 0)
+                .numHashes(current != null ? current.numHashes() : 0)
+                .expectedFpp(current != null ? current.expectedFpp() : 1)
+                .observedFpp(codeFilter.observedFpp())
+                .definitelyAbsent(codeFilter.definitelyAbsentCount())
+                .possiblyPresent(codeFilter.possiblyPresentCount())
+                .falsePositives(codeFilter.falsePositiveCount())
+                .lastRebuiltAt(codeFilter.lastRebuiltAt())
+                .build();
+    }
+}
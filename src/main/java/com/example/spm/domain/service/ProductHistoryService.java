@@ -0,0 +1,234 @@
+package com.example.spm.domain.service;
+
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.spm.domain.dto.ProductHistoryDto;
+import com.example.spm.domain.entity.ProductChangeLog;
+import com.example.spm.domain.entity.ProductSnapshot;
+import com.example.spm.domain.enums.ChangeValueFormat;
+import com.example.spm.domain.enums.ProductStatus;
+import com.example.spm.domain.repository.ProductChangeLogRepository;
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.domain.repository.ProductSnapshotRepository;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.config.HistoryProperties;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.reflect.TypeToken;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 이력 서비스 - 변경 이력을 재생해 특정 시점의 상품 상태를 복원
+ * 기준 시점 이전의 가장 가까운 스냅샷에서 시작해 이후 이력만 재생하므로 조회 비용은 스냅샷 이후 변경 건수에 비례한다.
+ * 스냅샷은 PRODUCT_SNAPSHOT 작업이 상품별 변경 이력 N건마다 저장한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductHistoryService {
+
+    private static final Gson GSON = new GsonBuilder()
+            .serializeNulls()
+            .setObjectToNumberStrategy(ToNumberPolicy.LONG_OR_DOUBLE)
+            .create();
+    private static final Type STATE_TYPE = new TypeToken<LinkedHashMap<String, Object>>() { }.getType();
+    private static final int REPLAY_PAGE_SIZE = 500;
+
+    private final ProductChangeLogRepository changeLogRepository;
+    private final ProductSnapshotRepository snapshotRepository;
+    private final ProductRepository productRepository;
+    private final HistoryProperties properties;
+
+    /**
+     * 스냅샷 배치 결과
+     * @param productIds 처리한 상품 ID (오름차순)
+     * @param snapshots 새로 저장한 스냅샷 수
+     */
+    public record SnapshotBatch(List<Long> productIds, long snapshots) {
+    }
+
+    /**
+     * 특정 시점의 상품 상태 조회
+     */
+    public ProductHistoryDto.Response getProductAsOf(Long productId, LocalDateTime asOf) {
+        ProductSnapshot snapshot = snapshotRepository
+                .findFirstByProductIdAndSnapshotAtLessThanEqualOrderByLastChangeLogIdDesc(productId, asOf)
+                .orElse(null);
+        ReplayState state = snapshot != null ? ReplayState.from(snapshot) : new ReplayState();
+
+        List<ProductChangeLog> logs;
+        do {
+            logs = changeLogRepository.findReplayLogs(productId, state.lastChangeLogId, asOf,
+                    PageRequest.of(0, REPLAY_PAGE_SIZE));
+            logs.forEach(state::apply);
+        } while (logs.size() == REPLAY_PAGE_SIZE);
+
+        if (state.values == null) {
+            throw new BusinessException(ErrorCode.PRODUCT_HISTORY_NOT_FOUND);
+        }
+        log.debug("상품 이력 복원 - productId: {}, asOf: {}, snapshotId: {}, replayed: {}",
+                productId, asOf, snapshot != null ? snapshot.getSnapshotId() : null, state.replayed);
+
+        return ProductHistoryDto.Response.builder()
+                .productId(productId)
+                .asOf(asOf)
+                .state(state.values)
+                .deleted(state.isDeleted())
+                .lastChangeLogId(state.lastChangeLogId)
+                .lastChangedDate(state.lastChangedDate)
+                .snapshotId(snapshot != null ? snapshot.getSnapshotId() : null)
+                .replayedChanges(state.replayed)
+                .build();
+    }
+
+    /**
+     * 상품 한 배치의 스냅샷 저장 (PRODUCT_SNAPSHOT 작업용)
+     */
+    @Transactional
+    public SnapshotBatch snapshotBatch(Long afterId, int limit) {
+        List<Long> productIds = productRepository.findIdsAfter(afterId, PageRequest.of(0, limit));
+        long snapshots = 0;
+        for (Long productId : productIds) {
+            snapshots += snapshotProduct(productId);
+        }
+        return new SnapshotBatch(productIds, snapshots);
+    }
+
+    /**
+     * 전체 상품 수 (Soft Delete 포함)
+     */
+    public long countAllProducts() {
+        return productRepository.count();
+    }
+
+    /**
+     * 최신 스냅샷 이후 변경 이력이 N건 이상 쌓였으면 N건 단위로 스냅샷 저장
+     * @return 저장한 스냅샷 수
+     */
+    private int snapshotProduct(Long productId) {
+        int every = Math.max(1, properties.getSnapshotEvery());
+        ReplayState state = snapshotRepository.findFirstByProductIdOrderByLastChangeLogIdDesc(productId)
+                .map(ReplayState::from)
+                .orElseGet(ReplayState::new);
+        LocalDateTime now = LocalDateTime.now();
+
+        int written = 0;
+        while (true) {
+            List<ProductChangeLog> logs = changeLogRepository.findReplayLogs(productId, state.lastChangeLogId, now,
+                    PageRequest.of(0, every));
+            if (logs.size() < every) {
+                return written;
+            }
+            logs.forEach(state::apply);
+            if (state.values != null) {
+                snapshotRepository.save(state.toSnapshot(productId));
+                written++;
+            }
+        }
+    }
+
+    /**
+     * 이력 재생 상태 - 스냅샷 또는 빈 상태에서 시작해 이력을 순서대로 반영
+     */
+    private static final class ReplayState {
+
+        private Map<String, Object> values;
+        private Long lastChangeLogId = 0L;
+        private LocalDateTime lastChangedDate;
+        private long changeCount;
+        private int replayed;
+
+        static ReplayState from(ProductSnapshot snapshot) {
+            ReplayState state = new ReplayState();
+            state.values = parseObject(snapshot.getState());
+            state.lastChangeLogId = snapshot.getLastChangeLogId();
+            state.lastChangedDate = snapshot.getSnapshotAt();
+            state.changeCount = snapshot.getChangeCount();
+            return state;
+        }
+
+        /**
+         * 이력 한 건 반영
+         * JSON 형식: CREATE/DELETE는 전체 스냅샷, UPDATE는 변경 필드 객체를 병합한다.
+         * TEXT 형식(엔진 도입 전 이력): UPDATE의 changedField에 원본 값을 그대로 기록한다.
+         */
+        void apply(ProductChangeLog changeLog) {
+            boolean json = changeLog.getValueFormat() == ChangeValueFormat.JSON;
+            switch (changeLog.getChangeType()) {
+                case CREATE -> {
+                    Map<String, Object> created = json ? parseObject(changeLog.getNewValue()) : null;
+                    values = created != null ? created : ensureValues();
+                }
+                case UPDATE -> applyUpdate(changeLog, json);
+                case DELETE -> {
+                    Map<String, Object> before = json ? parseObject(changeLog.getOldValue()) : null;
+                    values = before != null ? before : ensureValues();
+                    values.put("status", ProductStatus.DELETED.name());
+                    values.put("deletedAt", changeLog.getChangedDate().toString());
+                }
+            }
+            lastChangeLogId = changeLog.getChangeLogId();
+            lastChangedDate = changeLog.getChangedDate();
+            changeCount++;
+            replayed++;
+        }
+
+        private void applyUpdate(ProductChangeLog changeLog, boolean json) {
+            Map<String, Object> target = ensureValues();
+            if (json) {
+                Map<String, Object> changes = parseObject(changeLog.getNewValue());
+                if (changes != null) {
+                    target.putAll(changes);
+                }
+            } else if (changeLog.getChangedField() != null) {
+                target.put(changeLog.getChangedField(), changeLog.getNewValue());
+            }
+        }
+
+        private Map<String, Object> ensureValues() {
+            if (values == null) {
+                values = new LinkedHashMap<>();
+            }
+            return values;
+        }
+
+        boolean isDeleted() {
+            return values != null && ProductStatus.DELETED.name().equals(values.get("status"));
+        }
+
+        ProductSnapshot toSnapshot(Long productId) {
+            return ProductSnapshot.builder()
+                    .productId(productId)
+                    .lastChangeLogId(lastChangeLogId)
+                    .snapshotAt(lastChangedDate)
+                    .state(GSON.toJson(values))
+                    .changeCount(changeCount)
+                    .build();
+        }
+
+        private static Map<String, Object> parseObject(String json) {
+            if (json == null) {
+                return null;
+            }
+            try {
+                return GSON.fromJson(json, STATE_TYPE);
+            } catch (JsonParseException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.spm.domain.service;
+
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.domain.enums.JobType;
+import com.example.spm.global.config.PurgeProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 물리 삭제 스케줄러 - 비혼잡 시간대 시작 시 PRODUCT_PURGE 작업 등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductPurgeScheduler {
+
+    private final JobService jobService;
+    private final ProductPurgeService purgeService;
+    private final PurgeProperties properties;
+
+    /**
+     * 물리 삭제 작업 등록 (이미 진행 중이면 생략)
+     */
+    @Scheduled(cron = "${catalog.purge.cron:0 0 3 * * *}")
+    public void schedulePurge() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (jobService.hasActiveJob(JobType.PRODUCT_PURGE)) {
+            log.info("상품 물리 삭제 작업이 이미 진행 중입니다.");
+            return;
+        }
+        jobService.submit(JobType.PRODUCT_PURGE, Map.of(
+                "deletedBefore", purgeService.deletedBefore().toString(),
+                "windowEnd", properties.getWindowEnd().toString()));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.spm.domain.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.global.config.PurgeProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Soft Delete 상품 물리 삭제 서비스
+ * PRODUCT_PURGE 작업에서 작은 배치 단위로 호출되어 종속 데이터와 상품을 삭제한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductPurgeService {
+
+    private final ProductRepository productRepository;
+    private final PurgeProperties properties;
+
+    /**
+     * 배치 삭제 결과
+     * @param productIds 삭제된 상품 ID (오름차순)
+     * @param dependents 함께 삭제된 종속 데이터 행 수
+     */
+    public record PurgeBatch(List<Long> productIds, long dependents) {
+    }
+
+    /**
+     * 보관 기간이 지난 Soft Delete 상품 한 배치 물리 삭제
+     */
+    @Transactional
+    public PurgeBatch purgeBatch(LocalDateTime deletedBefore, Long afterId, int limit) {
+        List<Long> productIds = productRepository.findTombstoneIds(deletedBefore, afterId, limit);
+        if (productIds.isEmpty()) {
+            return new PurgeBatch(productIds, 0);
+        }
+
+        long dependents = productRepository.deleteDependents(productIds);
+        productRepository.deleteTombstones(productIds);
+        log.debug("상품 물리 삭제 - products: {}, dependents: {}", productIds.size(), dependents);
+        return new PurgeBatch(productIds, dependents);
+    }
+
+    /**
+     * 물리 삭제 기준 시각 (현재 - 보관 기간)
+     */
+    public LocalDateTime deletedBefore() {
+        return LocalDateTime.now().minus(properties.getRetention());
+    }
+}
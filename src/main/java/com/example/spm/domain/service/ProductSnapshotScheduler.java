@@ -0,0 +1,39 @@
+package com.example.spm.domain.service;
+
+import java.util.Map;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.domain.enums.JobType;
+import com.example.spm.global.config.HistoryProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 이력 스냅샷 스케줄러 - 주기적으로 PRODUCT_SNAPSHOT 작업 등록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSnapshotScheduler {
+
+    private final JobService jobService;
+    private final HistoryProperties properties;
+
+    /**
+     * 스냅샷 작업 등록 (이미 진행 중이면 생략)
+     */
+    @Scheduled(cron = "${catalog.history.snapshot-cron:0 30 2 * * *}")
+    public void scheduleSnapshot() {
+        if (!properties.isSnapshotEnabled()) {
+            return;
+        }
+        if (jobService.hasActiveJob(JobType.PRODUCT_SNAPSHOT)) {
+            log.info("상품 이력 스냅샷 작업이 이미 진행 중입니다.");
+            return;
+        }
+        jobService.submit(JobType.PRODUCT_SNAPSHOT, Map.of());
+    }
+}
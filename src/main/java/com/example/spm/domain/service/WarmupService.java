@@ -0,0 +1,355 @@
+package com.example.spm.domain.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.GenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.example.spm.domain.dto.CateDto;
+import com.example.spm.domain.dto.ChangeLogDto;
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.global.config.WarmupProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 기동 워밍업 서비스 - 준비 상태(readiness) 전환 전에 조회 요청을 재생해 JIT 컴파일과 캐시를 준비
+ *
+ * 1. 캐시 채우기: 기본 상품 목록 앞쪽 페이지, 카테고리 목록 (상품 응답/검색 결과 캐시, 카테고리 2차 캐시)
+ * 2. 요청 재생: 기록된 요청 파일 또는 합성 요청(목록 검색/상세/카테고리/변경 이력)을 여러 스레드로 반복
+ * 모든 응답은 MVC 메시지 변환기로 직렬화해 버린다 (스트리밍 JSON 변환기 포함).
+ * ApplicationReadyEvent 리스너는 동기로 실행되고 준비 상태는 리스너가 모두 끝난 뒤 전환되므로,
+ * 워밍업이 끝날 때까지 /actuator/health/readiness는 OUT_OF_SERVICE를 반환한다.
+ * 조회만 실행하며 상품이 없으면 요청 재생은 생략한다.
+ */
+@Slf4j
+@Service
+public class WarmupService {
+
+    private static final Type PRODUCT_PAGE =
+            ResolvableType.forClassWithGenerics(Page.class, ProdDto.Response.class).getType();
+    private static final Type CHANGE_LOG_PAGE =
+            ResolvableType.forClassWithGenerics(Page.class, ChangeLogDto.Response.class).getType();
+    private static final Type CATEGORY_LIST =
+            ResolvableType.forClassWithGenerics(List.class, CateDto.Response.class).getType();
+    private static final int MAX_SAMPLES = 1_000;
+
+    private final ProdService prodService;
+    private final ChangeLogService changeLogService;
+    private final CategoryService categoryService;
+    private final WarmupProperties properties;
+    private final ObjectProvider<RequestMappingHandlerAdapter> handlerAdapterProvider;
+    private final JsonMapper jsonMapper;
+    private final MeterRegistry meterRegistry;
+
+    public WarmupService(ProdService prodService, ChangeLogService changeLogService, CategoryService categoryService,
+                         WarmupProperties properties, ObjectProvider<RequestMappingHandlerAdapter> handlerAdapterProvider,
+                         JsonMapper jsonMapper, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.prodService = prodService;
+        this.changeLogService = changeLogService;
+        this.categoryService = categoryService;
+        this.properties = properties;
+        this.handlerAdapterProvider = handlerAdapterProvider;
+        this.jsonMapper = jsonMapper;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * 재생 요청 결과 - 직렬화 대상과 선언 타입
+     */
+    private record Reply(Object body, Type type) {
+    }
+
+    /**
+     * 재생 요청 한 건
+     */
+    @FunctionalInterface
+    private interface WarmupCall {
+        Reply call();
+    }
+
+    /**
+     * 워밍업 실행 - 인덱스 적재(@Order 0, 1) 이후
+     */
+    @Order(10)
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        long started = System.nanoTime();
+        long deadline = started + properties.getMaxDuration().toNanos();
+        List<HttpMessageConverter<?>> converters = messageConverters();
+
+        List<ProdDto.Response> samples = precache(converters, deadline);
+        List<WarmupCall> recorded = recordedCalls();
+        if (samples.isEmpty() && recorded.isEmpty()) {
+            log.info("워밍업 생략 - 상품 없음");
+            return;
+        }
+
+        AtomicLong calls = new AtomicLong();
+        AtomicLong failures = new AtomicLong();
+        int threads = Math.max(1, properties.getThreads());
+        try (ExecutorService executor =
+                     Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("catalog-warmup-", 0).factory())) {
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                executor.execute(() -> {
+                    for (int i = 0; i < properties.getIterations() && System.nanoTime() < deadline; i++) {
+                        WarmupCall call = recorded.isEmpty()
+                                ? syntheticCall(samples)
+                                : recorded.get((offset + i * threads) % recorded.size());
+                        replay(call, converters, calls, failures);
+                        // 상품 조회가 계속 실패하면 (DB 장애 등) 워밍업 중단
+                        if (failures.get() >= 50 && failures.get() == calls.get()) {
+                            return;
+                        }
+                    }
+                });
+            }
+        }
+
+        long elapsed = System.nanoTime() - started;
+        Timer.builder("catalog.warmup.duration")
+                .description("기동 워밍업 소요 시간")
+                .register(meterRegistry)
+                .record(Duration.ofNanos(elapsed));
+        log.info("워밍업 완료 - 요청: {}, 실패: {}, 캐시 상품: {}, 소요 시간: {}ms{}",
+                calls.get(), failures.get(), samples.size(), elapsed / 1_000_000,
+                System.nanoTime() >= deadline ? " (최대 시간 도달)" : "");
+    }
+
+    /**
+     * 기본 상품 목록 앞쪽 페이지와 카테고리 목록으로 캐시 채우기
+     * @return 합성 요청에 사용할 상품 표본
+     */
+    private List<ProdDto.Response> precache(List<HttpMessageConverter<?>> converters, long deadline) {
+        List<ProdDto.Response> samples = new ArrayList<>();
+        try {
+            write(new Reply(categoryService.getCategories(), CATEGORY_LIST), converters);
+            ProdDto.SearchCondition condition = new ProdDto.SearchCondition();
+            for (int page = 0; page < properties.getPrecachePages() && System.nanoTime() < deadline; page++) {
+                Page<ProdDto.Response> products = prodService.getProducts(condition,
+                        PageRequest.of(page, Math.max(1, properties.getPageSize())));
+                write(new Reply(products, PRODUCT_PAGE), converters);
+                if (samples.size() < MAX_SAMPLES) {
+                    samples.addAll(products.getContent());
+                }
+                if (!products.hasNext()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("워밍업 캐시 채우기 실패 - {}", e.getMessage());
+        }
+        return samples;
+    }
+
+    /**
+     * 합성 요청 - 목록 검색 50%, 상세 30%, 변경 이력 10%, 카테고리 10%
+     */
+    private WarmupCall syntheticCall(List<ProdDto.Response> samples) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        ProdDto.Response sample = samples.get(random.nextInt(samples.size()));
+        int pick = random.nextInt(100);
+        if (pick < 50) {
+            String name = sample.getProductName();
+            ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                    .productName(name != null && name.length() > 2 && random.nextBoolean() ? name.substring(0, 2) : null)
+                    .minPrice(random.nextInt(4) == 0 ? 1000.0 : null)
+                    .build();
+            int page = random.nextInt(5);
+            return () -> new Reply(prodService.getProducts(condition, PageRequest.of(page, 10)), PRODUCT_PAGE);
+        }
+        if (pick < 80) {
+            return () -> new Reply(prodService.getProduct(sample.getProductId()), ProdDto.Response.class);
+        }
+        if (pick < 90) {
+            ChangeLogDto.SearchCondition condition = ChangeLogDto.SearchCondition.builder()
+                    .productId(random.nextBoolean() ? sample.getProductId() : null)
+                    .build();
+            return () -> new Reply(changeLogService.getChangeLogs(condition, PageRequest.of(0, 10)), CHANGE_LOG_PAGE);
+        }
+        return () -> new Reply(categoryService.getCategories(), CATEGORY_LIST);
+    }
+
+    /**
+     * 기록된 요청 파일 읽기 - GET 조회 요청만 재생 (상품 목록/상세, 카테고리, 변경 이력)
+     */
+    private List<WarmupCall> recordedCalls() {
+        if (properties.getRecordedMix() == null || properties.getRecordedMix().isBlank()) {
+            return List.of();
+        }
+        List<WarmupCall> calls = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(Path.of(properties.getRecordedMix()), StandardCharsets.UTF_8)) {
+                WarmupCall call = parse(line.trim());
+                if (call != null) {
+                    calls.add(call);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("기록된 요청 파일을 읽지 못해 합성 요청 사용 - {}: {}", properties.getRecordedMix(), e.getMessage());
+        }
+        return calls;
+    }
+
+    private WarmupCall parse(String line) {
+        if (!line.startsWith("GET ")) {
+            return null;
+        }
+        try {
+            UriComponents uri = UriComponentsBuilder.fromUriString(line.substring(4).trim()).build();
+            String path = uri.getPath();
+            MultiValueMap<String, String> params = uri.getQueryParams();
+            PageRequest pageable = PageRequest.of(intParam(params, "page", 0), Math.max(1, intParam(params, "size", 10)));
+            if ("/api/products".equals(path)) {
+                ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                        .productName(param(params, "productName"))
+                        .productCode(param(params, "productCode"))
+                        .minPrice(doubleParam(params, "minPrice"))
+                        .maxPrice(doubleParam(params, "maxPrice"))
+                        .options(ProdDto.SearchCondition.parseOptions(decoded(params.get("option"))))
+                        .build();
+                return () -> new Reply(prodService.getProducts(condition, pageable), PRODUCT_PAGE);
+            }
+            if (path != null && path.matches("/api/products/\\d+")) {
+                Long productId = Long.valueOf(path.substring("/api/products/".length()));
+                return () -> new Reply(prodService.getProduct(productId), ProdDto.Response.class);
+            }
+            if ("/api/categories".equals(path)) {
+                return () -> new Reply(categoryService.getCategories(), CATEGORY_LIST);
+            }
+            if ("/api/change-logs".equals(path)) {
+                String productId = param(params, "productId");
+                String changeType = param(params, "changeType");
+                String startDate = param(params, "startDate");
+                String endDate = param(params, "endDate");
+                ChangeLogDto.SearchCondition condition = ChangeLogDto.SearchCondition.builder()
+                        .productId(productId != null ? Long.valueOf(productId) : null)
+                        .changeType(changeType != null ? ChangeType.valueOf(changeType) : null)
+                        .startDate(startDate != null ? LocalDateTime.parse(startDate) : null)
+                        .endDate(endDate != null ? LocalDateTime.parse(endDate) : null)
+                        .build();
+                return () -> new Reply(changeLogService.getChangeLogs(condition, pageable), CHANGE_LOG_PAGE);
+            }
+        } catch (RuntimeException e) {
+            log.debug("기록된 요청 무시 - {}: {}", line, e.getMessage());
+        }
+        return null;
+    }
+
+    private void replay(WarmupCall call, List<HttpMessageConverter<?>> converters, AtomicLong calls, AtomicLong failures) {
+        calls.incrementAndGet();
+        try {
+            write(call.call(), converters);
+        } catch (RuntimeException e) {
+            failures.incrementAndGet();
+            log.debug("워밍업 요청 실패 - {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 응답 직렬화 - JSON을 쓸 수 있는 첫 번째 MVC 메시지 변환기 사용 (웹 환경이 아니면 JsonMapper)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void write(Reply reply, List<HttpMessageConverter<?>> converters) {
+        Object body = reply.body();
+        if (body == null) {
+            return;
+        }
+        try {
+            for (HttpMessageConverter converter : converters) {
+                if (converter instanceof GenericHttpMessageConverter generic
+                        && generic.canWrite(reply.type(), body.getClass(), MediaType.APPLICATION_JSON)) {
+                    generic.write(body, reply.type(), MediaType.APPLICATION_JSON, new DiscardingOutputMessage());
+                    return;
+                }
+                if (converter.canWrite(body.getClass(), MediaType.APPLICATION_JSON)) {
+                    converter.write(body, MediaType.APPLICATION_JSON, new DiscardingOutputMessage());
+                    return;
+                }
+            }
+            jsonMapper.writeValue(OutputStream.nullOutputStream(), body);
+        } catch (IOException e) {
+            log.debug("워밍업 직렬화 실패 - {}", e.getMessage());
+        }
+    }
+
+    private List<HttpMessageConverter<?>> messageConverters() {
+        RequestMappingHandlerAdapter adapter = handlerAdapterProvider.getIfAvailable();
+        return adapter != null ? adapter.getMessageConverters() : List.of();
+    }
+
+    private static String param(MultiValueMap<String, String> params, String name) {
+        String value = params.getFirst(name);
+        return value == null || value.isEmpty() ? null : URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private static List<String> decoded(List<String> values) {
+        return values == null ? null : values.stream().map(value -> URLDecoder.decode(value, StandardCharsets.UTF_8)).toList();
+    }
+
+    private static int intParam(MultiValueMap<String, String> params, String name, int defaultValue) {
+        String value = param(params, name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private static Double doubleParam(MultiValueMap<String, String> params, String name) {
+        String value = param(params, name);
+        return value != null ? Double.valueOf(value) : null;
+    }
+
+    /**
+     * 직렬화 결과를 버리는 출력 메시지
+     */
+    private static final class DiscardingOutputMessage implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+
+        @Override
+        public OutputStream getBody() {
+            return OutputStream.nullOutputStream();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.spm.domain.service.job;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.spm.domain.enums.JobType;
+import com.example.spm.domain.service.ChangeLogService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기존 변경 이력 압축 마이그레이션 작업
+ * 파라미터 없음 - 전체 이력을 ID 순으로 처리하며, 통계(bytesBefore/bytesAfter/bytesSaved)로 절감량을 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeLogCompressionJobHandler implements JobHandler {
+
+    private final ChangeLogService changeLogService;
+
+    @Override
+    public JobType type() {
+        return JobType.CHANGE_LOG_COMPRESSION;
+    }
+
+    @Override
+    public Long countTotal(Map<String, String> params) {
+        return changeLogService.countAllChangeLogs();
+    }
+
+    @Override
+    public JobChunk processChunk(JobContext context, Long checkpoint, int chunkSize) {
+        ChangeLogService.CompressionChunk chunk = changeLogService.compressChunk(checkpoint, chunkSize);
+        if (chunk.rows() == 0) {
+            return JobChunk.finished(checkpoint);
+        }
+
+        context.increment("rows", chunk.rows());
+        context.increment("compressedValues", chunk.compressedValues());
+        context.increment("bytesBefore", chunk.bytesBefore());
+        context.increment("bytesAfter", chunk.bytesAfter());
+        context.increment("bytesSaved", chunk.bytesBefore() - chunk.bytesAfter());
+        return new JobChunk(chunk.lastId(), chunk.rows(), chunk.rows() < chunkSize);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.spm.domain.service.job;
+
+/**
+ * 청크 처리 결과
+ * @param nextCheckpoint 다음 청크의 시작 기준 키 (마지막 처리 키)
+ * @param processed 이번 청크에서 처리한 건수
+ * @param done 더 이상 처리할 대상이 없는지 여부
+ */
+public record JobChunk(Long nextCheckpoint, int processed, boolean done) {
+
+    public static JobChunk finished(Long checkpoint) {
+        return new JobChunk(checkpoint, 0, true);
+    }
+}
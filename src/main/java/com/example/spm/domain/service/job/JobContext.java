@@ -0,0 +1,77 @@
+package com.example.spm.domain.service.job;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 작업 실행 컨텍스트 - 파라미터와 청크 간 누적되는 통계값
+ */
+@Getter
+public class JobContext {
+
+    private final Long jobId;
+    private final Map<String, String> params;
+    private final Map<String, Long> stats;
+
+    public JobContext(Long jobId, Map<String, String> params, Map<String, Long> stats) {
+        this.jobId = jobId;
+        this.params = params != null ? params : Map.of();
+        this.stats = stats != null ? new LinkedHashMap<>(stats) : new LinkedHashMap<>();
+    }
+
+    /**
+     * 통계값 누적 (예: 삭제 건수, 절감 바이트)
+     */
+    public void increment(String key, long delta) {
+        stats.merge(key, delta, Long::sum);
+    }
+
+    /**
+     * 통계값 복사본 (청크 재시도 전 상태 보관용)
+     */
+    public Map<String, Long> copyStats() {
+        return new LinkedHashMap<>(stats);
+    }
+
+    /**
+     * 통계값 복원 - 실패한 청크 시도에서 누적된 값 제거
+     */
+    public void restoreStats(Map<String, Long> saved) {
+        stats.clear();
+        stats.putAll(saved);
+    }
+
+    public String param(String key) {
+        return params.get(key);
+    }
+
+    public static Long longParam(Map<String, String> params, String key) {
+        String value = params.get(key);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.JOB_INVALID_PARAMETER, key + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+
+    public static LocalDateTime dateTimeParam(Map<String, String> params, String key) {
+        String value = params.get(key);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value.trim());
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.JOB_INVALID_PARAMETER, key + " 값이 올바르지 않습니다: " + value);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.spm.domain.service.job;
+
+import java.util.Map;
+
+import com.example.spm.domain.enums.JobType;
+
+/**
+ * 비동기 작업 핸들러 - 작업 유형별 청크 처리 로직
+ * 각 청크는 JobService가 연 트랜잭션 안에서 호출되며, 체크포인트 갱신과 함께 커밋된다.
+ */
+public interface JobHandler {
+
+    /**
+     * 처리하는 작업 유형
+     */
+    JobType type();
+
+    /**
+     * 파라미터 검증 - 잘못된 경우 BusinessException
+     */
+    default void validate(Map<String, String> params) {
+    }
+
+    /**
+     * 전체 처리 대상 건수 (진행률 계산용, 알 수 없으면 null)
+     */
+    Long countTotal(Map<String, String> params);
+
+    /**
+     * 체크포인트 이후 한 청크 처리
+     * @param context 작업 컨텍스트 (파라미터, 누적 통계)
+     * @param checkpoint 마지막으로 처리한 키 (최초 실행 시 null)
+     * @param chunkSize 청크 크기
+     * @return 청크 처리 결과
+     */
+    JobChunk processChunk(JobContext context, Long checkpoint, int chunkSize);
+}
@@ -0,0 +1,78 @@
+package com.example.spm.domain.service.job;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.spm.domain.enums.JobType;
+import com.example.spm.domain.service.ProductPurgeService;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.config.PurgeProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Soft Delete 상품 물리 삭제 작업
+ * 파라미터: deletedBefore (선택, 기본: 현재 - 보관 기간), windowEnd (선택, HH:mm - 이 시각 이후에는 중단)
+ * 시간대 종료로 중단된 경우 남은 대상은 다음 실행에서 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductPurgeJobHandler implements JobHandler {
+
+    private final ProductPurgeService purgeService;
+    private final PurgeProperties properties;
+
+    @Override
+    public JobType type() {
+        return JobType.PRODUCT_PURGE;
+    }
+
+    @Override
+    public void validate(Map<String, String> params) {
+        JobContext.dateTimeParam(params, "deletedBefore");
+        windowEnd(params);
+    }
+
+    @Override
+    public Long countTotal(Map<String, String> params) {
+        return null;
+    }
+
+    @Override
+    public JobChunk processChunk(JobContext context, Long checkpoint, int chunkSize) {
+        LocalTime windowEnd = windowEnd(context.getParams());
+        if (windowEnd != null && LocalTime.now().isAfter(windowEnd)) {
+            context.increment("stoppedByWindow", 1);
+            return JobChunk.finished(checkpoint);
+        }
+
+        LocalDateTime deletedBefore = JobContext.dateTimeParam(context.getParams(), "deletedBefore");
+        ProductPurgeService.PurgeBatch batch = purgeService.purgeBatch(
+                deletedBefore != null ? deletedBefore : purgeService.deletedBefore(),
+                checkpoint, Math.min(chunkSize, properties.getBatchSize()));
+
+        if (batch.productIds().isEmpty()) {
+            return JobChunk.finished(checkpoint);
+        }
+        context.increment("products", batch.productIds().size());
+        context.increment("dependents", batch.dependents());
+        return new JobChunk(batch.productIds().get(batch.productIds().size() - 1), batch.productIds().size(), false);
+    }
+
+    private LocalTime windowEnd(Map<String, String> params) {
+        String value = params.get("windowEnd");
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalTime.parse(value.trim());
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.JOB_INVALID_PARAMETER, "windowEnd 값이 올바르지 않습니다: " + value);
+        }
+    }
+}
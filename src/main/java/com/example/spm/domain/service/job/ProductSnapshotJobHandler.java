@@ -0,0 +1,46 @@
+package com.example.spm.domain.service.job;
+
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.spm.domain.enums.JobType;
+import com.example.spm.domain.service.ProductHistoryService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 이력 스냅샷 작업
+ * 파라미터 없음 - 전체 상품(Soft Delete 포함)을 ID 순으로 처리하며,
+ * 최신 스냅샷 이후 변경 이력이 catalog.history.snapshot-every건 이상인 상품만 스냅샷을 저장한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductSnapshotJobHandler implements JobHandler {
+
+    private final ProductHistoryService historyService;
+
+    @Override
+    public JobType type() {
+        return JobType.PRODUCT_SNAPSHOT;
+    }
+
+    @Override
+    public Long countTotal(Map<String, String> params) {
+        return historyService.countAllProducts();
+    }
+
+    @Override
+    public JobChunk processChunk(JobContext context, Long checkpoint, int chunkSize) {
+        ProductHistoryService.SnapshotBatch batch = historyService.snapshotBatch(
+                checkpoint != null ? checkpoint : 0L, chunkSize);
+        if (batch.productIds().isEmpty()) {
+            return JobChunk.finished(checkpoint);
+        }
+
+        context.increment("products", batch.productIds().size());
+        context.increment("snapshots", batch.snapshots());
+        return new JobChunk(batch.productIds().get(batch.productIds().size() - 1), batch.productIds().size(),
+                batch.productIds().size() < chunkSize);
+    }
+}
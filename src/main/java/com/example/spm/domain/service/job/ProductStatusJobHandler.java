@@ -0,0 +1,71 @@
+package com.example.spm.domain.service.job;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.spm.domain.enums.JobType;
+import com.example.spm.domain.enums.ProductStatus;
+import com.example.spm.domain.service.ProdService;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 상태 일괄 변경 작업
+ * 파라미터: status (필수, DELETED 제외), categoryId (선택)
+ * DELETED는 deletedAt 없이 상태만 바뀌어 조회/검색에 남으므로 받지 않는다 - 삭제는 상품 삭제 API로 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductStatusJobHandler implements JobHandler {
+
+    private final ProdService prodService;
+
+    @Override
+    public JobType type() {
+        return JobType.PRODUCT_STATUS_CHANGE;
+    }
+
+    @Override
+    public void validate(Map<String, String> params) {
+        status(params);
+        JobContext.longParam(params, "categoryId");
+    }
+
+    @Override
+    public Long countTotal(Map<String, String> params) {
+        return prodService.countProducts(JobContext.longParam(params, "categoryId"));
+    }
+
+    @Override
+    public JobChunk processChunk(JobContext context, Long checkpoint, int chunkSize) {
+        List<Long> processed = prodService.changeStatusChunk(checkpoint, chunkSize, status(context.getParams()),
+                JobContext.longParam(context.getParams(), "categoryId"), "JOB-" + context.getJobId());
+
+        if (processed.isEmpty()) {
+            return JobChunk.finished(checkpoint);
+        }
+        context.increment("products", processed.size());
+        return new JobChunk(processed.get(processed.size() - 1), processed.size(), processed.size() < chunkSize);
+    }
+
+    private ProductStatus status(Map<String, String> params) {
+        String value = params.get("status");
+        if (value == null || value.isBlank()) {
+            throw new BusinessException(ErrorCode.JOB_INVALID_PARAMETER, "status 파라미터는 필수입니다.");
+        }
+        ProductStatus status;
+        try {
+            status = ProductStatus.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.JOB_INVALID_PARAMETER, "status 값이 올바르지 않습니다: " + value);
+        }
+        if (status == ProductStatus.DELETED) {
+            throw new BusinessException(ErrorCode.JOB_INVALID_PARAMETER, "DELETED 상태로는 일괄 변경할 수 없습니다.");
+        }
+        return status;
+    }
+}
@@ -12,7 +12,24 @@ public enum ErrorCode {
     CATEGORY_NOT_FOUND(HttpStatus.BAD_REQUEST, "PRODUCT_002", "카테고리를 찾을 수 없습니다."),
     INSUFFICIENT_STOCK(HttpStatus.BAD_REQUEST, "PRODUCT_003", "재고가 부족합니다."),
     PRODUCT_CODE_DUPLICATE(HttpStatus.BAD_REQUEST, "PRODUCT_004", "이미 존재하는 상품코드입니다."),
-    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER_001", "서버 내부 오류가 발생했습니다.");
+    INVALID_SEARCH_CONDITION(HttpStatus.BAD_REQUEST, "PRODUCT_005", "검색 조건이 올바르지 않습니다."),
+    PRODUCT_HISTORY_NOT_FOUND(HttpStatus.BAD_REQUEST, "PRODUCT_006", "해당 시점의 상품 이력이 없습니다."),
+    PRODUCT_VERSION_MISMATCH(HttpStatus.PRECONDITION_FAILED, "PRODUCT_007", "다른 요청이 먼저 상품을 수정했습니다. 최신 상태를 조회한 뒤 다시 시도하세요."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "PRODUCT_008", "동시 수정이 계속 충돌해 요청을 처리하지 못했습니다. 잠시 후 다시 시도하세요."),
+    OPTION_NOT_FOUND(HttpStatus.BAD_REQUEST, "OPTION_001", "옵션을 찾을 수 없습니다."),
+    OPTION_DUPLICATE(HttpStatus.BAD_REQUEST, "OPTION_002", "이미 존재하는 옵션입니다."),
+    JOB_NOT_FOUND(HttpStatus.BAD_REQUEST, "JOB_001", "작업을 찾을 수 없습니다."),
+    JOB_INVALID_STATE(HttpStatus.CONFLICT, "JOB_002", "현재 상태에서는 요청한 작업을 수행할 수 없습니다."),
+    JOB_INVALID_PARAMETER(HttpStatus.BAD_REQUEST, "JOB_003", "작업 파라미터가 올바르지 않습니다."),
+    IDEMPOTENCY_KEY_INVALID(HttpStatus.BAD_REQUEST, "IDEMPOTENCY_001", "Idempotency-Key 헤더가 없거나 올바르지 않습니다."),
+    IDEMPOTENCY_KEY_REUSED(HttpStatus.BAD_REQUEST, "IDEMPOTENCY_002", "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다."),
+    IDEMPOTENCY_IN_PROGRESS(HttpStatus.CONFLICT, "IDEMPOTENCY_003", "같은 Idempotency-Key의 요청이 처리 중입니다."),
+    IDEMPOTENCY_STORE_FULL(HttpStatus.SERVICE_UNAVAILABLE, "IDEMPOTENCY_004", "처리 중인 멱등 요청이 너무 많습니다. 잠시 후 다시 시도하세요."),
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "SERVER_001", "서버 내부 오류가 발생했습니다."),
+    SERVICE_OVERLOADED(HttpStatus.SERVICE_UNAVAILABLE, "SERVER_002", "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도하세요."),
+    RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "SERVER_003", "요청 한도를 초과했습니다. 잠시 후 다시 시도하세요."),
+    DATABASE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "SERVER_004", "데이터베이스 장애로 요청을 처리하지 못했습니다. 잠시 후 다시 시도하세요."),
+    DEADLINE_EXCEEDED(HttpStatus.GATEWAY_TIMEOUT, "SERVER_005", "요청 처리 시간이 제한을 초과했습니다.");
 
     /** HTTP 상태 코드 */
     private final HttpStatus httpStatus;
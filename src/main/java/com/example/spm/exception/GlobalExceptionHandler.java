@@ -1,12 +1,21 @@
 package com.example.spm.exception;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.context.request.WebRequest;
 
+import com.example.spm.global.bulkhead.BulkheadFullException;
+import com.example.spm.global.deadline.Deadline;
+import com.example.spm.global.resilience.CircuitOpenException;
+
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.util.Iterator;
 
 /**
@@ -32,6 +41,47 @@ public class GlobalExceptionHandler {
         return ErrorResponse.toResponseEntity(errorCode);
     }
 
+    /**
+     * 낙관적 잠금 충돌 처리 (재시도 초과) - 정상적인 경합이므로 스택 트레이스 없이 기록
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    protected ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(
+            OptimisticLockingFailureException e, WebRequest request) {
+
+        log.warn("[동시 수정 충돌] {} - 요청 정보: {}", e.getClass().getSimpleName(), getRequestInfo(request));
+        return ErrorResponse.toResponseEntity(ErrorCode.CONCURRENT_MODIFICATION);
+    }
+
+    /**
+     * 격벽 할당량 초과 처리 - 503과 Retry-After(초)로 응답 (거절 로그는 격벽에서 기록)
+     */
+    @ExceptionHandler(BulkheadFullException.class)
+    protected ResponseEntity<ErrorResponse> handleBulkheadFull(BulkheadFullException e) {
+        return withRetryAfter(e.getErrorCode(), e.getRetryAfter());
+    }
+
+    /**
+     * 회로 차단(대체 결과 없음) 처리 - 503과 차단기 열림 남은 시간으로 Retry-After 응답
+     */
+    @ExceptionHandler(CircuitOpenException.class)
+    protected ResponseEntity<ErrorResponse> handleCircuitOpen(CircuitOpenException e, WebRequest request) {
+        log.warn("[회로 차단] {} - 요청 정보: {}", e.getMessage(), getRequestInfo(request));
+        return withRetryAfter(e.getErrorCode(), e.getRetryAfter());
+    }
+
+    /**
+     * 요청 데드라인 초과 처리 - 쿼리 타임아웃 또는 데드라인 초과로 연결을 받지 못한 경우 504
+     * 데드라인과 무관한 연결 획득 실패는 일반 예외로 처리한다.
+     */
+    @ExceptionHandler({QueryTimeoutException.class, CannotCreateTransactionException.class})
+    protected ResponseEntity<ErrorResponse> handleDeadlineExceeded(Exception e, WebRequest request) {
+        if (!(e instanceof QueryTimeoutException) && !Deadline.currentExpired()) {
+            return handleException(e, request);
+        }
+        log.warn("[데드라인 초과] {} - 요청 정보: {}", e.getClass().getSimpleName(), getRequestInfo(request));
+        return ErrorResponse.toResponseEntity(ErrorCode.DEADLINE_EXCEEDED);
+    }
+
     /**
      * 일반 Exception 처리
      */
@@ -59,6 +109,17 @@ public class GlobalExceptionHandler {
         return ErrorResponse.toResponseEntity(ErrorCode.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Retry-After(초, 올림) 헤더를 붙인 에러 응답
+     */
+    private ResponseEntity<ErrorResponse> withRetryAfter(ErrorCode errorCode, Duration retryAfter) {
+        ResponseEntity<ErrorResponse> response = ErrorResponse.toResponseEntity(errorCode);
+        long retryAfterSeconds = Math.max(1, (retryAfter.toMillis() + 999) / 1000);
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(response.getBody());
+    }
+
     /**
      * 요청 정보 추출
      */
@@ -0,0 +1,94 @@
+package com.example.spm.global.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 적응형 동시 실행 제한 - AIMD(Additive Increase, Multiplicative Decrease)
+ *
+ * 응답 시간은 지수 이동 평균(EWMA)으로 평활해 임계값과 비교하므로, 느린 응답 한 건으로는 한도가 줄지 않는다.
+ * 평활 응답 시간이 임계값을 넘거나 과부하 응답이면 한도를 비율만큼 줄이되, 감소는 평활 응답 시간당 한 번으로 제한한다
+ * (이전 한도에서 시작한 요청들이 연달아 끝나며 한도를 거듭 깎지 않도록).
+ * 한도의 절반 이상을 사용 중인 상태에서 정상 응답이면 한도를 1/한도씩 늘린다 - 한도만큼 성공해야 1 증가.
+ * 커넥션 풀이 포화되면 응답 시간이 먼저 늘어나므로, 풀이 고갈되기 전에 동시 실행 수를 줄인다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+    private double smoothedLatencyNanos = -1;
+    private long lastDecreaseNanos;
+    private boolean decreased;
+
+    /**
+     * @param smoothing 응답 시간 평활 계수 (0~1, 클수록 최근 응답 비중이 큼)
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      long latencyThresholdNanos, double backoffRatio, double smoothing) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.smoothing = Math.min(1, Math.max(0.01, smoothing));
+        this.limit = Math.min(this.maxLimit, Math.max(this.minLimit, initialLimit));
+    }
+
+    /**
+     * 실행 시작 - 한도에 도달했으면 -1, 아니면 시작 시점의 실행 중 요청 수
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return -1;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * 실행 종료 - 응답 시간과 과부하 여부로 한도 조정
+     * @param inFlightAtStart tryAcquire 반환값
+     */
+    public void release(int inFlightAtStart, long latencyNanos, boolean overloaded) {
+        release(inFlightAtStart, latencyNanos, overloaded, System.nanoTime());
+    }
+
+    void release(int inFlightAtStart, long latencyNanos, boolean overloaded, long nowNanos) {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            smoothedLatencyNanos = smoothedLatencyNanos < 0 ? latencyNanos
+                    : smoothedLatencyNanos + smoothing * (latencyNanos - smoothedLatencyNanos);
+            if (overloaded || smoothedLatencyNanos > latencyThresholdNanos) {
+                if (!decreased || nowNanos - lastDecreaseNanos >= (long) smoothedLatencyNanos) {
+                    limit = Math.max(minLimit, limit * backoffRatio);
+                    lastDecreaseNanos = nowNanos;
+                    decreased = true;
+                }
+            } else if (inFlightAtStart * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 평활 응답 시간 (응답이 없었으면 0)
+     */
+    public synchronized long getSmoothedLatencyNanos() {
+        return Math.max(0, (long) smoothedLatencyNanos);
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.spm.global.admission;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.exception.ErrorResponse;
+import com.example.spm.global.config.AdmissionProperties;
+import com.example.spm.global.util.ClientIpUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 요청 수용 제어 필터 - /api/** 요청을 컨트롤러 전에 거절해 DB 풀 포화를 막는다
+ *
+ * 1. 요청 한도: (클라이언트, 엔드포인트 분류)별 토큰 버킷. 가격 조건·깊은 페이지 검색은 비용을 더 소모한다.
+ *    초과 시 429 + Retry-After
+ * 2. 적응형 동시 실행 제한: 평활 응답 시간 기반 AIMD 한도 (reporting 분류는 격벽으로 따로 보호하므로 제외)
+ *    초과 시 503 + Retry-After
+ * 클라이언트는 ClientIdentityFilter가 해석한 식별자(등록된 API 키 또는 신뢰할 프록시 기준 클라이언트 IP)로 구분한다.
+ * 메트릭: catalog.admission.rejected{reason, endpoint}, catalog.admission.concurrency.{limit, inflight}
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    /** 남은 요청 비용 응답 헤더 */
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final AdmissionProperties properties;
+    private final JsonMapper jsonMapper;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlFilter(AdmissionProperties properties, JsonMapper jsonMapper,
+                                  ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+        this.rateLimiter = new TokenBucketRateLimiter(properties.getMaxClients());
+        AdmissionProperties.Concurrency concurrency = properties.getConcurrency();
+        this.concurrencyLimiter = new AdaptiveConcurrencyLimiter(concurrency.getInitialLimit(),
+                concurrency.getMinLimit(), concurrency.getMaxLimit(),
+                concurrency.getLatencyThreshold().toNanos(), concurrency.getBackoffRatio(),
+                concurrency.getLatencySmoothing());
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        Gauge.builder("catalog.admission.concurrency.limit", concurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("적응형 동시 실행 한도")
+                .register(meterRegistry);
+        Gauge.builder("catalog.admission.concurrency.inflight", concurrencyLimiter,
+                        AdaptiveConcurrencyLimiter::getInFlight)
+                .description("실행 중인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("catalog.admission.clients", rateLimiter, TokenBucketRateLimiter::size)
+                .description("요청 한도를 추적 중인 (클라이언트, 분류) 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/")
+                || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = EndpointClassifier.classify(request);
+        AdmissionProperties.Limit limit = properties.getLimits().get(endpoint);
+        if (limit != null) {
+            TokenBucketRateLimiter.Decision decision = rateLimiter.tryAcquire(ClientIpUtils.getClientId(request) + "|" + endpoint,
+                    limit.getRatePerSecond(), limit.getBurst(), cost(request, endpoint));
+            if (!decision.allowed()) {
+                reject(response, "rate_limit", endpoint, ErrorCode.RATE_LIMIT_EXCEEDED,
+                        Duration.ofNanos(decision.retryAfterNanos()));
+                return;
+            }
+            response.setHeader(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        }
+
+        AdmissionProperties.Concurrency concurrency = properties.getConcurrency();
+        if (!concurrency.isEnabled() || EndpointClassifier.REPORTING.equals(endpoint)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        int inFlight = concurrencyLimiter.tryAcquire();
+        if (inFlight < 0) {
+            reject(response, "concurrency", endpoint, ErrorCode.SERVICE_OVERLOADED, concurrency.getRetryAfter());
+            return;
+        }
+        long started = System.nanoTime();
+        boolean overloaded = true;
+        try {
+            filterChain.doFilter(request, response);
+            overloaded = response.getStatus() == HttpStatus.SERVICE_UNAVAILABLE.value();
+        } finally {
+            concurrencyLimiter.release(inFlight, System.nanoTime() - started, overloaded);
+        }
+    }
+
+    /**
+     * 유휴 클라이언트 버킷 정리
+     */
+    @Scheduled(fixedDelayString = "${catalog.admission.cleanup-interval:PT1M}")
+    public void evictIdleClients() {
+        rateLimiter.evictIdle();
+    }
+
+    /**
+     * 요청 비용 - 검색은 가격 조건과 페이지 깊이에 따라 증가
+     */
+    private int cost(HttpServletRequest request, String endpoint) {
+        if (!EndpointClassifier.SEARCH.equals(endpoint)) {
+            return 1;
+        }
+        int cost = 1;
+        if (request.getParameter("minPrice") != null || request.getParameter("maxPrice") != null) {
+            cost += properties.getPriceFilterCost();
+        }
+        long offset = (long) parseInt(request.getParameter("page"), 0) * parseInt(request.getParameter("size"), 10);
+        cost += (int) Math.min(Integer.MAX_VALUE, offset / Math.max(1, properties.getDeepPageOffset()));
+        return cost;
+    }
+
+    private void reject(HttpServletResponse response, String reason, String endpoint, ErrorCode errorCode,
+                        Duration retryAfter) throws IOException {
+        Counter.builder("catalog.admission.rejected")
+                .description("수용 제어로 거절한 요청 수")
+                .tag("reason", reason)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry)
+                .increment();
+        log.debug("요청 거절 - reason: {}, endpoint: {}, retryAfter: {}", reason, endpoint, retryAfter);
+
+        response.setStatus(errorCode.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfter.toNanos() + 999_999_999L))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        jsonMapper.writeValue(response.getOutputStream(), ErrorResponse.toResponseEntity(errorCode).getBody());
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value));
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.spm.global.admission;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * API 엔드포인트 분류 - 요청 한도, 데드라인 설정과 메트릭 태그에 공통으로 사용
+ * search: 상품 목록 검색, reporting: 변경 이력/상품 이력, write: 변경 요청, read: 그 외 조회
+ */
+public final class EndpointClassifier {
+
+    public static final String SEARCH = "search";
+    public static final String READ = "read";
+    public static final String WRITE = "write";
+    public static final String REPORTING = "reporting";
+
+    private EndpointClassifier() {
+    }
+
+    public static String classify(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        if (uri.startsWith("/api/change-logs") || (uri.startsWith("/api/products/") && uri.endsWith("/history"))) {
+            return REPORTING;
+        }
+        if (!"GET".equals(request.getMethod())) {
+            return WRITE;
+        }
+        if (uri.equals("/api/products") || uri.equals("/api/products/faceted")) {
+            return SEARCH;
+        }
+        return READ;
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.spm.global.admission;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 - GCRA(Generic Cell Rate Algorithm) 방식
+ *
+ * 키별로 "이론적 도착 시각(TAT)" 하나만 AtomicLong으로 저장하고 CAS로 갱신한다.
+ * 비용 c인 요청은 TAT를 c * 발급 간격만큼 밀어내며, 밀린 TAT가 현재 시각 + 버킷 크기를 넘으면 거절한다.
+ * 버킷이 가득 찬(TAT가 지난) 키는 evictIdle로 정리한다.
+ * 추적하는 키 수는 maxKeys로 제한한다 - 가득 차면 유휴 키를 정리하고, 그래도 자리가 없으면 새 키의 요청은 거절한다
+ * (이미 추적 중인 키는 영향 없음, 동시 추가로 잠시 넘칠 수 있는 근사 한도).
+ */
+public class TokenBucketRateLimiter {
+
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int maxKeys;
+
+    public TokenBucketRateLimiter(int maxKeys) {
+        this.maxKeys = Math.max(1, maxKeys);
+    }
+
+    /**
+     * 판정 결과
+     * @param allowed 허용 여부
+     * @param remaining 남은 비용 (허용 시)
+     * @param retryAfterNanos 재시도까지 대기 시간 (거절 시)
+     */
+    public record Decision(boolean allowed, long remaining, long retryAfterNanos) {
+    }
+
+    /**
+     * 비용만큼 토큰 사용 시도
+     */
+    public Decision tryAcquire(String key, double ratePerSecond, int burst, int cost) {
+        long interval = (long) (1_000_000_000L / ratePerSecond);
+        long tolerance = interval * burst;
+        long increment = interval * Math.min(cost, burst);
+        long now = System.nanoTime();
+        AtomicLong tat = buckets.get(key);
+        if (tat == null) {
+            if (buckets.size() >= maxKeys) {
+                evictIdle();
+                if (buckets.size() >= maxKeys) {
+                    return new Decision(false, 0, interval);
+                }
+            }
+            tat = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long next = Math.max(current, now) + increment;
+            long allowAt = next - tolerance;
+            if (allowAt > now) {
+                return new Decision(false, 0, allowAt - now);
+            }
+            if (tat.compareAndSet(current, next)) {
+                return new Decision(true, (tolerance - (next - now)) / interval, 0);
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬 키 제거
+     * 제거 직후 같은 키가 들어와도 가득 찬 버킷으로 새로 시작하므로 결과가 같다.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().get() <= now);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.spm.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 격벽(bulkhead) 지정 어노테이션 - 실행 중 DB 연결을 사용할 동시 실행 할당량 선택
+ * 클래스에 붙이면 모든 메서드에 적용되고, 메서드에 붙인 값이 우선한다.
+ * 이미 다른 격벽 안에서 실행 중이면 바깥 격벽의 할당량을 그대로 사용한다.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Bulkhead {
+
+    /** 상품 조회/수정 등 사용자 요청 */
+    String INTERACTIVE = "interactive";
+
+    /** 변경 이력 기간 조회, 이력 재생 등 무거운 조회 */
+    String REPORTING = "reporting";
+
+    /** 일괄 작업 청크, 인덱스 재생성 */
+    String BATCH = "batch";
+
+    /**
+     * 격벽 이름 (catalog.bulkhead.compartments.{이름})
+     */
+    String value();
+}
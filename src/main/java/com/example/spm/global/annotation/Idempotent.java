@@ -0,0 +1,20 @@
+package com.example.spm.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 멱등 요청 어노테이션 - Idempotency-Key 헤더가 있으면 같은 키의 재시도에 저장된 응답을 반환
+ * ResponseEntity를 반환하는 컨트롤러 메서드에 사용한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Idempotent {
+
+    /**
+     * 헤더 필수 여부 (기본값: false - 헤더가 없으면 일반 요청으로 처리)
+     */
+    boolean required() default false;
+}
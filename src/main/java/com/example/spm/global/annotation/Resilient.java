@@ -0,0 +1,23 @@
+package com.example.spm.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 장애 대비 어노테이션 - 회로 차단기로 보호하고, 장애 중에는 마지막 정상 결과(stale)를 대신 반환
+ * 결과를 인자별로 보관하므로 반환값이 인자만으로 결정되는 조회 메서드에만 사용한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Resilient {
+
+    /** 카탈로그 DB */
+    String DATABASE = "database";
+
+    /**
+     * 회로 차단기 이름 (catalog.resilience.breakers.{이름})
+     */
+    String value() default DATABASE;
+}
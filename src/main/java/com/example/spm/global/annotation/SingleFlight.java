@@ -0,0 +1,21 @@
+package com.example.spm.global.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 동일 조회 병합 어노테이션 - 같은 인자로 동시에 들어온 호출을 한 번만 실행하고 결과를 공유
+ * 결과 객체를 여러 호출자가 공유하므로 반환값을 변경하지 않는 조회 메서드에만 사용한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    /**
+     * 병합 그룹 이름 (메트릭 태그, 변경 시 SingleFlightGroup.forget 대상) - 메서드마다 고유해야 한다
+     * 그룹 안의 키는 인자 목록(CoalescingKey.argsKey)이므로 호출 측에서 특정 키만 forget할 수 있다.
+     */
+    String value();
+}
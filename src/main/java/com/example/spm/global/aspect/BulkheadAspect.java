@@ -0,0 +1,52 @@
+package com.example.spm.global.aspect;
+
+import java.lang.reflect.Method;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.global.annotation.Bulkhead;
+import com.example.spm.global.bulkhead.BulkheadRegistry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 격벽 AOP - @Bulkhead 클래스/메서드 실행을 해당 격벽 할당량 안에서 수행
+ * 트랜잭션 시작(커넥션 획득) 전에 할당량을 얻도록 트랜잭션 어드바이스보다 먼저 실행한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class BulkheadAspect {
+
+    private final BulkheadRegistry bulkheadRegistry;
+
+    @Around("@within(com.example.spm.global.annotation.Bulkhead) || @annotation(com.example.spm.global.annotation.Bulkhead)")
+    public Object handle(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (BulkheadRegistry.Permit permit = bulkheadRegistry.acquire(resolve(joinPoint))) {
+            return joinPoint.proceed();
+        }
+    }
+
+    /**
+     * 메서드 어노테이션 우선, 없으면 클래스 어노테이션
+     */
+    private String resolve(ProceedingJoinPoint joinPoint) {
+        Class<?> targetClass = AopUtils.getTargetClass(joinPoint.getTarget());
+        Method method = AopUtils.getMostSpecificMethod(
+                ((MethodSignature) joinPoint.getSignature()).getMethod(), targetClass);
+        Bulkhead bulkhead = AnnotatedElementUtils.findMergedAnnotation(method, Bulkhead.class);
+        if (bulkhead == null) {
+            bulkhead = AnnotatedElementUtils.findMergedAnnotation(targetClass, Bulkhead.class);
+        }
+        return bulkhead.value();
+    }
+}
@@ -10,6 +10,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import com.example.spm.global.util.ClientIpUtils;
+
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
@@ -49,7 +51,7 @@ public class ControllerLoggingAspect {
         String httpMethod = request.getMethod();
         String requestURI = request.getRequestURI();
         String queryString = request.getQueryString();
-        String clientIP = getClientIP(request);
+        String clientIP = ClientIpUtils.getClientIP(request);
         
         // 요청 파라미터
         Map<String, String[]> parameterMap = request.getParameterMap();
@@ -87,21 +89,4 @@ public class ControllerLoggingAspect {
             throw e;
         }
     }
-
-    /**
-     * 클라이언트 IP 주소 추출
-     */
-    private String getClientIP(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        return ip;
-    }
 }
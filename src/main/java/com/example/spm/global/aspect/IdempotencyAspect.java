@@ -0,0 +1,154 @@
+package com.example.spm.global.aspect;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.annotation.Idempotent;
+import com.example.spm.global.config.IdempotencyProperties;
+import com.example.spm.global.idempotency.IdempotencyRecord;
+import com.example.spm.global.idempotency.IdempotencyStore;
+import com.example.spm.global.util.ClientIpUtils;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 멱등 요청 AOP - @Idempotent 컨트롤러 메서드의 재시도를 저장된 응답으로 처리
+ *
+ * 키는 (클라이언트, HTTP 메서드, URI, Idempotency-Key) 단위이며, 요청 인자 해시가 다르면 키 재사용으로 거부한다.
+ * 클라이언트는 ClientIdentityFilter가 해석한 식별자이므로 다른 클라이언트가 같은 키를 보내도 응답을 공유하지 않는다.
+ * 성공(2xx) 응답만 저장하고, 실패하면 키를 해제해 같은 키로 다시 시도할 수 있게 한다.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class IdempotencyAspect {
+
+    /** 재응답 여부 표시 헤더 */
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyStore store;
+    private final IdempotencyProperties properties;
+    private final JsonMapper jsonMapper;
+
+    @Around("@annotation(idempotent)")
+    public Object handle(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (!properties.isEnabled() || attributes == null) {
+            return joinPoint.proceed();
+        }
+
+        HttpServletRequest request = attributes.getRequest();
+        String idempotencyKey = request.getHeader(properties.getHeader());
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            if (idempotent.required()) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_INVALID);
+            }
+            return joinPoint.proceed();
+        }
+        if (idempotencyKey.length() > properties.getMaxKeyLength()) {
+            throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_INVALID);
+        }
+
+        String key = ClientIpUtils.getClientId(request) + " " + request.getMethod() + " " + request.getRequestURI()
+                + " " + idempotencyKey;
+        String fingerprint = fingerprint(joinPoint.getArgs());
+        Optional<IdempotencyRecord> existing = store.reserve(key,
+                IdempotencyRecord.inProgress(fingerprint, Instant.now().plus(properties.getLockTimeout())));
+
+        if (existing.isPresent()) {
+            IdempotencyRecord record = existing.get();
+            if (!record.fingerprint().equals(fingerprint)) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+            }
+            if (!record.isCompleted()) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+            }
+            log.info("멱등 요청 재응답 - key: {}, status: {}", key, record.status());
+            return replay(record, (MethodSignature) joinPoint.getSignature());
+        }
+
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            store.release(key);
+            throw e;
+        }
+        save(key, fingerprint, result);
+        return result;
+    }
+
+    /**
+     * 성공 응답 저장 (저장 실패는 응답에 영향을 주지 않고 키만 해제)
+     */
+    private void save(String key, String fingerprint, Object result) {
+        if (!(result instanceof ResponseEntity<?> response) || !response.getStatusCode().is2xxSuccessful()) {
+            store.release(key);
+            return;
+        }
+        try {
+            String body = response.hasBody() ? jsonMapper.writeValueAsString(response.getBody()) : null;
+            store.complete(key, new IdempotencyRecord(fingerprint, response.getStatusCode().value(),
+                    response.getHeaders().getETag(), body, Instant.now().plus(properties.getTtl())));
+        } catch (RuntimeException e) {
+            log.warn("멱등 응답 저장 실패 - key: {}, 원인: {}", key, e.getMessage());
+            store.release(key);
+        }
+    }
+
+    private ResponseEntity<Object> replay(IdempotencyRecord record, MethodSignature signature) {
+        Object body = null;
+        if (record.body() != null) {
+            Type bodyType = ResolvableType.forMethodReturnType(signature.getMethod()).getGeneric(0).getType();
+            body = jsonMapper.readValue(record.body(), jsonMapper.getTypeFactory().constructType(bodyType));
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(record.status()).header(REPLAYED_HEADER, "true");
+        if (record.etag() != null) {
+            builder.eTag(record.etag());
+        }
+        return builder.body(body);
+    }
+
+    /**
+     * 요청 인자(경로 변수, 본문 등) 해시 - 서블릿/검증 객체는 제외
+     */
+    private String fingerprint(Object[] args) {
+        List<Object> values = Arrays.stream(args)
+                .filter(arg -> !(arg instanceof ServletRequest || arg instanceof ServletResponse
+                        || arg instanceof BindingResult))
+                .toList();
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(
+                    jsonMapper.writeValueAsString(values).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
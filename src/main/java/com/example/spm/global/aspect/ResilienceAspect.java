@@ -0,0 +1,176 @@
+package com.example.spm.global.aspect;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.example.spm.global.annotation.Resilient;
+import com.example.spm.global.concurrency.CoalescingKey;
+import com.example.spm.global.config.ResilienceProperties;
+import com.example.spm.global.deadline.Deadline;
+import com.example.spm.global.resilience.CircuitBreaker;
+import com.example.spm.global.resilience.CircuitBreakerRegistry;
+import com.example.spm.global.resilience.CircuitOpenException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 장애 대비 AOP - @Resilient 조회를 회로 차단기로 보호하고 장애 중에는 마지막 정상 결과를 반환
+ *
+ * 1. 차단기 열림: DB를 호출하지 않고 마지막 정상 결과를 즉시 반환 (없으면 503 + Retry-After)
+ * 2. 반열림 시험 호출: 마지막 정상 결과가 있으면 먼저 반환하고 시험 호출은 백그라운드에서 실행해 결과를 갱신
+ * 3. 닫힘 상태에서 DB 오류: 마지막 정상 결과가 있으면 오류 대신 반환
+ * 마지막 정상 결과로 응답하면 X-Data-Stale: true와 Age(초) 헤더를 붙인다.
+ * 결과는 (메서드, 인자) 키로 보관하며 CoalescingKey를 구현한 인자는 정규화된 키를 사용한다.
+ * 트랜잭션 시작 전에 판단하도록 트랜잭션 어드바이스보다 먼저 실행하고, 이미 트랜잭션 안이면 적용하지 않는다.
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ResilienceAspect implements DisposableBean {
+
+    /** 마지막 정상 결과 응답 표시 헤더 */
+    public static final String STALE_HEADER = "X-Data-Stale";
+
+    private final ResilienceProperties properties;
+    private final CircuitBreakerRegistry breakerRegistry;
+    private final Cache<List<Object>, StaleEntry> staleResults;
+    private final ExecutorService revalidator =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("catalog-revalidate-", 0).factory());
+
+    /**
+     * 마지막 정상 결과와 저장 시각
+     */
+    private record StaleEntry(Object value, long storedAtMillis) {
+    }
+
+    public ResilienceAspect(ResilienceProperties properties, CircuitBreakerRegistry breakerRegistry) {
+        this.properties = properties;
+        this.breakerRegistry = breakerRegistry;
+        this.staleResults = Caffeine.newBuilder()
+                .maximumSize(properties.getStaleMaxEntries())
+                .expireAfterWrite(properties.getStaleTtl())
+                .build();
+    }
+
+    @Around("@annotation(resilient)")
+    public Object handle(ProceedingJoinPoint joinPoint, Resilient resilient) throws Throwable {
+        if (!properties.isEnabled() || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+
+        String name = resilient.value();
+        CircuitBreaker breaker = breakerRegistry.get(name);
+        List<Object> key = CoalescingKey.keyOf(joinPoint.getSignature().toLongString(), joinPoint.getArgs());
+        CircuitBreaker.Permission permission = breaker.acquire();
+
+        if (permission == CircuitBreaker.Permission.REJECTED) {
+            breakerRegistry.count(name, "rejected");
+            StaleEntry stale = staleResults.getIfPresent(key);
+            if (stale == null) {
+                throw new CircuitOpenException(name, breaker.remainingOpen());
+            }
+            return serveStale(name, stale);
+        }
+
+        if (permission == CircuitBreaker.Permission.TRIAL) {
+            StaleEntry stale = staleResults.getIfPresent(key);
+            if (stale != null) {
+                revalidator.execute(() -> revalidate(joinPoint, name, breaker, key));
+                return serveStale(name, stale);
+            }
+        }
+
+        try {
+            return invoke(joinPoint, name, breaker, permission, key);
+        } catch (DataAccessException | TransactionException e) {
+            StaleEntry stale = staleResults.getIfPresent(key);
+            if (stale == null) {
+                throw e;
+            }
+            log.warn("DB 오류 - 마지막 정상 결과로 응답: {} - {}",
+                    joinPoint.getSignature().toShortString(), e.getMessage());
+            return serveStale(name, stale);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        revalidator.close();
+    }
+
+    /**
+     * 차단기 결과 기록과 함께 실행 - 성공하면 마지막 정상 결과 갱신
+     */
+    private Object invoke(ProceedingJoinPoint joinPoint, String name, CircuitBreaker breaker,
+                          CircuitBreaker.Permission permission, List<Object> key) throws Throwable {
+        long started = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (DataAccessException | TransactionException e) {
+            if (Deadline.currentExpired()) {
+                // 클라이언트 데드라인 초과는 DB 장애가 아니므로 실패 대신 (느린) 호출로 기록
+                breaker.onSuccess(permission, System.nanoTime() - started);
+                breakerRegistry.count(name, "deadline");
+                throw e;
+            }
+            breaker.onFailure(permission);
+            breakerRegistry.count(name, "failure");
+            throw e;
+        } catch (Throwable e) {
+            // 비즈니스 예외 등은 DB가 정상 응답한 것으로 본다
+            breaker.onSuccess(permission, System.nanoTime() - started);
+            throw e;
+        }
+
+        boolean slow = breaker.onSuccess(permission, System.nanoTime() - started);
+        breakerRegistry.count(name, slow ? "slow" : "success");
+        if (result != null) {
+            staleResults.put(key, new StaleEntry(result, System.currentTimeMillis()));
+        }
+        return result;
+    }
+
+    /**
+     * 백그라운드 시험 호출 - 결과는 마지막 정상 결과로만 반영
+     */
+    private void revalidate(ProceedingJoinPoint joinPoint, String name, CircuitBreaker breaker, List<Object> key) {
+        try {
+            invoke(joinPoint, name, breaker, CircuitBreaker.Permission.TRIAL, key);
+        } catch (Throwable e) {
+            log.debug("백그라운드 재검증 실패 - {}: {}", name, e.getMessage());
+        }
+    }
+
+    private Object serveStale(String name, StaleEntry stale) {
+        breakerRegistry.count(name, "stale");
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null) {
+                response.setHeader(STALE_HEADER, "true");
+                response.setHeader(HttpHeaders.AGE,
+                        String.valueOf(Math.max(0, (System.currentTimeMillis() - stale.storedAtMillis()) / 1000)));
+            }
+        }
+        return stale.value();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.spm.global.aspect;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.spm.global.annotation.SingleFlight;
+import com.example.spm.global.concurrency.CoalescingKey;
+import com.example.spm.global.concurrency.SingleFlightGroup;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 동일 조회 병합 AOP - @SingleFlight 메서드의 동시 호출을 (메서드, 인자) 키로 병합
+ *
+ * 그룹 이름이 메서드를 구분하므로 키는 인자 목록이며(CoalescingKey.argsKey), 한 이름을 여러 메서드가 쓰면 예외로 거부한다.
+ * CoalescingKey를 구현한 인자는 정규화된 키를, 나머지는 인자 값을 그대로 사용한다.
+ * 기다리는 호출이 DB 연결을 잡지 않도록 트랜잭션 어드바이스보다 먼저 실행하며,
+ * 이미 트랜잭션 안에서 호출되면 트랜잭션 격리를 지키기 위해 병합하지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@RequiredArgsConstructor
+public class SingleFlightAspect {
+
+    private final SingleFlightGroup singleFlightGroup;
+    private final Map<String, String> owners = new ConcurrentHashMap<>();
+
+    @Around("@annotation(singleFlight)")
+    public Object handle(ProceedingJoinPoint joinPoint, SingleFlight singleFlight) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String method = joinPoint.getSignature().toLongString();
+        String owner = owners.computeIfAbsent(singleFlight.value(), name -> method);
+        if (!owner.equals(method)) {
+            throw new IllegalStateException("@SingleFlight 그룹 이름 중복: " + singleFlight.value()
+                    + " (" + owner + ", " + method + ")");
+        }
+        List<Object> key = CoalescingKey.argsKey(joinPoint.getArgs());
+        return singleFlightGroup.execute(singleFlight.value(), key, joinPoint::proceed);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.spm.global.bulkhead;
+
+import java.time.Duration;
+
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+
+/**
+ * 격벽 할당량 초과 - 대기 한도 또는 대기 시간을 넘어 실행하지 않고 거절
+ */
+public class BulkheadFullException extends BusinessException {
+
+    /** 격벽 이름 */
+    private final String bulkhead;
+
+    /** 재시도 권장 대기 시간 */
+    private final Duration retryAfter;
+
+    public BulkheadFullException(String bulkhead, Duration retryAfter) {
+        super(ErrorCode.SERVICE_OVERLOADED, "격벽 할당량 초과: " + bulkhead);
+        this.bulkhead = bulkhead;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.spm.global.bulkhead;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.global.config.BulkheadProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 격벽 레지스트리 - 트래픽 종류(대화형, 리포팅, 일괄)별로 DB 작업 동시 실행 수를 분리
+ *
+ * 모든 작업이 하나의 커넥션 풀을 공유하므로, 격벽별 공정 세마포어로 동시 실행 수를 나눠
+ * 무거운 조회나 일괄 작업이 풀을 모두 점유해 대화형 요청이 연결을 기다리는 상황을 막는다.
+ * 할당량이 없으면 queueTimeout까지 대기하고, 대기 요청이 maxWaiting 이상이면 즉시 거절한다.
+ * 한 스레드는 하나의 격벽만 점유하며, 중첩 호출은 바깥 격벽의 할당량을 그대로 사용한다.
+ * 메트릭: catalog.bulkhead.active/waiting/limit (게이지), catalog.bulkhead.rejected, catalog.bulkhead.wait
+ */
+@Slf4j
+@Component
+public class BulkheadRegistry {
+
+    private static final ThreadLocal<Compartment> CURRENT = new ThreadLocal<>();
+
+    private final boolean enabled;
+    private final Map<String, Compartment> compartments = new LinkedHashMap<>();
+
+    public BulkheadRegistry(BulkheadProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.enabled = properties.isEnabled();
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        properties.getCompartments().forEach((name, config) ->
+                compartments.put(name, new Compartment(name, config, meterRegistry)));
+        log.info("격벽 설정 - {}", compartments.values());
+    }
+
+    /**
+     * 격벽 할당량 획득 - 반환된 Permit을 닫아야 반납된다 (try-with-resources)
+     * @throws BulkheadFullException 대기 한도 또는 대기 시간 초과
+     */
+    public Permit acquire(String name) {
+        if (!enabled || CURRENT.get() != null) {
+            return Permit.NESTED;
+        }
+        Compartment compartment = compartments.get(name);
+        if (compartment == null) {
+            throw new IllegalStateException("정의되지 않은 격벽입니다: " + name);
+        }
+        compartment.acquire();
+        CURRENT.set(compartment);
+        return new Permit(compartment);
+    }
+
+    /**
+     * 획득한 할당량 - close 시 반납
+     */
+    public static final class Permit implements AutoCloseable {
+
+        /** 격벽 비활성화 또는 중첩 호출 - 반납할 할당량 없음 */
+        static final Permit NESTED = new Permit(null);
+
+        private Compartment compartment;
+
+        private Permit(Compartment compartment) {
+            this.compartment = compartment;
+        }
+
+        @Override
+        public void close() {
+            if (compartment != null) {
+                CURRENT.remove();
+                compartment.semaphore.release();
+                compartment = null;
+            }
+        }
+    }
+
+    private static final class Compartment {
+
+        private final String name;
+        private final int limit;
+        private final int maxWaiting;
+        private final Duration queueTimeout;
+        private final Duration retryAfter;
+        private final Semaphore semaphore;
+        private final Counter rejected;
+        private final Timer waitTimer;
+
+        Compartment(String name, BulkheadProperties.Compartment config, MeterRegistry meterRegistry) {
+            this.name = name;
+            this.limit = Math.max(1, config.getMaxConcurrent());
+            this.maxWaiting = Math.max(0, config.getMaxWaiting());
+            this.queueTimeout = config.getQueueTimeout();
+            this.retryAfter = config.getRetryAfter();
+            this.semaphore = new Semaphore(limit, true);
+            this.rejected = Counter.builder("catalog.bulkhead.rejected")
+                    .description("할당량 초과로 거절한 요청 수")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            this.waitTimer = Timer.builder("catalog.bulkhead.wait")
+                    .description("할당량 획득 대기 시간")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            Gauge.builder("catalog.bulkhead.active", this, c -> c.limit - c.semaphore.availablePermits())
+                    .description("실행 중인 요청 수")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            Gauge.builder("catalog.bulkhead.waiting", semaphore, Semaphore::getQueueLength)
+                    .description("할당량을 기다리는 요청 수")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+            Gauge.builder("catalog.bulkhead.limit", this, c -> c.limit)
+                    .description("최대 동시 실행 수")
+                    .tag("bulkhead", name)
+                    .register(meterRegistry);
+        }
+
+        void acquire() {
+            if (semaphore.availablePermits() == 0 && semaphore.getQueueLength() >= maxWaiting) {
+                reject("대기 한도 초과");
+            }
+            long started = System.nanoTime();
+            boolean acquired;
+            try {
+                acquired = semaphore.tryAcquire(queueTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                acquired = false;
+            }
+            waitTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            if (!acquired) {
+                reject("대기 시간 초과");
+            }
+        }
+
+        private void reject(String reason) {
+            rejected.increment();
+            log.warn("격벽 거절 - bulkhead: {}, 사유: {}, active: {}/{}, waiting: {}",
+                    name, reason, limit - semaphore.availablePermits(), limit, semaphore.getQueueLength());
+            throw new BulkheadFullException(name, retryAfter);
+        }
+
+        @Override
+        public String toString() {
+            return name + "(maxConcurrent=" + limit + ", maxWaiting=" + maxWaiting
+                    + ", queueTimeout=" + queueTimeout + ")";
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.spm.global.client;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.spm.global.config.ClientProperties;
+import com.example.spm.global.util.ClientIpUtils;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 클라이언트 식별 필터 - 요청마다 한 번 클라이언트 IP와 식별자를 해석해 요청 속성으로 기록
+ *
+ * IP: 신뢰할 프록시(catalog.client.trusted-proxies)를 거친 경우에만 X-Forwarded-For 반영
+ * 식별자: 등록된 API 키(catalog.client.api-keys)면 key:키, 아니면 ip:클라이언트 IP
+ * 요청 한도, read-your-writes, 멱등 키 범위가 같은 식별자를 사용하도록 수용 제어 필터보다 먼저 실행한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+public class ClientIdentityFilter extends OncePerRequestFilter {
+
+    private final ClientProperties properties;
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIdentityFilter(ClientProperties properties) {
+        this.properties = properties;
+        this.trustedProxies = properties.getTrustedProxies().stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String clientIp = ClientIpUtils.resolveClientIP(request, trustedProxies);
+        request.setAttribute(ClientIpUtils.CLIENT_IP_ATTRIBUTE, clientIp);
+        request.setAttribute(ClientIpUtils.CLIENT_ID_ATTRIBUTE, clientId(request, clientIp));
+        filterChain.doFilter(request, response);
+    }
+
+    private String clientId(HttpServletRequest request, String clientIp) {
+        String apiKey = request.getHeader(properties.getApiKeyHeader());
+        if (apiKey != null && properties.getApiKeys().contains(apiKey.trim())) {
+            return "key:" + apiKey.trim();
+        }
+        return "ip:" + clientIp;
+    }
+}
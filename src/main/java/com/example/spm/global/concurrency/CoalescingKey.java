@@ -0,0 +1,41 @@
+package com.example.spm.global.concurrency;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 조회 병합 키 - 결과가 같은 인자 값을 하나의 키로 정규화 (@SingleFlight, @Resilient 메서드 인자에 구현)
+ * 구현하지 않은 인자는 equals/hashCode를 그대로 키로 사용한다.
+ */
+public interface CoalescingKey {
+
+    /**
+     * 정규화된 키 - 같은 조회 결과를 내는 인자는 equals가 true인 값을 반환해야 한다
+     */
+    Object coalescingKey();
+
+    /**
+     * (메서드, 인자 목록) 키 - CoalescingKey를 구현한 인자는 정규화된 키로 대체
+     */
+    static List<Object> keyOf(String method, Object[] args) {
+        List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(method);
+        addArgs(key, args);
+        return key;
+    }
+
+    /**
+     * 인자 목록 키 - 메서드가 이름으로 구분되는 곳(@SingleFlight 그룹)에서 사용, 호출 측에서 같은 키를 만들 수 있다
+     */
+    static List<Object> argsKey(Object... args) {
+        List<Object> key = new ArrayList<>(args.length);
+        addArgs(key, args);
+        return key;
+    }
+
+    private static void addArgs(List<Object> key, Object[] args) {
+        for (Object arg : args) {
+            key.add(arg instanceof CoalescingKey coalescingKey ? coalescingKey.coalescingKey() : arg);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.spm.global.concurrency;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spm.global.config.OptimisticLockProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 낙관적 잠금 충돌 재시도 - 작업 전체를 새 트랜잭션으로 다시 실행
+ *
+ * 최신 상태를 다시 읽어 같은 변경을 적용해도 의미가 같은 작업(교환 가능한 변경)에만 사용한다.
+ * 예: If-Match 없는 상품 수정(서로 다른 필드를 바꾼 경우만 병합, 같은 필드면 작업 쪽에서 거부), 상태 일괄 변경 청크
+ * 재시도마다 변경 이력도 최신 상태 기준으로 다시 계산되므로 서로 모순되는 이력이 남지 않는다.
+ * 충돌 횟수는 catalog.optimistic.lock.conflicts{operation, outcome=retried|exhausted} 메트릭으로 기록한다.
+ */
+@Slf4j
+@Component
+public class OptimisticLockRetry {
+
+    private final TransactionTemplate transactionTemplate;
+    private final OptimisticLockProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public OptimisticLockRetry(PlatformTransactionManager transactionManager, OptimisticLockProperties properties,
+                               ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * 설정된 최대 시도 횟수로 실행
+     */
+    public <T> T execute(String operation, Supplier<T> action) {
+        return execute(operation, properties.getMaxAttempts(), action);
+    }
+
+    /**
+     * 트랜잭션 단위로 실행하고, 버전 충돌이면 대기 후 재실행
+     * @throws OptimisticLockingFailureException 최대 시도 횟수까지 충돌한 경우
+     */
+    public <T> T execute(String operation, int maxAttempts, Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                if (attempt >= maxAttempts) {
+                    counter(operation, "exhausted").increment();
+                    log.warn("낙관적 잠금 충돌 - 재시도 초과 - operation: {}, attempts: {}", operation, attempt);
+                    throw e instanceof OptimisticLockingFailureException failure ? failure
+                            : new OptimisticLockingFailureException(e.getMessage(), e);
+                }
+                counter(operation, "retried").increment();
+                log.debug("낙관적 잠금 충돌 - 재시도 - operation: {}, attempt: {}", operation, attempt);
+                backoff(attempt);
+            }
+        }
+    }
+
+    /**
+     * 지수 증가 + 지터 대기 (동시에 충돌한 요청이 같은 시점에 다시 부딪히지 않도록)
+     */
+    private void backoff(int attempt) {
+        long base = properties.getBackoff().toMillis();
+        long delay = Math.min(properties.getMaxBackoff().toMillis(), base << Math.min(attempt - 1, 16));
+        if (delay <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(delay / 2, delay + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OptimisticLockingFailureException("재시도 대기 중 중단되었습니다.", e);
+        }
+    }
+
+    private Counter counter(String operation, String outcome) {
+        return counters.computeIfAbsent(operation + ":" + outcome, key -> Counter.builder("catalog.optimistic.lock.conflicts")
+                .description("낙관적 잠금 충돌 건수")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.spm.global.concurrency;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.global.config.SingleFlightProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 동일 호출 병합(single-flight) - 같은 키로 동시에 들어온 호출을 한 번만 실행하고 결과를 공유
+ *
+ * 먼저 들어온 호출(leader)이 실행하고, 실행 중에 들어온 같은 키의 호출은 leader의 결과나 예외를 그대로 받는다.
+ * 결과는 보관하지 않으므로 캐시와 달리 실행이 끝난 뒤 들어온 호출은 항상 새로 실행한다.
+ * 대기 시간을 넘기면 기다리지 않고 직접 실행한다.
+ * 메트릭: catalog.single.flight.calls{name, outcome=leader|coalesced|timeout} - coalesced / 전체 = 병합 비율
+ */
+@Slf4j
+@Component
+public class SingleFlightGroup {
+
+    private final SingleFlightProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Map<Object, CompletableFuture<Object>>> groups = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public SingleFlightGroup(SingleFlightProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    /**
+     * 병합 대상 호출
+     */
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+
+    /**
+     * 같은 (이름, 키)로 실행 중인 호출이 있으면 그 결과를 기다리고, 없으면 직접 실행
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, Object key, Call<T> call) throws Throwable {
+        if (!properties.isEnabled()) {
+            return call.call();
+        }
+        Map<Object, CompletableFuture<Object>> inFlight = groups.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, flight);
+        if (existing == null) {
+            count(name, "leader");
+            try {
+                T result = call.call();
+                flight.complete(result);
+                return result;
+            } catch (Throwable e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, flight);
+            }
+        }
+
+        try {
+            T result = (T) existing.get(properties.getTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            count(name, "coalesced");
+            return result;
+        } catch (ExecutionException e) {
+            count(name, "coalesced");
+            throw e.getCause();
+        } catch (TimeoutException e) {
+            count(name, "timeout");
+            log.debug("병합 대기 시간 초과 - 직접 실행: {}", name);
+            return call.call();
+        }
+    }
+
+    /**
+     * 실행 중인 호출에 새 호출이 합류하지 않도록 분리 (데이터 변경 커밋 이후 호출)
+     * 이미 기다리던 호출은 기존 결과를 받고, 이후 호출은 새로 실행한다.
+     */
+    public void forget(String name) {
+        Map<Object, CompletableFuture<Object>> inFlight = groups.get(name);
+        if (inFlight != null) {
+            inFlight.clear();
+        }
+    }
+
+    /**
+     * 한 키만 분리 (특정 데이터 변경 커밋 이후 호출) - 다른 키의 병합은 유지
+     * @param key 실행 시 사용한 키 (@SingleFlight 메서드는 CoalescingKey.argsKey(인자...))
+     */
+    public void forget(String name, Object key) {
+        Map<Object, CompletableFuture<Object>> inFlight = groups.get(name);
+        if (inFlight != null) {
+            inFlight.remove(key);
+        }
+    }
+
+    private void count(String name, String outcome) {
+        counters.computeIfAbsent(name + ":" + outcome, k -> Counter.builder("catalog.single.flight.calls")
+                        .description("병합 대상 호출 수")
+                        .tag("name", name)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
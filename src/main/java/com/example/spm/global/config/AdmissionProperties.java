@@ -0,0 +1,88 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 요청 수용 제어 설정 (catalog.admission.*) - 클라이언트별 요청 한도, 적응형 동시 실행 제한
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.admission")
+public class AdmissionProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 요청 한도를 추적할 최대 (클라이언트, 분류) 수 - 초과 시 새 클라이언트 요청은 거절 */
+    private int maxClients = 100_000;
+
+    /** 요청 한도 (키: 엔드포인트 분류 search, read, write, reporting) */
+    private Map<String, Limit> limits = new LinkedHashMap<>(Map.of(
+            "search", new Limit(20, 40),
+            "read", new Limit(50, 100),
+            "write", new Limit(10, 20),
+            "reporting", new Limit(2, 5)));
+
+    /** 가격 조건이 있는 검색의 추가 비용 */
+    private int priceFilterCost = 2;
+
+    /** 깊은 페이지 검색 비용 - 오프셋(page * size)이 이 값만큼 커질 때마다 1 추가 */
+    private int deepPageOffset = 1000;
+
+    /** 유휴 클라이언트 버킷 정리 주기 */
+    private Duration cleanupInterval = Duration.ofMinutes(1);
+
+    /** 적응형 동시 실행 제한 */
+    private Concurrency concurrency = new Concurrency();
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        /** 초당 허용 비용 (지속 처리율) */
+        private double ratePerSecond = 10;
+
+        /** 순간 허용 비용 (버킷 크기) */
+        private int burst = 20;
+    }
+
+    @Getter
+    @Setter
+    public static class Concurrency {
+
+        /** 사용 여부 */
+        private boolean enabled = true;
+
+        /** 초기 동시 실행 한도 */
+        private int initialLimit = 20;
+
+        /** 최소 동시 실행 한도 */
+        private int minLimit = 4;
+
+        /** 최대 동시 실행 한도 */
+        private int maxLimit = 200;
+
+        /** 평활 응답 시간이 이 값을 넘으면 과부하 신호로 보고 한도를 줄임 */
+        private Duration latencyThreshold = Duration.ofMillis(250);
+
+        /** 응답 시간 평활 계수 (EWMA, 0~1) - 클수록 최근 응답에 민감 */
+        private double latencySmoothing = 0.1;
+
+        /** 과부하 시 한도 감소 비율 */
+        private double backoffRatio = 0.9;
+
+        /** 거절 시 Retry-After 헤더 값 */
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
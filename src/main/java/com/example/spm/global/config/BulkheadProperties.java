@@ -0,0 +1,52 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.spm.global.annotation.Bulkhead;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 격벽 설정 (catalog.bulkhead.*)
+ * 격벽별 동시 실행 수 합계를 커넥션 풀 크기 이하로 두어야 한 격벽이 풀을 모두 점유하지 못한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.bulkhead")
+public class BulkheadProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 격벽별 설정 (키: 격벽 이름, 기본값: 커넥션 풀 10개 기준 interactive 6, reporting 2, batch 2) */
+    private Map<String, Compartment> compartments = new LinkedHashMap<>(Map.of(
+            Bulkhead.INTERACTIVE, new Compartment(6, 50, Duration.ofMillis(500), Duration.ofSeconds(1)),
+            Bulkhead.REPORTING, new Compartment(2, 4, Duration.ofSeconds(2), Duration.ofSeconds(5)),
+            Bulkhead.BATCH, new Compartment(2, 4, Duration.ofSeconds(10), Duration.ofSeconds(5))));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Compartment {
+
+        /** 최대 동시 실행 수 */
+        private int maxConcurrent = 1;
+
+        /** 최대 대기 요청 수 - 초과하면 대기 없이 거절 */
+        private int maxWaiting = 10;
+
+        /** 실행 대기 시간 - 초과하면 거절 */
+        private Duration queueTimeout = Duration.ofSeconds(1);
+
+        /** 거절 시 Retry-After 헤더 값 */
+        private Duration retryAfter = Duration.ofSeconds(1);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 캐시 스냅샷 설정 (catalog.cache-snapshot.*) - 상품/검색 결과 캐시를 로컬 디스크에 저장해 재기동 시 복원
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.cache-snapshot")
+public class CacheSnapshotProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 스냅샷 파일 경로 */
+    private String path = "./cache-snapshot/product-cache.snap";
+
+    /** 저장 주기 (종료 시에도 저장) */
+    private Duration interval = Duration.ofMinutes(5);
+
+    /** 복원할 스냅샷의 최대 나이 - 변경 이력 없이 바뀌는 값(카테고리명, 가격 유효기간)의 최대 지연 */
+    private Duration maxAge = Duration.ofMinutes(5);
+
+    /** 변경 이력 대조 여유 시간 - 스냅샷 기준점 이후 늦게 커밋된 이력도 포함하도록 저장 시각에서 뺀다 */
+    private Duration reconcileMargin = Duration.ofMinutes(1);
+}
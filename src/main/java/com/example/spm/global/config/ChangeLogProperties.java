@@ -0,0 +1,19 @@
+package com.example.spm.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 변경 이력 저장 설정 (catalog.change-log.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.change-log")
+public class ChangeLogProperties {
+
+    /** 이 크기 이상인 oldValue/newValue는 압축 저장 */
+    private DataSize compressThreshold = DataSize.ofKilobytes(1);
+}
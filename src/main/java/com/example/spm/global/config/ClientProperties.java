@@ -0,0 +1,29 @@
+package com.example.spm.global.config;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 클라이언트 식별 설정 (catalog.client.*) - 요청 한도, read-your-writes, 멱등 키 범위에 쓰는 클라이언트 구분
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.client")
+public class ClientProperties {
+
+    /** API 키 헤더 - 등록된 키면 클라이언트 IP 대신 키 단위로 구분 */
+    private String apiKeyHeader = "X-API-Key";
+
+    /** 등록된 API 키 - 목록에 없는 키는 무시하고 IP로 구분 (비어 있으면 헤더 자체를 무시) */
+    private Set<String> apiKeys = new LinkedHashSet<>();
+
+    /** X-Forwarded-For를 신뢰할 프록시 주소 (IP 또는 CIDR) - 비어 있으면 접속 주소만 사용 */
+    private List<String> trustedProxies = new ArrayList<>();
+}
@@ -0,0 +1,35 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 상품코드 Bloom 필터 설정 (catalog.code-filter.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.code-filter")
+public class CodeFilterProperties {
+
+    /** 사용 여부 - false면 항상 DB로 중복 확인 */
+    private boolean enabled = true;
+
+    /** 목표 오탐률 */
+    private double fpp = 0.01;
+
+    /** 적재 시 상품 수 대비 여유 배수 (이후 생성분 수용) */
+    private double headroom = 2.0;
+
+    /** 최소 용량 */
+    private long minCapacity = 100_000;
+
+    /** 전체 재생성 주기 (물리 삭제된 코드 정리) */
+    private String rebuildCron = "0 30 4 * * *";
+
+    /** 용량 초과 확인 주기 - 추정 원소 수가 용량을 넘으면 재생성 */
+    private Duration saturationCheckInterval = Duration.ofMinutes(5);
+}
@@ -2,6 +2,8 @@ package com.example.spm.global.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.web.filter.CorsFilter;
@@ -9,7 +11,11 @@ import org.springframework.web.filter.CorsFilter;
 @Configuration
 public class CorsConfig {
 
+    /**
+     * 요청 수용 제어 필터의 거절 응답에도 CORS 헤더가 붙도록 가장 먼저 실행
+     */
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
     public CorsFilter corsFilter() {
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         CorsConfiguration config = new CorsConfiguration();
@@ -19,6 +25,17 @@ public class CorsConfig {
         config.addAllowedOriginPattern("*");
         config.addAllowedHeader("*");
         config.addAllowedMethod("*");
+        // 멱등 요청 재응답 여부 (Idempotency-Key 재시도)
+        config.addExposedHeader("Idempotent-Replayed");
+        // 상품 버전 (수정 시 If-Match로 전달)
+        config.addExposedHeader("ETag");
+        // 격벽 거절(503) 시 재시도 대기 시간
+        config.addExposedHeader("Retry-After");
+        // 남은 요청 한도
+        config.addExposedHeader("X-RateLimit-Remaining");
+        // DB 장애 중 마지막 정상 결과로 응답한 경우 표시
+        config.addExposedHeader("X-Data-Stale");
+        config.addExposedHeader("Age");
 
         // 특정 origin만 허용하려면 아래 주석 해제
         // config.addAllowedOrigin("http://localhost:5173");
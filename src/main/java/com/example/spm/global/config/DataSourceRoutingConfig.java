@@ -0,0 +1,133 @@
+package com.example.spm.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.spm.global.datasource.ReadYourWritesTracker;
+import com.example.spm.global.datasource.ReplicaLagMonitor;
+import com.example.spm.global.datasource.ReplicaProperties;
+import com.example.spm.global.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 읽기/쓰기 분리 데이터소스 설정 (catalog.datasource.replica.enabled=true 일 때만 적용)
+ *
+ * - primary: spring.datasource.* / spring.datasource.hikari.*
+ * - replica: catalog.datasource.replica.nodes[n].* (풀 설정은 primary 상속)
+ * - @Transactional(readOnly = true) 트랜잭션은 복제본, 그 외는 primary
+ * 풀별 지표는 hikaricp.connections.* (pool 태그: primary, replica-n)로 노출된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "catalog.datasource.replica", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig implements DisposableBean {
+
+    private final List<ReplicaRoutingDataSource.Replica> replicas = new ArrayList<>();
+    private HikariDataSource primary;
+    private ReplicaLagMonitor lagMonitor;
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(ReplicaProperties properties) {
+        return new ReadYourWritesTracker(properties.getReadYourWritesWindow().toNanos());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(Environment environment, ReplicaProperties properties,
+                                 ReadYourWritesTracker readYourWritesTracker,
+                                 ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+
+        HikariConfig primaryConfig = new HikariConfig();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primaryConfig));
+        primaryConfig.setJdbcUrl(environment.getRequiredProperty("spring.datasource.url"));
+        primaryConfig.setUsername(environment.getProperty("spring.datasource.username"));
+        primaryConfig.setPassword(environment.getProperty("spring.datasource.password"));
+        primaryConfig.setDriverClassName(environment.getProperty("spring.datasource.driver-class-name"));
+        primaryConfig.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        primary = createPool(primaryConfig, meterRegistry);
+
+        for (int i = 0; i < properties.getNodes().size(); i++) {
+            ReplicaProperties.Node node = properties.getNodes().get(i);
+            HikariConfig replicaConfig = new HikariConfig();
+            primaryConfig.copyStateTo(replicaConfig);
+            replicaConfig.setPoolName("replica-" + i);
+            replicaConfig.setJdbcUrl(node.getUrl());
+            if (node.getUsername() != null) {
+                replicaConfig.setUsername(node.getUsername());
+                replicaConfig.setPassword(node.getPassword());
+            }
+            if (node.getMaximumPoolSize() != null) {
+                replicaConfig.setMaximumPoolSize(node.getMaximumPoolSize());
+            }
+            replicaConfig.setReadOnly(true);
+            // 복제본 장애가 기동을 막지 않도록 풀 초기화 실패를 허용 (지연 감시에서 제외 처리)
+            replicaConfig.setInitializationFailTimeout(-1);
+            ReplicaRoutingDataSource.Replica replica =
+                    new ReplicaRoutingDataSource.Replica(replicaConfig.getPoolName(), createPool(replicaConfig, meterRegistry));
+            replicas.add(replica);
+
+            if (meterRegistry != null) {
+                Gauge.builder("catalog.datasource.replica.lag", replica, ReplicaRoutingDataSource.Replica::lagSeconds)
+                        .description("복제 지연 (초)")
+                        .baseUnit("seconds")
+                        .tag("replica", replica.name())
+                        .register(meterRegistry);
+                Gauge.builder("catalog.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                        .description("라우팅 대상 여부 (1: 정상, 0: 제외)")
+                        .tag("replica", replica.name())
+                        .register(meterRegistry);
+            }
+        }
+
+        lagMonitor = new ReplicaLagMonitor(replicas, properties, readYourWritesTracker);
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicas, properties.getBalance(),
+                readYourWritesTracker, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /**
+     * 복제 지연 주기 측정
+     */
+    @Scheduled(fixedDelayString = "${catalog.datasource.replica.lag-check-interval:PT5S}")
+    public void checkReplicaLag() {
+        if (lagMonitor != null) {
+            lagMonitor.check();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.dataSource().close());
+        if (primary != null) {
+            primary.close();
+        }
+    }
+
+    private HikariDataSource createPool(HikariConfig config, MeterRegistry meterRegistry) {
+        if (meterRegistry != null) {
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        }
+        return new HikariDataSource(config);
+    }
+}
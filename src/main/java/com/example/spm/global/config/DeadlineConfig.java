@@ -0,0 +1,33 @@
+package com.example.spm.global.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.spm.global.deadline.DeadlineDataSource;
+
+/**
+ * 요청 데드라인 설정 - dataSource 빈을 DeadlineDataSource로 감싸 쿼리 타임아웃을 전달
+ * 기본 풀과 읽기/쓰기 분리 데이터소스(DataSourceRoutingConfig) 모두 빈 이름이 dataSource이므로 같은 방식으로 적용된다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "catalog.deadline", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DeadlineConfig {
+
+    @Bean
+    public static BeanPostProcessor deadlineDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof DeadlineDataSource)) {
+                    return new DeadlineDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
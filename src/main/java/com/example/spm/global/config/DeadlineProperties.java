@@ -0,0 +1,35 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 요청 데드라인 설정 (catalog.deadline.*) - 엔드포인트 분류별 처리 시간 제한
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.deadline")
+public class DeadlineProperties {
+
+    /** 사용 여부 - false면 DataSource를 감싸지 않는다 */
+    private boolean enabled = true;
+
+    /** 요청별 데드라인 헤더 (밀리초) - 엔드포인트 기본값보다 우선하되 maxTimeout을 넘을 수 없다 */
+    private String header = "X-Request-Timeout";
+
+    /** 헤더로 지정할 수 있는 최대 데드라인 */
+    private Duration maxTimeout = Duration.ofSeconds(30);
+
+    /** 엔드포인트 분류별 기본 데드라인 (키: search, read, write, reporting) */
+    private Map<String, Duration> endpoints = new LinkedHashMap<>(Map.of(
+            "search", Duration.ofSeconds(3),
+            "read", Duration.ofSeconds(2),
+            "write", Duration.ofSeconds(5),
+            "reporting", Duration.ofSeconds(15)));
+}
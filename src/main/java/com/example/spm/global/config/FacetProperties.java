@@ -0,0 +1,30 @@
+package com.example.spm.global.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 패싯 검색 설정 (catalog.facet.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.facet")
+public class FacetProperties {
+
+    /** 가격 구간 하한 목록 (오름차순) */
+    private List<Double> priceBuckets = new ArrayList<>(List.of(0d, 10_000d, 50_000d, 100_000d, 500_000d));
+
+    /**
+     * 텍스트/가격 조건이 있을 때 DB에서 가져올 최대 상품 ID 수
+     * 초과하면 조건이 너무 넓은 것으로 보고 패싯을 생략한다.
+     */
+    private int maxFilterIds = 200_000;
+
+    /** 전체 재적재 주기 (가격 유효기간 만료 반영) */
+    private String rebuildCron = "0 0 * * * *";
+}
@@ -14,8 +14,8 @@ public class GsonConfig {
 
     @Bean
     public Gson gson() {
+        // 로그 출력용 - 어차피 잘라서 기록하므로 pretty printing 없이 압축 출력
         return new GsonBuilder()
-                .setPrettyPrinting() // 가독성을 위한 포맷팅
                 .serializeNulls() // null 값도 직렬화
                 .create();
     }
@@ -0,0 +1,24 @@
+package com.example.spm.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 상품 이력 스냅샷 설정 (catalog.history.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.history")
+public class HistoryProperties {
+
+    /** 스냅샷 작업 스케줄 실행 여부 */
+    private boolean snapshotEnabled = true;
+
+    /** 스냅샷 작업 실행 시각 */
+    private String snapshotCron = "0 30 2 * * *";
+
+    /** 상품별 변경 이력 N건마다 스냅샷 저장 */
+    private int snapshotEvery = 50;
+}
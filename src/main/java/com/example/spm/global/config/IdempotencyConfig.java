@@ -0,0 +1,22 @@
+package com.example.spm.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.spm.global.idempotency.IdempotencyStore;
+import com.example.spm.global.idempotency.InMemoryIdempotencyStore;
+
+/**
+ * 멱등 요청 설정 - catalog.idempotency.store=memory(기본)이면 메모리 저장소 사용
+ * 여러 인스턴스가 키를 공유해야 하면 다른 값으로 바꾸고 IdempotencyStore 구현(DB 테이블 등)을 빈으로 등록한다.
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "catalog.idempotency", name = "store", havingValue = "memory", matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+        return new InMemoryIdempotencyStore(properties);
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 멱등 요청 설정 (catalog.idempotency.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.idempotency")
+public class IdempotencyProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 저장소 (memory: 인스턴스별 메모리, 그 외: 별도 IdempotencyStore 빈 사용) */
+    private String store = "memory";
+
+    /** 멱등 키 헤더 이름 */
+    private String header = "Idempotency-Key";
+
+    /** 멱등 키 최대 길이 */
+    private int maxKeyLength = 255;
+
+    /** 완료된 응답 보관 기간 */
+    private Duration ttl = Duration.ofHours(24);
+
+    /** 처리 중 상태 유지 시간 - 초과하면 처리 실패로 보고 재시도 허용 */
+    private Duration lockTimeout = Duration.ofSeconds(30);
+
+    /** 메모리 저장소 최대 항목 수 (초과 시 오래된 완료 항목부터 제거, 처리 중 항목만 남으면 새 요청 거부) */
+    private int maxEntries = 10_000;
+}
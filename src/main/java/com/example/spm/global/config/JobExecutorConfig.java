@@ -0,0 +1,20 @@
+package com.example.spm.global.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 비동기 작업 실행기 설정 - 작업당 가상 스레드 하나
+ * 동시 실행 수 제한은 JobService의 세마포어(catalog.job.max-concurrent)가 담당
+ */
+@Configuration
+public class JobExecutorConfig {
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService catalogJobExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("catalog-job-", 0).factory());
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.spm.global.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 비동기 작업 설정 (catalog.job.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.job")
+public class JobProperties {
+
+    /**
+     * 동시 실행 가능한 작업 수 - Hikari 풀 크기보다 충분히 작게 유지해야
+     * 백그라운드 작업이 대화형 요청의 커넥션을 고갈시키지 않는다.
+     */
+    private int maxConcurrent = 2;
+
+    /** 청크 크기 (청크 하나가 한 트랜잭션) */
+    private int chunkSize = 500;
+
+    /** 청크 사이 대기 시간 (락/커넥션 점유 완화) */
+    private Duration chunkPause = Duration.ZERO;
+
+    /** 내보내기 결과 파일 디렉터리 */
+    private Path exportDir = Path.of("./exports");
+}
@@ -0,0 +1,38 @@
+package com.example.spm.global.config;
+
+import java.lang.reflect.Method;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 지연 초기화 제외 설정 (spring.main.lazy-initialization=true 일 때만 의미 있음, faststart 프로필)
+ *
+ * - DataSource, EntityManagerFactory: Hibernate 메타모델 구성 비용을 첫 요청이 아닌 기동 중에 치른다
+ * - @Scheduled 메서드가 있는 빈: 빈이 생성되어야 스케줄이 등록되므로 즉시 생성
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter eagerInfrastructureBeans() {
+        return (beanName, beanDefinition, beanType) -> DataSource.class.isAssignableFrom(beanType)
+                || EntityManagerFactory.class.isAssignableFrom(beanType)
+                || EntityManagerFactoryInfo.class.isAssignableFrom(beanType)
+                || hasScheduledMethods(beanType);
+    }
+
+    private static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Boolean>) (Method method) ->
+                AnnotatedElementUtils.hasAnnotation(method, Scheduled.class) ? Boolean.TRUE : null).isEmpty();
+    }
+}
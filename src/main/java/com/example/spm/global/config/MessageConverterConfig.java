@@ -0,0 +1,32 @@
+package com.example.spm.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.example.spm.domain.dto.ResponseStreamWriters;
+import com.example.spm.global.serialization.StreamingCborHttpMessageConverter;
+import com.example.spm.global.serialization.StreamingJsonHttpMessageConverter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 스트리밍 응답 변환기 등록 - 상품/변경 이력 응답은 Jackson보다 먼저 처리
+ * JSON 변환기를 CBOR보다 먼저 등록해 Accept: *&#47;* 요청은 JSON으로 응답한다
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MessageConverterConfig implements WebMvcConfigurer {
+
+    private final SerializationProperties properties;
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        if (properties.isStreamingJson()) {
+            builder.addCustomConverter(new StreamingJsonHttpMessageConverter(ResponseStreamWriters.all()));
+        }
+        if (properties.isCbor()) {
+            builder.addCustomConverter(new StreamingCborHttpMessageConverter(ResponseStreamWriters.all()));
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 낙관적 잠금 충돌 재시도 설정 (catalog.optimistic-lock.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.optimistic-lock")
+public class OptimisticLockProperties {
+
+    /** 최대 시도 횟수 (첫 시도 포함) */
+    private int maxAttempts = 3;
+
+    /** 첫 재시도 대기 시간 - 이후 두 배씩 증가 (지터 적용) */
+    private Duration backoff = Duration.ofMillis(20);
+
+    /** 재시도 대기 시간 상한 */
+    private Duration maxBackoff = Duration.ofMillis(200);
+}
@@ -0,0 +1,33 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Soft Delete 상품 물리 삭제 설정 (catalog.purge.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.purge")
+public class PurgeProperties {
+
+    /** 스케줄 실행 여부 */
+    private boolean enabled = true;
+
+    /** 실행 시작 시각 (비혼잡 시간대 시작) */
+    private String cron = "0 0 3 * * *";
+
+    /** 비혼잡 시간대 종료 시각 - 이후에는 남은 대상을 다음 실행으로 넘긴다 */
+    private LocalTime windowEnd = LocalTime.of(5, 0);
+
+    /** Soft Delete 후 보관 기간 */
+    private Duration retention = Duration.ofDays(7);
+
+    /** 한 트랜잭션에서 삭제할 상품 수 (락 점유 시간 제한) */
+    private int batchSize = 100;
+}
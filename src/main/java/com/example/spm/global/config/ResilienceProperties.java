@@ -0,0 +1,56 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.example.spm.global.annotation.Resilient;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 회로 차단 및 stale 응답 설정 (catalog.resilience.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.resilience")
+public class ResilienceProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 마지막 정상 결과 최대 보관 수 */
+    private long staleMaxEntries = 10_000;
+
+    /** 마지막 정상 결과 보관 기간 - 이보다 오래된 결과는 장애 중에도 반환하지 않음 */
+    private Duration staleTtl = Duration.ofHours(1);
+
+    /** 회로 차단기별 설정 (키: 차단기 이름) */
+    private Map<String, Breaker> breakers = new LinkedHashMap<>(Map.of(Resilient.DATABASE, new Breaker()));
+
+    @Getter
+    @Setter
+    public static class Breaker {
+
+        /** 실패율 계산에 사용하는 최근 호출 수 */
+        private int windowSize = 20;
+
+        /** 실패율을 판단하기 위한 최소 호출 수 */
+        private int minimumCalls = 10;
+
+        /** 열림 전환 실패율 (%) - 실패와 느린 호출을 합산 */
+        private int failureRateThreshold = 50;
+
+        /** 이 시간을 넘는 호출은 느린 호출로 집계 */
+        private Duration slowCallThreshold = Duration.ofSeconds(1);
+
+        /** 열림 상태 유지 시간 - 이후 시험 호출로 복구 여부 확인 */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /** 반열림 상태 시험 호출 수 - 모두 성공하면 닫힘 */
+        private int halfOpenCalls = 3;
+    }
+}
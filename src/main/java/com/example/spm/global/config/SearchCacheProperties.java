@@ -0,0 +1,29 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 상품 검색 결과 캐시 설정 (catalog.search-cache.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.search-cache")
+public class SearchCacheProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 검색 결과 캐시에 보관할 최대 상품 ID 수 (결과별 ID 수 합계 기준) */
+    private long maxResultIds = 200_000;
+
+    /** 상품 응답 캐시 최대 항목 수 */
+    private long maxProducts = 20_000;
+
+    /** 보관 기간 - 가격 유효기간 만료처럼 쓰기 없이 바뀌는 결과의 최대 지연 */
+    private Duration ttl = Duration.ofMinutes(5);
+}
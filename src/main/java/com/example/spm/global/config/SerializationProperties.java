@@ -0,0 +1,21 @@
+package com.example.spm.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 응답 직렬화 설정 (catalog.serialization.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.serialization")
+public class SerializationProperties {
+
+    /** 상품/변경 이력 응답을 스트리밍 JSON 변환기로 처리 (false면 Jackson 기본 직렬화) */
+    private boolean streamingJson = true;
+
+    /** Accept: application/cbor 요청에 CBOR 응답 제공 */
+    private boolean cbor = true;
+}
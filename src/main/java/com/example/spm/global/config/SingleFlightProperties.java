@@ -0,0 +1,23 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 동일 조회 병합 설정 (catalog.single-flight.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.single-flight")
+public class SingleFlightProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 먼저 실행 중인 호출의 결과를 기다리는 최대 시간 - 초과하면 직접 실행 */
+    private Duration timeout = Duration.ofSeconds(2);
+}
@@ -0,0 +1,38 @@
+package com.example.spm.global.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 기동 워밍업 설정 (catalog.warmup.*) - 준비 상태(readiness) 전환 전 조회 요청 재생
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.warmup")
+public class WarmupProperties {
+
+    /** 사용 여부 */
+    private boolean enabled = true;
+
+    /** 워밍업 최대 시간 - 초과하면 남은 요청을 건너뛰고 준비 상태로 전환 */
+    private Duration maxDuration = Duration.ofSeconds(60);
+
+    /** 동시 실행 수 */
+    private int threads = 4;
+
+    /** 스레드별 재생 요청 수 */
+    private int iterations = 500;
+
+    /** 캐시를 미리 채울 기본 상품 목록 페이지 수 (페이지 크기 pageSize) */
+    private int precachePages = 20;
+
+    /** 미리 채울 목록 페이지 크기 */
+    private int pageSize = 20;
+
+    /** 기록된 요청 파일 (한 줄에 "GET /api/products?page=0&size=20" 형식) - 없으면 합성 요청 사용 */
+    private String recordedMix;
+}
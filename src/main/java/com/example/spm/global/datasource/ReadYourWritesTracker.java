@@ -0,0 +1,70 @@
+package com.example.spm.global.datasource;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.example.spm.global.util.ClientIpUtils;
+
+/**
+ * read-your-writes 추적 - 쓰기 트랜잭션을 커밋한 클라이언트는 일정 시간 동안 primary에서 읽는다.
+ * 클라이언트 식별은 ClientIdentityFilter가 해석한 식별자(등록된 API 키 또는 신뢰할 프록시 기준 클라이언트 IP)이며,
+ * 위조 가능한 헤더 값으로 다른 클라이언트의 고정 상태를 공유하지 않는다. 요청 밖(배치 작업 등)의 쓰기는 추적하지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long minWindowNanos;
+    private volatile long lagNanos;
+
+    public ReadYourWritesTracker(long minWindowNanos) {
+        this.minWindowNanos = minWindowNanos;
+    }
+
+    /**
+     * 현재 클라이언트의 쓰기 커밋 기록
+     */
+    public void markWrite() {
+        String client = ClientIpUtils.currentClientId();
+        if (client == null) {
+            return;
+        }
+        long window = Math.max(minWindowNanos, lagNanos);
+        pinnedUntil.put(client, System.nanoTime() + window);
+        if (pinnedUntil.size() > CLEANUP_THRESHOLD) {
+            evictExpired();
+        }
+    }
+
+    /**
+     * 현재 클라이언트가 primary에서 읽어야 하는지 여부
+     */
+    public boolean mustReadPrimary() {
+        String client = ClientIpUtils.currentClientId();
+        if (client == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(client);
+        if (until == null) {
+            return false;
+        }
+        if (until - System.nanoTime() > 0) {
+            return true;
+        }
+        pinnedUntil.remove(client, until);
+        return false;
+    }
+
+    /**
+     * 측정된 최대 복제 지연 반영 - 고정 창보다 지연이 길면 지연만큼 primary 고정
+     */
+    public void updateLag(long lagNanos) {
+        this.lagNanos = lagNanos;
+    }
+
+    public void evictExpired() {
+        long now = System.nanoTime();
+        pinnedUntil.entrySet().removeIf(entry -> entry.getValue() - now <= 0);
+    }
+}
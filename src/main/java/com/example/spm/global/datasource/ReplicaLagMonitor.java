@@ -0,0 +1,74 @@
+package com.example.spm.global.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 지연 감시 - 주기적으로 지연을 측정하여 허용치를 넘은 복제본을 라우팅에서 제외한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final List<ReplicaRoutingDataSource.Replica> replicas;
+    private final ReplicaProperties properties;
+    private final ReadYourWritesTracker readYourWritesTracker;
+
+    public ReplicaLagMonitor(List<ReplicaRoutingDataSource.Replica> replicas, ReplicaProperties properties,
+                             ReadYourWritesTracker readYourWritesTracker) {
+        this.replicas = replicas;
+        this.properties = properties;
+        this.readYourWritesTracker = readYourWritesTracker;
+    }
+
+    /**
+     * 전체 복제본 지연 측정
+     */
+    public void check() {
+        long maxHealthyLag = 0;
+        for (ReplicaRoutingDataSource.Replica replica : replicas) {
+            boolean wasHealthy = replica.isHealthy();
+            long lag = measureLag(replica);
+            boolean healthy = lag >= 0 && Duration.ofSeconds(lag).compareTo(properties.getMaxLag()) <= 0;
+            replica.update(healthy, Math.max(lag, 0));
+
+            if (healthy) {
+                maxHealthyLag = Math.max(maxHealthyLag, lag);
+            }
+            if (wasHealthy != healthy) {
+                log.warn("복제본 상태 변경 - {}: {} (lag: {}s)", replica.name(), healthy ? "정상" : "제외", lag);
+            }
+        }
+        readYourWritesTracker.updateLag(Duration.ofSeconds(maxHealthyLag).toNanos());
+        readYourWritesTracker.evictExpired();
+    }
+
+    /**
+     * 지연(초) 측정 - 측정 실패 또는 복제 중단(NULL)이면 -1
+     */
+    private long measureLag(ReplicaRoutingDataSource.Replica replica) {
+        try (Connection connection = replica.dataSource().getConnection()) {
+            String lagQuery = properties.getLagQuery();
+            if (lagQuery == null || lagQuery.isBlank()) {
+                return connection.isValid(2) ? 0 : -1;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(2);
+                try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                    if (!rs.next()) {
+                        return -1;
+                    }
+                    long lag = rs.getLong(1);
+                    return rs.wasNull() ? -1 : lag;
+                }
+            }
+        } catch (Exception e) {
+            log.debug("복제본 지연 측정 실패 - {}: {}", replica.name(), e.getMessage());
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.spm.global.datasource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 읽기 전용 복제본 라우팅 설정 (catalog.datasource.replica.*)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "catalog.datasource.replica")
+public class ReplicaProperties {
+
+    /** 복제본 라우팅 사용 여부 (false면 단일 primary 데이터소스) */
+    private boolean enabled = false;
+
+    /** 복제본 선택 방식 */
+    private Balance balance = Balance.ROUND_ROBIN;
+
+    /** 쓰기 직후 같은 클라이언트의 읽기를 primary로 보내는 최소 시간 (read-your-writes) */
+    private Duration readYourWritesWindow = Duration.ofSeconds(2);
+
+    /** 허용 복제 지연 - 초과한 복제본은 라우팅 대상에서 제외 */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * 복제 지연(초)을 반환하는 쿼리 - 비어 있으면 지연 측정 없이 연결 유효성만 확인
+     * 예) MySQL: SELECT TIMESTAMPDIFF(SECOND, MAX(ts), NOW()) FROM heartbeat
+     */
+    private String lagQuery;
+
+    /** 지연 측정 주기 */
+    private Duration lagCheckInterval = Duration.ofSeconds(5);
+
+    /** 복제본 목록 (풀 설정은 spring.datasource.hikari.* 를 상속) */
+    private List<Node> nodes = new ArrayList<>();
+
+    public enum Balance {
+        ROUND_ROBIN, LEAST_CONNECTIONS
+    }
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        /** 복제본 풀 크기 (미지정 시 primary 설정 사용) */
+        private Integer maximumPoolSize;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.spm.global.datasource;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스
+ *
+ * LazyConnectionDataSourceProxy 뒤에 두어야 트랜잭션 동기화(readOnly 플래그)가 초기화된 뒤
+ * 첫 SQL 실행 시점에 대상이 결정된다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final ReplicaProperties.Balance balance;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final AtomicInteger roundRobin = new AtomicInteger();
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> routeCounters = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<Replica> replicas,
+                                    ReplicaProperties.Balance balance,
+                                    ReadYourWritesTracker readYourWritesTracker,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.balance = balance;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry != null ? meterRegistry : new SimpleMeterRegistry();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name(), replica.dataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            trackWrite();
+            return route(PRIMARY);
+        }
+        if (readYourWritesTracker.mustReadPrimary()) {
+            return route(PRIMARY);
+        }
+        Replica replica = selectReplica();
+        return route(replica != null ? replica.name() : PRIMARY);
+    }
+
+    /**
+     * 쓰기 트랜잭션 커밋 시 read-your-writes 기록
+     */
+    private void trackWrite() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    readYourWritesTracker.markWrite();
+                }
+            });
+        }
+    }
+
+    /**
+     * 정상 상태 복제본 중 하나 선택 (없으면 null → primary)
+     */
+    private Replica selectReplica() {
+        List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        if (balance == ReplicaProperties.Balance.LEAST_CONNECTIONS) {
+            Replica best = null;
+            int bestActive = Integer.MAX_VALUE;
+            for (Replica replica : healthy) {
+                int active = replica.activeConnections();
+                if (active < bestActive) {
+                    best = replica;
+                    bestActive = active;
+                }
+            }
+            return best;
+        }
+        return healthy.get(Math.floorMod(roundRobin.getAndIncrement(), healthy.size()));
+    }
+
+    private String route(String target) {
+        routeCounters.computeIfAbsent(target, key -> Counter.builder("catalog.datasource.route")
+                        .description("라우팅된 커넥션 획득 수")
+                        .tag("target", key)
+                        .register(meterRegistry))
+                .increment();
+        return target;
+    }
+
+    /**
+     * 복제본 노드 - 지연 측정 결과에 따라 라우팅 대상 여부가 바뀐다.
+     */
+    public static final class Replica {
+
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy = true;
+        private volatile long lagSeconds;
+
+        public Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public HikariDataSource dataSource() {
+            return dataSource;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public long lagSeconds() {
+            return lagSeconds;
+        }
+
+        void update(boolean healthy, long lagSeconds) {
+            this.healthy = healthy;
+            this.lagSeconds = lagSeconds;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool != null ? pool.getActiveConnections() : 0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.spm.global.deadline;
+
+import java.time.Duration;
+
+/**
+ * 요청 데드라인 - 요청 스레드에 바인딩되어 JDBC 쿼리 타임아웃으로 전달된다
+ * 작업/백그라운드 스레드에는 바인딩되지 않으므로 데드라인이 적용되지 않는다.
+ */
+public final class Deadline {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private final long expiresAtNanos;
+    private final Duration budget;
+    private volatile boolean exceeded;
+
+    private Deadline(Duration budget) {
+        this.budget = budget;
+        this.expiresAtNanos = System.nanoTime() + budget.toNanos();
+    }
+
+    /**
+     * 현재 스레드에 데드라인 설정
+     */
+    public static Deadline start(Duration budget) {
+        Deadline deadline = new Deadline(budget);
+        CURRENT.set(deadline);
+        return deadline;
+    }
+
+    /**
+     * 현재 스레드의 데드라인 (없으면 null)
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 현재 스레드의 데드라인이 지났는지 여부 (데드라인이 없으면 false)
+     */
+    public static boolean currentExpired() {
+        Deadline deadline = CURRENT.get();
+        return deadline != null && (deadline.exceeded || deadline.remainingNanos() <= 0);
+    }
+
+    public long remainingNanos() {
+        return expiresAtNanos - System.nanoTime();
+    }
+
+    /**
+     * 데드라인 초과로 쿼리를 거절하거나 타임아웃된 경우 기록
+     */
+    public void markExceeded() {
+        exceeded = true;
+    }
+
+    public boolean isExceeded() {
+        return exceeded;
+    }
+
+    public Duration getBudget() {
+        return budget;
+    }
+}
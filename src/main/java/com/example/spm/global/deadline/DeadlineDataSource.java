@@ -0,0 +1,127 @@
+package com.example.spm.global.deadline;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * 데드라인 전달 DataSource - 요청 데드라인의 남은 시간을 JDBC 쿼리 타임아웃으로 설정
+ *
+ * 연결 획득과 쿼리 실행 직전에 남은 시간을 확인해, 이미 지났으면 DB를 사용하지 않고 SQLTimeoutException을 던진다.
+ * 남은 시간이 있으면 Statement.setQueryTimeout(초 단위 올림)을 설정하며, 드라이버가 시간 초과 시 서버 쿼리를 취소하고
+ * 예외를 던지므로 연결이 트랜잭션 종료와 함께 풀로 반환된다.
+ * 쿼리에 이미 더 짧은 타임아웃이 설정되어 있으면 그 값을 유지한다.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+
+    public DeadlineDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        checkDeadline();
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        checkDeadline();
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(DeadlineDataSource.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, new ConnectionHandler(connection));
+    }
+
+    /**
+     * 데드라인이 지났으면 SQLTimeoutException
+     * @return 남은 시간 (데드라인이 없으면 -1)
+     */
+    private static long checkDeadline() throws SQLTimeoutException {
+        Deadline deadline = Deadline.current();
+        if (deadline == null) {
+            return -1;
+        }
+        long remaining = deadline.remainingNanos();
+        if (remaining <= 0) {
+            deadline.markExceeded();
+            throw new SQLTimeoutException("요청 데드라인 초과 (" + deadline.getBudget().toMillis() + "ms)");
+        }
+        return remaining;
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    /**
+     * Statement 생성 메서드의 결과를 데드라인 적용 Statement로 감싼다
+     */
+    private record ConnectionHandler(Connection target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object result = DeadlineDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement
+                    && ("createStatement".equals(name) || "prepareStatement".equals(name) || "prepareCall".equals(name))) {
+                return Proxy.newProxyInstance(DeadlineDataSource.class.getClassLoader(),
+                        new Class<?>[] {method.getReturnType()}, new StatementHandler(statement));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 실행 메서드(execute*) 직전에 남은 시간을 쿼리 타임아웃으로 설정
+     */
+    private record StatementHandler(Statement target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!method.getName().startsWith("execute")) {
+                return DeadlineDataSource.invoke(target, method, args);
+            }
+            long remaining = checkDeadline();
+            if (remaining < 0) {
+                return DeadlineDataSource.invoke(target, method, args);
+            }
+            int seconds = (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(remaining + 999_999_999L));
+            int original = target.getQueryTimeout();
+            boolean applied = original == 0 || original > seconds;
+            if (applied) {
+                target.setQueryTimeout(seconds);
+            }
+            try {
+                return DeadlineDataSource.invoke(target, method, args);
+            } catch (SQLTimeoutException e) {
+                Deadline deadline = Deadline.current();
+                if (deadline != null) {
+                    deadline.markExceeded();
+                }
+                throw e;
+            } finally {
+                // 드라이버 Statement 캐시로 재사용될 수 있으므로 원래 타임아웃 복원
+                if (applied && !target.isClosed()) {
+                    target.setQueryTimeout(original);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.spm.global.deadline;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.spm.global.admission.EndpointClassifier;
+import com.example.spm.global.config.DeadlineProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 요청 데드라인 필터 - /api/** 요청 스레드에 데드라인을 설정해 DeadlineDataSource가 쿼리 타임아웃으로 전달하게 한다
+ *
+ * 데드라인은 엔드포인트 분류별 기본값을 쓰고, 데드라인 헤더(밀리초)가 있으면 maxTimeout 이내에서 그 값을 쓴다.
+ * 수용 제어를 통과한 뒤부터 계산하도록 수용 제어 필터 다음에 실행한다.
+ * 메트릭: catalog.deadline.exceeded{endpoint}
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class DeadlineFilter extends OncePerRequestFilter {
+
+    private final DeadlineProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public DeadlineFilter(DeadlineProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith("/api/")
+                || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String endpoint = EndpointClassifier.classify(request);
+        Duration budget = budget(request, endpoint);
+        if (budget == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Deadline deadline = Deadline.start(budget);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            Deadline.clear();
+            if (deadline.isExceeded()) {
+                Counter.builder("catalog.deadline.exceeded")
+                        .description("데드라인 초과로 중단한 요청 수")
+                        .tag("endpoint", endpoint)
+                        .register(meterRegistry)
+                        .increment();
+                log.debug("데드라인 초과 - endpoint: {}, budget: {}ms, uri: {}",
+                        endpoint, budget.toMillis(), request.getRequestURI());
+            }
+        }
+    }
+
+    /**
+     * 요청 데드라인 - 헤더 값(밀리초, maxTimeout 이내) 또는 엔드포인트 기본값 (둘 다 없으면 null)
+     */
+    private Duration budget(HttpServletRequest request, String endpoint) {
+        String header = request.getHeader(properties.getHeader());
+        if (header != null) {
+            try {
+                long millis = Long.parseLong(header.trim());
+                if (millis > 0) {
+                    return Duration.ofMillis(Math.min(millis, properties.getMaxTimeout().toMillis()));
+                }
+            } catch (NumberFormatException e) {
+                log.debug("잘못된 데드라인 헤더 무시 - {}: {}", properties.getHeader(), header);
+            }
+        }
+        return properties.getEndpoints().get(endpoint);
+    }
+}
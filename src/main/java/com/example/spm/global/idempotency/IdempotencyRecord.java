@@ -0,0 +1,26 @@
+package com.example.spm.global.idempotency;
+
+import java.time.Instant;
+
+/**
+ * 멱등 키 저장 항목
+ * @param fingerprint 요청 내용 해시 - 같은 키로 다른 요청을 보내면 거부
+ * @param status 응답 상태 코드 (처리 중이면 0)
+ * @param etag 응답 ETag 헤더 (없으면 null)
+ * @param body 응답 본문 JSON (처리 중이거나 본문이 없으면 null)
+ * @param expiresAt 만료 시각 (처리 중이면 잠금 만료 시각)
+ */
+public record IdempotencyRecord(String fingerprint, int status, String etag, String body, Instant expiresAt) {
+
+    public static IdempotencyRecord inProgress(String fingerprint, Instant lockExpiresAt) {
+        return new IdempotencyRecord(fingerprint, 0, null, null, lockExpiresAt);
+    }
+
+    public boolean isCompleted() {
+        return status != 0;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
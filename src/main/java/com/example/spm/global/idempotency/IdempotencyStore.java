@@ -0,0 +1,27 @@
+package com.example.spm.global.idempotency;
+
+import java.util.Optional;
+
+/**
+ * 멱등 키 저장소 - 기본은 메모리 저장소이며, 여러 인스턴스가 공유해야 하면 DB 테이블 구현으로 교체
+ * (IdempotencyStore 빈을 등록하면 메모리 저장소는 생성되지 않는다)
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키 선점 - 키가 없거나 만료되었으면 처리 중 항목을 저장하고 빈 값을 반환
+     * @return 이미 있는 항목 (처리 중 또는 완료)
+     * @throws com.example.spm.exception.BusinessException IDEMPOTENCY_STORE_FULL - 처리 중 항목만으로 가득 차 선점할 수 없는 경우
+     */
+    Optional<IdempotencyRecord> reserve(String key, IdempotencyRecord inProgress);
+
+    /**
+     * 처리 완료 - 응답 저장
+     */
+    void complete(String key, IdempotencyRecord completed);
+
+    /**
+     * 선점 해제 - 처리 실패 시 같은 키로 재시도할 수 있도록 제거
+     */
+    void release(String key);
+}
@@ -0,0 +1,92 @@
+package com.example.spm.global.idempotency;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.config.IdempotencyProperties;
+
+/**
+ * 메모리 멱등 키 저장소 - 최대 항목 수와 만료 시각으로 크기 제한
+ * 삽입 순서를 유지하므로 만료 항목은 앞에서부터 정리하고, 최대 항목 수를 넘으면 가장 오래된 완료(또는 만료) 항목을 제거한다.
+ * 만료되지 않은 처리 중 항목은 제거하지 않는다 - 제거하면 처리 중인 요청이 한 번 더 실행될 수 있으므로,
+ * 처리 중 항목만으로 가득 차면 새 키 선점을 IDEMPOTENCY_STORE_FULL로 거부한다.
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final IdempotencyProperties properties;
+    private final LinkedHashMap<String, IdempotencyRecord> records = new LinkedHashMap<>();
+
+    public InMemoryIdempotencyStore(IdempotencyProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized Optional<IdempotencyRecord> reserve(String key, IdempotencyRecord inProgress) {
+        Instant now = Instant.now();
+        evictExpired(now);
+
+        IdempotencyRecord existing = records.get(key);
+        if (existing != null && !existing.isExpired(now)) {
+            return Optional.of(existing);
+        }
+        records.remove(key);
+        if (records.size() >= properties.getMaxEntries()) {
+            evictOverflow(now, properties.getMaxEntries() - 1);
+            if (records.size() >= properties.getMaxEntries()) {
+                throw new BusinessException(ErrorCode.IDEMPOTENCY_STORE_FULL);
+            }
+        }
+        records.put(key, inProgress);
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized void complete(String key, IdempotencyRecord completed) {
+        // 보관 기간 기준으로 순서를 맞추기 위해 다시 삽입
+        records.remove(key);
+        records.put(key, completed);
+        evictOverflow(Instant.now(), properties.getMaxEntries());
+    }
+
+    @Override
+    public synchronized void release(String key) {
+        records.remove(key);
+    }
+
+    public synchronized int size() {
+        return records.size();
+    }
+
+    /**
+     * 앞쪽(오래된) 항목부터 만료 정리 - 만료되지 않은 항목을 만나면 중단
+     * (그 뒤의 만료된 처리 중 항목은 같은 키 재요청 시 또는 앞 항목이 정리된 뒤 제거된다)
+     */
+    private void evictExpired(Instant now) {
+        Iterator<Map.Entry<String, IdempotencyRecord>> iterator = records.entrySet().iterator();
+        while (iterator.hasNext()) {
+            IdempotencyRecord record = iterator.next().getValue();
+            if (!record.isExpired(now)) {
+                return;
+            }
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 오래된 항목부터 limit개가 될 때까지 제거 - 만료되지 않은 처리 중 항목은 건너뜀
+     */
+    private void evictOverflow(Instant now, int limit) {
+        Iterator<IdempotencyRecord> iterator = records.values().iterator();
+        while (records.size() > limit && iterator.hasNext()) {
+            IdempotencyRecord record = iterator.next();
+            if (record.isCompleted() || record.isExpired(now)) {
+                iterator.remove();
+            }
+        }
+    }
+}
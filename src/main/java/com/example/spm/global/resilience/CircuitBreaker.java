@@ -0,0 +1,168 @@
+package com.example.spm.global.resilience;
+
+import java.time.Duration;
+
+import com.example.spm.global.config.ResilienceProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 회로 차단기 - 최근 N회 호출의 실패/느린 호출 비율로 의존 시스템 장애를 판단
+ *
+ * CLOSED: 모든 호출 허용, 실패율이 임계값 이상이면 OPEN
+ * OPEN: 호출 차단, openDuration 이후 첫 요청이 HALF_OPEN으로 전환
+ * HALF_OPEN: halfOpenCalls회 시험 호출만 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 호출 허용 결과
+     * ALLOWED: 일반 호출, TRIAL: 반열림 시험 호출, REJECTED: 차단
+     */
+    public enum Permission {
+        ALLOWED, TRIAL, REJECTED
+    }
+
+    private final String name;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    /** 최근 호출 결과 (true: 실패 또는 느린 호출) */
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private volatile State state = State.CLOSED;
+    private long openedAt;
+    private int trialsStarted;
+    private int trialsSucceeded;
+
+    public CircuitBreaker(String name, ResilienceProperties.Breaker config) {
+        this.name = name;
+        this.window = new boolean[Math.max(1, config.getWindowSize())];
+        this.minimumCalls = Math.min(window.length, Math.max(1, config.getMinimumCalls()));
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.slowCallThresholdNanos = config.getSlowCallThreshold().toNanos();
+        this.openDurationNanos = config.getOpenDuration().toNanos();
+        this.halfOpenCalls = Math.max(1, config.getHalfOpenCalls());
+    }
+
+    /**
+     * 호출 허용 여부
+     */
+    public synchronized Permission acquire() {
+        switch (state) {
+            case CLOSED:
+                return Permission.ALLOWED;
+            case OPEN:
+                if (System.nanoTime() - openedAt < openDurationNanos) {
+                    return Permission.REJECTED;
+                }
+                transition(State.HALF_OPEN);
+                trialsStarted = 0;
+                trialsSucceeded = 0;
+                // fall through
+            default:
+                if (trialsStarted >= halfOpenCalls) {
+                    return Permission.REJECTED;
+                }
+                trialsStarted++;
+                return Permission.TRIAL;
+        }
+    }
+
+    /**
+     * 호출 성공 기록 - 느린 호출은 실패로 집계
+     * @return 느린 호출 여부
+     */
+    public boolean onSuccess(Permission permission, long elapsedNanos) {
+        boolean slow = elapsedNanos > slowCallThresholdNanos;
+        record(permission, slow);
+        return slow;
+    }
+
+    /**
+     * 호출 실패 기록 (DB 연결/조회 오류)
+     */
+    public void onFailure(Permission permission) {
+        record(permission, true);
+    }
+
+    /**
+     * 열림 상태 남은 시간 (열림이 아니면 0)
+     */
+    public synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openDurationNanos - (System.nanoTime() - openedAt)));
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private synchronized void record(Permission permission, boolean failed) {
+        if (permission == Permission.TRIAL) {
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            if (failed) {
+                open();
+            } else if (++trialsSucceeded >= halfOpenCalls) {
+                resetWindow();
+                transition(State.CLOSED);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            return;
+        }
+
+        if (windowCount == window.length && window[windowIndex]) {
+            windowFailures--;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+        windowCount = Math.min(window.length, windowCount + 1);
+
+        if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+            open();
+        }
+    }
+
+    private void open() {
+        openedAt = System.nanoTime();
+        resetWindow();
+        transition(State.OPEN);
+    }
+
+    private void resetWindow() {
+        windowIndex = 0;
+        windowCount = 0;
+        windowFailures = 0;
+    }
+
+    private void transition(State next) {
+        if (state != next) {
+            log.warn("회로 차단기 상태 변경 - {}: {} -> {}", name, state, next);
+            state = next;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.spm.global.resilience;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import com.example.spm.global.config.ResilienceProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 회로 차단기 레지스트리 - 설정된 이름별 차단기와 메트릭
+ * 메트릭: catalog.circuit.breaker.state{name} (0: 닫힘, 1: 열림, 2: 반열림),
+ *        catalog.circuit.breaker.calls{name, outcome=success|slow|failure|rejected|stale}
+ */
+@Component
+public class CircuitBreakerRegistry {
+
+    private final Map<String, CircuitBreaker> breakers = new LinkedHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public CircuitBreakerRegistry(ResilienceProperties properties, ObjectProvider<MeterRegistry> meterRegistryProvider) {
+        this.meterRegistry = meterRegistryProvider.getIfAvailable(SimpleMeterRegistry::new);
+        properties.getBreakers().forEach((name, config) -> {
+            CircuitBreaker breaker = new CircuitBreaker(name, config);
+            breakers.put(name, breaker);
+            Gauge.builder("catalog.circuit.breaker.state", breaker, b -> b.getState().ordinal())
+                    .description("회로 차단기 상태 (0: 닫힘, 1: 열림, 2: 반열림)")
+                    .tag("name", name)
+                    .register(meterRegistry);
+        });
+    }
+
+    public CircuitBreaker get(String name) {
+        CircuitBreaker breaker = breakers.get(name);
+        if (breaker == null) {
+            throw new IllegalStateException("정의되지 않은 회로 차단기입니다: " + name);
+        }
+        return breaker;
+    }
+
+    /**
+     * 호출 결과 집계
+     */
+    public void count(String name, String outcome) {
+        counters.computeIfAbsent(name + ":" + outcome, k -> Counter.builder("catalog.circuit.breaker.calls")
+                        .description("회로 차단기 보호 호출 결과")
+                        .tag("name", name)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.spm.global.resilience;
+
+import java.time.Duration;
+
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+
+/**
+ * 회로 차단 - 의존 시스템 장애로 호출을 차단했고 대신 반환할 결과도 없음
+ */
+public class CircuitOpenException extends BusinessException {
+
+    /** 재시도 권장 대기 시간 */
+    private final Duration retryAfter;
+
+    public CircuitOpenException(String breaker, Duration retryAfter) {
+        super(ErrorCode.DATABASE_UNAVAILABLE, "회로 차단기 열림: " + breaker);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.spm.global.serialization;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+/**
+ * 스트리밍 응답 변환기 공통 - 등록된 응답 DTO와 그 Page/목록만 처리하고 나머지는 Jackson에 위임
+ *
+ * Page는 Spring의 pageable/sort 메타데이터 없이 아래 필드만 기록한다.
+ * content, number, size, totalElements, totalPages, first, last, numberOfElements
+ *
+ * 응답이 버퍼 크기 이하이면 Content-Length를 지정해 서블릿 컨테이너의 압축 최소 크기 설정이 적용되도록 한다.
+ */
+public abstract class AbstractStreamingHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private static final int CONTENT_LENGTH_THRESHOLD = 8 * 1024;
+
+    private static final FieldName CONTENT = FieldName.of("content");
+    private static final FieldName NUMBER = FieldName.of("number");
+    private static final FieldName SIZE = FieldName.of("size");
+    private static final FieldName TOTAL_ELEMENTS = FieldName.of("totalElements");
+    private static final FieldName TOTAL_PAGES = FieldName.of("totalPages");
+    private static final FieldName FIRST = FieldName.of("first");
+    private static final FieldName LAST = FieldName.of("last");
+    private static final FieldName NUMBER_OF_ELEMENTS = FieldName.of("numberOfElements");
+
+    private final Map<Class<?>, StreamObjectWriter<?>> writers;
+
+    protected AbstractStreamingHttpMessageConverter(MediaType mediaType, Map<Class<?>, StreamObjectWriter<?>> writers) {
+        super(mediaType);
+        this.writers = Map.copyOf(writers);
+    }
+
+    /**
+     * 출력 형식별 작성기 생성
+     */
+    protected abstract StructuredWriter createWriter(OutputStream out);
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return writers.containsKey(clazz);
+    }
+
+    /**
+     * 선언된 반환 타입 기준으로 판단 - Page&lt;T&gt;/List&lt;T&gt;는 T가 등록된 경우에만 처리
+     */
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (!canWrite(mediaType)) {
+            return false;
+        }
+        ResolvableType resolved = type != null ? ResolvableType.forType(type) : ResolvableType.forClass(clazz);
+        Class<?> raw = resolved.toClass();
+        if (Page.class.isAssignableFrom(raw) || Collection.class.isAssignableFrom(raw)) {
+            Class<?> element = resolved.as(Page.class.isAssignableFrom(raw) ? Page.class : Collection.class)
+                    .getGeneric(0).resolve();
+            return element != null && writers.containsKey(element);
+        }
+        return writers.containsKey(raw);
+    }
+
+    @Override
+    protected void writeInternal(Object value, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        DeferredBody body = new DeferredBody(outputMessage);
+        writeTo(value, body);
+        body.finish();
+    }
+
+    /**
+     * 값을 출력 스트림에 기록 (벤치마크 등에서 직접 호출 가능)
+     */
+    public void writeTo(Object value, OutputStream out) throws IOException {
+        StructuredWriter writer = createWriter(out);
+        if (value instanceof Page<?> page) {
+            writePage(writer, page);
+        } else if (value instanceof Collection<?> values) {
+            writeArray(writer, values);
+        } else {
+            writeObject(writer, value);
+        }
+        writer.flush();
+    }
+
+    private void writePage(StructuredWriter writer, Page<?> page) throws IOException {
+        writer.beginObject();
+        writer.name(CONTENT);
+        writeArray(writer, page.getContent());
+        writer.name(NUMBER).value(page.getNumber());
+        writer.name(SIZE).value(page.getSize());
+        writer.name(TOTAL_ELEMENTS).value(page.getTotalElements());
+        writer.name(TOTAL_PAGES).value(page.getTotalPages());
+        writer.name(FIRST).value(page.isFirst());
+        writer.name(LAST).value(page.isLast());
+        writer.name(NUMBER_OF_ELEMENTS).value(page.getNumberOfElements());
+        writer.endObject();
+    }
+
+    private void writeArray(StructuredWriter writer, Collection<?> values) throws IOException {
+        writer.beginArray();
+        for (Object value : values) {
+            writeObject(writer, value);
+        }
+        writer.endArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeObject(StructuredWriter writer, Object value) throws IOException {
+        if (value == null) {
+            writer.nullValue();
+            return;
+        }
+        StreamObjectWriter<Object> objectWriter = (StreamObjectWriter<Object>) writers.get(value.getClass());
+        if (objectWriter == null) {
+            throw new HttpMessageNotWritableException("스트리밍 기록기가 없는 타입: " + value.getClass().getName());
+        }
+        objectWriter.write(writer, value);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("읽기를 지원하지 않습니다", inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("읽기를 지원하지 않습니다", inputMessage);
+    }
+
+    /**
+     * 응답 본문 지연 출력 - 임계 크기 이하면 모아 두었다가 Content-Length와 함께 기록
+     */
+    private static final class DeferredBody extends OutputStream {
+
+        private final HttpOutputMessage message;
+        private final byte[] pending = new byte[CONTENT_LENGTH_THRESHOLD];
+        private int count;
+        private OutputStream target;
+
+        DeferredBody(HttpOutputMessage message) {
+            this.message = message;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[] { (byte) b }, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (target == null && count + length <= pending.length) {
+                System.arraycopy(bytes, offset, pending, count, length);
+                count += length;
+                return;
+            }
+            if (target == null) {
+                target = message.getBody();
+                target.write(pending, 0, count);
+            }
+            target.write(bytes, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (target != null) {
+                target.flush();
+            }
+        }
+
+        void finish() throws IOException {
+            if (target == null) {
+                message.getHeaders().setContentLength(count);
+                message.getBody().write(pending, 0, count);
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.spm.global.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * CBOR(RFC 8949) 스트리밍 작성기 - 객체/배열은 길이 미지정(indefinite-length) 형식으로 기록
+ *
+ * 정수는 값 크기에 맞는 최소 바이트, 실수는 정밀도 손실이 없으면 float32로 기록한다.
+ */
+public final class CborStreamWriter implements StructuredWriter {
+
+    static final int MAJOR_UNSIGNED = 0;
+    static final int MAJOR_NEGATIVE = 1;
+    static final int MAJOR_TEXT = 3;
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+    private static final int INDEFINITE_ARRAY = 0x9F;
+    private static final int INDEFINITE_MAP = 0xBF;
+    private static final int BREAK = 0xFF;
+    private static final int FALSE = 0xF4;
+    private static final int TRUE = 0xF5;
+    private static final int NULL = 0xF6;
+    private static final int FLOAT32 = 0xFA;
+    private static final int FLOAT64 = 0xFB;
+
+    private final OutputStream out;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+
+    public CborStreamWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    /**
+     * 주 타입 + 인자 헤더 기록 (필드명 사전 인코딩용)
+     */
+    static void writeHeader(ByteArrayOutputStream target, int majorType, long argument) {
+        byte[] header = new byte[9];
+        int length = encodeHeader(header, 0, majorType, argument);
+        target.write(header, 0, length);
+    }
+
+    private static int encodeHeader(byte[] target, int offset, int majorType, long argument) {
+        int type = majorType << 5;
+        if (argument < 24) {
+            target[offset] = (byte) (type | argument);
+            return 1;
+        }
+        if (argument <= 0xFFL) {
+            target[offset] = (byte) (type | 24);
+            target[offset + 1] = (byte) argument;
+            return 2;
+        }
+        if (argument <= 0xFFFFL) {
+            target[offset] = (byte) (type | 25);
+            target[offset + 1] = (byte) (argument >> 8);
+            target[offset + 2] = (byte) argument;
+            return 3;
+        }
+        if (argument <= 0xFFFFFFFFL) {
+            target[offset] = (byte) (type | 26);
+            for (int i = 0; i < 4; i++) {
+                target[offset + 1 + i] = (byte) (argument >> (24 - 8 * i));
+            }
+            return 5;
+        }
+        target[offset] = (byte) (type | 27);
+        for (int i = 0; i < 8; i++) {
+            target[offset + 1 + i] = (byte) (argument >> (56 - 8 * i));
+        }
+        return 9;
+    }
+
+    @Override
+    public CborStreamWriter beginObject() throws IOException {
+        writeByte(INDEFINITE_MAP);
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter endObject() throws IOException {
+        writeByte(BREAK);
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter beginArray() throws IOException {
+        writeByte(INDEFINITE_ARRAY);
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter endArray() throws IOException {
+        writeByte(BREAK);
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter name(FieldName name) throws IOException {
+        writeBytes(name.cbor());
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter nullValue() throws IOException {
+        writeByte(NULL);
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter value(String value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeHead(MAJOR_TEXT, utf8.length);
+        writeBytes(utf8);
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter value(long value) throws IOException {
+        if (value >= 0) {
+            writeHead(MAJOR_UNSIGNED, value);
+        } else {
+            writeHead(MAJOR_NEGATIVE, -1 - value);
+        }
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter value(boolean value) throws IOException {
+        writeByte(value ? TRUE : FALSE);
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter value(Double value) throws IOException {
+        if (value == null) {
+            return nullValue();
+        }
+        double d = value;
+        float f = (float) d;
+        if (f == d || Double.isNaN(d)) {
+            int bits = Float.floatToIntBits(f);
+            ensureCapacity(5);
+            buffer[position++] = (byte) FLOAT32;
+            for (int i = 0; i < 4; i++) {
+                buffer[position++] = (byte) (bits >> (24 - 8 * i));
+            }
+        } else {
+            long bits = Double.doubleToLongBits(d);
+            ensureCapacity(9);
+            buffer[position++] = (byte) FLOAT64;
+            for (int i = 0; i < 8; i++) {
+                buffer[position++] = (byte) (bits >> (56 - 8 * i));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public CborStreamWriter value(LocalDateTime value) throws IOException {
+        return value == null ? nullValue() : value(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+        out.flush();
+    }
+
+    private void writeHead(int majorType, long argument) throws IOException {
+        ensureCapacity(9);
+        position += encodeHeader(buffer, position, majorType, argument);
+    }
+
+    private void writeBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length) {
+            flushBuffer();
+            out.write(bytes);
+            return;
+        }
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void writeByte(int b) throws IOException {
+        ensureCapacity(1);
+        buffer[position++] = (byte) b;
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (position + length > buffer.length) {
+            flushBuffer();
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.spm.global.serialization;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 미리 인코딩된 필드명 - JSON("name":)과 CBOR(text string) 바이트를 한 번만 만들어 재사용
+ */
+public final class FieldName {
+
+    private final String name;
+    private final byte[] json;
+    private final byte[] cbor;
+
+    private FieldName(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                throw new IllegalArgumentException("필드명에 사용할 수 없는 문자: " + name);
+            }
+        }
+        byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+        this.name = name;
+        this.json = ("\"" + name + "\":").getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(utf8.length + 9);
+        CborStreamWriter.writeHeader(header, CborStreamWriter.MAJOR_TEXT, utf8.length);
+        header.writeBytes(utf8);
+        this.cbor = header.toByteArray();
+    }
+
+    public static FieldName of(String name) {
+        return new FieldName(name);
+    }
+
+    byte[] json() {
+        return json;
+    }
+
+    byte[] cbor() {
+        return cbor;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.spm.global.serialization;
+
+import java.io.IOException;
+
+/**
+ * 타입별 스트리밍 기록기 - 객체 하나를 {@link StructuredWriter}에 기록 (JSON/CBOR 공용)
+ */
+@FunctionalInterface
+public interface StreamObjectWriter<T> {
+
+    void write(StructuredWriter writer, T value) throws IOException;
+}
@@ -0,0 +1,21 @@
+package com.example.spm.global.serialization;
+
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 스트리밍 CBOR 응답 변환기 (application/cbor) - Accept 헤더로 요청한 경우에만 사용
+ */
+public class StreamingCborHttpMessageConverter extends AbstractStreamingHttpMessageConverter {
+
+    public StreamingCborHttpMessageConverter(Map<Class<?>, StreamObjectWriter<?>> writers) {
+        super(MediaType.APPLICATION_CBOR, writers);
+    }
+
+    @Override
+    protected StructuredWriter createWriter(OutputStream out) {
+        return new CborStreamWriter(out);
+    }
+}
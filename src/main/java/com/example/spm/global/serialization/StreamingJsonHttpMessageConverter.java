@@ -0,0 +1,21 @@
+package com.example.spm.global.serialization;
+
+import java.io.OutputStream;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+/**
+ * 스트리밍 JSON 응답 변환기 (application/json) - UTF-8 압축 출력
+ */
+public class StreamingJsonHttpMessageConverter extends AbstractStreamingHttpMessageConverter {
+
+    public StreamingJsonHttpMessageConverter(Map<Class<?>, StreamObjectWriter<?>> writers) {
+        super(MediaType.APPLICATION_JSON, writers);
+    }
+
+    @Override
+    protected StructuredWriter createWriter(OutputStream out) {
+        return new JsonStreamWriter(out);
+    }
+}
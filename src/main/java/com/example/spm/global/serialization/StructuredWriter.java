@@ -0,0 +1,49 @@
+package com.example.spm.global.serialization;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * 스트리밍 구조화 데이터 작성기 - JSON/CBOR 구현이 같은 호출 순서를 공유
+ * 스레드 안전하지 않으며 응답 하나에 하나씩 생성해 사용한다.
+ */
+public interface StructuredWriter {
+
+    StructuredWriter beginObject() throws IOException;
+
+    StructuredWriter endObject() throws IOException;
+
+    StructuredWriter beginArray() throws IOException;
+
+    StructuredWriter endArray() throws IOException;
+
+    /**
+     * 필드명 기록 - 이어서 값 메서드를 호출한다
+     */
+    StructuredWriter name(FieldName name) throws IOException;
+
+    StructuredWriter nullValue() throws IOException;
+
+    StructuredWriter value(String value) throws IOException;
+
+    StructuredWriter value(long value) throws IOException;
+
+    StructuredWriter value(boolean value) throws IOException;
+
+    StructuredWriter value(Double value) throws IOException;
+
+    /**
+     * ISO-8601 문자열 (DateTimeFormatter.ISO_LOCAL_DATE_TIME: 초는 항상, 소수 초는 있을 때만) - Jackson 기본 형식과 동일
+     */
+    StructuredWriter value(LocalDateTime value) throws IOException;
+
+    default StructuredWriter value(Long value) throws IOException {
+        return value == null ? nullValue() : value(value.longValue());
+    }
+
+    default StructuredWriter value(Enum<?> value) throws IOException {
+        return value == null ? nullValue() : value(value.name());
+    }
+
+    void flush() throws IOException;
+}
@@ -0,0 +1,215 @@
+package com.example.spm.global.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 문자열 Bloom 필터 - "확실히 없음"과 "있을 수도 있음"만 판별 (false negative 없음)
+ *
+ * 해시는 MurmurHash3(x64, 128bit)의 두 64bit 값을 조합(h1 + i * h2)해 k개를 만든다.
+ * 비트 배열은 AtomicLongArray로 관리하므로 조회와 추가를 잠금 없이 동시에 수행할 수 있다.
+ * 삭제는 지원하지 않으며, 삭제된 값은 재생성 전까지 false positive로만 남는다.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int numHashes;
+    private final long capacity;
+    private final LongAdder bitCount = new LongAdder();
+
+    private BloomFilter(long bitSize, int numHashes, long capacity) {
+        this.bits = new AtomicLongArray((int) ((bitSize + 63) >>> 6));
+        this.bitSize = (long) bits.length() << 6;
+        this.numHashes = numHashes;
+        this.capacity = capacity;
+    }
+
+    /**
+     * 예상 원소 수와 목표 오탐률로 생성
+     * 비트 수 m = -n·ln(p) / (ln2)², 해시 수 k = m/n·ln2
+     */
+    public static BloomFilter create(long expectedInsertions, double fpp) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp는 0과 1 사이여야 합니다: " + fpp);
+        }
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) Math.ceil(-n * Math.log(fpp) / (LN2 * LN2)));
+        if (m > (long) Integer.MAX_VALUE * Long.SIZE) {
+            throw new IllegalArgumentException("필터 크기가 너무 큽니다: " + expectedInsertions);
+        }
+        int k = Math.max(1, (int) Math.round((double) m / n * LN2));
+        return new BloomFilter(m, k, n);
+    }
+
+    /**
+     * 값 추가
+     * @return 새로 설정된 비트가 있으면 true (처음 추가된 값일 가능성이 높음)
+     */
+    public boolean put(String value) {
+        long[] hash = murmur3(value.getBytes(StandardCharsets.UTF_8));
+        long combined = hash[0];
+        boolean changed = false;
+        for (int i = 0; i < numHashes; i++) {
+            changed |= setBit((combined & Long.MAX_VALUE) % bitSize);
+            combined += hash[1];
+        }
+        return changed;
+    }
+
+    /**
+     * 포함 가능성 조회 - false면 확실히 없음
+     */
+    public boolean mightContain(String value) {
+        long[] hash = murmur3(value.getBytes(StandardCharsets.UTF_8));
+        long combined = hash[0];
+        for (int i = 0; i < numHashes; i++) {
+            if (!getBit((combined & Long.MAX_VALUE) % bitSize)) {
+                return false;
+            }
+            combined += hash[1];
+        }
+        return true;
+    }
+
+    /**
+     * 현재 비트 채움 비율 기준 예상 오탐률 ((설정 비트 / 전체 비트)^k)
+     */
+    public double expectedFpp() {
+        return Math.pow((double) bitCount.sum() / bitSize, numHashes);
+    }
+
+    /**
+     * 설정된 비트 수로 추정한 원소 수 (-m/k·ln(1 - X/m))
+     */
+    public long approximateElementCount() {
+        double fraction = (double) bitCount.sum() / bitSize;
+        return Math.round(-Math.log1p(-fraction) * bitSize / numHashes);
+    }
+
+    /** 생성 시 지정한 예상 원소 수 */
+    public long capacity() {
+        return capacity;
+    }
+
+    public long bitSize() {
+        return bitSize;
+    }
+
+    public int numHashes() {
+        return numHashes;
+    }
+
+    private boolean setBit(long index) {
+        int word = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = bits.get(word);
+            if ((current & mask) != 0) {
+                return false;
+            }
+        } while (!bits.compareAndSet(word, current, current | mask));
+        bitCount.increment();
+        return true;
+    }
+
+    private boolean getBit(long index) {
+        return (bits.get((int) (index >>> 6)) & (1L << index)) != 0;
+    }
+
+    // --- MurmurHash3 x64 128bit (seed 0) ---
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * MurmurHash3 x64 128bit 해시 (seed 0) - {h1, h2}, 테스트에서 공개 테스트 벡터와 대조
+     * 꼬리 바이트 처리는 원본 구현과 같이 의도적으로 case를 이어서 실행한다.
+     */
+    @SuppressWarnings("fallthrough")
+    static long[] murmur3(byte[] data) {
+        int length = data.length;
+        int blocks = length >>> 4;
+        long h1 = 0;
+        long h2 = 0;
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = getLong(data, i << 4);
+            long k2 = getLong(data, (i << 4) + 8);
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27) + h2;
+            h1 = h1 * 5 + 0x52dce729;
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31) + h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks << 4;
+        switch (length & 15) {
+            case 15: k2 ^= (long) (data[tail + 14] & 0xff) << 48; // fall through
+            case 14: k2 ^= (long) (data[tail + 13] & 0xff) << 40; // fall through
+            case 13: k2 ^= (long) (data[tail + 12] & 0xff) << 32; // fall through
+            case 12: k2 ^= (long) (data[tail + 11] & 0xff) << 24; // fall through
+            case 11: k2 ^= (long) (data[tail + 10] & 0xff) << 16; // fall through
+            case 10: k2 ^= (long) (data[tail + 9] & 0xff) << 8; // fall through
+            case 9: k2 ^= data[tail + 8] & 0xff;
+                h2 ^= mixK2(k2); // fall through
+            case 8: k1 ^= (long) (data[tail + 7] & 0xff) << 56; // fall through
+            case 7: k1 ^= (long) (data[tail + 6] & 0xff) << 48; // fall through
+            case 6: k1 ^= (long) (data[tail + 5] & 0xff) << 40; // fall through
+            case 5: k1 ^= (long) (data[tail + 4] & 0xff) << 32; // fall through
+            case 4: k1 ^= (long) (data[tail + 3] & 0xff) << 24; // fall through
+            case 3: k1 ^= (long) (data[tail + 2] & 0xff) << 16; // fall through
+            case 2: k1 ^= (long) (data[tail + 1] & 0xff) << 8; // fall through
+            case 1: k1 ^= data[tail] & 0xff;
+                h1 ^= mixK1(k1); // fall through
+            default:
+                break;
+        }
+
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[] {h1, h2};
+    }
+
+    private static long getLong(byte[] data, int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (data[offset + i] & 0xff);
+        }
+        return value;
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
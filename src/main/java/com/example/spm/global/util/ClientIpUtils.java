@@ -0,0 +1,131 @@
+package com.example.spm.global.util;
+
+import java.util.List;
+
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 IP/식별자 유틸리티
+ *
+ * 식별 결과는 ClientIdentityFilter가 요청 속성으로 기록하며, 이 유틸리티는 기록된 값을 읽는다.
+ * 필터를 거치지 않은 요청은 접속 주소(remoteAddr)만 사용한다 - 프록시 헤더는 신뢰할 프록시에서 온 경우에만 해석한다.
+ */
+public final class ClientIpUtils {
+
+    /** 요청 속성 - 클라이언트 IP */
+    public static final String CLIENT_IP_ATTRIBUTE = ClientIpUtils.class.getName() + ".clientIp";
+
+    /** 요청 속성 - 클라이언트 식별자 (key:API 키 또는 ip:클라이언트 IP) */
+    public static final String CLIENT_ID_ATTRIBUTE = ClientIpUtils.class.getName() + ".clientId";
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private ClientIpUtils() {
+    }
+
+    /**
+     * 클라이언트 IP 주소 (ClientIdentityFilter가 해석한 값, 없으면 접속 주소)
+     */
+    public static String getClientIP(HttpServletRequest request) {
+        Object ip = request.getAttribute(CLIENT_IP_ATTRIBUTE);
+        return ip instanceof String value ? value : request.getRemoteAddr();
+    }
+
+    /**
+     * 클라이언트 식별자 (ClientIdentityFilter가 해석한 값, 없으면 ip:접속 주소)
+     */
+    public static String getClientId(HttpServletRequest request) {
+        Object id = request.getAttribute(CLIENT_ID_ATTRIBUTE);
+        return id instanceof String value ? value : "ip:" + getClientIP(request);
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 요청의 클라이언트 IP (요청 스레드가 아니면 null)
+     */
+    public static String currentClientIP() {
+        HttpServletRequest request = currentRequest();
+        return request != null ? getClientIP(request) : null;
+    }
+
+    /**
+     * 현재 스레드에 바인딩된 요청의 클라이언트 식별자 (요청 스레드가 아니면 null)
+     */
+    public static String currentClientId() {
+        HttpServletRequest request = currentRequest();
+        return request != null ? getClientId(request) : null;
+    }
+
+    /**
+     * 프록시 헤더를 반영한 클라이언트 IP 해석
+     * 접속 주소가 신뢰할 프록시일 때만 X-Forwarded-For를 오른쪽(가까운 홉)부터 읽어, 신뢰할 프록시가 아닌 첫 주소를 사용한다.
+     * 왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 신뢰 구간을 벗어난 뒤의 값은 보지 않는다.
+     */
+    public static String resolveClientIP(HttpServletRequest request, List<IpAddressMatcher> trustedProxies) {
+        String ip = request.getRemoteAddr();
+        if (trustedProxies.isEmpty() || !isTrusted(ip, trustedProxies)) {
+            return ip;
+        }
+        String forwardedFor = request.getHeader(FORWARDED_FOR);
+        if (forwardedFor == null || forwardedFor.isBlank()) {
+            return ip;
+        }
+        String[] hops = forwardedFor.split(",");
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (!isIpLiteral(hop)) {
+                // 신뢰할 프록시가 기록한 값이 주소가 아니면 마지막으로 확인한 홉을 사용
+                return ip;
+            }
+            ip = hop;
+            if (!isTrusted(hop, trustedProxies)) {
+                return hop;
+            }
+        }
+        return ip;
+    }
+
+    private static boolean isTrusted(String ip, List<IpAddressMatcher> trustedProxies) {
+        if (!isIpLiteral(ip)) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            try {
+                if (matcher.matches(ip)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * IPv4/IPv6 리터럴 여부 (호스트명 해석으로 DNS 조회가 일어나지 않도록 먼저 확인)
+     */
+    private static boolean isIpLiteral(String value) {
+        if (value == null || value.isEmpty() || value.length() > 45) {
+            return false;
+        }
+        boolean colon = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == ':') {
+                colon = true;
+            } else if (!(c == '.' || Character.digit(c, 16) >= 0)) {
+                return false;
+            }
+        }
+        return colon || value.chars().allMatch(c -> c == '.' || (c >= '0' && c <= '9'));
+    }
+
+    private static HttpServletRequest currentRequest() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes ? servletAttributes.getRequest() : null;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.spm.global.util;
+
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+
+/**
+ * 엔티티 버전 ↔ ETag 변환 유틸리티
+ */
+public final class ETagUtils {
+
+    private ETagUtils() {
+    }
+
+    /**
+     * 버전 → ETag (강한 검증자, 예: "3")
+     */
+    public static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-Match 헤더 → 기대 버전
+     * @return 헤더가 없거나 "*"이면 null (버전 확인 없이 수정)
+     * @throws BusinessException 형식이 올바르지 않으면 PRECONDITION_FAILED
+     */
+    public static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            value = value.substring(1, value.length() - 1);
+        }
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.PRODUCT_VERSION_MISMATCH, "If-Match 값이 올바르지 않습니다: " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.spm.global.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 텍스트 컬럼 압축 유틸리티 - 임계 크기 이상 값만 gzip + Base64로 저장
+ *
+ * 압축 값은 일반 텍스트에 나타나지 않는 제어 문자(0x1F)로 시작하는 접두사로 구분하며,
+ * 압축 결과가 원문보다 크면 원문을 그대로 저장한다.
+ */
+public final class TextCompressionUtils {
+
+    private static final String PREFIX = "\u001Fgz:";
+
+    private TextCompressionUtils() {
+    }
+
+    /**
+     * 원문의 UTF-8 크기가 threshold 바이트 이상이고 압축 효과가 있으면 압축 문자열 반환
+     */
+    public static String compress(String value, int threshold) {
+        if (value == null || value.length() * 3 < threshold || isCompressed(value)) {
+            return value;
+        }
+        byte[] raw = value.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < threshold) {
+            return value;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(raw.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        String compressed = PREFIX + Base64.getEncoder().encodeToString(buffer.toByteArray());
+        return compressed.length() < raw.length ? compressed : value;
+    }
+
+    /**
+     * 압축 문자열이면 원문으로 복원, 아니면 그대로 반환
+     */
+    public static String decompress(String value) {
+        if (!isCompressed(value)) {
+            return value;
+        }
+        byte[] compressed = Base64.getDecoder().decode(value.substring(PREFIX.length()));
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("압축 값 복원 실패", e);
+        }
+    }
+
+    public static boolean isCompressed(String value) {
+        return value != null && value.startsWith(PREFIX);
+    }
+
+    /**
+     * 저장 크기 (UTF-8 바이트) - 압축 효과 측정용
+     */
+    public static long storedBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        return isCompressed(value) ? value.length() : value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
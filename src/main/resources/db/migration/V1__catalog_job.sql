@@ -0,0 +1,22 @@
+-- 비동기 작업 (청크 단위 실행 상태와 체크포인트)
+-- 대기/실행 중 작업 조회(재시작 복구, 중복 실행 확인)는 status 인덱스를 사용한다.
+
+CREATE TABLE catalog_job (
+    job_id             BIGINT        NOT NULL AUTO_INCREMENT,
+    job_type           VARCHAR(255)  NOT NULL,
+    status             VARCHAR(255)  NOT NULL,
+    params             TEXT          NULL,
+    checkpoint         BIGINT        NULL,
+    processed_count    BIGINT        NOT NULL DEFAULT 0,
+    total_count        BIGINT        NULL,
+    stats              TEXT          NULL,
+    error_message      VARCHAR(1000) NULL,
+    cancel_requested   BIT(1)        NOT NULL DEFAULT b'0',
+    started_at         DATETIME(6)   NULL,
+    finished_at        DATETIME(6)   NULL,
+    created_date       DATETIME(6)   NULL,
+    last_modified_date DATETIME(6)   NULL,
+    PRIMARY KEY (job_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX idx_catalog_job_status ON catalog_job (status);
@@ -0,0 +1,13 @@
+-- 상품 Soft Delete (deleted_at) 및 "삭제되지 않은 상품 + 등록일 정렬" 조회용 복합 인덱스
+-- MySQL에는 부분 인덱스가 없으므로 deleted_at을 선두 컬럼으로 두어 IS NULL 조건과 정렬을 함께 처리한다.
+
+ALTER TABLE product
+    ADD COLUMN deleted_at DATETIME(6) NULL;
+
+-- 이전에 상태만 DELETED로 바뀐 상품은 마지막 수정 시각을 삭제 시각으로 간주
+UPDATE product
+SET deleted_at = COALESCE(last_modified_date, NOW(6))
+WHERE status = 'DELETED'
+  AND deleted_at IS NULL;
+
+CREATE INDEX idx_product_deleted_created ON product (deleted_at, created_date);
@@ -0,0 +1,19 @@
+-- 상품 옵션 - 옵션명/옵션값 정규화(앞뒤 공백 제거 + 소문자) 저장, 상품별 중복 방지 제약, 속성 필터(EXISTS)용 인덱스
+-- 정규화 후 같은 (상품, 옵션명, 옵션값)이 되는 행은 먼저 등록된 하나만 남긴다.
+
+DELETE o
+FROM product_option o
+         JOIN product_option k
+              ON k.product_id = o.product_id
+                  AND LOWER(TRIM(k.option_name)) = LOWER(TRIM(o.option_name))
+                  AND LOWER(TRIM(k.option_value)) = LOWER(TRIM(o.option_value))
+                  AND k.option_id < o.option_id;
+
+UPDATE product_option
+SET option_name  = LOWER(TRIM(option_name)),
+    option_value = LOWER(TRIM(option_value));
+
+CREATE INDEX idx_option_name_value_product ON product_option (option_name, option_value, product_id);
+
+ALTER TABLE product_option
+    ADD CONSTRAINT uk_option_product_name_value UNIQUE (product_id, option_name, option_value);
@@ -0,0 +1,12 @@
+-- 변경 이력 - 변경 대상 엔티티(entity_type, entity_id)와 값 형식(value_format)
+-- 기존 행은 세 컬럼 모두 NULL로 두며, 값 형식은 ProductChangeLog.getValueFormat()이 TEXT로 판단한다.
+
+ALTER TABLE product_change_log
+    ADD COLUMN entity_type  VARCHAR(30) NULL,
+    ADD COLUMN entity_id    BIGINT      NULL,
+    ADD COLUMN value_format VARCHAR(10) NULL;
+
+CREATE INDEX idx_change_log_entity ON product_change_log (entity_type, entity_id);
+
+-- 상품별 이력 재생/시점 조회 (product_id 조건 + change_log_id 순서)
+CREATE INDEX idx_change_log_product ON product_change_log (product_id, change_log_id);
@@ -0,0 +1,17 @@
+-- 상품 이력 스냅샷 (변경 이력 N건마다의 상품 상태)
+-- 시점 조회는 상품별 가장 가까운 스냅샷을 last_change_log_id 순서로 찾는다.
+-- product_id는 외래 키를 두지 않는다 - 상품 물리 삭제 배치가 스냅샷을 먼저 삭제한다.
+
+CREATE TABLE product_snapshot (
+    snapshot_id        BIGINT      NOT NULL AUTO_INCREMENT,
+    product_id         BIGINT      NOT NULL,
+    last_change_log_id BIGINT      NOT NULL,
+    snapshot_at        DATETIME(6) NOT NULL,
+    state              TEXT        NOT NULL,
+    change_count       BIGINT      NOT NULL,
+    created_date       DATETIME(6) NULL,
+    last_modified_date DATETIME(6) NULL,
+    PRIMARY KEY (snapshot_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE INDEX idx_product_snapshot_product ON product_snapshot (product_id, last_change_log_id);
@@ -0,0 +1,10 @@
+-- 낙관적 잠금 버전 컬럼 (@Version) - 기존 행은 0부터 시작
+
+ALTER TABLE product
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE inventory
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE price_history
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,184 @@
+package com.example.spm.domain.changelog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.spm.domain.entity.Category;
+import com.example.spm.domain.entity.Product;
+import com.example.spm.domain.entity.ProductOption;
+import com.example.spm.domain.enums.ProductStatus;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Version;
+
+/**
+ * 엔티티 변경 비교 엔진 테스트
+ * 변경 필드 추출, 식별자/@Version/@DiffIgnore 제외, null 처리, 연관 엔티티 ID와 표시 이름 기록을 검증한다.
+ */
+class EntityDiffEngineTest {
+
+    private final EntityDiffEngine engine = new EntityDiffEngine();
+
+    @Test
+    void diffContainsOnlyChangedFields() {
+        Product product = product(category(1L, "전자제품"));
+        EntitySnapshot before = engine.snapshot(product);
+
+        product.update("새 상품명", product.getDescription(), product.getCategory(), ProductStatus.INACTIVE);
+        FieldChanges changes = engine.diff(before, engine.snapshot(product));
+
+        assertThat(changes.fields()).containsExactly("productName", "status");
+        assertThat(changes.oldValues()).containsExactly(
+                Map.entry("productName", "상품"), Map.entry("status", "ACTIVE"));
+        assertThat(changes.newValues()).containsExactly(
+                Map.entry("productName", "새 상품명"), Map.entry("status", "INACTIVE"));
+    }
+
+    @Test
+    void unchangedEntityHasNoChanges() {
+        Product product = product(null);
+
+        assertThat(engine.diff(engine.snapshot(product), engine.snapshot(product)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void snapshotExcludesIdentifierAndVersion() {
+        Product product = product(null);
+        ReflectionTestUtils.setField(product, "productId", 10L);
+        ReflectionTestUtils.setField(product, "version", 3L);
+
+        EntitySnapshot snapshot = engine.snapshot(product);
+
+        assertThat(snapshot.entityType()).isEqualTo("Product");
+        assertThat(snapshot.entityId()).isEqualTo(10L);
+        assertThat(snapshot.owner()).isSameAs(product);
+        assertThat(snapshot.toMap()).containsOnlyKeys(
+                "productCode", "productName", "description", "categoryId", "categoryName", "status", "deletedAt");
+    }
+
+    @Test
+    void nullValuesAreComparedAndRecorded() {
+        Product product = product(null);
+        EntitySnapshot before = engine.snapshot(product);
+
+        product.update(product.getProductName(), "설명 추가", null, null);
+        FieldChanges added = engine.diff(before, engine.snapshot(product));
+        assertThat(added.fields()).containsExactly("description");
+        assertThat(added.oldValues()).containsEntry("description", null);
+
+        EntitySnapshot withDescription = engine.snapshot(product);
+        product.update(product.getProductName(), null, null, null);
+        FieldChanges removed = engine.diff(withDescription, engine.snapshot(product));
+        assertThat(removed.newValues()).containsEntry("description", null);
+    }
+
+    @Test
+    void relationIsRecordedAsIdWithReadableName() {
+        Product product = product(category(1L, "전자제품"));
+        EntitySnapshot before = engine.snapshot(product);
+        assertThat(before.toMap()).containsEntry("categoryId", 1L).containsEntry("categoryName", "전자제품");
+
+        product.update(product.getProductName(), product.getDescription(), category(2L, "도서"), null);
+        FieldChanges changes = engine.diff(before, engine.snapshot(product));
+
+        assertThat(changes.fields()).containsExactly("categoryId", "categoryName");
+        assertThat(changes.newValues()).containsEntry("categoryId", 2L).containsEntry("categoryName", "도서");
+
+        product.update(product.getProductName(), product.getDescription(), null, null);
+        assertThat(engine.snapshot(product).toMap()).containsEntry("categoryId", null).containsEntry("categoryName", null);
+    }
+
+    @Test
+    void ownedEntityRecordsOwnerIdWithoutLabel() {
+        Product product = product(null);
+        ReflectionTestUtils.setField(product, "productId", 7L);
+        ProductOption option = ProductOption.builder().product(product).optionName("color").optionValue("red").build();
+
+        EntitySnapshot snapshot = engine.snapshot(option);
+
+        assertThat(snapshot.owner()).isSameAs(product);
+        assertThat(snapshot.toMap()).containsEntry("productId", 7L).doesNotContainKey("productName");
+    }
+
+    @Test
+    void diffIgnoreAndVersionFieldsAreExcluded() {
+        EntityDescriptor descriptor = EntityDescriptor.of(Tracked.class);
+        Tracked tracked = new Tracked();
+        EntitySnapshot before = descriptor.snapshot(tracked);
+
+        tracked.name = "변경";
+        tracked.internal = "무시";
+        tracked.version = 2;
+        FieldChanges changes = engine.diff(before, descriptor.snapshot(tracked));
+
+        assertThat(before.toMap()).containsOnlyKeys("productId", "name");
+        assertThat(changes.fields()).containsExactly("name");
+    }
+
+    @Test
+    void untrackedEntityIsRejected() {
+        assertThatThrownBy(() -> engine.snapshot(category(1L, "전자제품")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Product product(Category category) {
+        return Product.builder()
+                .productCode("P-001")
+                .productName("상품")
+                .category(category)
+                .build();
+    }
+
+    private static Category category(Long categoryId, String categoryName) {
+        Category category = new Category();
+        ReflectionTestUtils.setField(category, "categoryId", categoryId);
+        ReflectionTestUtils.setField(category, "categoryName", categoryName);
+        return category;
+    }
+
+    /**
+     * @DiffIgnore 확인용 엔티티
+     */
+    public static class Tracked {
+
+        @Id
+        Long id = 1L;
+
+        @ManyToOne
+        Product product = Product.builder().productCode("P-002").productName("소유 상품").build();
+
+        String name = "이름";
+
+        @DiffIgnore
+        String internal;
+
+        @Version
+        long version;
+
+        public Long getId() {
+            return id;
+        }
+
+        public Product getProduct() {
+            return product;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getInternal() {
+            return internal;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+    }
+}
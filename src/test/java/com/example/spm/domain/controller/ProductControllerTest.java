@@ -0,0 +1,69 @@
+package com.example.spm.domain.controller;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.service.ProdService;
+import com.example.spm.global.client.ClientIdentityFilter;
+
+/**
+ * 상품 컨트롤러 응답 형식 테스트
+ * 상품 목록과 패싯 목록 API가 같은 페이지 필드(pageable/sort 메타데이터 제외)로 응답하는지 검증한다.
+ */
+@SpringBootTest
+class ProductControllerTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ClientIdentityFilter clientIdentityFilter;
+
+    @Autowired
+    private ProdService prodService;
+
+    private MockMvc mockMvc;
+    private String productCode;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(clientIdentityFilter).build();
+        productCode = "FACETED-" + System.nanoTime();
+        prodService.createProduct(ProdDto.Request.builder()
+                .productCode(productCode)
+                .productName("패싯 응답 테스트")
+                .build());
+    }
+
+    @Test
+    void facetedProductsUseSlimPageEnvelope() throws Exception {
+        mockMvc.perform(get("/api/products/faceted").param("productCode", productCode).param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.products.content[0].productCode").value(productCode))
+                .andExpect(jsonPath("$.products.number").value(0))
+                .andExpect(jsonPath("$.products.size").value(5))
+                .andExpect(jsonPath("$.products.totalElements").value(1))
+                .andExpect(jsonPath("$.products.totalPages").value(1))
+                .andExpect(jsonPath("$.products.first").value(true))
+                .andExpect(jsonPath("$.products.last").value(true))
+                .andExpect(jsonPath("$.products.numberOfElements").value(1))
+                .andExpect(jsonPath("$.products.pageable").doesNotExist())
+                .andExpect(jsonPath("$.products.sort").doesNotExist());
+
+        mockMvc.perform(get("/api/products").param("productCode", productCode).param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].productCode").value(productCode))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.pageable").doesNotExist());
+    }
+}
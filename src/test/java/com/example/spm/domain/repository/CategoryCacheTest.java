@@ -0,0 +1,124 @@
+package com.example.spm.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spm.domain.entity.Category;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 카테고리 2차 캐시 / 쿼리 캐시 테스트
+ * 캐시 적중과 쓰기(벌크 변경, 삭제) 시 무효화를 검증한다.
+ */
+@SpringBootTest
+class CategoryCacheTest {
+
+    private static final String REGION = "category";
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        // JDBC로 직접 저장 - 캐시를 거치지 않은 상태에서 시작
+        LocalDateTime now = LocalDateTime.now();
+        categoryId = new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName("category")
+                .usingGeneratedKeyColumns("category_id")
+                .executeAndReturnKey(Map.of(
+                        "category_name", "전자제품",
+                        "depth", 1,
+                        "sort_order", 1,
+                        "created_date", now,
+                        "last_modified_date", now))
+                .longValue();
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByIdServedFromCacheAfterFirstLoad() {
+        categoryRepository.findById(categoryId);
+        categoryRepository.findById(categoryId);
+
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(REGION);
+        assertThat(region.getMissCount()).isEqualTo(1);
+        assertThat(region.getPutCount()).isEqualTo(1);
+        assertThat(region.getHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkUpdateInvalidatesCachedCategory() {
+        categoryRepository.findById(categoryId);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Category c SET c.categoryName = :name WHERE c.categoryId = :id")
+                .setParameter("name", "가전")
+                .setParameter("id", categoryId)
+                .executeUpdate());
+
+        assertThat(categoryRepository.findById(categoryId))
+                .map(Category::getCategoryName)
+                .hasValue("가전");
+    }
+
+    @Test
+    void deleteEvictsCachedCategory() {
+        categoryRepository.findById(categoryId);
+
+        categoryRepository.deleteById(categoryId);
+
+        assertThat(categoryRepository.findById(categoryId)).isEmpty();
+    }
+
+    @Test
+    void findAllQueryCacheInvalidatedOnWrite() {
+        categoryRepository.findAll();
+        categoryRepository.findAll();
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> entityManager
+                .createQuery("UPDATE Category c SET c.categoryName = :name WHERE c.categoryId = :id")
+                .setParameter("name", "생활용품")
+                .setParameter("id", categoryId)
+                .executeUpdate());
+
+        assertThat(categoryRepository.findAll())
+                .filteredOn(category -> category.getCategoryId().equals(categoryId))
+                .extracting(Category::getCategoryName)
+                .containsExactly("생활용품");
+    }
+}
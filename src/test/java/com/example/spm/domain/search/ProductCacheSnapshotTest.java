@@ -0,0 +1,132 @@
+package com.example.spm.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.enums.ProductStatus;
+
+/**
+ * 상품 캐시 스냅샷 파일 테스트
+ * 저장 후 읽기 왕복(null 필드 포함), 손상/잘린 파일과 다른 형식 버전 거절, 옵션 조건 결과 제외를 검증한다.
+ */
+class ProductCacheSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writeThenReadRoundTrip() throws IOException {
+        ProdDto.Response full = ProdDto.Response.builder()
+                .productId(1L)
+                .productCode("P-1")
+                .productName("노트북 \"프로\"")
+                .description("설명")
+                .categoryId(10L)
+                .categoryName("전자")
+                .status(ProductStatus.INACTIVE)
+                .version(3L)
+                .build();
+        ProdDto.Response sparse = ProdDto.Response.builder()
+                .productId(Long.MAX_VALUE)
+                .productCode("P-2")
+                .productName("이름")
+                .build();
+        ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                .productName("노트북")
+                .minPrice(1_000d)
+                .build();
+        ProductCacheSnapshot.SearchResult result = new ProductCacheSnapshot.SearchResult(condition, 20, 10,
+                new ProductSearchCache.Result(List.of(1L, Long.MAX_VALUE), 22));
+
+        Path path = dir.resolve("nested/product-cache.snap");
+        ProductCacheSnapshot.write(path, new ProductCacheSnapshot.Snapshot(7, 99, 1_700_000_000_000L,
+                List.of(full, sparse), List.of(result)));
+        ProductCacheSnapshot.Snapshot read = ProductCacheSnapshot.read(path);
+
+        assertThat(read.catalogVersion()).isEqualTo(7);
+        assertThat(read.watermark()).isEqualTo(99);
+        assertThat(read.createdAtMillis()).isEqualTo(1_700_000_000_000L);
+        assertThat(read.products()).containsExactly(full, sparse);
+        assertThat(read.results()).hasSize(1);
+        ProductCacheSnapshot.SearchResult readResult = read.results().get(0);
+        assertThat(readResult.condition().coalescingKey()).isEqualTo(condition.coalescingKey());
+        assertThat(readResult.offset()).isEqualTo(20);
+        assertThat(readResult.size()).isEqualTo(10);
+        assertThat(readResult.result()).isEqualTo(result.result());
+        try (var files = Files.list(path.getParent())) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+    @Test
+    void corruptOrTruncatedFileIsRejected() throws IOException {
+        Path path = writeSample();
+        byte[] bytes = Files.readAllBytes(path);
+
+        byte[] corrupt = bytes.clone();
+        corrupt[30] ^= 0x01;
+        Files.write(path, corrupt);
+        assertThatThrownBy(() -> ProductCacheSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("체크섬");
+
+        Files.write(path, Arrays.copyOf(bytes, 20));
+        assertThatThrownBy(() -> ProductCacheSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("크기");
+    }
+
+    @Test
+    void otherFormatVersionIsRejected() throws IOException {
+        Path path = writeSample();
+        byte[] bytes = Files.readAllBytes(path);
+
+        // 형식 버전(매직 다음 int)만 바꾸고 체크섬은 다시 계산 - 체크섬이 아닌 형식 확인에서 거절되어야 한다
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES, 0);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - Long.BYTES);
+        ByteBuffer.wrap(bytes).putLong(bytes.length - Long.BYTES, crc.getValue());
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> ProductCacheSnapshot.read(path))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("형식");
+    }
+
+    @Test
+    void optionKeysAreNotSnapshotted() {
+        ProductSearchCache.Result result = new ProductSearchCache.Result(List.of(1L), 1);
+        ProdDto.SearchCondition withOptions = ProdDto.SearchCondition.builder()
+                .options(Map.of("color", List.of("red")))
+                .build();
+        ProdDto.SearchCondition plain = ProdDto.SearchCondition.builder().productCode("P").build();
+
+        assertThat(ProductCacheSnapshot.toSearchResult(
+                new ProductSearchCache.ResultKey(1, withOptions.coalescingKey(), 0, 10), result)).isNull();
+        ProductCacheSnapshot.SearchResult entry = ProductCacheSnapshot.toSearchResult(
+                new ProductSearchCache.ResultKey(1, plain.coalescingKey(), 0, 10), result);
+        assertThat(entry).isNotNull();
+        assertThat(entry.condition().coalescingKey()).isEqualTo(plain.coalescingKey());
+    }
+
+    private Path writeSample() throws IOException {
+        Path path = dir.resolve("product-cache.snap");
+        ProductCacheSnapshot.write(path, new ProductCacheSnapshot.Snapshot(1, 1, System.currentTimeMillis(),
+                List.of(ProdDto.Response.builder().productId(1L).productCode("P-1").productName("이름").build()),
+                List.of()));
+        return path;
+    }
+}
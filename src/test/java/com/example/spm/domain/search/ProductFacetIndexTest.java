@@ -0,0 +1,59 @@
+package com.example.spm.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.spm.domain.enums.ProductStatus;
+
+/**
+ * 상품 패싯 메모리 인덱스 테스트
+ * 가격 구간 경계(첫 하한 미만 제외, 마지막 구간 상한 없음), 여러 가격을 가진 상품, 삭제 상품 제외를 검증한다.
+ */
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex(List.of(50_000d, 1_000d, 10_000d));
+    }
+
+    @Test
+    void priceBelowFirstBoundIsNotCounted() {
+        index.put(1L, 10L, ProductStatus.ACTIVE, false, List.of(500d));
+        index.put(2L, 10L, ProductStatus.ACTIVE, false, List.of(1_000d));
+        index.put(3L, 10L, ProductStatus.ACTIVE, false, List.of(9_999.99d));
+        index.put(4L, 10L, ProductStatus.ACTIVE, false, List.of(10_000d));
+        index.put(5L, 10L, ProductStatus.ACTIVE, false, List.of(1_000_000d));
+
+        ProductFacetIndex.Counts counts = index.count(index.live());
+        assertThat(index.bucketBounds()).containsExactly(1_000d, 10_000d, 50_000d);
+        assertThat(counts.total()).isEqualTo(5);
+        assertThat(counts.priceBuckets()).containsExactly(2, 1, 1);
+    }
+
+    @Test
+    void productWithSeveralPricesCountsInEachBucket() {
+        index.put(1L, null, ProductStatus.INACTIVE, false, List.of(2_000d, 20_000d, 200d));
+
+        ProductFacetIndex.Counts counts = index.count(index.live());
+        assertThat(counts.priceBuckets()).containsExactly(1, 1, 0);
+        assertThat(counts.categories()).containsEntry(ProductFacetIndex.NO_CATEGORY, 1L);
+        assertThat(counts.statuses()).containsEntry(ProductStatus.INACTIVE, 1L);
+    }
+
+    @Test
+    void deletedProductLeavesAllFacets() {
+        index.put(1L, 10L, ProductStatus.ACTIVE, false, List.of(2_000d));
+        index.put(1L, 10L, ProductStatus.ACTIVE, true, List.of(2_000d));
+
+        ProductFacetIndex.Counts counts = index.count(index.live());
+        assertThat(counts.total()).isZero();
+        assertThat(counts.categories()).isEmpty();
+        assertThat(counts.priceBuckets()).containsOnly(0L);
+    }
+}
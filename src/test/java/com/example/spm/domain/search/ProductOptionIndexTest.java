@@ -0,0 +1,58 @@
+package com.example.spm.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 상품 옵션 메모리 인덱스 테스트
+ * 옵션명/옵션값 정규화, 상품 삭제 시 제거, 인덱스 범위를 넘는 상품 ID 처리를 검증한다.
+ */
+class ProductOptionIndexTest {
+
+    private ProductOptionIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductOptionIndex();
+        index.add(1L, "Color", "Red");
+        index.add(2L, "color", " red ");
+        index.add(2L, "Size", "L");
+        index.add(3L, "Color", "Blue");
+        index.markReady();
+    }
+
+    @Test
+    void matchIgnoresCaseAndSurroundingWhitespace() {
+        assertThat(index.match(Map.of(" COLOR ", List.of("RED"))).toArray()).containsExactly(1, 2);
+        assertThat(index.match(Map.of("color", List.of("red", "BLUE"), "size", List.of("l"))).toArray())
+                .containsExactly(2);
+        assertThat(index.match(Map.of("weight", List.of("1kg"))).isEmpty()).isTrue();
+    }
+
+    @Test
+    void removeProductDropsAllOptionsAndEmptyEntries() {
+        index.removeProduct(2L);
+
+        assertThat(index.valueCounts(null)).isEqualTo(Map.of("color", Map.of("red", 1L, "blue", 1L)));
+        assertThat(index.optionNames()).containsExactly("color");
+    }
+
+    @Test
+    void productIdBeyondIntRangeFallsBackToDatabaseUntilReload() {
+        index.add((long) Integer.MAX_VALUE + 1, "Color", "Red");
+
+        assertThat(index.isReady()).isFalse();
+        index.markReady();
+        assertThat(index.isReady()).isFalse();
+
+        index.clear();
+        index.add(1L, "Color", "Red");
+        index.markReady();
+        assertThat(index.isReady()).isTrue();
+    }
+}
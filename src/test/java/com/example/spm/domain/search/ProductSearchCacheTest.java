@@ -0,0 +1,115 @@
+package com.example.spm.domain.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.global.config.SearchCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 상품 검색 결과 캐시 테스트
+ * 카탈로그 버전에 따른 저장/무효화, 결과별 상품 ID 수 기준 용량 한도, 적중/미스 메트릭을 검증한다.
+ */
+class ProductSearchCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ProductSearchCache cache;
+
+    @BeforeEach
+    void setUp() {
+        SearchCacheProperties properties = new SearchCacheProperties();
+        properties.setMaxResultIds(10);
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        cache = new ProductSearchCache(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @Test
+    void invalidateBumpsVersionAndHidesEarlierResults() {
+        long version = cache.currentVersion();
+        ProductSearchCache.ResultKey key = key(version, "노트북");
+        cache.putResult(key, new ProductSearchCache.Result(List.of(1L, 2L), 2));
+        cache.putProducts(version, List.of(response(1L), response(2L)));
+
+        cache.invalidate(1L);
+
+        assertThat(cache.currentVersion()).isEqualTo(version + 1);
+        assertThat(cache.getResult(key(cache.currentVersion(), "노트북"))).isNull();
+        assertThat(cache.resultEntries()).isEmpty();
+        assertThat(cache.getProducts(List.of(1L, 2L))).containsOnlyKeys(2L);
+        assertThat(meterRegistry.get("catalog.product.search.cache.version").gauge().value())
+                .isEqualTo(version + 1);
+    }
+
+    @Test
+    void staleVersionIsNotStored() {
+        long version = cache.currentVersion();
+        cache.invalidate(null);
+
+        // 조회 도중 변경이 커밋된 경우 - 시작 시점 버전의 결과/상품은 저장하지 않는다
+        cache.putResult(key(version, "노트북"), new ProductSearchCache.Result(List.of(1L), 1));
+        cache.putProducts(version, List.of(response(1L)));
+
+        assertThat(cache.getResult(key(version, "노트북"))).isNull();
+        assertThat(cache.getProducts(List.of(1L))).isEmpty();
+    }
+
+    @Test
+    void resultWeightIsBoundedByProductIdCount() throws InterruptedException {
+        long version = cache.currentVersion();
+        List<Long> sixIds = List.of(1L, 2L, 3L, 4L, 5L, 6L);
+        cache.putResult(key(version, "a"), new ProductSearchCache.Result(sixIds, 6));
+        cache.putResult(key(version, "b"), new ProductSearchCache.Result(sixIds, 6));
+        cache.putResult(key(version, "c"), new ProductSearchCache.Result(sixIds, 6));
+
+        // 제거는 비동기로 반영되므로 잠시 대기 - 합계 10 이하가 되려면 결과 하나만 남아야 한다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (cache.resultEntries().size() > 1 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(cache.resultEntries()).hasSize(1);
+        assertThat(meterRegistry.get("cache.evictions").tag("cache", "product.search.results")
+                .functionCounter().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void hitAndMissAreRecorded() {
+        long version = cache.currentVersion();
+        ProductSearchCache.ResultKey key = key(version, "노트북");
+        assertThat(cache.getResult(key)).isNull();
+        cache.putResult(key, new ProductSearchCache.Result(List.of(1L), 1));
+        assertThat(cache.getResult(key)).isNotNull();
+        assertThat(cache.getResult(key)).isNotNull();
+
+        cache.putProducts(version, List.of(response(1L)));
+        assertThat(cache.getProducts(List.of(1L, 2L))).containsOnlyKeys(1L);
+
+        assertThat(gets("product.search.results", "hit")).isEqualTo(2);
+        assertThat(gets("product.search.results", "miss")).isEqualTo(1);
+        assertThat(gets("product.responses", "hit")).isEqualTo(1);
+        assertThat(gets("product.responses", "miss")).isEqualTo(1);
+    }
+
+    private double gets(String cacheName, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", cacheName).tag("result", result)
+                .functionCounter().count();
+    }
+
+    private static ProductSearchCache.ResultKey key(long version, String productName) {
+        return new ProductSearchCache.ResultKey(version,
+                ProdDto.SearchCondition.builder().productName(productName).build().coalescingKey(), 0, 10);
+    }
+
+    private static ProdDto.Response response(Long productId) {
+        return ProdDto.Response.builder().productId(productId).productCode("P" + productId).build();
+    }
+}
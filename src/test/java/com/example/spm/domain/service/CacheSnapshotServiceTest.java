@@ -0,0 +1,165 @@
+package com.example.spm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.repository.ProductChangeLogRepository;
+import com.example.spm.domain.search.ProductCacheSnapshot;
+import com.example.spm.domain.search.ProductSearchCache;
+import com.example.spm.global.config.CacheSnapshotProperties;
+import com.example.spm.global.config.SearchCacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 캐시 스냅샷 저장/복원 테스트
+ * 저장한 캐시가 재기동(새 캐시)에서 그대로 복원되는지, 기준점 이후 변경 이력이 있는 상품과 검색 결과는 복원하지 않는지,
+ * 오래되었거나 손상된 스냅샷은 복원하지 않는지 검증한다.
+ * 운영 빈과 분리하기 위해 캐시/서비스는 임시 경로로 직접 구성한다.
+ */
+@SpringBootTest
+class CacheSnapshotServiceTest {
+
+    @Autowired
+    private ProdService prodService;
+
+    @Autowired
+    private ProductChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @TempDir
+    Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private CacheSnapshotProperties properties;
+    private ProdDto.Response first;
+    private ProdDto.Response second;
+    private ProductSearchCache.ResultKey resultKey;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        properties = new CacheSnapshotProperties();
+        properties.setPath(dir.resolve("product-cache.snap").toString());
+        properties.setReconcileMargin(Duration.ZERO);
+
+        String prefix = "SNAPSHOT-" + System.nanoTime();
+        first = create(prefix + "-1");
+        second = create(prefix + "-2");
+        resultKey = new ProductSearchCache.ResultKey(0,
+                ProdDto.SearchCondition.builder().productCode(prefix).build().coalescingKey(), 0, 10);
+        // 생성 이력이 저장 시각(reconcileMargin 0) 이전이 되도록 간격을 둔다
+        Thread.sleep(20);
+    }
+
+    @Test
+    void restoresWrittenCacheWhenNothingChanged() {
+        writeSnapshot();
+
+        ProductSearchCache restored = newCache();
+        newService(restored).restore();
+
+        assertThat(restored.getProducts(List.of(first.getProductId(), second.getProductId())))
+                .containsOnlyKeys(first.getProductId(), second.getProductId());
+        assertThat(restored.getProducts(List.of(first.getProductId())).get(first.getProductId())).isEqualTo(first);
+        assertThat(restored.getResult(resultKey).productIds())
+                .containsExactly(first.getProductId(), second.getProductId());
+        assertThat(meterRegistry.get("catalog.cache.snapshot.duration").tag("operation", "restore").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void productWithNewerChangeLogIsNotRestored() {
+        writeSnapshot();
+        prodService.updateProduct(second.getProductId(), ProdDto.Request.builder()
+                .productCode(second.getProductCode())
+                .productName("스냅샷 이후 수정")
+                .build(), null);
+
+        ProductSearchCache restored = newCache();
+        newService(restored).restore();
+
+        assertThat(restored.getProducts(List.of(first.getProductId(), second.getProductId())))
+                .containsOnlyKeys(first.getProductId());
+        // 변경된 상품이 하나라도 있으면 검색 결과는 복원하지 않는다
+        assertThat(restored.getResult(resultKey)).isNull();
+    }
+
+    @Test
+    void oldSnapshotIsNotRestored() throws IOException {
+        properties.setMaxAge(Duration.ofMinutes(5));
+        ProductCacheSnapshot.write(Path.of(properties.getPath()), new ProductCacheSnapshot.Snapshot(0,
+                Long.MAX_VALUE, System.currentTimeMillis() - Duration.ofMinutes(6).toMillis(), List.of(first),
+                List.of()));
+
+        ProductSearchCache restored = newCache();
+        newService(restored).restore();
+
+        assertThat(restored.getProducts(List.of(first.getProductId()))).isEmpty();
+    }
+
+    @Test
+    void corruptSnapshotIsIgnoredAndOverwritten() throws IOException {
+        Path path = Path.of(properties.getPath());
+        Files.write(path, new byte[64]);
+
+        ProductSearchCache restored = newCache();
+        CacheSnapshotService service = newService(restored);
+        service.restore();
+        assertThat(restored.getProducts(List.of(first.getProductId()))).isEmpty();
+
+        // 복원 시도 이후에는 저장이 가능하고 정상 파일로 교체된다
+        restored.putProducts(restored.currentVersion(), List.of(first));
+        service.write();
+        assertThat(ProductCacheSnapshot.read(path).products()).containsExactly(first);
+    }
+
+    /**
+     * 실행 중 캐시를 채우고 종료 시 저장 - 저장은 복원 시도 이후에만 동작하므로 먼저 restore (파일 없음)
+     */
+    private void writeSnapshot() {
+        ProductSearchCache running = newCache();
+        CacheSnapshotService service = newService(running);
+        service.restore();
+        running.putProducts(running.currentVersion(), List.of(first, second));
+        running.putResult(resultKey, new ProductSearchCache.Result(
+                List.of(first.getProductId(), second.getProductId()), 2));
+        service.destroy();
+        assertThat(Files.exists(Path.of(properties.getPath()))).isTrue();
+    }
+
+    private ProdDto.Response create(String productCode) {
+        return prodService.createProduct(ProdDto.Request.builder()
+                .productCode(productCode)
+                .productName("스냅샷 테스트")
+                .build());
+    }
+
+    private ProductSearchCache newCache() {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", new SimpleMeterRegistry());
+        return new ProductSearchCache(new SearchCacheProperties(), beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    private CacheSnapshotService newService(ProductSearchCache cache) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        return new CacheSnapshotService(cache, changeLogRepository, categoryService, properties,
+                beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+}
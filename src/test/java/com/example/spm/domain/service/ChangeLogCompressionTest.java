@@ -0,0 +1,140 @@
+package com.example.spm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.entity.ProductChangeLog;
+import com.example.spm.domain.repository.ProductChangeLogRepository;
+import com.example.spm.global.util.TextCompressionUtils;
+
+/**
+ * 기존 변경 이력 압축 마이그레이션 테스트
+ * 압축 대상만 변환되고 엔티티로 읽으면 원문이 복원되는지, 다시 실행해도 변경이 없는지(멱등)를 검증한다.
+ */
+@SpringBootTest
+class ChangeLogCompressionTest {
+
+    private static final String LARGE = "{\"description\":\"" + "긴 상품 설명 ".repeat(200) + "\"}";
+    private static final String SMALL = "{\"description\":\"짧은 설명\"}";
+
+    @Autowired
+    private ChangeLogService changeLogService;
+
+    @Autowired
+    private ProdService prodService;
+
+    @Autowired
+    private ProductChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long afterId;
+    private Long largeLogId;
+    private Long smallLogId;
+
+    @BeforeEach
+    void setUp() {
+        Long productId = prodService.createProduct(ProdDto.Request.builder()
+                .productCode("COMPRESS-" + System.nanoTime())
+                .productName("압축 테스트")
+                .build()).getProductId();
+        afterId = changeLogRepository.findMaxChangeLogId();
+
+        // 압축 도입 이전에 저장된 원문 이력 (변환기를 거치지 않도록 직접 저장)
+        largeLogId = insertLegacyLog(productId, LARGE, SMALL);
+        smallLogId = insertLegacyLog(productId, null, SMALL);
+    }
+
+    @Test
+    void compressesLargeValuesAndKeepsContent() {
+        Migration first = migrate();
+
+        assertThat(first.rows()).isEqualTo(2);
+        assertThat(first.compressedValues()).isEqualTo(1);
+        assertThat(first.bytesAfter()).isLessThan(first.bytesBefore());
+
+        assertThat(TextCompressionUtils.isCompressed(storedOldValue(largeLogId))).isTrue();
+        assertThat(storedNewValue(largeLogId)).isEqualTo(SMALL);
+        assertThat(storedOldValue(smallLogId)).isNull();
+
+        ProductChangeLog large = changeLogRepository.findById(largeLogId).orElseThrow();
+        assertThat(large.getOldValue()).isEqualTo(LARGE);
+        assertThat(large.getNewValue()).isEqualTo(SMALL);
+    }
+
+    @Test
+    void rerunningMigrationChangesNothing() {
+        migrate();
+        String compressed = storedOldValue(largeLogId);
+
+        Migration second = migrate();
+
+        assertThat(second.rows()).isEqualTo(2);
+        assertThat(second.compressedValues()).isZero();
+        assertThat(second.bytesAfter()).isEqualTo(second.bytesBefore());
+        assertThat(storedOldValue(largeLogId)).isEqualTo(compressed);
+    }
+
+    /**
+     * 작업 핸들러와 같이 청크 단위로 끝까지 실행 (청크 크기 1로 경계 확인)
+     */
+    private Migration migrate() {
+        Long cursor = afterId;
+        int rows = 0;
+        int compressedValues = 0;
+        long bytesBefore = 0;
+        long bytesAfter = 0;
+        while (true) {
+            ChangeLogService.CompressionChunk chunk = changeLogService.compressChunk(cursor, 1);
+            if (chunk.rows() == 0) {
+                return new Migration(rows, compressedValues, bytesBefore, bytesAfter);
+            }
+            rows += chunk.rows();
+            compressedValues += chunk.compressedValues();
+            bytesBefore += chunk.bytesBefore();
+            bytesAfter += chunk.bytesAfter();
+            cursor = chunk.lastId();
+        }
+    }
+
+    private record Migration(int rows, int compressedValues, long bytesBefore, long bytesAfter) {
+    }
+
+    private Long insertLegacyLog(Long productId, String oldValue, String newValue) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("product_id", productId);
+        row.put("change_type", "UPDATE");
+        row.put("changed_field", "description");
+        row.put("old_value", oldValue);
+        row.put("new_value", newValue);
+        row.put("changed_by", "SYSTEM");
+        row.put("changed_date", LocalDateTime.now());
+        return new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName("product_change_log")
+                .usingGeneratedKeyColumns("change_log_id")
+                .executeAndReturnKey(row)
+                .longValue();
+    }
+
+    private String storedOldValue(Long changeLogId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT old_value FROM product_change_log WHERE change_log_id = ?", String.class, changeLogId);
+    }
+
+    private String storedNewValue(Long changeLogId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT new_value FROM product_change_log WHERE change_log_id = ?", String.class, changeLogId);
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.spm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spm.domain.dto.JobDto;
+import com.example.spm.domain.enums.JobStatus;
+import com.example.spm.domain.enums.JobType;
+import com.example.spm.domain.repository.CatalogJobRepository;
+import com.example.spm.domain.service.job.JobChunk;
+import com.example.spm.domain.service.job.JobContext;
+import com.example.spm.domain.service.job.JobHandler;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.bulkhead.BulkheadRegistry;
+import com.example.spm.global.concurrency.OptimisticLockRetry;
+import com.example.spm.global.config.JobProperties;
+
+/**
+ * 비동기 작업 실행 테스트
+ * 청크 처리를 제어할 수 있는 핸들러로 실패 후 체크포인트 재개, 실행 중 취소와 재개를 검증한다.
+ * 핸들러만 바꾼 JobService를 직접 구성하며, 등록/취소/재개는 컨트롤러와 같이 트랜잭션 안에서 호출한다.
+ */
+@SpringBootTest
+class JobServiceTest {
+
+    private static final int CHUNK_SIZE = 10;
+    private static final long TOTAL = 50;
+
+    @Autowired
+    private CatalogJobRepository jobRepository;
+
+    @Autowired
+    private JobProperties jobProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private OptimisticLockRetry optimisticLockRetry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Autowired
+    private JobService realJobService;
+
+    private final SteppingHandler handler = new SteppingHandler();
+    private ExecutorService executor;
+    private TransactionTemplate transactionTemplate;
+    private JobService jobService;
+    private int chunkSize;
+
+    @BeforeEach
+    void setUp() {
+        chunkSize = jobProperties.getChunkSize();
+        jobProperties.setChunkSize(CHUNK_SIZE);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        jobService = new JobService(jobRepository, List.of(handler), jobProperties, executor, transactionManager,
+                optimisticLockRetry, bulkheadRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        handler.release();
+        executor.shutdownNow();
+        jobProperties.setChunkSize(chunkSize);
+    }
+
+    @Test
+    void failedJobResumesFromLastCheckpoint() throws InterruptedException {
+        handler.failAt = 20L;
+        Long jobId = submit();
+
+        JobDto.Response failed = awaitStatus(jobId, JobStatus.FAILED);
+        assertThat(failed.getCheckpoint()).isEqualTo(20L);
+        assertThat(failed.getProcessedCount()).isEqualTo(20);
+        assertThat(failed.getStats()).containsEntry("items", 20L);
+        assertThat(failed.getErrorMessage()).contains("청크 실패");
+
+        handler.failAt = null;
+        transactionTemplate.execute(status -> jobService.resume(jobId));
+        JobDto.Response completed = awaitStatus(jobId, JobStatus.COMPLETED);
+
+        // 실패한 청크만 같은 체크포인트에서 다시 실행하고, 커밋된 청크는 반복하지 않는다
+        assertThat(handler.checkpoints).containsExactly(null, 10L, 20L, 20L, 30L, 40L);
+        assertThat(completed.getCheckpoint()).isEqualTo(TOTAL);
+        assertThat(completed.getProcessedCount()).isEqualTo(TOTAL);
+        assertThat(completed.getTotalCount()).isEqualTo(TOTAL);
+        assertThat(completed.getStats()).containsEntry("items", TOTAL);
+        assertThat(completed.getErrorMessage()).isNull();
+    }
+
+    @Test
+    void cancelStopsAfterCurrentChunkAndResumes() throws InterruptedException {
+        handler.blockAt = 10L;
+        Long jobId = submit();
+        assertThat(handler.blocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        JobDto.Response requested = transactionTemplate.execute(status -> jobService.cancel(jobId));
+        assertThat(requested.getStatus()).isEqualTo(JobStatus.RUNNING);
+        assertThat(jobRepository.isCancelRequested(jobId)).isTrue();
+
+        handler.release();
+        JobDto.Response cancelled = awaitStatus(jobId, JobStatus.CANCELLED);
+        assertThat(cancelled.getCheckpoint()).isEqualTo(20L);
+        assertThat(cancelled.getProcessedCount()).isEqualTo(20);
+        assertThat(handler.checkpoints).containsExactly(null, 10L);
+
+        transactionTemplate.execute(status -> jobService.resume(jobId));
+        JobDto.Response completed = awaitStatus(jobId, JobStatus.COMPLETED);
+        assertThat(handler.checkpoints).containsExactly(null, 10L, 20L, 30L, 40L);
+        assertThat(completed.getProcessedCount()).isEqualTo(TOTAL);
+        assertThat(completed.isCancelRequested()).isFalse();
+
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> jobService.cancel(jobId)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOB_INVALID_STATE);
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> jobService.resume(jobId)))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOB_INVALID_STATE);
+    }
+
+    @Test
+    void statusChangeRejectsDeleted() {
+        assertThatThrownBy(() -> realJobService.submit(JobType.PRODUCT_STATUS_CHANGE, Map.of("status", "deleted")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOB_INVALID_PARAMETER);
+        assertThatThrownBy(() -> realJobService.submit(JobType.PRODUCT_STATUS_CHANGE, Map.of("status", "UNKNOWN")))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.JOB_INVALID_PARAMETER);
+    }
+
+    private Long submit() {
+        return transactionTemplate.execute(status ->
+                jobService.submit(JobType.PRODUCT_STATUS_CHANGE, Map.of())).getJobId();
+    }
+
+    private JobDto.Response awaitStatus(Long jobId, JobStatus expected) throws InterruptedException {
+        Predicate<JobDto.Response> reached = job -> job.getStatus() == expected;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        JobDto.Response job = jobService.getJob(jobId);
+        while (!reached.test(job) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = jobService.getJob(jobId);
+        }
+        assertThat(job.getStatus()).isEqualTo(expected);
+        return job;
+    }
+
+    /**
+     * 1부터 TOTAL까지의 키를 청크 단위로 처리하는 핸들러 - 받은 체크포인트를 기록하고,
+     * failAt 체크포인트에서 실패하거나 blockAt 체크포인트에서 release까지 대기한다.
+     */
+    private static class SteppingHandler implements JobHandler {
+
+        final List<Long> checkpoints = new CopyOnWriteArrayList<>();
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch proceed = new CountDownLatch(1);
+        volatile Long failAt;
+        volatile Long blockAt;
+
+        @Override
+        public JobType type() {
+            return JobType.PRODUCT_STATUS_CHANGE;
+        }
+
+        @Override
+        public Long countTotal(Map<String, String> params) {
+            return TOTAL;
+        }
+
+        @Override
+        public JobChunk processChunk(JobContext context, Long checkpoint, int chunkSize) {
+            checkpoints.add(checkpoint);
+            long from = checkpoint != null ? checkpoint : 0L;
+            if (failAt != null && failAt == from) {
+                failAt = null;
+                throw new IllegalStateException("청크 실패");
+            }
+            if (blockAt != null && blockAt == from) {
+                blockAt = null;
+                blocked.countDown();
+                try {
+                    proceed.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            long next = Math.min(TOTAL, from + chunkSize);
+            context.increment("items", next - from);
+            return new JobChunk(next, (int) (next - from), next >= TOTAL);
+        }
+
+        void release() {
+            proceed.countDown();
+        }
+    }
+}
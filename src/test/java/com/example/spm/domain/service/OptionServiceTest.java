@@ -0,0 +1,138 @@
+package com.example.spm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.spm.domain.dto.OptionDto;
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.search.ProductOptionIndex;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+
+/**
+ * 옵션 서비스 테스트
+ * 속성 필터가 옵션 인덱스와 DB 조건(인덱스 준비 전)에서 같은 결과를 내는지,
+ * 옵션이 정규화되어 저장되고 대소문자만 다른 값이 중복으로 거부되는지,
+ * 삭제된 상품이 속성별 상품 수에서 빠지는지 검증한다.
+ */
+@SpringBootTest
+class OptionServiceTest {
+
+    @Autowired
+    private OptionService optionService;
+
+    @Autowired
+    private ProdService prodService;
+
+    @Autowired
+    private ProductOptionIndex optionIndex;
+
+    private String optionName;
+    private Long redProductId;
+    private Long blueProductId;
+
+    @BeforeEach
+    void setUp() {
+        optionName = "Color" + System.nanoTime();
+        redProductId = createProduct("Red");
+        blueProductId = createProduct("Blue");
+    }
+
+    @Test
+    void indexAndDatabaseFilterReturnSameProducts() {
+        ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                .options(Map.of(" " + optionName.toUpperCase() + " ", List.of("red ")))
+                .build();
+
+        assertThat(optionIndex.isReady()).isTrue();
+        List<Long> fromIndex = search(condition);
+
+        optionIndex.clear();
+        try {
+            assertThat(search(condition)).isEqualTo(fromIndex).containsExactly(redProductId);
+        } finally {
+            optionService.rebuildIndex();
+        }
+    }
+
+    @Test
+    void caseVariantsAreStoredOnceAndStayFilterable() {
+        assertThat(optionService.getOptions(redProductId))
+                .extracting(OptionDto.Response::getOptionName, OptionDto.Response::getOptionValue)
+                .containsExactly(tuple(ProductOptionIndex.normalize(optionName), "red"));
+
+        assertThatThrownBy(() -> addOption(redProductId, optionName.toUpperCase(), " RED "))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.OPTION_DUPLICATE);
+
+        OptionDto.Response green = addOption(redProductId, optionName, "Green");
+        assertThatThrownBy(() -> optionService.updateOption(redProductId, green.getOptionId(),
+                OptionDto.Request.builder().optionName(optionName).optionValue("Red").build()))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.OPTION_DUPLICATE);
+
+        // 다른 값의 옵션을 삭제해도 red posting의 상품 비트는 유지된다
+        optionService.deleteOption(redProductId, green.getOptionId());
+        ProdDto.SearchCondition condition = ProdDto.SearchCondition.builder()
+                .options(Map.of(optionName, List.of("RED")))
+                .build();
+        assertThat(search(condition)).containsExactly(redProductId);
+
+        optionIndex.clear();
+        try {
+            assertThat(search(condition)).containsExactly(redProductId);
+        } finally {
+            optionService.rebuildIndex();
+        }
+    }
+
+    @Test
+    void deletedProductIsExcludedFromAttributes() {
+        prodService.deleteProduct(blueProductId);
+
+        assertThat(attributeValues()).containsExactly("red");
+
+        optionService.rebuildIndex();
+        assertThat(attributeValues()).containsExactly("red");
+    }
+
+    private Long createProduct(String color) {
+        Long productId = prodService.createProduct(ProdDto.Request.builder()
+                .productCode("OPTION-" + System.nanoTime())
+                .productName("옵션 테스트 " + color)
+                .build()).getProductId();
+        addOption(productId, optionName, color);
+        return productId;
+    }
+
+    private OptionDto.Response addOption(Long productId, String name, String value) {
+        return optionService.addOption(productId, OptionDto.Request.builder()
+                .optionName(name)
+                .optionValue(value)
+                .build());
+    }
+
+    private List<Long> search(ProdDto.SearchCondition condition) {
+        return prodService.getProducts(condition, PageRequest.of(0, 10)).getContent().stream()
+                .map(ProdDto.Response::getProductId)
+                .toList();
+    }
+
+    private List<String> attributeValues() {
+        return optionService.getAttributes().stream()
+                .filter(attribute -> attribute.getOptionName().equals(ProductOptionIndex.normalize(optionName)))
+                .flatMap(attribute -> attribute.getValues().stream())
+                .map(OptionDto.AttributeValue::getOptionValue)
+                .toList();
+    }
+}
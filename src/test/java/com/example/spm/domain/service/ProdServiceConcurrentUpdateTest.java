@@ -0,0 +1,129 @@
+package com.example.spm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.domain.event.ProductChangedEvent;
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+
+/**
+ * If-Match 없는 동시 상품 수정 테스트
+ * 첫 요청이 읽은 뒤 커밋하기 전에 다른 수정이 먼저 커밋되도록 끼워 넣고,
+ * 서로 다른 필드면 병합되고 같은 필드면 CONCURRENT_MODIFICATION으로 거부되는지 검증한다.
+ */
+@SpringBootTest
+class ProdServiceConcurrentUpdateTest {
+
+    @Autowired
+    private ProdService prodService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private Interleaver interleaver;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productId = prodService.createProduct(ProdDto.Request.builder()
+                .productCode("CONCURRENT-" + System.nanoTime())
+                .productName("원래 이름")
+                .description("원래 설명")
+                .build()).getProductId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        interleaver.competing.set(null);
+    }
+
+    @Test
+    void concurrentUpdatesOfDifferentFieldsAreMerged() {
+        interleaver.competing.set(() -> prodService.updateProduct(productId, request("원래 이름", "다른 요청의 설명"), null));
+
+        ProdDto.Response response = prodService.updateProduct(productId, request("새 이름", "원래 설명"), null);
+
+        assertThat(response.getProductName()).isEqualTo("새 이름");
+        assertThat(response.getDescription()).isEqualTo("다른 요청의 설명");
+        assertThat(productRepository.findById(productId)).hasValueSatisfying(product -> {
+            assertThat(product.getProductName()).isEqualTo("새 이름");
+            assertThat(product.getDescription()).isEqualTo("다른 요청의 설명");
+            assertThat(product.getVersion()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void concurrentUpdatesOfSameFieldAreRejected() {
+        interleaver.competing.set(() -> prodService.updateProduct(productId, request("다른 요청의 이름", "원래 설명"), null));
+
+        assertThatThrownBy(() -> prodService.updateProduct(productId, request("새 이름", "원래 설명"), null))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CONCURRENT_MODIFICATION));
+
+        assertThat(productRepository.findById(productId)).hasValueSatisfying(product -> {
+            assertThat(product.getProductName()).isEqualTo("다른 요청의 이름");
+            assertThat(product.getVersion()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void updateWithoutCompetingWriteAppliesRequest() {
+        ProdDto.Response response = prodService.updateProduct(productId, request("새 이름", null), null);
+
+        assertThat(response.getProductName()).isEqualTo("새 이름");
+        assertThat(response.getDescription()).isNull();
+        assertThat(response.getVersion()).isEqualTo(1);
+    }
+
+    private static ProdDto.Request request(String productName, String description) {
+        return ProdDto.Request.builder()
+                .productName(productName)
+                .description(description)
+                .build();
+    }
+
+    /**
+     * 수정 이벤트 발행 시점(상품 변경 후, flush 전)에 다른 수정을 한 번 실행해 먼저 커밋시킨다
+     */
+    static class Interleaver {
+
+        final AtomicReference<Runnable> competing = new AtomicReference<>();
+
+        @EventListener
+        public void onProductChanged(ProductChangedEvent event) {
+            if (event.changeType() != ChangeType.UPDATE) {
+                return;
+            }
+            Runnable action = competing.getAndSet(null);
+            if (action != null) {
+                action.run();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class InterleaverConfig {
+
+        @Bean
+        Interleaver interleaver() {
+            return new Interleaver();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.spm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.search.ProductSearchCache;
+
+/**
+ * 상품 목록 조회의 검색 결과 캐시 경유 테스트
+ * 상품 변경이 카탈로그 버전을 올려 이전 결과를 재사용하지 않는지, 본문 채우기에서 삭제된 상품이 빠지는지 검증한다.
+ */
+@SpringBootTest
+class ProdServiceSearchCacheTest {
+
+    @Autowired
+    private ProdService prodService;
+
+    @Autowired
+    private ProductSearchCache searchCache;
+
+    private String prefix;
+    private ProdDto.SearchCondition condition;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "SEARCH-CACHE-" + System.nanoTime();
+        condition = ProdDto.SearchCondition.builder().productCode(prefix).build();
+    }
+
+    @Test
+    void writeBumpsVersionSoNoStalePageIsServed() {
+        Long productId = create(prefix + "-1", "변경 전");
+        assertThat(names(search())).containsExactly("변경 전");
+
+        // 같은 버전에서는 저장된 결과를 재사용
+        long version = searchCache.currentVersion();
+        assertThat(searchCache.getResult(key(version))).isNotNull();
+
+        prodService.updateProduct(productId, ProdDto.Request.builder()
+                .productCode(prefix + "-1")
+                .productName("변경 후")
+                .build(), null);
+        assertThat(searchCache.currentVersion()).isGreaterThan(version);
+        assertThat(names(search())).containsExactly("변경 후");
+
+        Long addedId = create(prefix + "-2", "추가");
+        Page<ProdDto.Response> page = search();
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getContent()).extracting(ProdDto.Response::getProductId).contains(productId, addedId);
+
+        prodService.deleteProduct(addedId);
+        assertThat(search().getContent()).extracting(ProdDto.Response::getProductId).containsExactly(productId);
+    }
+
+    @Test
+    void hydrationDropsSoftDeletedProducts() {
+        Long liveId = create(prefix + "-1", "유지");
+        Long deletedId = create(prefix + "-2", "삭제");
+        prodService.deleteProduct(deletedId);
+
+        // 삭제 전 목록이 현재 버전으로 남아 있는 경우 - 상품 캐시에 없는 삭제 상품은 본문 조회에서 제외된다
+        searchCache.putResult(key(searchCache.currentVersion()),
+                new ProductSearchCache.Result(List.of(deletedId, liveId), 2));
+
+        assertThat(search().getContent()).extracting(ProdDto.Response::getProductId).containsExactly(liveId);
+    }
+
+    private Long create(String productCode, String productName) {
+        return prodService.createProduct(ProdDto.Request.builder()
+                .productCode(productCode)
+                .productName(productName)
+                .build()).getProductId();
+    }
+
+    private Page<ProdDto.Response> search() {
+        return prodService.getProducts(condition, PageRequest.of(0, 10));
+    }
+
+    private ProductSearchCache.ResultKey key(long version) {
+        return new ProductSearchCache.ResultKey(version, condition.coalescingKey(), 0, 10);
+    }
+
+    private static List<String> names(Page<ProdDto.Response> page) {
+        return page.getContent().stream().map(ProdDto.Response::getProductName).toList();
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.spm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.dto.ProductHistoryDto;
+import com.example.spm.domain.enums.ProductStatus;
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.config.HistoryProperties;
+
+/**
+ * 상품 이력 재생 테스트
+ * 여러 시점의 상태를 스냅샷 없이(최초 이력부터)와 스냅샷 + 이후 이력으로 각각 복원해 결과가 같은지,
+ * 엔진 도입 전 단일 필드 이력과 삭제(DELETE) 이력이 올바르게 반영되는지 검증한다.
+ */
+@SpringBootTest
+class ProductHistoryServiceTest {
+
+    @Autowired
+    private ProductHistoryService historyService;
+
+    @Autowired
+    private ProdService prodService;
+
+    @Autowired
+    private HistoryProperties historyProperties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int snapshotEvery;
+    private String productCode;
+
+    @BeforeEach
+    void setUp() {
+        snapshotEvery = historyProperties.getSnapshotEvery();
+        historyProperties.setSnapshotEvery(2);
+        productCode = "HISTORY-" + System.nanoTime();
+    }
+
+    @AfterEach
+    void tearDown() {
+        historyProperties.setSnapshotEvery(snapshotEvery);
+    }
+
+    @Test
+    void replayFromSnapshotMatchesFullReplay() throws InterruptedException {
+        LocalDateTime beforeCreate = mark();
+        Long productId = create("이름 0");
+        List<LocalDateTime> points = new ArrayList<>();
+        points.add(mark());
+        update(productId, "이름 1", null, null);
+        points.add(mark());
+        update(productId, "이름 1", "설명", null);
+        points.add(mark());
+        update(productId, "이름 1", "설명", ProductStatus.INACTIVE);
+        points.add(mark());
+        update(productId, "이름 4", "설명", ProductStatus.INACTIVE);
+        points.add(mark());
+        prodService.deleteProduct(productId);
+        points.add(mark());
+
+        List<ProductHistoryDto.Response> fullReplay = points.stream()
+                .map(asOf -> historyService.getProductAsOf(productId, asOf))
+                .toList();
+        assertThat(fullReplay).allSatisfy(response -> assertThat(response.getSnapshotId()).isNull());
+        assertThat(fullReplay).extracting(response -> response.getState().get("productName"))
+                .containsExactly("이름 0", "이름 1", "이름 1", "이름 1", "이름 4", "이름 4");
+        assertThat(fullReplay).extracting(response -> response.getState().get("description"))
+                .containsExactly(null, null, "설명", "설명", "설명", "설명");
+        assertThat(fullReplay).extracting(response -> response.getState().get("status"))
+                .containsExactly("ACTIVE", "ACTIVE", "ACTIVE", "INACTIVE", "INACTIVE", "DELETED");
+        assertThat(fullReplay).extracting(ProductHistoryDto.Response::isDeleted)
+                .containsExactly(false, false, false, false, false, true);
+        assertThat(fullReplay.get(5).getState().get("deletedAt")).isNotNull();
+
+        // 이력 6건 (생성, 수정 4, 삭제) - 2건마다 스냅샷
+        ProductHistoryService.SnapshotBatch batch = historyService.snapshotBatch(productId - 1, 1);
+        assertThat(batch.productIds()).containsExactly(productId);
+        assertThat(batch.snapshots()).isEqualTo(3);
+
+        for (int i = 0; i < points.size(); i++) {
+            ProductHistoryDto.Response fromSnapshot = historyService.getProductAsOf(productId, points.get(i));
+            ProductHistoryDto.Response full = fullReplay.get(i);
+            assertThat(fromSnapshot.getState()).as("asOf #%d", i).isEqualTo(full.getState());
+            assertThat(fromSnapshot.isDeleted()).isEqualTo(full.isDeleted());
+            assertThat(fromSnapshot.getLastChangeLogId()).isEqualTo(full.getLastChangeLogId());
+            if (i > 0) {
+                assertThat(fromSnapshot.getSnapshotId()).as("asOf #%d", i).isNotNull();
+                assertThat(fromSnapshot.getReplayedChanges()).isLessThan(full.getReplayedChanges());
+            }
+        }
+
+        // 스냅샷이 최신이면 다시 실행해도 새 스냅샷을 만들지 않음
+        assertThat(historyService.snapshotBatch(productId - 1, 1).snapshots()).isZero();
+
+        assertThatThrownBy(() -> historyService.getProductAsOf(productId, beforeCreate))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.PRODUCT_HISTORY_NOT_FOUND);
+    }
+
+    @Test
+    void legacySingleFieldRowsReplayAsPlainText() throws InterruptedException {
+        Long productId = create("원래 이름");
+        // 엔진 도입 전 이력 - entityType/valueFormat 없이 변경 필드 하나와 원본 값 (JSON처럼 보이는 값 포함)
+        insertLegacyUpdate(productId, "productName", "원래 이름", "{특가} 새 이름");
+        LocalDateTime afterLegacy = mark();
+        update(productId, "{특가} 새 이름", "설명", null);
+        LocalDateTime afterJson = mark();
+
+        ProductHistoryDto.Response legacy = historyService.getProductAsOf(productId, afterLegacy);
+        assertThat(legacy.getState())
+                .containsEntry("productName", "{특가} 새 이름")
+                .containsEntry("description", null);
+
+        ProductHistoryDto.Response merged = historyService.getProductAsOf(productId, afterJson);
+        assertThat(merged.getState())
+                .containsEntry("productName", "{특가} 새 이름")
+                .containsEntry("description", "설명")
+                .containsEntry("status", "ACTIVE");
+
+        historyService.snapshotBatch(productId - 1, 1);
+        ProductHistoryDto.Response fromSnapshot = historyService.getProductAsOf(productId, afterJson);
+        assertThat(fromSnapshot.getSnapshotId()).isNotNull();
+        assertThat(fromSnapshot.getState()).isEqualTo(merged.getState());
+    }
+
+    private Long create(String productName) {
+        return prodService.createProduct(ProdDto.Request.builder()
+                .productCode(productCode)
+                .productName(productName)
+                .build()).getProductId();
+    }
+
+    private void update(Long productId, String productName, String description, ProductStatus status) {
+        prodService.updateProduct(productId, ProdDto.Request.builder()
+                .productCode(productCode)
+                .productName(productName)
+                .description(description)
+                .status(status)
+                .build(), null);
+    }
+
+    private void insertLegacyUpdate(Long productId, String changedField, String oldValue, String newValue) {
+        Map<String, Object> row = new HashMap<>();
+        row.put("product_id", productId);
+        row.put("change_type", "UPDATE");
+        row.put("changed_field", changedField);
+        row.put("old_value", oldValue);
+        row.put("new_value", newValue);
+        row.put("changed_by", "SYSTEM");
+        row.put("changed_date", LocalDateTime.now());
+        new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName("product_change_log")
+                .usingGeneratedKeyColumns("change_log_id")
+                .execute(row);
+    }
+
+    /**
+     * 변경 사이의 조회 시점 - 앞뒤 이력과 시각이 겹치지 않도록 간격을 둔다
+     */
+    private static LocalDateTime mark() throws InterruptedException {
+        Thread.sleep(5);
+        LocalDateTime now = LocalDateTime.now();
+        Thread.sleep(5);
+        return now;
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.spm.domain.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.spm.domain.dto.OptionDto;
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.global.config.PurgeProperties;
+
+/**
+ * Soft Delete 상품 물리 삭제 테스트
+ * 보관 기간이 지난 상품만 종속 데이터(옵션, 재고, 가격 이력, 변경 이력, 스냅샷)와 함께 삭제되고,
+ * 보관 기간 내 삭제 상품과 활성 상품은 종속 데이터까지 남는지, 종속 데이터가 상품보다 먼저 삭제되는지 검증한다.
+ */
+@SpringBootTest
+class ProductPurgeServiceTest {
+
+    private static final List<String> DEPENDENT_TABLES = List.of(
+            "product_option", "inventory", "price_history", "product_change_log", "product_snapshot");
+
+    @Autowired
+    private ProductPurgeService purgeService;
+
+    @Autowired
+    private ProdService prodService;
+
+    @Autowired
+    private OptionService optionService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PurgeProperties purgeProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String prefix;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        prefix = "PURGE-" + System.nanoTime();
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void onlyTombstonesOlderThanRetentionArePurged() {
+        Long expired = createWithDependents("expired");
+        Long recent = createWithDependents("recent");
+        Long live = createWithDependents("live");
+        tombstone(expired, now.minusDays(30));
+        tombstone(recent, now.minusDays(1));
+
+        long expiredDependents = countDependents(expired);
+        long recentDependents = countDependents(recent);
+        long liveDependents = countDependents(live);
+        assertThat(expiredDependents).isEqualTo(7);
+
+        ProductPurgeService.PurgeBatch batch = purgeService.purgeBatch(now.minusDays(7), expired - 1, 10);
+
+        assertThat(batch.productIds()).containsExactly(expired);
+        assertThat(batch.dependents()).isEqualTo(expiredDependents);
+        assertThat(productRepository.existsById(expired)).isFalse();
+        assertThat(countDependents(expired)).isZero();
+
+        assertThat(productRepository.existsById(recent)).isTrue();
+        assertThat(countDependents(recent)).isEqualTo(recentDependents);
+        assertThat(productRepository.existsById(live)).isTrue();
+        assertThat(countDependents(live)).isEqualTo(liveDependents);
+
+        // 다음 배치에는 대상이 없다
+        assertThat(purgeService.purgeBatch(now.minusDays(7), expired, 10).productIds()).isEmpty();
+    }
+
+    @Test
+    void dependentsAreDeletedBeforeTheProductRow() {
+        Long expired = createWithDependents("expired");
+        tombstone(expired, now.minusDays(30));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        // 종속 데이터가 남아 있으면 상품 행은 FK 제약으로 삭제할 수 없다
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(
+                status -> productRepository.deleteTombstones(List.of(expired))))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(productRepository.existsById(expired)).isTrue();
+
+        List<String> calls = new ArrayList<>();
+        ProductPurgeService recording = new ProductPurgeService(recording(calls), purgeProperties);
+        ProductPurgeService.PurgeBatch batch = transactionTemplate.execute(
+                status -> recording.purgeBatch(now.minusDays(7), expired - 1, 10));
+
+        assertThat(calls).containsExactly("findTombstoneIds", "deleteDependents", "deleteTombstones");
+        assertThat(batch.productIds()).containsExactly(expired);
+        assertThat(productRepository.existsById(expired)).isFalse();
+        assertThat(countDependents(expired)).isZero();
+    }
+
+    /**
+     * 상품 + 옵션(변경 이력 포함), 재고, 가격 이력, 스냅샷 생성
+     */
+    private Long createWithDependents(String suffix) {
+        Long productId = prodService.createProduct(ProdDto.Request.builder()
+                .productCode(prefix + "-" + suffix)
+                .productName("물리 삭제 " + suffix)
+                .build()).getProductId();
+        optionService.addOption(productId, OptionDto.Request.builder()
+                .optionName("color")
+                .optionValue("red")
+                .build());
+        insert("inventory", "inventory_id", Map.of(
+                "product_id", productId, "quantity", 10, "warehouse_code", "WH1", "version", 0));
+        insert("price_history", "price_id", Map.of(
+                "product_id", productId, "price", 1000, "start_date", now.minusDays(60), "version", 0));
+        insert("product_snapshot", "snapshot_id", Map.of(
+                "product_id", productId, "last_change_log_id", 0, "snapshot_at", now,
+                "state", "{}", "change_count", 1));
+        return productId;
+    }
+
+    /**
+     * Soft Delete 후 삭제 시각을 보관 기간 판정용으로 조정
+     */
+    private void tombstone(Long productId, LocalDateTime deletedAt) {
+        prodService.deleteProduct(productId);
+        jdbcTemplate.update("UPDATE product SET deleted_at = ? WHERE product_id = ?", deletedAt, productId);
+    }
+
+    private long countDependents(Long productId) {
+        long count = 0;
+        for (String table : DEPENDENT_TABLES) {
+            count += jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM " + table + " WHERE product_id = ?", Long.class, productId);
+        }
+        return count;
+    }
+
+    private void insert(String table, String keyColumn, Map<String, Object> values) {
+        new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName(table)
+                .usingGeneratedKeyColumns(keyColumn)
+                .execute(new HashMap<>(values));
+    }
+
+    /**
+     * 호출 순서를 기록하고 실제 저장소에 위임하는 ProductRepository
+     */
+    private ProductRepository recording(List<String> calls) {
+        return (ProductRepository) Proxy.newProxyInstance(
+                ProductRepository.class.getClassLoader(),
+                new Class<?>[]{ProductRepository.class},
+                (proxy, method, args) -> {
+                    calls.add(method.getName());
+                    try {
+                        return method.invoke(productRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
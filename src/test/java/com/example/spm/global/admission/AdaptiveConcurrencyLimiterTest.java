@@ -0,0 +1,103 @@
+package com.example.spm.global.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 적응형 동시 실행 제한 테스트 - 한도 증가 속도, 평활 응답 시간 기반 감소, 감소 빈도 제한을 검증한다.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long THRESHOLD = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(1000);
+
+    private long now = 1_000_000_000L;
+
+    @Test
+    void rejectsWhenLimitReached() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, THRESHOLD, 0.5, 0.1);
+
+        assertThat(limiter.tryAcquire()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isEqualTo(2);
+        assertThat(limiter.tryAcquire()).isEqualTo(-1);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    void limitGrowsByAboutOnePerLimitSuccesses() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, THRESHOLD, 0.5, 0.1);
+
+        complete(limiter, 10, 10, FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        complete(limiter, 2, 10, FAST, false);
+        assertThat(limiter.getLimit()).isEqualTo(11);
+    }
+
+    @Test
+    void limitDoesNotGrowWhenUnderused() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 1, 100, THRESHOLD, 0.5, 0.1);
+
+        complete(limiter, 100, 1, FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void singleSlowResponseDoesNotReduceLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(20, 1, 100, THRESHOLD, 0.5, 0.05);
+        complete(limiter, 20, 1, FAST, false);
+
+        complete(limiter, 1, 1, SLOW, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+        assertThat(limiter.getSmoothedLatencyNanos()).isLessThan(THRESHOLD);
+    }
+
+    @Test
+    void sustainedSlowResponsesReduceLimitOncePerLatencyWindow() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(40, 1, 100, THRESHOLD, 0.5, 0.5);
+
+        // 같은 시점에 끝난 느린 응답들은 한 번만 감소
+        complete(limiter, 10, 1, SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(20);
+
+        // 평활 응답 시간이 지난 뒤에야 다시 감소
+        now += SLOW;
+        complete(limiter, 1, 1, SLOW, false);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void overloadedResponseReducesLimitButNotBelowMinimum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 3, 100, THRESHOLD, 0.5, 0.1);
+
+        for (int i = 0; i < 5; i++) {
+            complete(limiter, 1, 1, FAST, true);
+            now += SLOW;
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+    }
+
+    @Test
+    void limitDoesNotExceedMaximum() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(5, 1, 6, THRESHOLD, 0.5, 0.1);
+
+        complete(limiter, 1000, 6, FAST, false);
+
+        assertThat(limiter.getLimit()).isEqualTo(6);
+    }
+
+    private void complete(AdaptiveConcurrencyLimiter limiter, int count, int inFlightAtStart, long latency,
+                          boolean overloaded) {
+        for (int i = 0; i < count; i++) {
+            limiter.tryAcquire();
+            limiter.release(inFlightAtStart, latency, overloaded, now);
+        }
+    }
+}
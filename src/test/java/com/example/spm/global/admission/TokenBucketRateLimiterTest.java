@@ -0,0 +1,122 @@
+package com.example.spm.global.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * GCRA 토큰 버킷 테스트 - 순간 허용량, 비용, 재시도 시각, 키 수 제한, 동시 요청 시 정확성을 검증한다.
+ */
+class TokenBucketRateLimiterTest {
+
+    /** 발급 간격이 길어 테스트 중 토큰이 다시 차지 않는 처리율 (초당 0.001 = 1000초에 1) */
+    private static final double SLOW_RATE = 0.001;
+
+    @Test
+    void allowsBurstThenRejects() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100);
+
+        for (int i = 0; i < 5; i++) {
+            TokenBucketRateLimiter.Decision decision = limiter.tryAcquire("client", SLOW_RATE, 5, 1);
+            assertThat(decision.allowed()).isTrue();
+            assertThat(decision.remaining()).isEqualTo(4 - i);
+        }
+        TokenBucketRateLimiter.Decision rejected = limiter.tryAcquire("client", SLOW_RATE, 5, 1);
+
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfterNanos())
+                .isPositive()
+                .isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1000));
+    }
+
+    @Test
+    void costConsumesMultipleTokens() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100);
+
+        assertThat(limiter.tryAcquire("client", SLOW_RATE, 5, 3).remaining()).isEqualTo(2);
+        assertThat(limiter.tryAcquire("client", SLOW_RATE, 5, 3).allowed()).isFalse();
+        assertThat(limiter.tryAcquire("client", SLOW_RATE, 5, 2).allowed()).isTrue();
+    }
+
+    @Test
+    void keysAreIndependent() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100);
+
+        assertThat(limiter.tryAcquire("a", SLOW_RATE, 1, 1).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("a", SLOW_RATE, 1, 1).allowed()).isFalse();
+        assertThat(limiter.tryAcquire("b", SLOW_RATE, 1, 1).allowed()).isTrue();
+    }
+
+    @Test
+    void tokensRefillAtRate() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100);
+        assertThat(limiter.tryAcquire("client", 100, 1, 1).allowed()).isTrue();
+        assertThat(limiter.tryAcquire("client", 100, 1, 1).allowed()).isFalse();
+
+        Thread.sleep(20);
+
+        assertThat(limiter.tryAcquire("client", 100, 1, 1).allowed()).isTrue();
+    }
+
+    @Test
+    void rejectsNewKeysWhenFullButKeepsExistingOnes() {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(2);
+        limiter.tryAcquire("a", SLOW_RATE, 10, 1);
+        limiter.tryAcquire("b", SLOW_RATE, 10, 1);
+
+        assertThat(limiter.tryAcquire("c", SLOW_RATE, 10, 1).allowed()).isFalse();
+        assertThat(limiter.tryAcquire("a", SLOW_RATE, 10, 1).allowed()).isTrue();
+        assertThat(limiter.size()).isEqualTo(2);
+    }
+
+    @Test
+    void idleKeysMakeRoomForNewOnes() throws InterruptedException {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(1);
+        limiter.tryAcquire("a", 1_000_000, 10, 1);
+
+        Thread.sleep(5);
+
+        assertThat(limiter.tryAcquire("b", 1_000_000, 10, 1).allowed()).isTrue();
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedBurst() throws Exception {
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(100);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int allowed = 0;
+                    for (int i = 0; i < 1000; i++) {
+                        if (limiter.tryAcquire("shared", SLOW_RATE, 100, 1).allowed()) {
+                            allowed++;
+                        }
+                    }
+                    return allowed;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(100);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
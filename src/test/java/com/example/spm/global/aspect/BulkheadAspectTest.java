@@ -0,0 +1,206 @@
+package com.example.spm.global.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.spm.domain.controller.ProductController;
+import com.example.spm.exception.GlobalExceptionHandler;
+import com.example.spm.global.annotation.Bulkhead;
+import com.example.spm.global.bulkhead.BulkheadRegistry;
+import com.example.spm.global.config.BulkheadProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 격벽 AOP 테스트
+ * 할당량 초과 시 503 + Retry-After 응답, 메서드 어노테이션의 클래스 어노테이션 우선 적용,
+ * 중첩 호출의 바깥 격벽 할당량 공유와 호출 종료 후 스레드 상태 정리를 검증한다.
+ */
+class BulkheadAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Thread> holders = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BulkheadRegistry bulkheadRegistry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 두 격벽 모두 동시 실행 1, 대기 없음 - 점유 중이면 즉시 거절
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.getCompartments().clear();
+        properties.getCompartments().put(Bulkhead.INTERACTIVE,
+                new BulkheadProperties.Compartment(1, 0, Duration.ofMillis(100), Duration.ofSeconds(2)));
+        properties.getCompartments().put(Bulkhead.BATCH,
+                new BulkheadProperties.Compartment(1, 0, Duration.ofMillis(100), Duration.ofSeconds(7)));
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        bulkheadRegistry = new BulkheadRegistry(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+        BulkheadAspect aspect = new BulkheadAspect(bulkheadRegistry);
+
+        ItemController controller = new ItemController();
+        controller.itemService = proxy(new ItemService(), aspect);
+
+        mockMvc = MockMvcBuilders.standaloneSetup(proxy(controller, aspect))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        for (Thread holder : holders) {
+            holder.join();
+        }
+    }
+
+    @Test
+    void fullCompartmentReturns503WithRetryAfter() throws Exception {
+        mockMvc.perform(get("/items"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("items"));
+
+        occupy(Bulkhead.INTERACTIVE);
+
+        mockMvc.perform(get("/items"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "2"))
+                .andExpect(jsonPath("$.code").value("SERVER_002"));
+        assertThat(meterRegistry.get("catalog.bulkhead.rejected").tag("bulkhead", Bulkhead.INTERACTIVE)
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void methodAnnotationOverridesClassAnnotation() throws Exception {
+        // ProductController: 클래스는 INTERACTIVE, 코드 필터 재생성만 BATCH
+        assertThat(AnnotatedElementUtils.findMergedAnnotation(ProductController.class, Bulkhead.class).value())
+                .isEqualTo(Bulkhead.INTERACTIVE);
+        assertThat(AnnotatedElementUtils.findMergedAnnotation(
+                ProductController.class.getMethod("rebuildCodeFilter"), Bulkhead.class).value())
+                .isEqualTo(Bulkhead.BATCH);
+
+        occupy(Bulkhead.INTERACTIVE);
+        mockMvc.perform(get("/items/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("rebuilt"));
+        mockMvc.perform(get("/items"))
+                .andExpect(status().isServiceUnavailable());
+
+        occupy(Bulkhead.BATCH);
+        mockMvc.perform(get("/items/rebuild"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "7"));
+    }
+
+    @Test
+    void nestedCallUsesOuterPermitAndClearsAfterReturn() throws Exception {
+        // 안쪽 BATCH 격벽이 가득 차 있어도 바깥 INTERACTIVE 할당량으로 실행
+        occupy(Bulkhead.BATCH);
+        mockMvc.perform(get("/items/nested"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("loaded"));
+        assertThat(meterRegistry.get("catalog.bulkhead.rejected").tag("bulkhead", Bulkhead.BATCH)
+                .counter().count()).isZero();
+        assertThat(active(Bulkhead.INTERACTIVE)).isZero();
+
+        // 호출이 끝나면 스레드의 격벽 표시가 지워져 다음 호출은 다시 할당량을 얻는다
+        occupy(Bulkhead.INTERACTIVE);
+        mockMvc.perform(get("/items"))
+                .andExpect(status().isServiceUnavailable());
+    }
+
+    @Test
+    void nestedPermitDoesNotReleaseOuterPermit() {
+        try (BulkheadRegistry.Permit outer = bulkheadRegistry.acquire(Bulkhead.INTERACTIVE)) {
+            try (BulkheadRegistry.Permit inner = bulkheadRegistry.acquire(Bulkhead.BATCH)) {
+                assertThat(active(Bulkhead.INTERACTIVE)).isEqualTo(1);
+                assertThat(active(Bulkhead.BATCH)).isZero();
+            }
+            assertThat(active(Bulkhead.INTERACTIVE)).isEqualTo(1);
+        }
+        assertThat(active(Bulkhead.INTERACTIVE)).isZero();
+    }
+
+    /**
+     * 다른 스레드에서 격벽 할당량을 점유 (테스트 종료 시 반납)
+     */
+    private void occupy(String name) throws InterruptedException {
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            try (BulkheadRegistry.Permit permit = bulkheadRegistry.acquire(name)) {
+                acquired.countDown();
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        holders.add(holder);
+        holder.start();
+        acquired.await();
+    }
+
+    private double active(String name) {
+        return meterRegistry.get("catalog.bulkhead.active").tag("bulkhead", name).gauge().value();
+    }
+
+    private static <T> T proxy(T target, BulkheadAspect aspect) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        return proxyFactory.getProxy();
+    }
+
+    @RestController
+    @Bulkhead(Bulkhead.INTERACTIVE)
+    static class ItemController {
+
+        ItemService itemService;
+
+        @GetMapping("/items")
+        public String items() {
+            return "items";
+        }
+
+        @Bulkhead(Bulkhead.BATCH)
+        @GetMapping("/items/rebuild")
+        public String rebuild() {
+            return "rebuilt";
+        }
+
+        @GetMapping("/items/nested")
+        public String nested() {
+            return itemService.load();
+        }
+    }
+
+    @Bulkhead(Bulkhead.BATCH)
+    static class ItemService {
+
+        public String load() {
+            return "loaded";
+        }
+    }
+}
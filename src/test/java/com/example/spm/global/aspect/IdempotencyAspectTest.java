@@ -0,0 +1,153 @@
+package com.example.spm.global.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.repository.ProductRepository;
+import com.example.spm.global.client.ClientIdentityFilter;
+import com.example.spm.global.idempotency.IdempotencyRecord;
+import com.example.spm.global.idempotency.IdempotencyStore;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 멱등 요청 AOP 테스트 (POST /api/products)
+ * 같은 키 재시도 재응답, 요청 내용이 다른 키 재사용 거부, 처리 중 거부, 보관 기간 만료 후 재실행, 클라이언트별 키 분리를 검증한다.
+ */
+@SpringBootTest
+class IdempotencyAspectTest {
+
+    private static final String CLIENT = "ip:127.0.0.1";
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private ClientIdentityFilter clientIdentityFilter;
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    private MockMvc mockMvc;
+    private String idempotencyKey;
+    private ProdDto.Request request;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(clientIdentityFilter).build();
+        idempotencyKey = "key-" + System.nanoTime();
+        request = ProdDto.Request.builder()
+                .productCode("IDEMPOTENT-" + System.nanoTime())
+                .productName("멱등 요청 테스트")
+                .build();
+    }
+
+    @Test
+    void retryWithSameKeyReplaysStoredResponse() throws Exception {
+        String first = mockMvc.perform(create(request))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyAspect.REPLAYED_HEADER))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        String second = mockMvc.perform(create(request))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyAspect.REPLAYED_HEADER, "true"))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        assertThat(jsonMapper.readTree(second)).isEqualTo(jsonMapper.readTree(first));
+        assertThat(productRepository.existsByProductCode(request.getProductCode())).isTrue();
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        mockMvc.perform(create(request)).andExpect(status().isCreated());
+
+        ProdDto.Request changed = ProdDto.Request.builder()
+                .productCode(request.getProductCode())
+                .productName("다른 이름")
+                .build();
+        mockMvc.perform(create(changed))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_002"));
+    }
+
+    @Test
+    void sameKeyWhileInProgressIsRejected() throws Exception {
+        store.reserve(storeKey(), IdempotencyRecord.inProgress(fingerprint(request), Instant.now().plusSeconds(30)));
+
+        mockMvc.perform(create(request))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("IDEMPOTENCY_003"));
+        assertThat(productRepository.existsByProductCode(request.getProductCode())).isFalse();
+    }
+
+    @Test
+    void expiredKeyRunsRequestAgain() throws Exception {
+        store.reserve(storeKey(), IdempotencyRecord.inProgress(fingerprint(request), Instant.now().plusSeconds(30)));
+        store.complete(storeKey(), new IdempotencyRecord(fingerprint(request), 201, null, "{}", Instant.now().minusSeconds(1)));
+
+        mockMvc.perform(create(request))
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyAspect.REPLAYED_HEADER));
+        assertThat(productRepository.existsByProductCode(request.getProductCode())).isTrue();
+    }
+
+    @Test
+    void sameKeyFromAnotherClientIsNotShared() throws Exception {
+        mockMvc.perform(create(request)).andExpect(status().isCreated());
+
+        // 다른 클라이언트는 같은 키를 보내도 저장된 응답을 받지 않고 새로 처리 (상품코드 중복으로 거부)
+        mockMvc.perform(create(request).with(servletRequest -> {
+                    servletRequest.setRemoteAddr("198.51.100.7");
+                    return servletRequest;
+                }))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist(IdempotencyAspect.REPLAYED_HEADER));
+    }
+
+    private MockHttpServletRequestBuilder create(ProdDto.Request body) {
+        return post("/api/products")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(jsonMapper.writeValueAsString(body));
+    }
+
+    private String storeKey() {
+        return CLIENT + " POST /api/products " + idempotencyKey;
+    }
+
+    /**
+     * IdempotencyAspect와 같은 방식의 요청 인자 해시
+     */
+    private String fingerprint(ProdDto.Request body) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        return HexFormat.of().formatHex(digest.digest(
+                jsonMapper.writeValueAsString(List.of(body)).getBytes(StandardCharsets.UTF_8)));
+    }
+}
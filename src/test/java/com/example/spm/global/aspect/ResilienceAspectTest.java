@@ -0,0 +1,145 @@
+package com.example.spm.global.aspect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.spm.exception.GlobalExceptionHandler;
+import com.example.spm.global.annotation.Resilient;
+import com.example.spm.global.config.ResilienceProperties;
+import com.example.spm.global.resilience.CircuitBreaker;
+import com.example.spm.global.resilience.CircuitBreakerRegistry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * DB 장애 대비 AOP 테스트
+ * 장애 중 마지막 정상 결과 응답(X-Data-Stale, Age 헤더)과 대체 결과가 없을 때 503 + Retry-After 응답을 검증한다.
+ */
+class ResilienceAspectTest {
+
+    private final ItemController target = new ItemController();
+    private CircuitBreakerRegistry breakerRegistry;
+    private ResilienceAspect aspect;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties.Breaker config = new ResilienceProperties.Breaker();
+        config.setWindowSize(2);
+        config.setMinimumCalls(2);
+        config.setFailureRateThreshold(100);
+        config.setOpenDuration(Duration.ofMinutes(1));
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.getBreakers().put(Resilient.DATABASE, config);
+
+        breakerRegistry = new CircuitBreakerRegistry(properties,
+                new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class));
+        aspect = new ResilienceAspect(properties, breakerRegistry);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        ItemController proxy = proxyFactory.getProxy();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(proxy)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        aspect.destroy();
+    }
+
+    @Test
+    void databaseErrorServesLastGoodResultWithStaleHeaders() throws Exception {
+        mockMvc.perform(get("/items/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("item-1"))
+                .andExpect(header().doesNotExist(ResilienceAspect.STALE_HEADER));
+
+        target.failing.set(true);
+        mockMvc.perform(get("/items/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("item-1"))
+                .andExpect(header().string(ResilienceAspect.STALE_HEADER, "true"))
+                .andExpect(header().string(HttpHeaders.AGE, "0"));
+    }
+
+    @Test
+    void openBreakerServesLastGoodResultWithoutCallingDatabase() throws Exception {
+        mockMvc.perform(get("/items/1")).andExpect(status().isOk());
+        target.failing.set(true);
+        openBreaker();
+
+        int calls = target.calls.get();
+        mockMvc.perform(get("/items/1"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("item-1"))
+                .andExpect(header().string(ResilienceAspect.STALE_HEADER, "true"))
+                .andExpect(header().exists(HttpHeaders.AGE));
+        assertThat(target.calls.get()).isEqualTo(calls);
+    }
+
+    @Test
+    void openBreakerWithoutLastGoodResultReturns503WithRetryAfter() throws Exception {
+        target.failing.set(true);
+        openBreaker();
+
+        int calls = target.calls.get();
+        mockMvc.perform(get("/items/3"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "60"))
+                .andExpect(header().doesNotExist(ResilienceAspect.STALE_HEADER))
+                .andExpect(jsonPath("$.code").value("SERVER_004"));
+        assertThat(target.calls.get()).isEqualTo(calls);
+    }
+
+    /**
+     * 결과가 보관되지 않은 인자로 실패 호출을 보내 차단기를 연다 (대체 결과가 없으므로 오류 응답)
+     */
+    private void openBreaker() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/items/2")).andExpect(status().is5xxServerError());
+        }
+        assertThat(breakerRegistry.get(Resilient.DATABASE).getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    @RestController
+    static class ItemController {
+
+        final AtomicBoolean failing = new AtomicBoolean();
+        final AtomicInteger calls = new AtomicInteger();
+
+        @Resilient
+        @GetMapping("/items/{id}")
+        public String item(@PathVariable("id") Long id) {
+            calls.incrementAndGet();
+            if (failing.get()) {
+                throw new DataAccessResourceFailureException("DB 연결 실패");
+            }
+            return "item-" + id;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.spm.global.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import com.example.spm.global.config.SingleFlightProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 동일 호출 병합 테스트 - leader/대기 호출 간 결과 공유, 예외 전파, 대기 시간 초과 시 직접 실행, 키 단위 분리를 검증한다.
+ */
+class SingleFlightGroupTest {
+
+    private static final String NAME = "test";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlightProperties properties = new SingleFlightProperties();
+    private final List<Thread> threads = new ArrayList<>();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger executions = new AtomicInteger();
+    private SingleFlightGroup group;
+
+    @BeforeEach
+    void setUp() {
+        properties.setTimeout(Duration.ofSeconds(10));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", meterRegistry);
+        group = new SingleFlightGroup(properties, beanFactory.getBeanProvider(MeterRegistry.class));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    @Test
+    void waitersShareLeaderResult() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Object> leader = start("key", () -> {
+            started.countDown();
+            release.await();
+            executions.incrementAndGet();
+            return "leader";
+        });
+        started.await();
+
+        List<CompletableFuture<Object>> waiters = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            waiters.add(start("key", () -> {
+                executions.incrementAndGet();
+                return "own";
+            }));
+        }
+        awaitWaiting();
+        release.countDown();
+
+        assertThat(leader.get(10, TimeUnit.SECONDS)).isEqualTo("leader");
+        for (CompletableFuture<Object> waiter : waiters) {
+            assertThat(waiter.get(10, TimeUnit.SECONDS)).isEqualTo("leader");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(count("leader")).isEqualTo(1);
+        assertThat(count("coalesced")).isEqualTo(4);
+    }
+
+    @Test
+    void leaderExceptionPropagatesToWaiters() throws Exception {
+        IllegalStateException failure = new IllegalStateException("DB 오류");
+        CountDownLatch started = new CountDownLatch(1);
+        CompletableFuture<Object> leader = start("key", () -> {
+            started.countDown();
+            release.await();
+            throw failure;
+        });
+        started.await();
+        CompletableFuture<Object> waiter = start("key", () -> "own");
+        awaitWaiting();
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isSameAs(failure);
+        assertThatThrownBy(() -> waiter.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .cause().isSameAs(failure);
+    }
+
+    @Test
+    void waiterRunsOwnCallAfterTimeout() throws Throwable {
+        properties.setTimeout(Duration.ofMillis(50));
+        CountDownLatch started = new CountDownLatch(1);
+        start("key", () -> {
+            started.countDown();
+            release.await();
+            return "leader";
+        });
+        started.await();
+
+        Object result = group.execute(NAME, "key", () -> "own");
+
+        assertThat(result).isEqualTo("own");
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void completedCallIsNotReused() throws Throwable {
+        assertThat(group.execute(NAME, "key", executions::incrementAndGet)).isEqualTo(1);
+        assertThat(group.execute(NAME, "key", executions::incrementAndGet)).isEqualTo(2);
+        assertThat(count("coalesced")).isZero();
+    }
+
+    @Test
+    void forgetKeyDetachesOnlyThatKey() throws Throwable {
+        CountDownLatch started = new CountDownLatch(2);
+        start("changed", () -> {
+            started.countDown();
+            release.await();
+            return "stale";
+        });
+        CompletableFuture<Object> other = start("other", () -> {
+            started.countDown();
+            release.await();
+            return "other";
+        });
+        started.await();
+
+        group.forget(NAME, "changed");
+
+        // 분리된 키는 새로 실행하고, 다른 키는 여전히 실행 중인 호출에 합류
+        assertThat(group.execute(NAME, "changed", () -> "fresh")).isEqualTo("fresh");
+        CompletableFuture<Object> joined = start("other", () -> "own");
+        awaitWaiting();
+        release.countDown();
+        assertThat(other.get(10, TimeUnit.SECONDS)).isEqualTo("other");
+        assertThat(joined.get(10, TimeUnit.SECONDS)).isEqualTo("other");
+    }
+
+    @Test
+    void disabledGroupRunsEveryCall() throws Throwable {
+        properties.setEnabled(false);
+
+        assertThat(group.execute(NAME, "key", executions::incrementAndGet)).isEqualTo(1);
+        assertThat(group.execute(NAME, "key", executions::incrementAndGet)).isEqualTo(2);
+        assertThat(count("leader")).isZero();
+    }
+
+    private CompletableFuture<Object> start(Object key, SingleFlightGroup.Call<Object> call) {
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        Thread thread = new Thread(() -> {
+            try {
+                result.complete(group.execute(NAME, key, call));
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        threads.add(thread);
+        thread.start();
+        return result;
+    }
+
+    /**
+     * 대기 호출(leader 이후 시작한 스레드)이 모두 leader 결과를 기다리는 상태가 될 때까지 대기
+     */
+    private void awaitWaiting() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING && thread.getState() != Thread.State.TIMED_WAITING
+                    && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private double count(String outcome) {
+        Counter counter = meterRegistry.find("catalog.single.flight.calls").tag("outcome", outcome).counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.spm.global.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.service.ProdService;
+import com.example.spm.global.config.DataSourceRoutingConfig;
+import com.example.spm.global.util.ClientIpUtils;
+
+/**
+ * 읽기/쓰기 분리 라우팅 테스트
+ * primary(sa)와 replica(REPLICA 사용자) 두 H2 데이터소스를 두고, 커넥션을 연 사용자로 라우팅 대상을 확인한다.
+ * 두 데이터소스는 같은 인메모리 DB를 가리켜 스키마를 공유하며, 복제 지연은 REPLICA_LAG 테이블 값으로 흉내 낸다.
+ */
+@SpringBootTest(properties = {
+        // INIT의 문장 구분자는 H2 URL에서 \;로 써야 하며, 인라인 프로퍼티의 역슬래시 이스케이프를 한 번 더 적용
+        "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE"
+                + ";INIT=CREATE USER IF NOT EXISTS REPLICA PASSWORD 'replica' ADMIN"
+                + "\\\\;CREATE TABLE IF NOT EXISTS REPLICA_LAG(LAG_SECONDS BIGINT)",
+        "catalog.datasource.replica.enabled=true",
+        "catalog.datasource.replica.nodes[0].url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+        "catalog.datasource.replica.nodes[0].username=replica",
+        "catalog.datasource.replica.nodes[0].password=replica",
+        "catalog.datasource.replica.lag-query=SELECT COALESCE(MAX(LAG_SECONDS), 0) FROM REPLICA_LAG",
+        "catalog.datasource.replica.max-lag=5s",
+        "catalog.datasource.replica.read-your-writes-window=30s"
+})
+class ReplicaRoutingTest {
+
+    private static final String PRIMARY_USER = "SA";
+    private static final String REPLICA_USER = "REPLICA";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProdService prodService;
+
+    @Autowired
+    private DataSourceRoutingConfig routingConfig;
+
+    @BeforeEach
+    void setUp() {
+        routingConfig.checkReplicaLag();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        jdbcTemplate.update("DELETE FROM REPLICA_LAG");
+        routingConfig.checkReplicaLag();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(currentUser(true)).isEqualTo(REPLICA_USER);
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertThat(currentUser(false)).isEqualTo(PRIMARY_USER);
+    }
+
+    @Test
+    void readAfterWriteFromSameClientUsesPrimary() {
+        asClient("ip:198.51.100.1");
+        prodService.createProduct(ProdDto.Request.builder()
+                .productCode("ROUTING-" + System.nanoTime())
+                .productName("라우팅 테스트")
+                .build());
+
+        assertThat(currentUser(true)).isEqualTo(PRIMARY_USER);
+
+        // 다른 클라이언트는 계속 복제본에서 읽는다
+        asClient("ip:198.51.100.2");
+        assertThat(currentUser(true)).isEqualTo(REPLICA_USER);
+    }
+
+    @Test
+    void writeOutsideRequestDoesNotPinReads() {
+        prodService.createProduct(ProdDto.Request.builder()
+                .productCode("ROUTING-BATCH-" + System.nanoTime())
+                .productName("라우팅 테스트")
+                .build());
+
+        asClient("ip:198.51.100.3");
+        assertThat(currentUser(true)).isEqualTo(REPLICA_USER);
+    }
+
+    @Test
+    void laggingReplicaIsRemovedFromRouting() {
+        jdbcTemplate.update("INSERT INTO REPLICA_LAG(LAG_SECONDS) VALUES (60)");
+        routingConfig.checkReplicaLag();
+
+        assertThat(currentUser(true)).isEqualTo(PRIMARY_USER);
+
+        jdbcTemplate.update("DELETE FROM REPLICA_LAG");
+        routingConfig.checkReplicaLag();
+
+        assertThat(currentUser(true)).isEqualTo(REPLICA_USER);
+    }
+
+    /**
+     * 트랜잭션 안에서 커넥션 사용자 조회 - 라우팅된 데이터소스 확인
+     */
+    private String currentUser(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT CURRENT_USER", String.class));
+    }
+
+    /**
+     * ClientIdentityFilter가 해석한 클라이언트로 요청 컨텍스트 설정
+     */
+    private static void asClient(String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(ClientIpUtils.CLIENT_ID_ATTRIBUTE, clientId);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.spm.global.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 데드라인 전달 DataSource 테스트
+ * 기록용 Statement로 데드라인 초과 시 실행 거절, 남은 시간의 초 단위 올림 설정과 복원,
+ * 이미 더 짧은 타임아웃 유지, 드라이버 시간 초과 시 초과 기록을 검증한다.
+ */
+class DeadlineDataSourceTest {
+
+    private final RecordingStatement statement = new RecordingStatement();
+    private final DeadlineDataSource dataSource = new DeadlineDataSource(statement.dataSource());
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void withoutDeadlineStatementIsUntouched() throws SQLException {
+        execute();
+
+        assertThat(statement.executions).isEqualTo(1);
+        assertThat(statement.timeoutChanges).isEmpty();
+    }
+
+    @Test
+    void expiredDeadlineRejectsConnectionAndExecution() throws Exception {
+        Deadline deadline = Deadline.start(Duration.ofMillis(50));
+        Connection connection = dataSource.getConnection();
+        PreparedStatement prepared = connection.prepareStatement("SELECT 1");
+        Thread.sleep(60);
+
+        assertThatThrownBy(prepared::executeQuery).isInstanceOf(SQLTimeoutException.class);
+        assertThat(statement.executions).isZero();
+        assertThat(deadline.isExceeded()).isTrue();
+        assertThat(Deadline.currentExpired()).isTrue();
+
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTimeoutException.class);
+        assertThat(statement.connections).isEqualTo(1);
+    }
+
+    @Test
+    void remainingTimeIsRoundedUpAndRestored() throws SQLException {
+        Deadline.start(Duration.ofMillis(1_500));
+
+        execute();
+
+        assertThat(statement.timeoutDuringExecution).containsExactly(2);
+        assertThat(statement.timeoutChanges).containsExactly(2, 0);
+        assertThat(statement.queryTimeout).isZero();
+    }
+
+    @Test
+    void shorterExistingTimeoutIsKept() throws SQLException {
+        Deadline.start(Duration.ofSeconds(10));
+
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement prepared = connection.prepareStatement("SELECT 1");
+            prepared.setQueryTimeout(1);
+            prepared.executeQuery();
+        }
+
+        assertThat(statement.timeoutDuringExecution).containsExactly(1);
+        assertThat(statement.timeoutChanges).containsExactly(1);
+    }
+
+    @Test
+    void longerExistingTimeoutIsShortenedThenRestored() throws SQLException {
+        Deadline.start(Duration.ofSeconds(3));
+
+        try (Connection connection = dataSource.getConnection()) {
+            PreparedStatement prepared = connection.prepareStatement("SELECT 1");
+            prepared.setQueryTimeout(30);
+            prepared.executeQuery();
+        }
+
+        assertThat(statement.timeoutDuringExecution).containsExactly(3);
+        assertThat(statement.queryTimeout).isEqualTo(30);
+    }
+
+    @Test
+    void driverTimeoutMarksDeadlineExceeded() {
+        Deadline deadline = Deadline.start(Duration.ofSeconds(5));
+        statement.failWithTimeout = true;
+
+        assertThatThrownBy(this::execute).isInstanceOf(SQLTimeoutException.class);
+        assertThat(deadline.isExceeded()).isTrue();
+        assertThat(statement.queryTimeout).isZero();
+    }
+
+    private void execute() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.prepareStatement("SELECT 1").executeQuery();
+        }
+    }
+
+    /**
+     * 쿼리 타임아웃 변경과 실행 시점의 타임아웃을 기록하는 Statement (DataSource/Connection 포함)
+     */
+    private static class RecordingStatement {
+
+        final List<Integer> timeoutChanges = new ArrayList<>();
+        final List<Integer> timeoutDuringExecution = new ArrayList<>();
+        int queryTimeout;
+        int executions;
+        int connections;
+        boolean failWithTimeout;
+
+        DataSource dataSource() {
+            return proxy(DataSource.class, (proxy, method, args) -> switch (method.getName()) {
+                case "getConnection" -> {
+                    connections++;
+                    yield connection();
+                }
+                default -> null;
+            });
+        }
+
+        private Connection connection() {
+            return proxy(Connection.class, (proxy, method, args) -> switch (method.getName()) {
+                case "prepareStatement" -> statement();
+                case "isClosed" -> false;
+                default -> null;
+            });
+        }
+
+        private PreparedStatement statement() {
+            return proxy(PreparedStatement.class, (proxy, method, args) -> switch (method.getName()) {
+                case "getQueryTimeout" -> queryTimeout;
+                case "setQueryTimeout" -> {
+                    queryTimeout = (int) args[0];
+                    timeoutChanges.add(queryTimeout);
+                    yield null;
+                }
+                case "isClosed" -> false;
+                case "executeQuery" -> {
+                    timeoutDuringExecution.add(queryTimeout);
+                    if (failWithTimeout) {
+                        throw new SQLTimeoutException("드라이버 쿼리 타임아웃");
+                    }
+                    executions++;
+                    yield null;
+                }
+                default -> null;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, java.lang.reflect.InvocationHandler handler) {
+            return (T) Proxy.newProxyInstance(DeadlineDataSourceTest.class.getClassLoader(), new Class<?>[] {type},
+                    handler);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.spm.global.deadline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+
+/**
+ * 요청 데드라인 필터 테스트 (GET /api/products)
+ * 데드라인이 지난 요청이 DB를 사용하지 않고 504 DEADLINE_EXCEEDED로 응답하고 초과 메트릭이 증가하는지,
+ * 데드라인 안의 요청은 정상 처리되고 스레드에 데드라인이 남지 않는지 검증한다.
+ */
+@SpringBootTest
+class DeadlineFilterTest {
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private DeadlineFilter deadlineFilter;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        // 데드라인 필터 다음에서 지연시켜 헤더로 지정한 데드라인(1ms)이 DB 사용 전에 반드시 지나게 한다
+        Filter delay = (request, response, chain) -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            chain.doFilter(request, response);
+        };
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(deadlineFilter, delay).build();
+    }
+
+    @Test
+    void expiredRequestReturnsGatewayTimeout() throws Exception {
+        double before = exceeded();
+
+        // 검색 결과 캐시를 거치지 않도록 매번 다른 조건
+        mockMvc.perform(get("/api/products")
+                        .param("productCode", "DEADLINE-" + System.nanoTime())
+                        .header("X-Request-Timeout", "1"))
+                .andExpect(status().isGatewayTimeout())
+                .andExpect(jsonPath("$.code").value("SERVER_005"));
+
+        assertThat(exceeded()).isEqualTo(before + 1);
+        assertThat(Deadline.current()).isNull();
+    }
+
+    @Test
+    void requestWithinDeadlineSucceeds() throws Exception {
+        double before = exceeded();
+
+        mockMvc.perform(get("/api/products")
+                        .param("productCode", "DEADLINE-" + System.nanoTime())
+                        .header("X-Request-Timeout", "5000"))
+                .andExpect(status().isOk());
+
+        assertThat(exceeded()).isEqualTo(before);
+        assertThat(Deadline.current()).isNull();
+    }
+
+    private double exceeded() {
+        Counter counter = meterRegistry.find("catalog.deadline.exceeded").tag("endpoint", "search").counter();
+        return counter != null ? counter.count() : 0;
+    }
+}
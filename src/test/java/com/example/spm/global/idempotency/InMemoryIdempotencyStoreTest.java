@@ -0,0 +1,103 @@
+package com.example.spm.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.spm.exception.BusinessException;
+import com.example.spm.exception.ErrorCode;
+import com.example.spm.global.config.IdempotencyProperties;
+
+/**
+ * 메모리 멱등 키 저장소 테스트 - 선점/완료/만료와 최대 항목 수 초과 시 처리 중 항목 보호를 검증한다.
+ */
+class InMemoryIdempotencyStoreTest {
+
+    private final IdempotencyProperties properties = new IdempotencyProperties();
+    private InMemoryIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        properties.setMaxEntries(3);
+        store = new InMemoryIdempotencyStore(properties);
+    }
+
+    @Test
+    void reserveReturnsExistingRecord() {
+        assertThat(store.reserve("a", inProgress())).isEmpty();
+        assertThat(store.reserve("a", inProgress())).hasValueSatisfying(record -> assertThat(record.isCompleted()).isFalse());
+
+        store.complete("a", completed(Duration.ofHours(1)));
+
+        assertThat(store.reserve("a", inProgress())).hasValueSatisfying(record -> {
+            assertThat(record.isCompleted()).isTrue();
+            assertThat(record.body()).isEqualTo("{}");
+        });
+    }
+
+    @Test
+    void expiredRecordCanBeReservedAgain() {
+        store.reserve("a", inProgress());
+        store.complete("a", completed(Duration.ofSeconds(-1)));
+
+        assertThat(store.reserve("a", inProgress())).isEmpty();
+    }
+
+    @Test
+    void releaseAllowsRetry() {
+        store.reserve("a", inProgress());
+        store.release("a");
+
+        assertThat(store.reserve("a", inProgress())).isEmpty();
+    }
+
+    @Test
+    void overflowEvictsOldestCompletedRecordNotInProgress() {
+        store.reserve("running", inProgress());
+        store.reserve("done-1", inProgress());
+        store.complete("done-1", completed(Duration.ofHours(1)));
+        store.reserve("done-2", inProgress());
+        store.complete("done-2", completed(Duration.ofHours(1)));
+
+        assertThat(store.reserve("new", inProgress())).isEmpty();
+
+        assertThat(store.size()).isEqualTo(3);
+        assertThat(store.reserve("running", inProgress())).isPresent();
+        assertThat(store.reserve("done-2", inProgress())).isPresent();
+    }
+
+    @Test
+    void rejectsNewKeyWhenFullOfInProgressRecords() {
+        store.reserve("a", inProgress());
+        store.reserve("b", inProgress());
+        store.reserve("c", inProgress());
+
+        assertThatThrownBy(() -> store.reserve("d", inProgress()))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.IDEMPOTENCY_STORE_FULL));
+        assertThat(store.reserve("a", inProgress())).isPresent();
+    }
+
+    @Test
+    void expiredInProgressRecordIsEvictable() {
+        store.reserve("a", IdempotencyRecord.inProgress("fp", Instant.now().plusSeconds(60)));
+        store.reserve("stale", IdempotencyRecord.inProgress("fp", Instant.now().minusSeconds(1)));
+        store.reserve("c", inProgress());
+
+        assertThat(store.reserve("d", inProgress())).isEmpty();
+        assertThat(store.reserve("a", inProgress())).isPresent();
+    }
+
+    private static IdempotencyRecord inProgress() {
+        return IdempotencyRecord.inProgress("fp", Instant.now().plusSeconds(30));
+    }
+
+    private static IdempotencyRecord completed(Duration ttl) {
+        return new IdempotencyRecord("fp", 201, null, "{}", Instant.now().plus(ttl));
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.spm.global.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.spm.global.config.ResilienceProperties;
+import com.example.spm.global.resilience.CircuitBreaker.Permission;
+import com.example.spm.global.resilience.CircuitBreaker.State;
+
+/**
+ * 회로 차단기 테스트
+ * 닫힘 → 열림 → 반열림 → 닫힘/열림 전환과 느린 호출의 실패 집계를 검증한다.
+ */
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(200).toNanos();
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        CircuitBreaker breaker = breaker(Duration.ofHours(1), 1);
+
+        breaker.onSuccess(breaker.acquire(), FAST);
+        breaker.onSuccess(breaker.acquire(), FAST);
+        breaker.onFailure(breaker.acquire());
+        assertThat(breaker.getState()).as("최소 호출 수 미만").isEqualTo(State.CLOSED);
+
+        breaker.onFailure(breaker.acquire());
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.acquire()).isEqualTo(Permission.REJECTED);
+        assertThat(breaker.remainingOpen()).isPositive().isLessThanOrEqualTo(Duration.ofHours(1));
+    }
+
+    @Test
+    void staysClosedBelowThreshold() {
+        CircuitBreaker breaker = breaker(Duration.ofHours(1), 1);
+
+        for (int i = 0; i < 10; i++) {
+            Permission permission = breaker.acquire();
+            if (i % 4 == 0) {
+                breaker.onFailure(permission);
+            } else {
+                breaker.onSuccess(permission, FAST);
+            }
+        }
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.remainingOpen()).isZero();
+    }
+
+    @Test
+    void halfOpenClosesAfterAllTrialsSucceed() {
+        CircuitBreaker breaker = breaker(Duration.ZERO, 2);
+        open(breaker);
+
+        Permission first = breaker.acquire();
+        Permission second = breaker.acquire();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(first).isEqualTo(Permission.TRIAL);
+        assertThat(second).isEqualTo(Permission.TRIAL);
+        assertThat(breaker.acquire()).as("시험 호출 수 초과").isEqualTo(Permission.REJECTED);
+
+        breaker.onSuccess(first, FAST);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+        breaker.onSuccess(second, FAST);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.acquire()).isEqualTo(Permission.ALLOWED);
+    }
+
+    @Test
+    void failedTrialReopens() {
+        CircuitBreaker breaker = breaker(Duration.ZERO, 2);
+        open(breaker);
+
+        Permission trial = breaker.acquire();
+        breaker.onFailure(trial);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void slowTrialReopens() {
+        CircuitBreaker breaker = breaker(Duration.ZERO, 1);
+        open(breaker);
+
+        assertThat(breaker.onSuccess(breaker.acquire(), SLOW)).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void slowCallsCountAsFailures() {
+        CircuitBreaker breaker = breaker(Duration.ofHours(1), 1);
+
+        assertThat(breaker.onSuccess(breaker.acquire(), FAST)).isFalse();
+        assertThat(breaker.onSuccess(breaker.acquire(), FAST)).isFalse();
+        assertThat(breaker.onSuccess(breaker.acquire(), SLOW)).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        assertThat(breaker.onSuccess(breaker.acquire(), SLOW)).isTrue();
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void resultsFromBeforeOpeningAreIgnored() {
+        CircuitBreaker breaker = breaker(Duration.ofHours(1), 1);
+        Permission inFlight = breaker.acquire();
+        open(breaker);
+
+        breaker.onSuccess(inFlight, FAST);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    /**
+     * 최근 4회, 최소 4회, 실패율 50%, 느린 호출 100ms
+     */
+    private CircuitBreaker breaker(Duration openDuration, int halfOpenCalls) {
+        ResilienceProperties.Breaker config = new ResilienceProperties.Breaker();
+        config.setWindowSize(4);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(50);
+        config.setSlowCallThreshold(Duration.ofMillis(100));
+        config.setOpenDuration(openDuration);
+        config.setHalfOpenCalls(halfOpenCalls);
+        return new CircuitBreaker("test", config);
+    }
+
+    private void open(CircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(Permission.ALLOWED);
+        }
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.spm.global.serialization;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import com.example.spm.domain.dto.ChangeLogDto;
+import com.example.spm.domain.dto.ProdDto;
+import com.example.spm.domain.dto.ResponseStreamWriters;
+import com.example.spm.domain.enums.ChangeType;
+import com.example.spm.domain.enums.ChangeValueFormat;
+import com.example.spm.domain.enums.ProductStatus;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * 스트리밍 작성기와 Jackson 출력 비교 테스트
+ * 같은 DTO를 스트리밍 JSON 변환기와 Jackson으로 직렬화해 같은 JSON 트리가 되는지 검증한다 (날짜, 문자열 이스케이프, null).
+ */
+class StreamingJacksonCompatibilityTest {
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final StreamingJsonHttpMessageConverter converter =
+            new StreamingJsonHttpMessageConverter(ResponseStreamWriters.all());
+
+    static List<LocalDateTime> dates() {
+        return List.of(
+                LocalDateTime.of(2024, 1, 1, 10, 0),
+                LocalDateTime.of(2024, 1, 1, 10, 0, 5),
+                LocalDateTime.of(2024, 2, 29, 23, 59, 59, 120_000_000),
+                LocalDateTime.of(2024, 12, 31, 0, 0, 0, 1),
+                LocalDateTime.of(1999, 6, 15, 8, 30, 0, 123_456_000));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dates")
+    void changeLogDateMatchesJackson(LocalDateTime changedDate) throws IOException {
+        ChangeLogDto.Response changeLog = ChangeLogDto.Response.builder()
+                .changeLogId(1L)
+                .productId(2L)
+                .productCode("P-001")
+                .productName("상품")
+                .entityType("Product")
+                .entityId(2L)
+                .changeType(ChangeType.UPDATE)
+                .changedField("productName")
+                .valueFormat(ChangeValueFormat.JSON)
+                .oldValue("{\"productName\":\"이전\"}")
+                .newValue("{\"productName\":\"상품\"}")
+                .changedBy("SYSTEM")
+                .changedDate(changedDate)
+                .build();
+
+        String json = stream(changeLog);
+
+        assertThat(jsonMapper.readTree(json)).isEqualTo(jsonMapper.valueToTree(changeLog));
+        assertThat(json).contains("\"changedDate\":\"" + jsonMapper.valueToTree(changedDate).asString() + "\"");
+    }
+
+    @Test
+    void productListMatchesJackson() throws IOException {
+        List<ProdDto.Response> products = List.of(
+                ProdDto.Response.builder()
+                        .productId(1L)
+                        .productCode("P-\"quoted\"")
+                        .productName("줄\n바꿈\t탭 \\ 역슬래시 \u0001 제어문자 😀")
+                        .description(null)
+                        .categoryId(null)
+                        .status(ProductStatus.ACTIVE)
+                        .version(3L)
+                        .build(),
+                ProdDto.Response.builder()
+                        .productId(Long.MAX_VALUE)
+                        .productCode("P-002")
+                        .productName("</script>")
+                        .categoryId(10L)
+                        .categoryName("전자제품")
+                        .status(ProductStatus.INACTIVE)
+                        .version(0L)
+                        .build());
+
+        JsonNode streamed = jsonMapper.readTree(stream(products));
+
+        assertThat(streamed).isEqualTo(jsonMapper.valueToTree(products));
+    }
+
+    @ParameterizedTest
+    @MethodSource("dates")
+    void cborDateUsesSameTextAsJson(LocalDateTime value) throws IOException {
+        ByteArrayOutputStream date = new ByteArrayOutputStream();
+        new CborStreamWriter(date).value(value).flush();
+        ByteArrayOutputStream text = new ByteArrayOutputStream();
+        new CborStreamWriter(text).value(jsonMapper.valueToTree(value).asString()).flush();
+
+        assertThat(date.toByteArray()).isEqualTo(text.toByteArray());
+    }
+
+    private String stream(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        converter.writeTo(value, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.spm.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Bloom 필터 테스트
+ * MurmurHash3 x64 128bit 공개 테스트 벡터, false negative 없음, 설계 용량에서의 실제 오탐률을 검증한다.
+ */
+class BloomFilterTest {
+
+    private static final int CAPACITY = 10_000;
+    private static final double FPP = 0.01;
+
+    /**
+     * seed 0 기준 공개 값 (SMHasher 참조 구현 / Guava Murmur3_128 테스트와 동일)
+     * 빈 입력, 4바이트 꼬리, 2블록 + 11바이트 꼬리(k2 경로)를 포함한다.
+     */
+    @ParameterizedTest
+    @CsvSource({
+            "'', 0000000000000000, 0000000000000000",
+            "hell, 629942693e10f867, 92db0b82baeb5347",
+            "The quick brown fox jumps over the lazy dog, e34bbc7bbc071b6c, 7a433ca9c49a9347"
+    })
+    void murmur3MatchesPublishedVectors(String input, String h1, String h2) {
+        long[] hash = BloomFilter.murmur3(input.getBytes(StandardCharsets.UTF_8));
+
+        assertThat(hash).containsExactly(Long.parseUnsignedLong(h1, 16), Long.parseUnsignedLong(h2, 16));
+    }
+
+    @Test
+    void noFalseNegatives() {
+        BloomFilter filter = BloomFilter.create(CAPACITY, FPP);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.put("P-" + i);
+        }
+
+        for (int i = 0; i < CAPACITY; i++) {
+            assertThat(filter.mightContain("P-" + i)).as("P-" + i).isTrue();
+        }
+    }
+
+    @Test
+    void observedFalsePositiveRateStaysNearTargetAtCapacity() {
+        BloomFilter filter = BloomFilter.create(CAPACITY, FPP);
+        for (int i = 0; i < CAPACITY; i++) {
+            filter.put("P-" + i);
+        }
+
+        int probes = 100_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain("Q-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        double observed = (double) falsePositives / probes;
+        assertThat(observed).isLessThan(FPP * 1.5);
+        assertThat(filter.expectedFpp()).isLessThan(FPP * 1.5);
+        assertThat(filter.approximateElementCount()).isBetween((long) (CAPACITY * 0.95), (long) (CAPACITY * 1.05));
+    }
+
+    @Test
+    void rejectsInvalidFpp() {
+        assertThatThrownBy(() -> BloomFilter.create(CAPACITY, 0)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BloomFilter.create(CAPACITY, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.spm.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+
+/**
+ * 클라이언트 IP 해석 테스트 - 신뢰할 프록시에서 온 X-Forwarded-For만 반영하는지 검증한다.
+ */
+class ClientIpUtilsTest {
+
+    private static final List<IpAddressMatcher> TRUSTED = List.of(new IpAddressMatcher("10.0.0.0/8"));
+
+    @Test
+    void forwardedForIgnoredFromUntrustedPeer() {
+        MockHttpServletRequest request = request("203.0.113.7", "198.51.100.1");
+
+        assertThat(ClientIpUtils.resolveClientIP(request, TRUSTED)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void forwardedForIgnoredWhenNoProxyConfigured() {
+        MockHttpServletRequest request = request("10.0.0.5", "198.51.100.1");
+
+        assertThat(ClientIpUtils.resolveClientIP(request, List.of())).isEqualTo("10.0.0.5");
+    }
+
+    @Test
+    void firstUntrustedHopFromRightIsClient() {
+        // 클라이언트가 넣은 왼쪽 값(1.1.1.1)은 무시하고 신뢰할 프록시가 기록한 실제 접속 주소를 사용
+        MockHttpServletRequest request = request("10.0.0.5", "1.1.1.1, 198.51.100.1, 10.0.0.9");
+
+        assertThat(ClientIpUtils.resolveClientIP(request, TRUSTED)).isEqualTo("198.51.100.1");
+    }
+
+    @Test
+    void nonAddressHopIsNotUsedAsClient() {
+        MockHttpServletRequest request = request("10.0.0.5", "unknown");
+
+        assertThat(ClientIpUtils.resolveClientIP(request, TRUSTED)).isEqualTo("10.0.0.5");
+    }
+
+    @Test
+    void filterAttributesTakePrecedence() {
+        MockHttpServletRequest request = request("10.0.0.5", "198.51.100.1");
+        assertThat(ClientIpUtils.getClientIP(request)).isEqualTo("10.0.0.5");
+        assertThat(ClientIpUtils.getClientId(request)).isEqualTo("ip:10.0.0.5");
+
+        request.setAttribute(ClientIpUtils.CLIENT_IP_ATTRIBUTE, "198.51.100.1");
+        request.setAttribute(ClientIpUtils.CLIENT_ID_ATTRIBUTE, "key:partner");
+        assertThat(ClientIpUtils.getClientIP(request)).isEqualTo("198.51.100.1");
+        assertThat(ClientIpUtils.getClientId(request)).isEqualTo("key:partner");
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.spm.global.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Base64;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 텍스트 컬럼 압축 테스트
+ * 압축/복원 왕복, 임계 크기 경계(UTF-8 바이트 기준), 압축 효과가 없는 값과 이미 압축된 값 처리를 검증한다.
+ */
+class TextCompressionUtilsTest {
+
+    private static final int THRESHOLD = 1024;
+
+    @Test
+    void roundTrip() {
+        String value = "{\"productName\":\"" + "상품 설명 ".repeat(300) + "\"}";
+
+        String compressed = TextCompressionUtils.compress(value, THRESHOLD);
+
+        assertThat(TextCompressionUtils.isCompressed(compressed)).isTrue();
+        assertThat(TextCompressionUtils.storedBytes(compressed)).isLessThan(TextCompressionUtils.storedBytes(value));
+        assertThat(TextCompressionUtils.decompress(compressed)).isEqualTo(value);
+    }
+
+    @Test
+    void compressesOnlyAtOrAboveThresholdBytes() {
+        assertThat(TextCompressionUtils.compress("a".repeat(THRESHOLD - 1), THRESHOLD)).isEqualTo("a".repeat(THRESHOLD - 1));
+        assertThat(TextCompressionUtils.isCompressed(TextCompressionUtils.compress("a".repeat(THRESHOLD), THRESHOLD)))
+                .isTrue();
+
+        // 한글은 UTF-8 3바이트 - 341자(1023바이트)는 그대로, 342자(1026바이트)는 압축
+        assertThat(TextCompressionUtils.isCompressed(TextCompressionUtils.compress("가".repeat(341), THRESHOLD)))
+                .isFalse();
+        assertThat(TextCompressionUtils.isCompressed(TextCompressionUtils.compress("가".repeat(342), THRESHOLD)))
+                .isTrue();
+    }
+
+    @Test
+    void keepsValueWhenCompressionDoesNotHelp() {
+        byte[] random = new byte[1500];
+        new Random(42).nextBytes(random);
+        String value = Base64.getEncoder().encodeToString(random);
+
+        assertThat(TextCompressionUtils.compress(value, THRESHOLD)).isEqualTo(value);
+    }
+
+    @Test
+    void compressedValueIsNotCompressedAgain() {
+        String compressed = TextCompressionUtils.compress("a".repeat(THRESHOLD * 4), THRESHOLD);
+
+        assertThat(TextCompressionUtils.compress(compressed, 1)).isEqualTo(compressed);
+    }
+
+    @Test
+    void plainAndNullValuesPassThrough() {
+        assertThat(TextCompressionUtils.compress(null, THRESHOLD)).isNull();
+        assertThat(TextCompressionUtils.decompress(null)).isNull();
+        assertThat(TextCompressionUtils.decompress("plain")).isEqualTo("plain");
+        assertThat(TextCompressionUtils.storedBytes(null)).isZero();
+    }
+}